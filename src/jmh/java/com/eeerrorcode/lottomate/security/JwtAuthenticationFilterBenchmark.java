@@ -0,0 +1,109 @@
+package com.eeerrorcode.lottomate.security;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.eeerrorcode.lottomate.domain.entity.user.User;
+import com.eeerrorcode.lottomate.repository.UserRepository;
+import com.eeerrorcode.lottomate.repository.projection.user.UserTokenState;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * JWT 인증 필터 벤치마크.
+ * 같은 액세스 토큰으로 반복 요청할 때 필터 한 번의 비용을 측정합니다.
+ * cacheSize=0은 매 요청 서명 검증과 사용자 조회, 10000은 클레임 캐시와 사용자 정보 캐시를 사용하는 경우입니다.
+ * statelessAuth=true는 사용자 조회 대신 토큰 클레임으로 사용자를 구성하고 계정 버전만 확인합니다.
+ * (사용자 조회는 인메모리 저장소로 대체되어 토큰 처리 비용만 측정합니다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+  private static final String EMAIL = "bench@lottomate.com";
+
+  @Param({ "0", "10000" })
+  private int cacheSize;
+
+  @Param({ "false", "true" })
+  private boolean statelessAuth;
+
+  private JwtTokenProvider tokenProvider;
+  private JwtAuthenticationFilter filter;
+  private String token;
+  private HttpServletRequest request;
+  private HttpServletResponse response;
+  private FilterChain chain;
+
+  @Setup
+  public void setUp() {
+    tokenProvider = new JwtTokenProvider(new JwtClaimsCache(new SimpleMeterRegistry(), cacheSize, 300L),
+        new JwtKeyManager("bench-secret", "primary", "", "", "", "PKCS12"), 3600L, 86400L);
+    tokenProvider.init();
+    User user = User.builder().id(1L).email(EMAIL).password("password").name("bench").build();
+    token = tokenProvider.generateToken(user);
+
+    UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+        UserRepository.class.getClassLoader(),
+        new Class<?>[] { UserRepository.class },
+        (proxy, method, args) -> {
+          if (method.getName().equals("findByEmail")) {
+            return Optional.of(user);
+          }
+          if (method.getName().equals("findTokenStateById")) {
+            return Optional.of(new UserTokenState(user.getId(), user.getTokenVersion(), true));
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+    filter = new JwtAuthenticationFilter(tokenProvider,
+        new CustomUserDetailsService(userRepository, new UserDetailsCache(new SimpleMeterRegistry(), cacheSize, 300L)),
+        new UserVersionCache(userRepository, new SimpleMeterRegistry(), cacheSize, 60L),
+        statelessAuth);
+
+    String header = "Bearer " + token;
+    request = (HttpServletRequest) Proxy.newProxyInstance(
+        HttpServletRequest.class.getClassLoader(),
+        new Class<?>[] { HttpServletRequest.class },
+        (proxy, method, args) -> switch (method.getName()) {
+          case "getRequestURI" -> "/api/lotto/user/history";
+          case "getHeader" -> "Authorization".equals(args[0]) ? header : null;
+          case "getRemoteAddr" -> "127.0.0.1";
+          default -> method.getReturnType() == boolean.class ? false : null;
+        });
+    response = (HttpServletResponse) Proxy.newProxyInstance(
+        HttpServletResponse.class.getClassLoader(),
+        new Class<?>[] { HttpServletResponse.class },
+        (proxy, method, args) -> null);
+    chain = (req, res) -> {
+    };
+  }
+
+  @Benchmark
+  public Authentication filter() throws Exception {
+    filter.doFilter(request, response, chain);
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    SecurityContextHolder.clearContext();
+    return authentication;
+  }
+
+  @Benchmark
+  public String parse() {
+    return tokenProvider.parse(token).getSubject();
+  }
+}
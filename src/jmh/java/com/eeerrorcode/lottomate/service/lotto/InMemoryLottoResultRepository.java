@@ -0,0 +1,82 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
+
+/**
+ * 벤치마크용 {@link LottoResultRepository} 인메모리 가짜 구현입니다.
+ * <p>
+ * 고정 seed로 1회차부터 historySize회차까지의 당첨 결과를 만들어 두고,
+ * 서비스가 실제로 호출하는 조회 메서드만 메모리에서 응답합니다. 그 외 메서드는 UnsupportedOperationException을 던집니다.
+ * </p>
+ */
+public final class InMemoryLottoResultRepository {
+
+  private final TreeMap<Long, LottoResults> draws = new TreeMap<>();
+
+  private InMemoryLottoResultRepository(int historySize, long seed) {
+    Random random = new Random(seed);
+    LocalDateTime firstDraw = LocalDateTime.of(2002, 12, 7, 20, 45);
+    for (int round = 1; round <= historySize; round++) {
+      int[] picked = LottoTicketGenerator.pick(random, 7);
+      int[] main = Arrays.copyOf(picked, 6);
+      Arrays.sort(main);
+      draws.put((long) round, LottoResults.builder()
+          .drawRound((long) round)
+          .drawDate(firstDraw.plusWeeks(round - 1))
+          .n1(main[0]).n2(main[1]).n3(main[2]).n4(main[3]).n5(main[4]).n6(main[5])
+          .bonusNumber(picked[6])
+          .firstPrizeWinners(10L)
+          .firstPrizeAmount(2_000_000_000L)
+          .totalSalesAmount(100_000_000_000L)
+          .build());
+    }
+  }
+
+  /**
+   * @param historySize 생성할 회차 수
+   * @param seed        난수 seed
+   * @return 인메모리 저장소
+   */
+  public static LottoResultRepository create(int historySize, long seed) {
+    InMemoryLottoResultRepository fake = new InMemoryLottoResultRepository(historySize, seed);
+    return (LottoResultRepository) Proxy.newProxyInstance(
+        LottoResultRepository.class.getClassLoader(),
+        new Class<?>[] { LottoResultRepository.class },
+        (proxy, method, args) -> fake.invoke(method, args));
+  }
+
+  private Object invoke(Method method, Object[] args) {
+    return switch (method.getName()) {
+      case "findAll" -> new ArrayList<>(draws.values());
+      case "count" -> (long) draws.size();
+      case "findAllDrawRounds" -> new ArrayList<>(draws.keySet());
+      case "existsByDrawRound" -> draws.containsKey((Long) args[0]);
+      case "findByDrawRound" -> Optional.ofNullable(draws.get((Long) args[0]));
+      case "findTopByOrderByDrawRoundDesc", "findTopByOrderByDrawDateDesc" ->
+          Optional.ofNullable(draws.isEmpty() ? null : draws.lastEntry().getValue());
+      case "findByDrawRoundBetween" -> rangeOf((Long) args[0], (Long) args[1]);
+      case "hashCode" -> System.identityHashCode(this);
+      case "equals" -> args[0] == this;
+      case "toString" -> "InMemoryLottoResultRepository(" + draws.size() + ")";
+      default -> throw new UnsupportedOperationException(method.getName());
+    };
+  }
+
+  private List<LottoResults> rangeOf(Long start, Long end) {
+    Map<Long, LottoResults> range = draws.subMap(start, true, end, true);
+    return Collections.unmodifiableList(new ArrayList<>(range.values()));
+  }
+}
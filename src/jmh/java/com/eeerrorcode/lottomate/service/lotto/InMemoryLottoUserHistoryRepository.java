@@ -0,0 +1,97 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoUserHistory;
+import com.eeerrorcode.lottomate.repository.lotto.LottoUserHistoryRepository;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketRow;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+/**
+ * 벤치마크용 {@link LottoUserHistoryRepository} 인메모리 가짜 구현입니다.
+ * <p>
+ * 한 회차에 대한 미확인 응모 내역 ticketCount건을 고정 seed로 만들어 두고, 당첨 결과 갱신 경로가
+ * 호출하는 조회/저장 메서드만 메모리에서 처리합니다. 저장은 전달받은 건수만 세고 버리므로
+ * 같은 회차를 반복해서 판정할 수 있습니다.
+ * </p>
+ */
+public final class InMemoryLottoUserHistoryRepository {
+
+  private final long drawRound;
+  private final List<LottoUserHistory> unclaimed;
+  private final List<LottoTicketRow> rows;
+  private long savedCount = 0L;
+
+  private InMemoryLottoUserHistoryRepository(long drawRound, int ticketCount, long seed) {
+    this.drawRound = drawRound;
+    Random random = new Random(seed);
+    List<LottoUserHistory> tickets = new ArrayList<>(ticketCount);
+    for (int i = 0; i < ticketCount; i++) {
+      int[] numbers = LottoTicketGenerator.pick(random, 6);
+      Arrays.sort(numbers);
+      tickets.add(LottoUserHistory.builder()
+          .id(i + 1L)
+          .userId((long) (i % 1000) + 1)
+          .drawRound(drawRound)
+          .numbers(Arrays.stream(numbers).mapToObj(String::valueOf).collect(Collectors.joining(",")))
+          .numbersMask(LottoBitmask.of(numbers))
+          .isAuto(true)
+          .isClaimed(false)
+          .build());
+    }
+    this.unclaimed = Collections.unmodifiableList(tickets);
+    this.rows = tickets.stream().map(t -> new LottoTicketRow(t.getId(), t.getNumbers(), t.getNumbersMask())).toList();
+  }
+
+  /**
+   * @param drawRound   응모 회차
+   * @param ticketCount 생성할 응모 내역 수
+   * @param seed        난수 seed
+   * @return 인메모리 저장소
+   */
+  public static LottoUserHistoryRepository create(long drawRound, int ticketCount, long seed) {
+    InMemoryLottoUserHistoryRepository fake = new InMemoryLottoUserHistoryRepository(drawRound, ticketCount, seed);
+    return (LottoUserHistoryRepository) Proxy.newProxyInstance(
+        LottoUserHistoryRepository.class.getClassLoader(),
+        new Class<?>[] { LottoUserHistoryRepository.class },
+        (proxy, method, args) -> fake.invoke(method, args));
+  }
+
+  // ID가 1부터 연속이므로 afterId가 곧 시작 위치
+  private List<LottoTicketRow> ticketsAfter(long round, long afterId, int limit) {
+    if (round != drawRound || afterId >= rows.size()) {
+      return List.of();
+    }
+    return rows.subList((int) afterId, (int) Math.min(rows.size(), afterId + limit));
+  }
+
+  private Object invoke(Method method, Object[] args) {
+    return switch (method.getName()) {
+      case "findByDrawRoundAndIsClaimedFalse" -> ((Long) args[0]) == drawRound ? unclaimed : List.of();
+      case "findUnclaimedTickets", "findTickets" -> ticketsAfter((Long) args[0], (Long) args[1], (Integer) args[2]);
+      case "updateWinningRanks" -> {
+        int count = (Integer) args[2];
+        savedCount += count;
+        yield count;
+      }
+      case "saveAll" -> {
+        List<?> entities = new ArrayList<>((Collection<?>) args[0]);
+        savedCount += entities.size();
+        yield entities;
+      }
+      case "count" -> (long) unclaimed.size();
+      case "hashCode" -> System.identityHashCode(this);
+      case "equals" -> args[0] == this;
+      case "toString" -> "InMemoryLottoUserHistoryRepository(" + unclaimed.size() + ", saved=" + savedCount + ")";
+      default -> throw new UnsupportedOperationException(method.getName());
+    };
+  }
+}
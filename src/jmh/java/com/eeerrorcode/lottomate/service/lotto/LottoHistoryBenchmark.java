@@ -0,0 +1,78 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
+import com.eeerrorcode.lottomate.repository.lotto.LottoUserHistoryRepository;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 회차 당첨 결과 반영(updateWinningResults) 벤치마크.
+ * 최신 회차에 응모한 미확인 내역 ticketCount건을 chunkSize건 페이지 단위로 병렬 판정합니다.
+ * countRanksByIndex는 같은 응모를 응모 색인 비트맵으로 등수별 집계만 하는 비용입니다.
+ * (DB 왕복은 인메모리 저장소로 대체되어 판정 자체의 비용만 측정합니다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LottoHistoryBenchmark {
+
+  private static final int HISTORY_SIZE = 1200;
+
+  @Param({ "1000", "100000" })
+  private int ticketCount;
+
+  @Param({ "5000" })
+  private int chunkSize;
+
+  private LottoHistoryService service;
+  private LottoWinnerEvaluator evaluator;
+  private LottoTicketIndex ticketIndex;
+  private long winningMask;
+  private int bonusNumber;
+
+  @Setup
+  public void setUp() {
+    LottoResultRepository resultRepository = InMemoryLottoResultRepository.create(HISTORY_SIZE, 20250101L);
+    LottoUserHistoryRepository historyRepository =
+        InMemoryLottoUserHistoryRepository.create(HISTORY_SIZE, ticketCount, 7L);
+    evaluator = new LottoWinnerEvaluator(historyRepository, new SimpleMeterRegistry(), chunkSize,
+        Runtime.getRuntime().availableProcessors());
+    ticketIndex = new LottoTicketIndex(historyRepository, new SimpleMeterRegistry(), 5000);
+    ticketIndex.rebuild(HISTORY_SIZE);
+    service = new LottoHistoryServiceImpl(historyRepository, resultRepository, evaluator, ticketIndex);
+
+    LottoResults latest = resultRepository.findByDrawRound((long) HISTORY_SIZE).orElseThrow();
+    winningMask = LottoBitmask.of(latest.getN1(), latest.getN2(), latest.getN3(),
+        latest.getN4(), latest.getN5(), latest.getN6());
+    bonusNumber = latest.getBonusNumber();
+  }
+
+  @TearDown
+  public void tearDown() {
+    evaluator.destroy();
+  }
+
+  @Benchmark
+  public void updateWinningResults() {
+    service.updateWinningResults((long) HISTORY_SIZE);
+  }
+
+  @Benchmark
+  public long[] countRanksByIndex() {
+    return ticketIndex.countRanks(HISTORY_SIZE, winningMask, bonusNumber);
+  }
+}
@@ -0,0 +1,153 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoNumberInsight;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoRecommendOption;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoRecommendResponse;
+import com.eeerrorcode.lottomate.domain.enums.LottoRange;
+import com.eeerrorcode.lottomate.domain.enums.LottoRecommendSystem;
+import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
+import com.eeerrorcode.lottomate.repository.projection.lotto.NumberFrequency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 추천 번호 생성 경로 벤치마크.
+ * <p>
+ * recommend는 현재 마스크 기반 파이프라인, legacyRecommend는 Long 박싱/스트림/HashMap을 사용하던
+ * 이전 파이프라인을 그대로 옮긴 비교 기준입니다. gc 프로파일러(gc.alloc.rate.norm)로 연산당 할당량을 비교하며,
+ * 회차 데이터는 {@link InMemoryLottoResultRepository}가 만듭니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LottoRecommendBenchmark {
+
+  @Param({ "1200" })
+  private int historySize;
+
+  @Param({ "HIGH_FREQUENCY", "MIXED" })
+  private LottoRecommendSystem mode;
+
+  @Param({ "true", "false" })
+  private boolean allowEvenOddMix;
+
+  private LottoRecommendService service;
+  private LottoRecommendOption option;
+  private List<NumberFrequency> frequencies;
+  private List<Long> recommended;
+
+  @Setup
+  public void setUp() {
+    LottoResultRepository repository = InMemoryLottoResultRepository.create(historySize, 20250101L);
+    LottoDrawIndex index = new LottoDrawIndex(repository, event -> {
+    });
+    index.reload();
+    LottoRecommendRankingCache cache = new LottoRecommendRankingCache(index, new SimpleMeterRegistry());
+    service = new LottoRecommendServiceImpl(index, cache, null);
+
+    option = LottoRecommendOption.builder()
+        .range(LottoRange.RECENT_100)
+        .mode(mode)
+        .allowEvenOddMix(allowEvenOddMix)
+        .excludedNumbers(Set.of(3L, 12L, 27L))
+        .fixedNumbers(Set.of(7L))
+        .build();
+    frequencies = index.current().frequenciesFrom(historySize - LottoRange.RECENT_100.getVALUE() + 1, false);
+    recommended = List.of(7L, 11L, 18L, 24L, 33L, 41L);
+  }
+
+  @Benchmark
+  public LottoRecommendResponse recommend() {
+    return service.recommendNumbers(option);
+  }
+
+  @Benchmark
+  public List<LottoNumberInsight> analyzeInsights() {
+    return service.analyzeInsights(recommended, frequencies, option.getFixedNumbers());
+  }
+
+  @Benchmark
+  public List<Long> legacyRecommend() {
+    return LegacyPipeline.recommend(new ArrayList<>(frequencies), option);
+  }
+
+  /**
+   * 마스크 기반으로 바꾸기 전의 추천 파이프라인 (비교 기준)
+   */
+  static final class LegacyPipeline {
+
+    static List<Long> recommend(List<NumberFrequency> frequencyList, LottoRecommendOption option) {
+      switch (option.getMode()) {
+        case HIGH_FREQUENCY -> frequencyList.sort((a, b) -> Long.compare(b.getFrequency(), a.getFrequency()));
+        case LOW_FREQUENCY -> frequencyList.sort((a, b) -> Long.compare(a.getFrequency(), b.getFrequency()));
+        case MIXED -> Collections.shuffle(frequencyList);
+        default -> throw new IllegalArgumentException();
+      }
+
+      Set<Long> excluded = option.getExcludedNumbers();
+      List<Long> finalNumbers = new ArrayList<>(option.getFixedNumbers());
+      int remaining = 6 - finalNumbers.size();
+      List<Long> candidates = frequencyList.stream()
+          .map(NumberFrequency::getNum)
+          .filter(n -> !excluded.contains(n))
+          .filter(n -> !finalNumbers.contains(n))
+          .toList();
+
+      List<Long> mixed = option.isAllowEvenOddMix() ? candidates : evenOdd(candidates);
+      finalNumbers.addAll(mixed.stream().limit(Math.max(0, remaining)).toList());
+      List<Long> result = finalNumbers.stream().limit(6).sorted().toList();
+
+      Map<Long, Long> countMap = frequencyList.stream()
+          .collect(Collectors.toMap(NumberFrequency::getNum, NumberFrequency::getFrequency));
+      List<Long> ranked = frequencyList.stream()
+          .sorted((a, b) -> Long.compare(b.getFrequency(), a.getFrequency()))
+          .map(NumberFrequency::getNum)
+          .toList();
+      Map<Long, Long> rankMap = new HashMap<>();
+      for (int i = 0; i < ranked.size(); i++) {
+        rankMap.put(ranked.get(i), i + 1L);
+      }
+      for (Long number : result) {
+        countMap.getOrDefault(number, 0L);
+        rankMap.getOrDefault(number, 0L);
+      }
+      return result;
+    }
+
+    private static List<Long> evenOdd(List<Long> numbers) {
+      List<Long> evens = new ArrayList<>(numbers.stream().filter(n -> n % 2 == 0).toList());
+      List<Long> odds = new ArrayList<>(numbers.stream().filter(n -> n % 2 != 0).toList());
+      Collections.shuffle(evens);
+      Collections.shuffle(odds);
+      List<Long> result = new ArrayList<>();
+      result.addAll(evens.subList(0, Math.min(3, evens.size())));
+      result.addAll(odds.subList(0, Math.min(3, odds.size())));
+      List<Long> leftovers = new ArrayList<>(numbers);
+      leftovers.removeAll(result);
+      Collections.shuffle(leftovers);
+      while (result.size() < 6 && !leftovers.isEmpty()) {
+        result.add(leftovers.remove(0));
+      }
+      return result.stream().limit(6).toList();
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
+
+/**
+ * 통계 조회 경로 벤치마크 (회차 인덱스 기반 구간 분포 / 히트맵).
+ * 조회 구간은 최근 rangeSize회차입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LottoStatisticsBenchmark {
+
+  @Param({ "1200", "5000" })
+  private int historySize;
+
+  @Param({ "100", "777" })
+  private int rangeSize;
+
+  private LottoResultService service;
+  private long startRound;
+  private long endRound;
+
+  @Setup
+  public void setUp() {
+    LottoResultRepository repository = InMemoryLottoResultRepository.create(historySize, 20250101L);
+    LottoDrawIndex index = new LottoDrawIndex(repository, event -> {
+    });
+    index.reload();
+    service = new LottoResultServiceImpl(repository, index);
+
+    endRound = historySize;
+    startRound = Math.max(1, endRound - rangeSize + 1);
+  }
+
+  @Benchmark
+  public Map<Integer, Integer> numberDistributionByRange() {
+    return service.getNumberDistributionByRange(startRound, endRound);
+  }
+
+  @Benchmark
+  public Map<Integer, Map<Long, Integer>> historicalHitmap() {
+    return service.getHistoricalHitmap(startRound, endRound);
+  }
+}
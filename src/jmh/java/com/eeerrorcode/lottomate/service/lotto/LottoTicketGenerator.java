@@ -0,0 +1,31 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.util.Random;
+
+/**
+ * 벤치마크 데이터 생성용 번호 추출기
+ */
+final class LottoTicketGenerator {
+
+  private LottoTicketGenerator() {
+  }
+
+  /**
+   * 1~45에서 중복 없이 count개를 뽑습니다. (부분 Fisher-Yates)
+   */
+  static int[] pick(Random random, int count) {
+    int[] pool = new int[45];
+    for (int i = 0; i < pool.length; i++) {
+      pool[i] = i + 1;
+    }
+    for (int i = 0; i < count; i++) {
+      int j = i + random.nextInt(pool.length - i);
+      int tmp = pool[i];
+      pool[i] = pool[j];
+      pool[j] = tmp;
+    }
+    int[] picked = new int[count];
+    System.arraycopy(pool, 0, picked, 0, count);
+    return picked;
+  }
+}
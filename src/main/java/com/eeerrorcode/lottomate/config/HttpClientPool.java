@@ -0,0 +1,177 @@
+package com.eeerrorcode.lottomate.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 외부 API 호출용 HTTP 커넥션 풀.
+ * <p>
+ * 포트원, 소셜 로그인 등 모든 외부 연동이 공유하는 {@code RestTemplate}의 하부 클라이언트로,
+ * 목적지(스킴+호스트+포트)별로 keep-alive 커넥션을 재사용합니다. 연결, 응답, 풀 대기 시간에 모두
+ * 상한이 있어 외부 서버가 느려져도 요청 스레드가 무기한 묶이지 않고, 풀이 가득 차면
+ * pool-timeout-ms 안에 예외로 끝납니다. idle-timeout-seconds 동안 쓰이지 않은 커넥션과
+ * 만료된 커넥션은 백그라운드에서 정리하고, 오래 쉬었던 커넥션은 재사용 전에 상태를 확인합니다.
+ * </p>
+ * <ul>
+ *   <li>http.client.max-per-route: 목적지별 기본 최대 커넥션 수</li>
+ *   <li>http.client.route-max: 목적지별 개별 최대 커넥션 수 ("https://api.iamport.kr=30,https://kapi.kakao.com=10")</li>
+ * </ul>
+ *
+ * <ul>
+ *   <li>http.client.pool.leased (host): 사용 중인 커넥션 수</li>
+ *   <li>http.client.pool.available (host): 재사용 대기 중인 커넥션 수</li>
+ *   <li>http.client.pool.pending (host): 커넥션을 기다리는 요청 수</li>
+ *   <li>http.client.pool.max (host): 최대 커넥션 수</li>
+ * </ul>
+ * 호스트별 응답 시간 분포는 RestTemplate 관측 지표(http.client.requests, client.name 태그)로 수집합니다.
+ */
+@Component
+@Log4j2
+public class HttpClientPool implements DisposableBean {
+
+  private final PoolingHttpClientConnectionManager connectionManager;
+  private final CloseableHttpClient httpClient;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Boolean> boundHosts = new ConcurrentHashMap<>();
+
+  @Autowired
+  public HttpClientPool(MeterRegistry meterRegistry,
+      @Value("${http.client.max-total:100}") int maxTotal,
+      @Value("${http.client.max-per-route:20}") int maxPerRoute,
+      @Value("${http.client.route-max:}") String routeMax,
+      @Value("${http.client.connect-timeout-ms:3000}") long connectTimeoutMillis,
+      @Value("${http.client.read-timeout-ms:10000}") long readTimeoutMillis,
+      @Value("${http.client.pool-timeout-ms:2000}") long poolTimeoutMillis,
+      @Value("${http.client.idle-timeout-seconds:30}") long idleTimeoutSeconds) {
+    this.meterRegistry = meterRegistry;
+    this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+      .setMaxConnTotal(maxTotal)
+      .setMaxConnPerRoute(maxPerRoute)
+      .setDefaultConnectionConfig(ConnectionConfig.custom()
+        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+        .build())
+      .build();
+
+    if (routeMax != null && !routeMax.isBlank()) {
+      for (String entry : routeMax.split(",")) {
+        int separator = entry.lastIndexOf('=');
+        if (separator <= 0) {
+          throw new IllegalStateException("http.client.route-max 형식이 올바르지 않습니다 (url=개수): " + entry.trim());
+        }
+        HttpRoute route = toRoute(entry.substring(0, separator).trim());
+        connectionManager.setMaxPerRoute(route, Integer.parseInt(entry.substring(separator + 1).trim()));
+      }
+    }
+
+    this.httpClient = HttpClients.custom()
+      .setConnectionManager(connectionManager)
+      .setDefaultRequestConfig(RequestConfig.custom()
+        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMillis))
+        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+        .build())
+      .evictExpiredConnections()
+      .evictIdleConnections(TimeValue.ofSeconds(idleTimeoutSeconds))
+      .build();
+
+    log.info("[HTTP 클라이언트] 최대 커넥션 {}개 (목적지별 {}개), 연결 {}ms, 응답 {}ms, 풀 대기 {}ms, 유휴 정리 {}초",
+      maxTotal, maxPerRoute, connectTimeoutMillis, readTimeoutMillis, poolTimeoutMillis, idleTimeoutSeconds);
+  }
+
+  /**
+   * @return 커넥션 풀을 사용하는 요청 팩토리
+   */
+  public ClientHttpRequestFactory requestFactory() {
+    return new HttpComponentsClientHttpRequestFactory(httpClient);
+  }
+
+  /**
+   * 요청 목적지 호스트의 풀 지표를 처음 호출될 때 등록하는 인터셉터
+   */
+  public ClientHttpRequestInterceptor metricsInterceptor() {
+    return this::bindHostAndExecute;
+  }
+
+  @Override
+  public void destroy() throws IOException {
+    httpClient.close();
+  }
+
+  private ClientHttpResponse bindHostAndExecute(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+      throws IOException {
+    String host = request.getURI().getHost();
+    if (host != null) {
+      boundHosts.computeIfAbsent(host.toLowerCase(Locale.ROOT), this::bindHost);
+    }
+    return execution.execute(request, body);
+  }
+
+  private Boolean bindHost(String host) {
+    gauge("http.client.pool.leased", host, PoolStats::getLeased);
+    gauge("http.client.pool.available", host, PoolStats::getAvailable);
+    gauge("http.client.pool.pending", host, PoolStats::getPending);
+    gauge("http.client.pool.max", host, PoolStats::getMax);
+    return Boolean.TRUE;
+  }
+
+  private void gauge(String name, String host, ToIntFunction<PoolStats> stat) {
+    Gauge.builder(name, connectionManager, manager -> sum(manager, host, stat))
+      .tag("host", host)
+      .register(meterRegistry);
+  }
+
+  /**
+   * 같은 호스트의 경로(http/https, 포트별)를 합산합니다.
+   */
+  private static double sum(PoolingHttpClientConnectionManager manager, String host, ToIntFunction<PoolStats> stat) {
+    int total = 0;
+    for (HttpRoute route : manager.getRoutes()) {
+      if (route.getTargetHost().getHostName().equalsIgnoreCase(host)) {
+        total += stat.applyAsInt(manager.getStats(route));
+      }
+    }
+    return total;
+  }
+
+  /**
+   * 설정의 URL을 클라이언트가 실제로 사용하는 경로와 같은 형태(포트 명시, 프록시 없음)로 변환합니다.
+   */
+  private static HttpRoute toRoute(String url) {
+    URI uri = URI.create(url.contains("://") ? url : "https://" + url);
+    String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+    boolean secure = "https".equals(scheme);
+    int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+    return new HttpRoute(new HttpHost(scheme, uri.getHost(), port), null, secure);
+  }
+}
@@ -1,5 +1,6 @@
 package com.eeerrorcode.lottomate.config;
 
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -8,11 +9,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Configuration
 public class RestTemplateConfig {
+  /**
+   * 외부 API 호출용 RestTemplate (커넥션 풀과 타임아웃은 {@link HttpClientPool} 설정을 따름)
+   */
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplate();
+  public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, HttpClientPool httpClientPool) {
+    return restTemplateBuilder
+      .requestFactory(httpClientPool::requestFactory)
+      .additionalInterceptors(httpClientPool.metricsInterceptor())
+      .build();
   }
-    
+
   @Bean
   public ObjectMapper objectMapper() {
     return new ObjectMapper();
@@ -3,6 +3,7 @@ package com.eeerrorcode.lottomate.config;
 import java.util.Arrays;
 import java.util.Collections;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -21,6 +22,7 @@ import com.eeerrorcode.lottomate.domain.entity.user.User.Role;
 import com.eeerrorcode.lottomate.security.CustomUserDetailsService;
 import com.eeerrorcode.lottomate.security.JwtAuthenticationFilter;
 import com.eeerrorcode.lottomate.security.JwtTokenProvider;
+import com.eeerrorcode.lottomate.security.UserVersionCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,6 +34,11 @@ public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
     // private final UserRepository userRepository;
     private final CustomUserDetailsService userDetailsService;
+    private final UserVersionCache userVersionCache;
+
+    // 토큰 클레임만으로 사용자를 구성하는 무상태 인증 모드
+    @Value("${jwt.stateless-auth.enabled:false}")
+    private boolean statelessAuth;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -40,13 +47,13 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                .requestMatchers("/api/auth/**", "/api/payment/webhook/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
                 .requestMatchers("/api/admin/**").hasRole(Role.ADMIN.name())
                 // .anyRequest().authenticated() // 운영  
                 .anyRequest().permitAll() // 개발 
             )
             // 개발 중에는 JWT 필터 비활성화 - 인증 문제 해결 후 다시 활성화
-            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService), 
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, userVersionCache, statelessAuth), 
                             UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
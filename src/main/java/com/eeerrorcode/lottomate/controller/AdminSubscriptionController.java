@@ -28,6 +28,7 @@ import lombok.extern.log4j.Log4j2;
 public class AdminSubscriptionController {
   private final SubscriptionService subscriptionService;
   private final SubscriptionPlanService subscriptionPlanService;
+  private final SubscriptionRenewalScheduler subscriptionRenewalScheduler;
 
   @Operation(
     summary = "관리자 - 모든 구독 플랜 조회",
@@ -216,4 +217,26 @@ public class AdminSubscriptionController {
       cancellationId, requestDto.isAdminProcessed());
     return ResponseEntity.ok(cancellationId);
   }
+
+  @Operation(
+    summary = "관리자 - 구독 자동 갱신 수동 실행",
+    description = "다음 결제일이 지난 자동 갱신 구독을 스케줄러와 동일하게 점유해 정기결제하고 결과를 반영합니다.",
+    responses = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "실행 완료",
+        content = @Content(schema = @Schema(implementation = SubscriptionRenewalReport.class))
+      ),
+      @ApiResponse(responseCode = "401", description = "인증 실패"),
+      @ApiResponse(responseCode = "403", description = "권한 없음"),
+      @ApiResponse(responseCode = "500", description = "이미 실행 중이거나 서버 내부 오류")
+    }
+  )
+  @PostMapping("/renewals/run")
+  public ResponseEntity<SubscriptionRenewalReport> runRenewals() {
+    SubscriptionRenewalReport report = subscriptionRenewalScheduler.renewDueSubscriptions();
+
+    log.info("구독 자동 갱신 수동 실행 완료: {}", report);
+    return ResponseEntity.ok(report);
+  }
 }
@@ -1,16 +1,26 @@
 package com.eeerrorcode.lottomate.controller;
 
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.eeerrorcode.lottomate.domain.dto.CommonResponse;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBackfillReport;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoTicketMatchResponse;
+import com.eeerrorcode.lottomate.service.lotto.LottoBackfillService;
+import com.eeerrorcode.lottomate.service.lotto.LottoHistoryService;
 import com.eeerrorcode.lottomate.service.lotto.LottoScheduler;
+import com.eeerrorcode.lottomate.service.lotto.LottoTicketMaskMigration;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -20,6 +30,9 @@ import lombok.RequiredArgsConstructor;
 public class LottoAdminController {
 
   private final LottoScheduler lottoScheduler;
+  private final LottoBackfillService lottoBackfillService;
+  private final LottoTicketMaskMigration lottoTicketMaskMigration;
+  private final LottoHistoryService lottoHistoryService;
 
   @Operation(
     summary = "최신 회차 크롤링 수동 실행",
@@ -35,5 +48,55 @@ public class LottoAdminController {
     lottoScheduler.crawlLatestRoundIfNeeded();
     return CommonResponse.success("크롤링 작업이 수동으로 실행되었습니다.");
   }
+
+  @Operation(
+    summary = "회차 범위 일괄 수집",
+    description = "브라우저 없이 HTTP로 지정된 회차 범위 중 누락된 회차만 병렬 수집하여 저장합니다."
+  )
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "일괄 수집 완료 (실패 회차는 결과에 포함)"),
+    @ApiResponse(responseCode = "500", description = "서버 내부 오류 발생")
+  })
+  @PostMapping("/backfill")
+  public CommonResponse<LottoBackfillReport> backfill(
+      @RequestParam @Min(1) long startRound,
+      @RequestParam @Min(1) long endRound) {
+    return CommonResponse.success(lottoBackfillService.backfill(startRound, endRound), "일괄 수집 완료");
+  }
+
+  @Operation(
+    summary = "응모 번호 마스크 마이그레이션 수동 실행",
+    description = "numbers_mask가 비어 있는 응모 내역을 배치 단위로 채웁니다. 기동 시 자동 실행되며, 이미 실행 중이면 0을 반환합니다."
+  )
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "마이그레이션 완료 (반영 건수 반환)"),
+    @ApiResponse(responseCode = "500", description = "서버 내부 오류 발생")
+  })
+  @PostMapping("/migrate-ticket-masks")
+  public CommonResponse<Long> migrateTicketMasks() {
+    return CommonResponse.success(lottoTicketMaskMigration.migrate(), "번호 마스크 마이그레이션 완료");
+  }
+
+  @Operation(
+    summary = "당첨 조합 시뮬레이션 (what-if)",
+    description = "응모 색인에 임의의 당첨 번호를 적용하여 등수별 당첨 수를 계산합니다. DB는 변경하지 않으며 부하 테스트용으로 반복 호출할 수 있습니다.\n" +
+                  "drawRound를 생략하면 현재 응모 중인 회차를 사용합니다."
+  )
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "시뮬레이션 완료"),
+    @ApiResponse(responseCode = "400", description = "당첨 번호 또는 보너스 번호 오류")
+  })
+  @GetMapping("/ticket-index/what-if")
+  public ResponseEntity<CommonResponse<LottoTicketMatchResponse>> simulateWinning(
+      @RequestParam String numbers,
+      @RequestParam @Min(1) @Max(45) int bonusNumber,
+      @RequestParam(required = false) @Min(1) Long drawRound) {
+    try {
+      return ResponseEntity.ok(CommonResponse.success(
+          lottoHistoryService.simulateWinning(drawRound, numbers, bonusNumber), "당첨 조합 시뮬레이션 완료"));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(CommonResponse.error("INVALID_NUMBERS", e.getMessage()));
+    }
+  }
   // 시간 자체도 관리자가 직접 수정할 수 있도록 변환 할 것
 }
@@ -5,7 +5,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.eeerrorcode.lottomate.domain.dto.CommonResponse;
+import com.eeerrorcode.lottomate.domain.dto.CursorSlice;
 import com.eeerrorcode.lottomate.domain.dto.lotto.HistoricalHeatmapResponse;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBulkHistoryRequest;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBulkHistoryResponse;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBulkRecommendRequest;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBulkRecommendResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoLatestResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoNumberHitmapResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoRecommendOption;
@@ -13,8 +18,16 @@ import com.eeerrorcode.lottomate.domain.dto.lotto.LottoRecommendResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoResultResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoUserHistoryRequest;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoUserHistoryResponse;
+import com.eeerrorcode.lottomate.domain.enums.HeatmapFormat;
+import com.eeerrorcode.lottomate.exeption.DuplicateTicketException;
+import com.eeerrorcode.lottomate.exeption.SubscriptionException;
+import com.eeerrorcode.lottomate.security.CustomUserDetails;
 import com.eeerrorcode.lottomate.service.lotto.*;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,6 +35,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -29,12 +43,18 @@ import lombok.RequiredArgsConstructor;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -42,6 +62,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 @Tag(name = "Lotto API", description = "로또 다양한 기능을 포함한 주요 API 그룹")
 public class LottoController {
 
+  private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+      .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+      .build();
+
   private final LottoCrawlerService crawlerService;
   private final LottoResultService resultService;
   private final LottoRecommendService lottoRecommendService;
@@ -124,9 +148,42 @@ public class LottoController {
     }
   }
 
+  @Operation(summary = "로또 번호 일괄 추천", description = """
+      하나의 추천 옵션으로 서로 중복되지 않는 번호 조합을 여러 개 생성합니다.
+      모든 조합은 같은 회차 통계를 기준으로 계산됩니다.
+
+      - 요청 가능한 조합 수는 활성 구독 플랜의 최대 번호 개수(maxLottoNumbers)로 제한됩니다
+      - 순위 순서 모드(HIGH/LOW_FREQUENCY)는 상위(하위) 후보 폭을 넓혀 서로 다른 조합을 만듭니다
+      - 옵션상 가능한 조합이 부족하면 요청 수보다 적게 반환될 수 있습니다
+      """)
+  @ApiResponse(responseCode = "200", description = "추천 조합 목록이 성공적으로 반환됩니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = LottoBulkRecommendResponse.class)))
+  @PostMapping("/recommend/bulk")
+  public ResponseEntity<CommonResponse<LottoBulkRecommendResponse>> recommendBulk(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestBody @Valid LottoBulkRecommendRequest request) {
+    Long userId = userDetails != null ? userDetails.getUser().getId() : null;
+    try {
+      LottoBulkRecommendResponse response = lottoRecommendService.recommendBulk(userId, request.getOption(),
+          request.getCount());
+      return ResponseEntity.ok(CommonResponse.success(response, "일괄 추천 번호 조회 성공"));
+    } catch (SubscriptionException e) {
+      return ResponseEntity
+          .badRequest()
+          .body(CommonResponse.error("BULK_LIMIT_EXCEEDED", e.getMessage()));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity
+          .badRequest()
+          .body(CommonResponse.error("INVALID_OPTION", "입력하신 옵션이 잘못되었습니다."));
+    } catch (Exception e) {
+      return ResponseEntity
+          .status(500)
+          .body(CommonResponse.error("RECOMMEND_ERROR", "추천 알고리즘 실행 중 오류가 발생했습니다."));
+    }
+  }
+
   @Validated
   @GetMapping("/user/history")
-  @Operation(summary = "사용자 로또 기록 조회", description = "특정 사용자(userId)의 로또 구매 이력 및 당첨 정보를 페이징 형식으로 반환합니다.")
+  @Operation(summary = "사용자 로또 기록 조회", description = "특정 사용자(userId)의 로또 구매 이력 및 당첨 정보를 페이징 형식으로 반환합니다. (깊은 페이지는 /user/history/cursor 사용 권장)")
   @ApiResponse(responseCode = "200", description = "사용자 로또 이력 반환 성공", content = @Content(schema = @Schema(implementation = LottoUserHistoryResponse.class)))
   public ResponseEntity<CommonResponse<List<LottoUserHistoryResponse>>> getUserLottoHistory(
       @RequestParam @NotNull @Min(1) Long userId,
@@ -137,6 +194,26 @@ public class LottoController {
     return ResponseEntity.ok(CommonResponse.success(result, "사용자 로또 기록 조회 성공"));
   }
 
+  @Validated
+  @GetMapping("/user/history/cursor")
+  @Operation(summary = "사용자 로또 기록 커서 조회", description = """
+        특정 사용자(userId)의 로또 기록을 회차, ID 내림차순으로 반환합니다.
+        - 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 cursor로 전달합니다
+        - 전체 건수를 세지 않으며 페이지 깊이와 관계없이 응답 시간이 일정합니다
+      """)
+  @ApiResponse(responseCode = "200", description = "사용자 로또 이력 반환 성공", content = @Content(schema = @Schema(implementation = CursorSlice.class)))
+  public ResponseEntity<CommonResponse<CursorSlice<LottoUserHistoryResponse>>> getUserLottoHistoryByCursor(
+      @RequestParam @NotNull @Min(1) Long userId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+    try {
+      CursorSlice<LottoUserHistoryResponse> result = lottoHistoryService.logUserHistory(userId, cursor, size);
+      return ResponseEntity.ok(CommonResponse.success(result, "사용자 로또 기록 조회 성공"));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(CommonResponse.error("INVALID_CURSOR", e.getMessage()));
+    }
+  }
+
   // @Operation(summary = "회차별 번호 등장 여부 매트릭스 조회", description = """
   // 지정된 회차 수 범위 내에서 각 회차(drawRound)별로 1~45번 로또 번호의 등장 여부를 Boolean 값으로 반환합니다.
 
@@ -167,6 +244,11 @@ public class LottoController {
   try {
   lottoHistoryService.saveUserLottoHistory(userId, request);
   return ResponseEntity.ok(CommonResponse.success(null, "로또 응모 기록 저장 완료"));
+  } catch (IllegalArgumentException e) {
+  return ResponseEntity.badRequest().body(CommonResponse.error("INVALID_NUMBERS", e.getMessage()));
+  } catch (DataIntegrityViolationException e) {
+  return ResponseEntity.status(HttpStatus.CONFLICT).body(CommonResponse.error("DUPLICATE_TICKET",
+  "같은 회차에 이미 응모한 번호 조합입니다."));
   } catch (Exception e) {
   return
   ResponseEntity.status(500).body(CommonResponse.error("HISTORY_SAVE_FAILED",
@@ -174,6 +256,33 @@ public class LottoController {
   }
   }
 
+  @Operation(summary = "사용자 로또 응모 기록 일괄 저장", description = """
+        여러 건의 응모 기록을 한 번의 요청과 한 번의 INSERT로 저장합니다.
+        - Idempotency-Key 헤더는 요청마다 클라이언트가 새로 발급하며, 같은 키로 재요청하면 저장하지 않고 기존 결과를 반환합니다 (replayed=true)
+        - 모든 번호를 먼저 검증하며, 하나라도 잘못되었거나 같은 회차에 이미 응모한 조합이 있으면 아무것도 저장하지 않습니다
+      """)
+  @Parameter(name = "userId", description = "응모 기록을 저장할 사용자 ID", required = true)
+  @ApiResponse(responseCode = "200", description = "일괄 저장 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = LottoBulkHistoryResponse.class)))
+  @ApiResponse(responseCode = "409", description = "이미 응모한 번호 조합 포함")
+  @PostMapping("/user/history/bulk")
+  public ResponseEntity<CommonResponse<LottoBulkHistoryResponse>> saveUserLottoHistories(
+      @RequestParam @NotNull @Min(1) Long userId,
+      @RequestHeader("Idempotency-Key") String idempotencyKey,
+      @RequestBody @Valid LottoBulkHistoryRequest request) {
+    try {
+      LottoBulkHistoryResponse response = lottoHistoryService.saveUserLottoHistories(userId, idempotencyKey,
+          request.getTickets());
+      return ResponseEntity.ok(CommonResponse.success(response, "로또 응모 기록 일괄 저장 완료"));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(CommonResponse.error("INVALID_NUMBERS", e.getMessage()));
+    } catch (DuplicateTicketException e) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).body(CommonResponse.error("DUPLICATE_TICKET", e.getMessage()));
+    } catch (Exception e) {
+      return ResponseEntity.status(500).body(CommonResponse.error("HISTORY_SAVE_FAILED",
+          "응모 기록 일괄 저장 중 오류가 발생했습니다."));
+    }
+  }
+
   @PutMapping("/user/history/update")
   @Operation(summary = "사용자 로또 응모 결과 갱신", description = "DB에 저장된 로또 당첨 번호를 기준으로 사용자의 응모 결과를 갱신합니다.")
   @ApiResponse(responseCode = "200", description = "갱신 완료", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CommonResponse.class)))
@@ -189,9 +298,14 @@ public class LottoController {
   }
 
   @GetMapping("/stats/heatmap-range")
-  public ResponseEntity<CommonResponse<LottoNumberHitmapResponse>> getHitmapMatrixRange(
+  @Operation(summary = "회차 범위 히트맵 조회", description = "format=BITMASK 또는 RLE 지정 시 중간 Map 없이 컬럼/run-length 형식으로 스트리밍합니다. (기본값 MAP)")
+  public ResponseEntity<?> getHitmapMatrixRange(
       @RequestParam @Min(1) long startRound,
-      @RequestParam @Min(1) long endRound) {
+      @RequestParam @Min(1) long endRound,
+      @RequestParam(defaultValue = "MAP") HeatmapFormat format) {
+    if (format != HeatmapFormat.MAP) {
+      return streamHeatmap(resultService.encodeHeatmap(startRound, endRound, format), "히트맵 범위 지정 데이터 조회 성공");
+    }
     LottoNumberHitmapResponse matrix = resultService.getHitMapMatrixByRange(startRound, endRound);
     return ResponseEntity.ok(CommonResponse.success(matrix, "히트맵 범위 지정 데이터 조회 성공"));
   }
@@ -210,13 +324,39 @@ public class LottoController {
   }
 
   @GetMapping("/stats/history-heatmap")
-  @Operation(summary = "히스토리컬 히트맵 조회", description = "지정된 회차 범위(startRound ~ endRound) 내에서 각 번호(1~45번)가 등장한 회차를 매핑하여 반환합니다.")
+  @Operation(summary = "히스토리컬 히트맵 조회", description = """
+      지정된 회차 범위(startRound ~ endRound) 내에서 각 번호(1~45번)가 등장한 회차를 매핑하여 반환합니다.
+
+      [format]:
+      - MAP: 번호별 {회차: 0/1} Map (기본값)
+      - BITMASK: rounds / masks / bonuses 배열 (masks의 n-1번째 비트 = 번호 n)
+      - RLE: 번호별 미출현/출현 구간 길이 배열
+      """)
   @ApiResponse(responseCode = "200", description = "히트맵 데이터 반환 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = HistoricalHeatmapResponse.class)))
-  public ResponseEntity<CommonResponse<HistoricalHeatmapResponse>> getHistoricalHeatmap(@RequestParam @Min(1) long startRound, @RequestParam @Min(1) long endRound) {
+  public ResponseEntity<?> getHistoricalHeatmap(@RequestParam @Min(1) long startRound, @RequestParam @Min(1) long endRound,
+      @RequestParam(defaultValue = "MAP") HeatmapFormat format) {
+    if (format != HeatmapFormat.MAP) {
+      return streamHeatmap(resultService.encodeHeatmap(startRound, endRound, format), "히스토리컬 히트맵 조회 성공");
+    }
     Map<Integer, Map<Long, Integer>> matrix = resultService.getHistoricalHitmap(startRound, endRound);
     return ResponseEntity.ok(CommonResponse.success(new HistoricalHeatmapResponse(matrix), "히스토리컬 히트맵 조회 성공"));
   }
     
+  // 히트맵 인코더 결과를 CommonResponse 형식({message, data, error})으로 스트리밍
+  private ResponseEntity<StreamingResponseBody> streamHeatmap(LottoHeatmapEncoder encoder, String message) {
+    StreamingResponseBody body = outputStream -> {
+      try (JsonGenerator gen = JSON_FACTORY.createGenerator(outputStream)) {
+        gen.writeStartObject();
+        gen.writeStringField("message", message);
+        gen.writeFieldName("data");
+        encoder.writeTo(gen);
+        gen.writeNullField("error");
+        gen.writeEndObject();
+      }
+    };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+  }
+
   @GetMapping("/latest")
   public ResponseEntity<CommonResponse<LottoLatestResponse>> getLatestLotto() {
     LottoLatestResponse response = resultService.getLatestDraw();
@@ -0,0 +1,45 @@
+package com.eeerrorcode.lottomate.controller;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.eeerrorcode.lottomate.domain.dto.CommonResponse;
+import com.eeerrorcode.lottomate.domain.dto.payment.PaymentReconciliationReport;
+import com.eeerrorcode.lottomate.service.payment.PaymentReconciliationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/payment")
+@RequiredArgsConstructor
+@Tag(name = "Payment Admin", description = "결제 수동 실행 / 관리자 API")
+public class PaymentAdminController {
+
+  private final PaymentReconciliationService paymentReconciliationService;
+
+  @Operation(
+    summary = "결제 대사 수동 실행",
+    description = "결제일이 지정된 기간(시작 포함, 종료 미포함)에 속한 결제를 포트원 결제 정보와 비교합니다.\n" +
+                  "불일치 결제는 결과에 포함되고 결제 로그에 기록되며, 결제 정보는 수정하지 않습니다."
+  )
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "대사 완료 (불일치/조회 실패 결제는 결과에 포함, 중단 시 incomplete=true)"),
+    @ApiResponse(responseCode = "500", description = "서버 내부 오류 또는 다른 대사 작업 진행 중")
+  })
+  @PostMapping("/reconcile")
+  public CommonResponse<PaymentReconciliationReport> reconcile(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+    PaymentReconciliationReport report = paymentReconciliationService.reconcile(from, to);
+    return CommonResponse.success(report, report.isIncomplete() ? "결제 대사 중단 (일부 결제만 비교)" : "결제 대사 완료");
+  }
+}
@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import com.eeerrorcode.lottomate.domain.dto.CursorSlice;
 import com.eeerrorcode.lottomate.domain.dto.payment.*;
 import com.eeerrorcode.lottomate.security.CustomUserDetails;
 import com.eeerrorcode.lottomate.service.payment.PaymentService;
@@ -18,6 +19,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
@@ -202,6 +205,34 @@ public class PaymentController {
     return ResponseEntity.ok(logs);
   }
 
+  @Operation(
+    summary = "결제 로그 커서 조회",
+    description = "사용자의 결제 로그를 최신순으로 커서 기반 조회합니다. 전체 건수를 세지 않으며, 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.",
+    responses = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "결제 로그 조회 성공",
+        content = @Content(schema = @Schema(implementation = CursorSlice.class))
+      ),
+      @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+      @ApiResponse(responseCode = "401", description = "인증 실패")
+    }
+  )
+  @GetMapping("/logs/cursor")
+  public ResponseEntity<?> getPaymentLogsByCursor(
+    @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+    @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+    @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+  ) {
+    Long userId = userDetails.getUser().getId();
+    try {
+      CursorSlice<PaymentLogResponseDto> logs = paymentService.getPaymentLogs(userId, cursor, size);
+      return ResponseEntity.ok(logs);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
   @Operation(
     summary = "결제 환불 요청",
     description = "결제 환불을 요청합니다.",
@@ -0,0 +1,53 @@
+package com.eeerrorcode.lottomate.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.eeerrorcode.lottomate.domain.dto.payment.PortOneWebhookRequestDto;
+import com.eeerrorcode.lottomate.service.subscription.PaymentVerificationWorker;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/payment/webhook")
+@Tag(name = "Payment Webhook API", description = "포트원 결제 알림(웹훅) 수신 API입니다")
+@Log4j2
+public class PaymentWebhookController {
+  private final PaymentVerificationWorker paymentVerificationWorker;
+
+  @Operation(
+    summary = "포트원 웹훅 수신",
+    description = "포트원 결제 상태 변경 알림을 받아 해당 주문의 결제 검증을 즉시 진행합니다. "
+      + "알림 본문은 신뢰하지 않으며 포트원 결제 정보를 다시 조회해 검증합니다.",
+    responses = {
+      @ApiResponse(responseCode = "200", description = "수신 완료"),
+      @ApiResponse(responseCode = "400", description = "주문번호 누락"),
+      @ApiResponse(responseCode = "503", description = "검증 대기열이 가득 참 (재전송 필요)")
+    }
+  )
+  @PostMapping("/portone")
+  public ResponseEntity<?> receivePortOneWebhook(@RequestBody PortOneWebhookRequestDto requestDto) {
+    if (requestDto.getMerchantUid() == null || requestDto.getMerchantUid().isBlank()) {
+      return ResponseEntity.badRequest().body("merchant_uid가 없습니다.");
+    }
+    log.info("포트원 웹훅 수신: impUid={}, merchantUid={}, status={}",
+      requestDto.getImpUid(), requestDto.getMerchantUid(), requestDto.getStatus());
+
+    if (!paymentVerificationWorker.submit(requestDto.getMerchantUid())) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "5")
+        .build();
+    }
+    return ResponseEntity.ok().build();
+  }
+}
@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import com.eeerrorcode.lottomate.domain.dto.CursorSlice;
 import com.eeerrorcode.lottomate.domain.dto.subscription.*;
 import com.eeerrorcode.lottomate.security.CustomUserDetails;
 import com.eeerrorcode.lottomate.service.subscription.SubscriptionService;
@@ -17,6 +18,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
@@ -78,6 +81,35 @@ public class SubscriptionCancellationController {
     
     return ResponseEntity.ok(cancellations);
   }
+
+  @Operation(
+    summary = "구독 취소 이력 커서 조회",
+    description = "사용자의 구독 취소 이력을 최신순으로 커서 기반 조회합니다. 전체 건수를 세지 않으며, 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.",
+    responses = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "취소 이력 조회 성공",
+        content = @Content(schema = @Schema(implementation = CursorSlice.class))
+      ),
+      @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+      @ApiResponse(responseCode = "401", description = "인증 실패")
+    }
+  )
+  @GetMapping("/cursor")
+  public ResponseEntity<?> getCancellationHistoryByCursor(
+    @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+    @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+    @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+  ) {
+    Long userId = userDetails.getUser().getId();
+    try {
+      CursorSlice<SubscriptionCancellationResponseDto> cancellations =
+        subscriptionService.getCancellationHistory(userId, cursor, size);
+      return ResponseEntity.ok(cancellations);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
   
   @Operation(
     summary = "구독 취소 이력 상세 조회",
@@ -2,6 +2,7 @@ package com.eeerrorcode.lottomate.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -9,12 +10,14 @@ import org.springframework.web.bind.annotation.*;
 
 import com.eeerrorcode.lottomate.domain.dto.payment.PaymentLogCreateRequestDto;
 import com.eeerrorcode.lottomate.domain.dto.subscription.*;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentStatus;
 import com.eeerrorcode.lottomate.domain.entity.user.User;
 import com.eeerrorcode.lottomate.exeption.ResourceNotFoundException;
 import com.eeerrorcode.lottomate.repository.UserRepository;
 import com.eeerrorcode.lottomate.security.CustomUserDetails;
 import com.eeerrorcode.lottomate.security.JwtTokenProvider;
 import com.eeerrorcode.lottomate.service.payment.PaymentService;
+import com.eeerrorcode.lottomate.service.subscription.PaymentVerificationWorker;
 import com.eeerrorcode.lottomate.service.subscription.SubscriptionPlanService;
 import com.eeerrorcode.lottomate.service.subscription.SubscriptionService;
 
@@ -39,6 +42,7 @@ public class SubscriptionController {
   private final SubscriptionService subscriptionService;
   private final SubscriptionPlanService subscriptionPlanService;
   private final PaymentService paymentService;
+  private final PaymentVerificationWorker paymentVerificationWorker;
   private final JwtTokenProvider jwtUtil;
   private final UserRepository userRepository;
 
@@ -60,22 +64,22 @@ public class SubscriptionController {
   }
 
   @Operation(
-    summary = "결제 검증 및 구독 활성화",
-    description = "포트원 결제 후 결제 검증을 수행하고 구독을 활성화합니다.",
+    summary = "결제 검증 요청",
+    description = "포트원 결제 후 결제 검증을 요청합니다. 검증과 구독 활성화는 비동기로 진행되며, 진행 상태는 결제 검증 상태 조회 API로 확인합니다.",
     responses = {
       @ApiResponse(
-        responseCode = "200",
-        description = "결제 검증 및 구독 활성화 성공",
-        content = @Content(schema = @Schema(implementation = Long.class))
+        responseCode = "202",
+        description = "결제 검증 요청 접수",
+        content = @Content(schema = @Schema(implementation = PaymentVerificationStatusDto.class))
       ),
-      @ApiResponse(responseCode = "400", description = "결제 검증 실패"),
-      @ApiResponse(responseCode = "401", description = "인증 실패")
+      @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+      @ApiResponse(responseCode = "401", description = "인증 실패"),
+      @ApiResponse(responseCode = "503", description = "검증 대기열이 가득 참 (잠시 후 같은 요청으로 재시도)")
     }
   )
   @PostMapping("/verify-payment")
   public ResponseEntity<?> verifyPaymentAndCreateSubscription(
     @Valid @RequestBody SubscriptionVerifyPaymentRequestDto requestDto,
-    @RequestHeader(value = "X-PortOne-Token", required = false) String portOneToken,
     @RequestHeader(value = "Authorization", required = false) String authHeader,
     HttpServletRequest request
   ) {
@@ -112,11 +116,6 @@ public class SubscriptionController {
     }
     
     try {
-      // 포트원 토큰이 없는 경우 발급 시도
-      if (portOneToken == null || portOneToken.isEmpty()) {
-        portOneToken = paymentService.getPortOneAccessToken();
-      }
-      
       // 결제 검증 요청 로그 기록
       try {
         paymentService.logPaymentAction(
@@ -132,47 +131,58 @@ public class SubscriptionController {
         // 로그 기록 실패는 주요 기능을 차단하지 않도록 예외 처리
       }
       
-      // 결제 검증 및 구독 활성화
-      Long subscriptionId = subscriptionService.verifyPaymentAndActivateSubscription(userId, requestDto);
+      // 대기 상태의 구독과 결제를 기록한 뒤 검증 작업 접수 (검증 결과 로그는 검증 작업에서 기록)
+      PaymentVerificationStatusDto status = subscriptionService.requestPaymentVerification(userId, requestDto);
+      if (status.getStatus() == PaymentStatus.PENDING
+          && !paymentVerificationWorker.submit(status.getMerchantUid())) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, "5")
+          .body("결제 검증 요청이 많아 잠시 후 다시 시도해주세요.");
+      }
       
-      // 결제 성공 로그 기록
+      log.info("결제 검증 요청 접수: userId = {}, merchantUid = {}, status = {}", userId, status.getMerchantUid(), status.getStatus());
+      return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+    } catch (Exception e) {
+      // 결제 실패 로그 기록
       try {
         paymentService.logPaymentAction(
           userId, 
           PaymentLogCreateRequestDto.builder()
-            .action(com.eeerrorcode.lottomate.domain.entity.payment.PaymentLogAction.PAYMENT_SUCCESS)
-            .paymentId(subscriptionId)
+            .action(com.eeerrorcode.lottomate.domain.entity.payment.PaymentLogAction.PAYMENT_FAILED)
+            .responseData("Error: " + e.getMessage())
             .build(),
           request.getRemoteAddr()
         );
-      } catch (Exception e) {
-        log.warn("결제 성공 로그 기록 실패: {}", e.getMessage());
-        // 로그 기록 실패는 주요 기능을 차단하지 않도록 예외 처리
-      }
-      
-      log.info("결제 검증 및 구독 활성화 성공: userId = {}, subscriptionId = {}", userId, subscriptionId);
-      return ResponseEntity.ok(subscriptionId);
-    } catch (Exception e) {
-      // 결제 실패 로그 기록
-      try {
-        if (userId != null) {
-          paymentService.logPaymentAction(
-            userId, 
-            PaymentLogCreateRequestDto.builder()
-              .action(com.eeerrorcode.lottomate.domain.entity.payment.PaymentLogAction.PAYMENT_FAILED)
-              .responseData("Error: " + e.getMessage())
-              .build(),
-            request.getRemoteAddr()
-          );
-        }
       } catch (Exception logError) {
         log.warn("결제 실패 로그 기록 실패: {}", logError.getMessage());
       }
       
-      log.error("결제 검증 실패: " + e.getMessage(), e);
+      log.error("결제 검증 요청 실패: " + e.getMessage(), e);
       return ResponseEntity.badRequest().body(e.getMessage());
     }
   }
+
+  @Operation(
+    summary = "결제 검증 상태 조회",
+    description = "결제 검증 요청의 진행 상태를 조회합니다. COMPLETE면 구독이 활성화된 상태입니다.",
+    responses = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "결제 검증 상태 조회 성공",
+        content = @Content(schema = @Schema(implementation = PaymentVerificationStatusDto.class))
+      ),
+      @ApiResponse(responseCode = "401", description = "인증 실패"),
+      @ApiResponse(responseCode = "404", description = "결제 정보 없음")
+    }
+  )
+  @GetMapping("/verify-payment/{merchantUid}")
+  public ResponseEntity<?> getPaymentVerificationStatus(
+    @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+    @PathVariable String merchantUid
+  ) {
+    Long userId = userDetails.getUser().getId();
+    return ResponseEntity.ok(subscriptionService.getPaymentVerificationStatus(userId, merchantUid));
+  }
   
   @Operation(
     summary = "구독 정보 조회",
@@ -0,0 +1,26 @@
+package com.eeerrorcode.lottomate.domain.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "커서 기반 목록 응답. 전체 건수를 세지 않으며, nextCursor를 다음 요청의 cursor로 전달합니다.")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorSlice<T> {
+
+  @Schema(description = "이번 페이지 항목")
+  private List<T> items;
+
+  @Schema(description = "다음 페이지 요청에 사용할 커서 (마지막 페이지면 null)", example = "MTE3MHwxMjM0NQ")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private boolean hasNext;
+}
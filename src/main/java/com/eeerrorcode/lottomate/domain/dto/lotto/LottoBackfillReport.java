@@ -0,0 +1,37 @@
+package com.eeerrorcode.lottomate.domain.dto.lotto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Schema(description = "회차 일괄 수집(backfill) 결과 요약")
+public class LottoBackfillReport {
+
+  @Schema(description = "수집 대상 시작 회차", example = "1")
+  private Long startRound;
+
+  @Schema(description = "수집 대상 종료 회차", example = "1170")
+  private Long endRound;
+
+  @Schema(description = "이미 저장되어 건너뛴 회차 수", example = "1100")
+  private Long skippedCount;
+
+  @Schema(description = "새로 저장한 회차 수", example = "70")
+  private Long savedCount;
+
+  @Schema(description = "수집/파싱에 실패한 회차 목록", example = "[]")
+  private List<Long> failedRounds;
+
+  @Schema(description = "전체 소요 시간(ms)", example = "8123")
+  private Long elapsedMillis;
+}
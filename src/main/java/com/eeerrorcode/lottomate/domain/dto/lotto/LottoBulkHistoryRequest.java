@@ -0,0 +1,22 @@
+package com.eeerrorcode.lottomate.domain.dto.lotto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "로또 응모 기록 일괄 저장 요청 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LottoBulkHistoryRequest {
+
+  @Schema(description = "저장할 응모 기록 목록 (같은 회차에 같은 번호 조합은 한 번만 응모 가능)")
+  @NotEmpty
+  private List<LottoUserHistoryRequest> tickets;
+}
@@ -0,0 +1,29 @@
+package com.eeerrorcode.lottomate.domain.dto.lotto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "로또 응모 기록 일괄 저장 응답 DTO")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LottoBulkHistoryResponse {
+
+  @Schema(description = "요청에 사용된 멱등 키", example = "2f1c6a0e-5b7d-4d0f-9a57-0c1d2e3f4a5b")
+  private String idempotencyKey;
+
+  @Schema(description = "같은 멱등 키로 이미 저장된 요청을 다시 받아 기존 결과를 반환했는지 여부", example = "false")
+  private boolean replayed;
+
+  @Schema(description = "저장된 응모 기록 수", example = "5")
+  private int savedCount;
+
+  @Schema(description = "저장된 응모 기록 목록")
+  private List<LottoUserHistoryResponse> tickets;
+}
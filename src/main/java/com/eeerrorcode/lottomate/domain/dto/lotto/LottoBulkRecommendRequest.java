@@ -0,0 +1,27 @@
+package com.eeerrorcode.lottomate.domain.dto.lotto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "로또 번호 일괄 추천 요청 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LottoBulkRecommendRequest {
+
+  @Schema(description = "모든 조합에 공통으로 적용할 추천 옵션")
+  @Valid
+  @NotNull
+  private LottoRecommendOption option;
+
+  @Schema(description = "생성할 조합 수 (구독 플랜의 최대 번호 개수 이내)", example = "5")
+  @Min(1)
+  private int count;
+}
@@ -0,0 +1,32 @@
+package com.eeerrorcode.lottomate.domain.dto.lotto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "로또 번호 일괄 추천 응답 DTO")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LottoBulkRecommendResponse {
+
+  @Schema(description = "요청에 사용된 옵션 정보")
+  private LottoRecommendOption options;
+
+  @Schema(description = "요청한 조합 수", example = "5")
+  private int requestedCount;
+
+  @Schema(description = "사용자 플랜 기준 최대 조합 수", example = "10")
+  private int maxCount;
+
+  @Schema(description = "서로 중복되지 않는 추천 조합 목록 (옵션상 가능한 조합이 부족하면 요청 수보다 적을 수 있음)")
+  private List<LottoRecommendTicket> tickets;
+
+  @Schema(description = "조합 생성에 걸린 시간(ms)", example = "3")
+  private long generationMillis;
+}
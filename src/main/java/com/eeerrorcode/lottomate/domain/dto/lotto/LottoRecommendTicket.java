@@ -0,0 +1,23 @@
+package com.eeerrorcode.lottomate.domain.dto.lotto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "일괄 추천으로 생성된 번호 조합 하나")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LottoRecommendTicket {
+
+  @Schema(description = "추천된 번호 목록 (오름차순)", example = "[5, 12, 23, 31, 44, 45]")
+  private List<Long> numbers;
+
+  @Schema(description = "추천된 번호 분석")
+  private List<LottoNumberInsight> insights;
+}
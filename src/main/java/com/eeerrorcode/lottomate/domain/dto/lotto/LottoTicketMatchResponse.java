@@ -0,0 +1,38 @@
+package com.eeerrorcode.lottomate.domain.dto.lotto;
+
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Schema(description = "응모 색인 기준 당첨 조합 시뮬레이션 결과")
+public class LottoTicketMatchResponse {
+
+  @Schema(description = "응모 회차", example = "1171")
+  private Long drawRound;
+
+  @Schema(description = "적용한 당첨 번호", example = "[3, 11, 19, 27, 35, 43]")
+  private List<Integer> winningNumbers;
+
+  @Schema(description = "적용한 보너스 번호", example = "7")
+  private Integer bonusNumber;
+
+  @Schema(description = "색인된 응모 수", example = "120000")
+  private Long ticketCount;
+
+  @Schema(description = "등수별 당첨 수 (1~5등)", example = "{\"1\": 0, \"2\": 1, \"3\": 20, \"4\": 1100, \"5\": 21000}")
+  private Map<Integer, Long> rankCounts;
+
+  @Schema(description = "계산 소요 시간(μs)", example = "850")
+  private Long elapsedMicros;
+}
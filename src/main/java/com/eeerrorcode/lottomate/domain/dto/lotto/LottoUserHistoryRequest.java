@@ -1,6 +1,8 @@
 package com.eeerrorcode.lottomate.domain.dto.lotto;
 
 import com.eeerrorcode.lottomate.domain.entity.lotto.LottoUserHistory;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,14 +21,46 @@ public class LottoUserHistoryRequest {
   private Boolean isAuto;
   private Boolean isSubscribed;
 
+  /**
+   * 요청 번호 문자열을 마스크로 변환하고, 저장용 문자열은 오름차순으로 정규화합니다.
+   *
+   * @throws IllegalArgumentException 번호가 서로 다른 1~45의 숫자 6개가 아닌 경우
+   */
   public LottoUserHistory toEntity(Long userId) {
+    return toEntity(userId, null);
+  }
+
+  /**
+   * 일괄 응모용 변환. 같은 요청에 포함된 내역은 모두 같은 멱등 키를 가집니다.
+   *
+   * @throws IllegalArgumentException 번호가 서로 다른 1~45의 숫자 6개가 아닌 경우
+   */
+  public LottoUserHistory toEntity(Long userId, String submissionKey) {
+    long mask = toNumbersMask();
     return LottoUserHistory.builder()
         .userId(userId)
         .drawRound(this.drawRound)
-        .numbers(this.numbers)
+        .numbers(LottoBitmask.format(mask))
+        .numbersMask(mask)
         .isAuto(this.isAuto)
         .isSubscribed(this.isSubscribed)
         .isClaimed(false)
+        .submissionKey(submissionKey)
         .build();
   }
+
+  /**
+   * @return 응모 번호 마스크
+   * @throws IllegalArgumentException 번호가 서로 다른 1~45의 숫자 6개가 아닌 경우
+   */
+  public long toNumbersMask() {
+    if (this.numbers == null) {
+      throw new IllegalArgumentException("응모 번호가 없습니다.");
+    }
+    long mask = LottoBitmask.parse(this.numbers);
+    if (LottoBitmask.count(mask) != 6) {
+      throw new IllegalArgumentException("응모 번호는 서로 다른 6개여야 합니다: " + this.numbers);
+    }
+    return mask;
+  }
 }
@@ -3,6 +3,7 @@ package com.eeerrorcode.lottomate.domain.dto.lotto;
 import java.time.LocalDateTime;
 
 import com.eeerrorcode.lottomate.domain.entity.lotto.LottoUserHistory;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,7 +31,7 @@ public class LottoUserHistoryResponse {
   public static LottoUserHistoryResponse toDto(LottoUserHistory entity) {
     return LottoUserHistoryResponse.builder()
         .drawRound(entity.getDrawRound())
-        .numbers(entity.getNumbers())
+        .numbers(entity.getNumbersMask() != null ? LottoBitmask.format(entity.getNumbersMask()) : entity.getNumbers())
         .isAuto(entity.isAuto())
         .isSubscribed(entity.isSubscribed())
         .winningRank(entity.getWinningRank())
@@ -46,6 +47,7 @@ public class LottoUserHistoryResponse {
         .userId(userId)
         .drawRound(this.drawRound)
         .numbers(this.numbers)
+        .numbersMask(this.numbers != null ? LottoBitmask.parse(this.numbers) : null)
         .isAuto(this.isAuto)
         .isSubscribed(this.isSubscribed)
         .winningRank(this.winningRank)
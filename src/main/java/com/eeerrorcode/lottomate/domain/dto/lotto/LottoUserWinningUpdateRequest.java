@@ -34,6 +34,8 @@ public class LottoUserWinningUpdateRequest {
         .userId(origin.getUserId())
         .drawRound(origin.getDrawRound())
         .numbers(origin.getNumbers())
+        .numbersMask(origin.getNumbersMask())
+        .submissionKey(origin.getSubmissionKey())
         .isAuto(origin.isAuto())
         .isSubscribed(origin.isSubscribed())
         .winningRank(this.winningRank)
@@ -0,0 +1,52 @@
+package com.eeerrorcode.lottomate.domain.dto.payment;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Schema(description = "결제 대사 불일치 내역 (로컬 결제 정보와 포트원 결제 정보 비교)")
+public class PaymentDiscrepancyDto {
+
+  @Schema(description = "결제 ID", example = "1024")
+  private Long paymentId;
+
+  @Schema(description = "주문번호", example = "order_1712345678")
+  private String merchantUid;
+
+  @Schema(description = "포트원 결제 고유번호", example = "imp_123456789012")
+  private String impUid;
+
+  @Schema(description = "불일치 항목 (merchantUid, status, amount, refundAmount, impUid)", example = "[\"status\", \"refundAmount\"]")
+  private List<String> fields;
+
+  @Schema(description = "로컬 결제 상태", example = "COMPLETE")
+  private PaymentStatus localStatus;
+
+  @Schema(description = "포트원 결제 상태", example = "cancelled")
+  private String gatewayStatus;
+
+  @Schema(description = "로컬 결제 금액", example = "9900")
+  private BigDecimal localAmount;
+
+  @Schema(description = "포트원 결제 금액", example = "9900")
+  private BigDecimal gatewayAmount;
+
+  @Schema(description = "로컬 환불 금액", example = "0")
+  private BigDecimal localRefundAmount;
+
+  @Schema(description = "포트원 취소(환불) 누적 금액", example = "9900")
+  private BigDecimal gatewayCancelAmount;
+}
@@ -22,6 +22,7 @@ public class PaymentGatewayResponseDto {
   private String status;           // 결제 상태 (paid, cancelled, ready 등)
   private String payMethod;        // 결제 수단
   private String receiptUrl;       // 영수증 URL
+  private BigDecimal cancelAmount; // 취소(환불)된 누적 금액
   
   // 카드 결제 정보
   private String cardName;         // 카드사 이름
@@ -0,0 +1,44 @@
+package com.eeerrorcode.lottomate.domain.dto.payment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Schema(description = "결제 대사 결과 요약")
+public class PaymentReconciliationReport {
+
+  @Schema(description = "대사 기간 시작 (결제일 기준, 포함)", example = "2025-05-01T00:00:00")
+  private LocalDateTime from;
+
+  @Schema(description = "대사 기간 종료 (결제일 기준, 미포함)", example = "2025-06-01T00:00:00")
+  private LocalDateTime to;
+
+  @Schema(description = "비교한 결제 수", example = "12000")
+  private Long checkedCount;
+
+  @Schema(description = "일치한 결제 수", example = "11997")
+  private Long matchedCount;
+
+  @Schema(description = "불일치 내역")
+  private List<PaymentDiscrepancyDto> discrepancies;
+
+  @Schema(description = "포트원 조회에 실패해 비교하지 못한 주문번호 목록", example = "[]")
+  private List<String> failedMerchantUids;
+
+  @Schema(description = "중단되거나 비교 작업 오류로 기간의 일부 결제만 비교했는지 여부", example = "false")
+  private boolean incomplete;
+
+  @Schema(description = "전체 소요 시간(ms)", example = "184000")
+  private Long elapsedMillis;
+}
@@ -0,0 +1,23 @@
+package com.eeerrorcode.lottomate.domain.dto.payment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.*;
+
+/**
+ * 포트원 액세스 토큰 정보를 담는 DTO (포트원 /users/getToken 응답의 response와 같은 형식)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PortOneTokenDto {
+  @JsonProperty("access_token")
+  private String accessToken; // 포트원 액세스 토큰
+
+  @JsonProperty("expired_at")
+  private long expiredAt;     // 토큰 만료 시각 (epoch seconds)
+
+  @JsonProperty("now")
+  private long now;           // 응답 시각 (epoch seconds)
+}
@@ -0,0 +1,24 @@
+package com.eeerrorcode.lottomate.domain.dto.payment;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.*;
+
+/**
+ * 포트원 웹훅 요청 DTO (본문은 신뢰하지 않고 결제 검증 트리거로만 사용)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PortOneWebhookRequestDto {
+  @JsonProperty("imp_uid")
+  private String impUid;        // 포트원 결제 고유번호
+
+  @JsonProperty("merchant_uid")
+  private String merchantUid;   // 주문번호
+
+  private String status;        // 결제 상태 (paid, ready, failed, cancelled)
+}
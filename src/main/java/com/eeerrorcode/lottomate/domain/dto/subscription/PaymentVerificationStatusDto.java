@@ -0,0 +1,18 @@
+package com.eeerrorcode.lottomate.domain.dto.subscription;
+
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentStatus;
+
+import lombok.*;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PaymentVerificationStatusDto {
+  // 결제 검증 요청 접수 및 진행 상태 조회 응답 (PENDING이면 검증 중, COMPLETE면 구독 활성화 완료)
+
+  private String merchantUid;    // 주문번호
+  private String impUid;         // 포트원 결제 고유번호
+  private PaymentStatus status;  // 결제 상태 (PENDING, COMPLETE, FAILED)
+  private Long subscriptionId;   // 구독 ID
+}
@@ -0,0 +1,20 @@
+package com.eeerrorcode.lottomate.domain.dto.subscription;
+
+import java.math.BigDecimal;
+
+import lombok.*;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SubscriptionRenewalChargeDto {
+  // 점유한 자동 갱신 구독의 정기결제 요청 정보 (대기 상태 결제가 미리 기록되어 있음)
+
+  private Long subscriptionId;   // 구독 ID
+  private String merchantUid;    // 주문번호 (구독 ID + 결제 예정일로 정해져 재시도해도 같은 값)
+  private String billingKey;     // 빌링키 (없으면 결제 요청 없이 실패 처리)
+  private BigDecimal amount;     // 결제 금액 (플랜 가격)
+  private String orderName;      // 주문명
+  private boolean previouslyAttempted; // 이전 실행에서 결과를 알 수 없이 끝난 주문 (다시 요청하기 전에 포트원에서 결제 확인)
+}
@@ -0,0 +1,35 @@
+package com.eeerrorcode.lottomate.domain.dto.subscription;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Schema(description = "구독 자동 갱신 결제 실행 결과 요약")
+public class SubscriptionRenewalReport {
+
+  @Schema(description = "점유해 결제를 요청한 구독 수", example = "30000")
+  private Long claimedCount;
+
+  @Schema(description = "결제 성공 수", example = "29850")
+  private Long paidCount;
+
+  @Schema(description = "결제 거절 수", example = "140")
+  private Long declinedCount;
+
+  @Schema(description = "통신 오류로 다음 실행에서 다시 요청할 수", example = "10")
+  private Long retryCount;
+
+  @Schema(description = "실행 시간 한도에 도달해 남은 구독을 다음 실행으로 넘겼는지 여부", example = "false")
+  private boolean deadlineReached;
+
+  @Schema(description = "전체 소요 시간(ms)", example = "1500000")
+  private Long elapsedMillis;
+}
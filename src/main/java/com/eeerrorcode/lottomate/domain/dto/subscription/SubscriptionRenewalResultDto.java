@@ -0,0 +1,23 @@
+package com.eeerrorcode.lottomate.domain.dto.subscription;
+
+import lombok.*;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SubscriptionRenewalResultDto {
+  // 자동 갱신 정기결제 요청 결과
+
+  private Long subscriptionId;   // 구독 ID
+  private String merchantUid;    // 주문번호
+  private Outcome outcome;       // 결제 결과
+  private String impUid;         // 포트원 결제 고유번호 (결제 성공 시)
+  private String reason;         // 실패 사유
+
+  public enum Outcome {
+    PAID,       // 결제 성공
+    DECLINED,   // 결제 거절 (카드 승인 거절, 빌링키 없음 등)
+    RETRY       // 통신 오류로 결과 불명 (점유 만료 후 같은 주문번호로 다시 요청)
+  }
+}
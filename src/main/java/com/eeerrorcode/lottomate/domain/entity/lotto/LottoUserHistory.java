@@ -7,14 +7,25 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "lotto_user_history") // 명시적 테이블 이름 부여
+@Table(name = "lotto_user_history", // 명시적 테이블 이름 부여
+    indexes = {
+        @Index(name = "idx_lotto_user_history_round_mask", columnList = "draw_round, numbers_mask"),
+        @Index(name = "idx_lotto_user_history_user_submission", columnList = "user_id, submission_key"),
+        // 사용자별 이력 커서 조회 (InnoDB 보조 인덱스에 PK가 포함되어 draw_round DESC, id DESC 정렬을 그대로 사용)
+        @Index(name = "idx_lotto_user_history_user_round", columnList = "user_id, draw_round")
+    },
+    // 같은 사용자가 같은 회차에 같은 번호 조합을 두 번 응모할 수 없음 (마스크가 없는 기존 행은 제외)
+    uniqueConstraints = @UniqueConstraint(name = "uk_lotto_user_history_user_round_mask",
+        columnNames = { "user_id", "draw_round", "numbers_mask" }))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -34,6 +45,10 @@ public class LottoUserHistory extends BaseEntity{
   @Column(name = "numbers", nullable = false, length = 50)
   private String numbers; 
 
+  // 응모 번호 45비트 마스크 (번호 n → n-1번째 비트), 마이그레이션 전 기존 행은 null
+  @Column(name = "numbers_mask")
+  private Long numbersMask;
+
   @Column(name = "is_auto", nullable = false)
   private boolean isAuto;
 
@@ -48,4 +63,8 @@ public class LottoUserHistory extends BaseEntity{
 
   @Column(name = "is_claimed", nullable = false)
   private boolean isClaimed; 
+
+  // 일괄 응모 시 클라이언트가 보낸 멱등 키 (같은 키로 다시 요청하면 저장된 내역을 그대로 반환)
+  @Column(name = "submission_key", length = 64)
+  private String submissionKey;
 }
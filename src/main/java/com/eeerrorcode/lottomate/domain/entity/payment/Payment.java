@@ -8,6 +8,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity(name = "payments")
+// 결제 대사 커서 조회 (결제일 기간 조건과 결제일, ID 순 정렬을 인덱스로 처리)
+@Table(indexes = @Index(name = "idx_payments_payment_date_id", columnList = "payment_date, id"))
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -5,7 +5,8 @@ public enum PaymentLogAction {
   PAYMENT_SUCCESS,   // 결제 성공
   PAYMENT_FAILED,    // 결제 실패
   REFUND_REQUEST,    // 환불 요청
-  REFUND_SUCCESS;    // 환불 성공
+  REFUND_SUCCESS,    // 환불 성공
+  RECONCILIATION_MISMATCH; // 결제 대사 불일치
 
   /**
    * 표시용 한글 상태명 반환
@@ -23,6 +24,8 @@ public enum PaymentLogAction {
         return "환불 요청";
       case REFUND_SUCCESS:
         return "환불 성공";
+      case RECONCILIATION_MISMATCH:
+        return "대사 불일치";
       default:
         return this.name();
     }
@@ -51,6 +51,15 @@ public class Subscription extends BaseEntity{
   @JoinColumn(name = "payment_method_id", nullable = true)
   private PaymentMethod paymentMethod;
 
+  @Column(name = "renewal_claimed_until", nullable = true)
+  private LocalDateTime renewalClaimedUntil; // 자동 갱신 결제를 처리 중인 노드의 점유 만료 시각
+
+  @Column(name = "renewal_failures", nullable = false, columnDefinition = "int default 0")
+  private int renewalFailures; // 연속 자동 갱신 결제 실패 횟수
+
+  @Column(name = "renewal_due_date", nullable = true)
+  private LocalDateTime renewalDueDate; // 결제 실패로 다음 결제일을 재시도 시각으로 미룬 경우 원래 결제 예정일
+
   /**
    * 구독 상태 업데이트
    * @param status 새로운 상태
@@ -115,7 +124,70 @@ public class Subscription extends BaseEntity{
   public void activate() {
     this.status = SubscriptionStatus.ACTIVE;
   }
+
+  /**
+   * 결제 확인 후 구독 기간을 시작하고 활성화
+   * @param startDate 시작일
+   * @param endDate 종료일 (다음 결제일)
+   */
+  public void activate(LocalDateTime startDate, LocalDateTime endDate) {
+    this.startDate = startDate;
+    this.endDate = endDate;
+    this.nextPaymentDate = endDate;
+    this.renewalDueDate = null;
+    this.status = SubscriptionStatus.ACTIVE;
+  }
   
+  /**
+   * 자동 갱신 결제 점유 (점유 만료 시각 전까지 다른 노드가 처리하지 않음)
+   * @param claimedUntil 점유 만료 시각
+   */
+  public void claimRenewal(LocalDateTime claimedUntil) {
+    this.renewalClaimedUntil = claimedUntil;
+  }
+
+  /**
+   * 자동 갱신 결제 성공 처리
+   * 종료일과 다음 결제일을 연장하고 실패 횟수, 원래 결제 예정일, 점유를 초기화
+   * @param endDate 연장된 종료일 (다음 결제일)
+   */
+  public void renew(LocalDateTime endDate) {
+    this.endDate = endDate;
+    this.nextPaymentDate = endDate;
+    this.renewalFailures = 0;
+    this.renewalDueDate = null;
+    this.renewalClaimedUntil = null;
+  }
+
+  /**
+   * 자동 갱신 결제 실패 처리
+   * 실패 횟수가 최대치에 이르면 비활성화하고 자동 갱신을 끄며, 아니면 다음 결제일을 재시도 시각으로 미룸
+   * (원래 결제 예정일은 따로 보관해 결제 성공 시 그 날짜 기준으로 연장)
+   * @param retryAt 재시도 시각
+   * @param maxFailures 최대 연속 실패 횟수
+   */
+  public void recordRenewalFailure(LocalDateTime retryAt, int maxFailures) {
+    this.renewalFailures++;
+    this.renewalClaimedUntil = null;
+    if (this.renewalFailures >= maxFailures) {
+      this.status = SubscriptionStatus.INACTIVE;
+      this.autoRenewal = false;
+    } else {
+      if (this.renewalDueDate == null) {
+        this.renewalDueDate = this.nextPaymentDate;
+      }
+      this.nextPaymentDate = retryAt;
+    }
+  }
+
+  /**
+   * 자동 갱신 기간을 연장할 기준일 (재시도로 미뤄졌으면 원래 결제 예정일, 아니면 다음 결제일)
+   * @return 연장 기준일 (결제일이 없으면 null)
+   */
+  public LocalDateTime getRenewalAnchorDate() {
+    return this.renewalDueDate != null ? this.renewalDueDate : this.nextPaymentDate;
+  }
+
   /**
    * 구독이 활성 상태인지 확인
    * @return 활성 상태 여부
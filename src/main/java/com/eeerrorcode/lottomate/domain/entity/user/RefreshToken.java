@@ -23,6 +23,7 @@ import lombok.Setter;
 /**
  * 리프레시 토큰을 저장하는 엔티티
  * 사용자의 로그인 세션 유지 및 JWT 액세스 토큰 갱신에 사용됩니다.
+ * 토큰 원문은 저장하지 않고 SHA-256 해시(64자)만 token 컬럼의 유니크 인덱스로 조회합니다.
  */
 @Entity
 @Table(name = "refresh_tokens")
@@ -37,8 +38,9 @@ public class RefreshToken extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(nullable = false, unique = true, length = 500)
-    private String token;
+    // 토큰 원문의 SHA-256 해시 (TokenHashUtil.sha256Hex)
+    @Column(name = "token", nullable = false, unique = true, length = 64)
+    private String tokenHash;
     
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
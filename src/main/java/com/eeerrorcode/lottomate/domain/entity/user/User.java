@@ -5,6 +5,7 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -47,6 +48,12 @@ public class User {
     @Builder.Default
     private boolean emailVerified = false;
 
+    // 액세스 토큰에 함께 담기는 계정 버전 (값이 바뀌면 이전에 발급된 토큰은 무효)
+    @Column(name = "token_version", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long tokenVersion = 0L;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -54,6 +61,13 @@ public class User {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    /**
+     * 계정 버전을 올려 이전에 발급된 액세스 토큰을 무효화
+     */
+    public void increaseTokenVersion() {
+        this.tokenVersion++;
+    }
+
     public enum Role {
         USER, ADMIN
     }
@@ -0,0 +1,13 @@
+package com.eeerrorcode.lottomate.domain.enums;
+
+/**
+ * 히트맵 응답 인코딩 방식
+ * <ul>
+ *   <li>MAP: 기존 중첩 Map 형식 (번호/회차별 key-value)</li>
+ *   <li>BITMASK: 회차 배열 + 회차별 본번호 마스크 배열 + 보너스 번호 배열 (컬럼 형식)</li>
+ *   <li>RLE: 번호별 미출현/출현 구간 길이를 번갈아 나열한 run-length 형식</li>
+ * </ul>
+ */
+public enum HeatmapFormat {
+  MAP, BITMASK, RLE
+}
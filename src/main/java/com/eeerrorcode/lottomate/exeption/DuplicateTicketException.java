@@ -0,0 +1,18 @@
+package com.eeerrorcode.lottomate.exeption;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateTicketException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  public DuplicateTicketException(String message) {
+    super(message);
+  }
+
+  public DuplicateTicketException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -7,6 +7,7 @@ import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.eeerrorcode.lottomate.domain.entity.user.RefreshToken;
@@ -15,12 +16,12 @@ import com.eeerrorcode.lottomate.domain.entity.user.RefreshToken;
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     
     /**
-     * 토큰 문자열로 리프레시 토큰을 조회합니다.
+     * 토큰 해시로 리프레시 토큰을 조회합니다. (유니크 인덱스 조회)
      * 
-     * @param token 조회할 리프레시 토큰 문자열
+     * @param tokenHash 조회할 리프레시 토큰의 SHA-256 해시
      * @return 토큰 객체 (Optional)
      */
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
     
     /**
      * 사용자 ID로 해당 사용자의 모든 리프레시 토큰을 조회합니다.
@@ -40,18 +41,52 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     Optional<RefreshToken> findByUserIdAndDeviceInfo(Long userId, String deviceInfo);
     
     /**
-     * 토큰 문자열로 리프레시 토큰을 삭제합니다.
+     * 토큰 해시로 리프레시 토큰을 삭제합니다. (엔티티를 읽지 않는 단일 DELETE)
      * 
-     * @param token 삭제할 리프레시 토큰 문자열
+     * @param tokenHash 삭제할 리프레시 토큰의 SHA-256 해시
+     * @return 삭제된 토큰 수
      */
-    void deleteByToken(String token);
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
     
     /**
-     * 사용자 ID로 해당 사용자의 모든 리프레시 토큰을 삭제합니다. (로그아웃 전체 처리용)
+     * 사용자 ID로 해당 사용자의 모든 리프레시 토큰을 삭제합니다. (로그아웃 전체 처리용, 엔티티를 읽지 않는 단일 DELETE)
      * 
      * @param userId 사용자 ID
+     * @return 삭제된 토큰 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+    
+    /**
+     * 토큰 해시가 기존 값일 때만 새 해시와 만료 시간으로 교체합니다. (동시 갱신 시 한 요청만 성공)
+     * 
+     * @param id 리프레시 토큰 ID
+     * @param oldTokenHash 기존 토큰 해시
+     * @param newTokenHash 새 토큰 해시
+     * @param expiryDate 새 만료 시간
+     * @param now 수정 시간
+     * @return 교체된 토큰 수 (0이면 이미 다른 요청이 교체함)
      */
-    void deleteByUserId(Long userId);
+    @Modifying
+    @Query("""
+        UPDATE RefreshToken r SET r.tokenHash = :newTokenHash, r.expiryDate = :expiryDate, r.updatedAt = :now
+        WHERE r.id = :id AND r.tokenHash = :oldTokenHash
+        """)
+    int rotate(@Param("id") Long id, @Param("oldTokenHash") String oldTokenHash,
+            @Param("newTokenHash") String newTokenHash, @Param("expiryDate") LocalDateTime expiryDate,
+            @Param("now") LocalDateTime now);
+    
+    /**
+     * 원문으로 저장된 이전 토큰을 SHA-256 해시로 변환합니다. (해시는 64자이므로 더 긴 값만 변환)
+     * 
+     * @return 변환된 토큰 수
+     */
+    @Modifying
+    @Query(value = "UPDATE refresh_tokens SET token = SHA2(token, 256) WHERE CHAR_LENGTH(token) > 64", nativeQuery = true)
+    int hashLegacyTokens();
     
     /**
      * 만료된 모든 토큰을 삭제합니다. (정기적인 청소 작업용)
@@ -62,4 +97,4 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     @Modifying
     @Query("DELETE FROM RefreshToken r WHERE r.expiryDate < ?1")
     int deleteAllExpiredTokens(LocalDateTime now);
-}
\ No newline at end of file
+}
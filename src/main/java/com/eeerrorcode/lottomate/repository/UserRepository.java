@@ -3,12 +3,24 @@ package com.eeerrorcode.lottomate.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.eeerrorcode.lottomate.domain.entity.user.User;
+import com.eeerrorcode.lottomate.repository.projection.user.UserTokenState;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>{
   Optional<User> findByEmail(String email);
   boolean existsByEmail(String email);
+
+  /**
+   * 토큰 검증용 사용자 상태 조회 (엔티티 전체를 읽지 않음)
+   */
+  @Query("""
+      SELECT new com.eeerrorcode.lottomate.repository.projection.user.UserTokenState(u.id, u.tokenVersion, u.isActive)
+      FROM User u WHERE u.id = :id
+      """)
+  Optional<UserTokenState> findTokenStateById(@Param("id") Long id);
 }
@@ -0,0 +1,130 @@
+package com.eeerrorcode.lottomate.repository.lotto;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResultDetails;
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 크롤링한 회차 결과와 등수별 상세 정보를 JDBC batch로 저장하는 전용 쓰기 경로입니다.
+ * <p>
+ * 두 엔티티 모두 IDENTITY 전략을 사용하므로 JPA saveAll은 row마다 INSERT를 실행합니다.
+ * 이 클래스는 회차 INSERT batch 1회, 생성된 ID 조회 1회, 상세 INSERT batch 1회로
+ * 호출 한 번에 포함된 회차 수와 무관하게 3회의 JDBC 실행으로 저장을 끝냅니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>lotto.results.batch.rounds: 저장한 회차 수</li>
+ *   <li>lotto.results.batch.statements: 실행한 JDBC 문 수 (두 값의 비율이 회차당 실행 수)</li>
+ * </ul>
+ */
+@Repository
+@Log4j2
+public class LottoResultBatchWriter {
+
+  private static final String INSERT_RESULT = """
+      INSERT INTO lotto_results
+        (draw_round, draw_date, n1, n2, n3, n4, n5, n6, bonus_number,
+         first_prize_winners, first_prize_amount, total_sales_amount)
+      VALUES
+        (:drawRound, :drawDate, :n1, :n2, :n3, :n4, :n5, :n6, :bonusNumber,
+         :firstPrizeWinners, :firstPrizeAmount, :totalSalesAmount)
+      """;
+
+  private static final String SELECT_IDS = "SELECT id, draw_round FROM lotto_results WHERE draw_round IN (:rounds)";
+
+  private static final String INSERT_DETAIL = """
+      INSERT INTO lotto_result_details (lotto_result_id, `rank`, winner_count, prize_amount)
+      VALUES (:lottoResultId, :rank, :winnerCount, :prizeAmount)
+      """;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final Counter roundCounter;
+  private final Counter statementCounter;
+
+  public LottoResultBatchWriter(NamedParameterJdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.roundCounter = Counter.builder("lotto.results.batch.rounds").register(meterRegistry);
+    this.statementCounter = Counter.builder("lotto.results.batch.statements").register(meterRegistry);
+  }
+
+  /**
+   * 회차 결과와 prizeDetails에 담긴 상세 정보를 한 트랜잭션으로 저장합니다.
+   * 이미 존재하는 회차가 포함되어 있으면 draw_round unique 제약으로 전체가 롤백됩니다.
+   *
+   * @param results 저장할 회차 결과 목록 (상세 정보는 prizeDetails에 포함)
+   * @return 저장한 회차 수
+   */
+  @Transactional
+  public int writeAll(List<LottoResults> results) {
+    if (results.isEmpty()) {
+      return 0;
+    }
+
+    SqlParameterSource[] resultParams = results.stream()
+        .map(LottoResultBatchWriter::resultParams)
+        .toArray(SqlParameterSource[]::new);
+    jdbcTemplate.batchUpdate(INSERT_RESULT, resultParams);
+    int statements = 1;
+
+    List<Long> rounds = results.stream().map(LottoResults::getDrawRound).toList();
+    Map<Long, Long> idByRound = new HashMap<>();
+    jdbcTemplate.query(SELECT_IDS, Map.of("rounds", rounds),
+        rs -> {
+          idByRound.put(rs.getLong("draw_round"), rs.getLong("id"));
+        });
+    statements++;
+
+    List<SqlParameterSource> detailParams = new ArrayList<>();
+    for (LottoResults result : results) {
+      Long resultId = idByRound.get(result.getDrawRound());
+      for (LottoResultDetails detail : result.getPrizeDetails()) {
+        detailParams.add(new MapSqlParameterSource()
+            .addValue("lottoResultId", resultId)
+            .addValue("rank", detail.getRank())
+            .addValue("winnerCount", detail.getWinnerCount())
+            .addValue("prizeAmount", detail.getPrizeAmount()));
+      }
+    }
+    if (!detailParams.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_DETAIL, detailParams.toArray(SqlParameterSource[]::new));
+      statements++;
+    }
+
+    roundCounter.increment(results.size());
+    statementCounter.increment(statements);
+    log.info("[일괄 저장] {}개 회차 / 상세 {}건 저장, JDBC 실행 {}회 (회차당 {})",
+        results.size(), detailParams.size(), statements, String.format("%.2f", (double) statements / results.size()));
+    return results.size();
+  }
+
+  private static SqlParameterSource resultParams(LottoResults result) {
+    return new MapSqlParameterSource()
+        .addValue("drawRound", result.getDrawRound())
+        .addValue("drawDate", Timestamp.valueOf(result.getDrawDate()))
+        .addValue("n1", result.getN1())
+        .addValue("n2", result.getN2())
+        .addValue("n3", result.getN3())
+        .addValue("n4", result.getN4())
+        .addValue("n5", result.getN5())
+        .addValue("n6", result.getN6())
+        .addValue("bonusNumber", result.getBonusNumber())
+        .addValue("firstPrizeWinners", result.getFirstPrizeWinners())
+        .addValue("firstPrizeAmount", result.getFirstPrizeAmount())
+        .addValue("totalSalesAmount", result.getTotalSalesAmount());
+  }
+}
@@ -65,4 +65,7 @@ public interface LottoResultRepository extends JpaRepository<LottoResults, Long>
   List<LottoResults> findByDrawRoundBetween(Long start, Long end);
 
   Optional<LottoResults> findByDrawRound(Long drawRound);
+
+  @Query("SELECT r.drawRound FROM LottoResults r")
+  List<Long> findAllDrawRounds(); // 저장된 전체 회차 번호(일괄 수집 시 중복 확인용)
 }
@@ -2,15 +2,36 @@ package com.eeerrorcode.lottomate.repository.lotto;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.eeerrorcode.lottomate.domain.entity.lotto.LottoUserHistory;
 
-public interface LottoUserHistoryRepository extends JpaRepository<LottoUserHistory, Long>{
+public interface LottoUserHistoryRepository extends JpaRepository<LottoUserHistory, Long>, LottoUserHistoryRepositoryCustom {
   List<LottoUserHistory> findByUserId(Long userId);
-  Page<LottoUserHistory> findByUserId(Long userId, Pageable pageable);
+  Slice<LottoUserHistory> findByUserId(Long userId, Pageable pageable);
   boolean existsByUserIdAndDrawRound(Long userId, Long drawRound);
   List<LottoUserHistory> findByDrawRoundAndIsClaimedFalse(Long drawRound);
+  List<LottoUserHistory> findByUserIdAndSubmissionKeyOrderByIdAsc(Long userId, String submissionKey);
+
+  /**
+   * 사용자 이력 첫 페이지 (회차, ID 내림차순)
+   */
+  List<LottoUserHistory> findByUserIdOrderByDrawRoundDescIdDesc(Long userId, Limit limit);
+
+  /**
+   * 사용자 이력 커서 다음 페이지 (회차, ID 내림차순으로 drawRound/id 이후)
+   */
+  @Query("""
+      SELECT h FROM LottoUserHistory h
+      WHERE h.userId = :userId
+        AND (h.drawRound < :drawRound OR (h.drawRound = :drawRound AND h.id < :id))
+      ORDER BY h.drawRound DESC, h.id DESC
+      """)
+  List<LottoUserHistory> findByUserIdAfter(@Param("userId") Long userId, @Param("drawRound") Long drawRound,
+      @Param("id") Long id, Limit limit);
 }
@@ -0,0 +1,84 @@
+package com.eeerrorcode.lottomate.repository.lotto;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoUserHistory;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketKey;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketRow;
+
+/**
+ * 대량 당첨 판정을 위한 JDBC 기반 응모 내역 조회/갱신 메서드입니다.
+ *
+ * @see LottoUserHistoryRepositoryImpl
+ */
+public interface LottoUserHistoryRepositoryCustom {
+
+  /**
+   * 해당 회차의 미확인 응모 내역을 ID 오름차순으로 afterId 다음부터 limit건 조회합니다. (keyset 페이지네이션)
+   *
+   * @param drawRound 응모 회차
+   * @param afterId   이전 페이지의 마지막 ID (처음에는 0)
+   * @param limit     최대 조회 건수
+   * @return 응모 내역 목록
+   */
+  List<LottoTicketRow> findUnclaimedTickets(Long drawRound, long afterId, int limit);
+
+  /**
+   * 판정된 등수를 JDBC batch로 반영하고 결과 확인 처리합니다. 이미 확인된 내역은 건너뜁니다.
+   *
+   * @param ids   응모 내역 ID
+   * @param ranks ids와 같은 위치의 당첨 등수 (0은 미당첨)
+   * @param count 반영할 건수 (배열 앞에서부터)
+   * @return 실제로 갱신된 건수
+   */
+  int updateWinningRanks(long[] ids, int[] ranks, int count);
+
+  /**
+   * 회차의 응모 내역을 확인 여부와 관계없이 ID 오름차순으로 afterId 다음부터 limit건 조회합니다.
+   *
+   * @param drawRound 응모 회차
+   * @param afterId   이전 페이지의 마지막 ID (처음에는 0)
+   * @param limit     최대 조회 건수
+   * @return 응모 내역 목록
+   */
+  List<LottoTicketRow> findTickets(Long drawRound, long afterId, int limit);
+
+  /**
+   * 번호 마스크가 비어 있는 응모 내역을 ID 오름차순으로 afterId 다음부터 limit건 조회합니다.
+   *
+   * @param afterId 이전 페이지의 마지막 ID (처음에는 0)
+   * @param limit   최대 조회 건수
+   * @return 응모 내역 목록
+   */
+  List<LottoTicketRow> findTicketsWithoutMask(long afterId, int limit);
+
+  /**
+   * 사용자가 이미 응모한 (회차, 번호 마스크) 중 주어진 후보에 해당하는 것을 조회합니다.
+   *
+   * @param userId     사용자 ID
+   * @param candidates 확인할 (회차, 번호 마스크) 목록
+   * @return 이미 저장되어 있는 키 목록
+   */
+  List<LottoTicketKey> findExistingTicketKeys(Long userId, Collection<LottoTicketKey> candidates);
+
+  /**
+   * 응모 내역을 다중 행 INSERT 한 문장으로 저장합니다.
+   *
+   * @param tickets 저장할 응모 내역 (ID는 무시됨)
+   * @return 저장된 건수
+   * @throws org.springframework.dao.DuplicateKeyException 같은 사용자/회차/번호 조합이 이미 있는 경우 (전체 롤백)
+   */
+  int insertAll(List<LottoUserHistory> tickets);
+
+  /**
+   * 번호 마스크를 JDBC batch로 채웁니다. 이미 마스크가 있는 행과, 같은 사용자/회차/번호 조합이
+   * 이미 마스크를 가진 중복 응모 행은 갱신하지 않습니다.
+   *
+   * @param ids   응모 내역 ID
+   * @param masks ids와 같은 위치의 번호 마스크
+   * @param count 반영할 건수 (배열 앞에서부터)
+   * @return 실제로 갱신된 건수
+   */
+  int updateNumbersMasks(long[] ids, long[] masks, int count);
+}
@@ -0,0 +1,163 @@
+package com.eeerrorcode.lottomate.repository.lotto;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoUserHistory;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketKey;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketRow;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link LottoUserHistoryRepositoryCustom} 구현체. 엔티티를 거치지 않고 필요한 컬럼만 읽고 씁니다.
+ */
+@RequiredArgsConstructor
+public class LottoUserHistoryRepositoryImpl implements LottoUserHistoryRepositoryCustom {
+
+  private static final String SELECT_UNCLAIMED = """
+      SELECT id, numbers, numbers_mask FROM lotto_user_history
+      WHERE draw_round = :drawRound AND is_claimed = false AND id > :afterId
+      ORDER BY id
+      LIMIT :limit
+      """;
+
+  private static final String UPDATE_RANK = """
+      UPDATE lotto_user_history
+      SET winning_rank = :rank, winning_amount = 0, is_claimed = true, updated_at = :updatedAt
+      WHERE id = :id AND is_claimed = false
+      """;
+
+  private static final String SELECT_ROUND = """
+      SELECT id, numbers, numbers_mask FROM lotto_user_history
+      WHERE draw_round = :drawRound AND id > :afterId
+      ORDER BY id
+      LIMIT :limit
+      """;
+
+  private static final String SELECT_WITHOUT_MASK = """
+      SELECT id, numbers, numbers_mask FROM lotto_user_history
+      WHERE numbers_mask IS NULL AND id > :afterId
+      ORDER BY id
+      LIMIT :limit
+      """;
+
+  private static final String SELECT_EXISTING_KEYS = """
+      SELECT draw_round, numbers_mask FROM lotto_user_history
+      WHERE user_id = :userId AND (draw_round, numbers_mask) IN (:keys)
+      """;
+
+  private static final String INSERT_TICKETS = """
+      INSERT INTO lotto_user_history
+        (user_id, draw_round, numbers, numbers_mask, is_auto, is_subscribed, is_claimed,
+         submission_key, created_at, updated_at)
+      VALUES :rows
+      """;
+
+  // 같은 사용자/회차/번호 조합이 이미 마스크를 가진 행(기존 중복 응모)은 unique 제약에 걸리므로
+  // unique 인덱스로 자기 자신과 조인해 미리 걸러내고 갱신하지 않음 (갱신 건수 0)
+  private static final String UPDATE_MASK = """
+      UPDATE lotto_user_history h
+      LEFT JOIN lotto_user_history d
+        ON d.user_id = h.user_id AND d.draw_round = h.draw_round AND d.numbers_mask = :mask
+      SET h.numbers_mask = :mask
+      WHERE h.id = :id AND h.numbers_mask IS NULL AND d.id IS NULL
+      """;
+
+  private static final RowMapper<LottoTicketRow> TICKET_ROW_MAPPER = (rs, rowNum) -> new LottoTicketRow(
+      rs.getLong("id"), rs.getString("numbers"), rs.getObject("numbers_mask", Long.class));
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<LottoTicketRow> findUnclaimedTickets(Long drawRound, long afterId, int limit) {
+    return jdbcTemplate.query(SELECT_UNCLAIMED,
+        Map.of("drawRound", drawRound, "afterId", afterId, "limit", limit),
+        TICKET_ROW_MAPPER);
+  }
+
+  @Override
+  public int updateWinningRanks(long[] ids, int[] ranks, int count) {
+    if (count == 0) {
+      return 0;
+    }
+    Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+    SqlParameterSource[] params = new SqlParameterSource[count];
+    for (int i = 0; i < count; i++) {
+      params[i] = new MapSqlParameterSource()
+          .addValue("id", ids[i])
+          .addValue("rank", ranks[i])
+          .addValue("updatedAt", updatedAt);
+    }
+    return sum(jdbcTemplate.batchUpdate(UPDATE_RANK, params));
+  }
+
+  @Override
+  public List<LottoTicketRow> findTickets(Long drawRound, long afterId, int limit) {
+    return jdbcTemplate.query(SELECT_ROUND,
+        Map.of("drawRound", drawRound, "afterId", afterId, "limit", limit),
+        TICKET_ROW_MAPPER);
+  }
+
+  @Override
+  public List<LottoTicketKey> findExistingTicketKeys(Long userId, Collection<LottoTicketKey> candidates) {
+    if (candidates.isEmpty()) {
+      return List.of();
+    }
+    List<Object[]> keys = candidates.stream()
+        .map(key -> new Object[] { key.drawRound(), key.numbersMask() })
+        .toList();
+    return jdbcTemplate.query(SELECT_EXISTING_KEYS, Map.of("userId", userId, "keys", keys),
+        (rs, rowNum) -> new LottoTicketKey(rs.getLong("draw_round"), rs.getLong("numbers_mask")));
+  }
+
+  @Override
+  public int insertAll(List<LottoUserHistory> tickets) {
+    if (tickets.isEmpty()) {
+      return 0;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> rows = tickets.stream()
+        .map(ticket -> new Object[] {
+            ticket.getUserId(), ticket.getDrawRound(), ticket.getNumbers(), ticket.getNumbersMask(),
+            ticket.isAuto(), ticket.isSubscribed(), ticket.isClaimed(), ticket.getSubmissionKey(), now, now })
+        .toList();
+    return jdbcTemplate.update(INSERT_TICKETS, Map.of("rows", rows));
+  }
+
+  @Override
+  public List<LottoTicketRow> findTicketsWithoutMask(long afterId, int limit) {
+    return jdbcTemplate.query(SELECT_WITHOUT_MASK, Map.of("afterId", afterId, "limit", limit), TICKET_ROW_MAPPER);
+  }
+
+  @Override
+  public int updateNumbersMasks(long[] ids, long[] masks, int count) {
+    if (count == 0) {
+      return 0;
+    }
+    SqlParameterSource[] params = new SqlParameterSource[count];
+    for (int i = 0; i < count; i++) {
+      params[i] = new MapSqlParameterSource()
+          .addValue("id", ids[i])
+          .addValue("mask", masks[i]);
+    }
+    return sum(jdbcTemplate.batchUpdate(UPDATE_MASK, params));
+  }
+
+  private static int sum(int[] batchResult) {
+    int updated = 0;
+    for (int rows : batchResult) {
+      // 드라이버가 건별 결과 대신 SUCCESS_NO_INFO(-2)를 반환할 수 있음
+      updated += rows < 0 ? 1 : rows;
+    }
+    return updated;
+  }
+}
@@ -2,6 +2,7 @@ package com.eeerrorcode.lottomate.repository.payment;
 
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -21,6 +22,16 @@ public interface PaymentLogRepository extends JpaRepository<PaymentLog, Long>{
    * 사용자 ID로 결제 로그 페이징 조회 (생성일 기준 내림차순)
    */
   Page<PaymentLog> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+  /**
+   * 사용자 ID로 결제 로그 커서 조회 첫 페이지 (ID 내림차순 = 생성 순서의 역순)
+   */
+  List<PaymentLog> findByUserIdOrderByIdDesc(Long userId, Limit limit);
+
+  /**
+   * 사용자 ID로 결제 로그 커서 조회 다음 페이지 (커서 ID 이전, ID 내림차순)
+   */
+  List<PaymentLog> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long id, Limit limit);
   
   /**
    * 사용자 ID와 액션으로 결제 로그 조회 (생성일 기준 내림차순)
@@ -1,17 +1,24 @@
 package com.eeerrorcode.lottomate.repository.payment;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.eeerrorcode.lottomate.domain.entity.payment.Payment;
 import com.eeerrorcode.lottomate.domain.entity.payment.PaymentStatus;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
   /**
@@ -35,6 +42,23 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
    */
   Optional<Payment> findByImpUid(String impUid);
   
+  /**
+   * 주문번호로 결제 조회
+   */
+  Optional<Payment> findByMerchantUid(String merchantUid);
+
+  /**
+   * 주문번호 목록으로 결제 목록 조회
+   */
+  List<Payment> findByMerchantUidIn(Collection<String> merchantUids);
+
+  /**
+   * 주문번호로 결제 조회 (행 잠금, 결제 검증 결과 반영 시 동시 처리 방지용)
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT p FROM payments p WHERE p.merchantUid = :merchantUid")
+  Optional<Payment> findByMerchantUidForUpdate(@Param("merchantUid") String merchantUid);
+  
   /**
    * 사용자 ID와 결제 ID로 결제 조회
    */
@@ -45,6 +69,16 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
    */
   List<Payment> findByPaymentStatusAndPaymentDateBetween(
     PaymentStatus paymentStatus, LocalDateTime startDate, LocalDateTime endDate);
+
+  /**
+   * 결제일 기간 결제 목록 커서 조회 (결제일, ID 오름차순, 결제 대사용).
+   * 커서(결제일, ID) 이후부터 종료일(미포함) 전까지 조회하며, 첫 페이지는 커서를 (시작일, 0)으로 지정합니다.
+   */
+  @Query("SELECT p FROM payments p WHERE p.paymentDate < :endDate"
+    + " AND (p.paymentDate > :afterDate OR (p.paymentDate = :afterDate AND p.id > :afterId))"
+    + " ORDER BY p.paymentDate ASC, p.id ASC")
+  List<Payment> findReconciliationPage(@Param("endDate") LocalDateTime endDate,
+    @Param("afterDate") LocalDateTime afterDate, @Param("afterId") Long afterId, Limit limit);
   
   /**
    * 특정 기간 동안의 총 결제 금액 합계 조회를 위한 메서드
@@ -1,8 +1,11 @@
 package com.eeerrorcode.lottomate.repository.payment;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.eeerrorcode.lottomate.domain.entity.payment.CancellationType;
@@ -38,6 +41,33 @@ public interface SubscriptionCancellationRepository extends JpaRepository<Subscr
    * @return 페이징된 취소 이력
    */
   Page<SubscriptionCancellation> findByUserIdOrderByCancellationDateDesc(Long userId, Pageable pageable);
+
+  /**
+   * 사용자 ID로 취소 이력 커서 조회 첫 페이지 (취소일, ID 내림차순)
+   * 
+   * @param userId 사용자 ID
+   * @param limit 조회 건수
+   * @return 취소 이력 목록
+   */
+  List<SubscriptionCancellation> findByUserIdOrderByCancellationDateDescIdDesc(Long userId, Limit limit);
+
+  /**
+   * 사용자 ID로 취소 이력 커서 조회 다음 페이지 (취소일, ID 내림차순으로 커서 이후)
+   * 
+   * @param userId 사용자 ID
+   * @param cancellationDate 이전 페이지 마지막 항목의 취소일
+   * @param id 이전 페이지 마지막 항목의 ID
+   * @param limit 조회 건수
+   * @return 취소 이력 목록
+   */
+  @Query("""
+      SELECT c FROM subscription_cancellations c
+      WHERE c.user.id = :userId
+        AND (c.cancellationDate < :cancellationDate OR (c.cancellationDate = :cancellationDate AND c.id < :id))
+      ORDER BY c.cancellationDate DESC, c.id DESC
+      """)
+  List<SubscriptionCancellation> findByUserIdAfter(@Param("userId") Long userId,
+    @Param("cancellationDate") LocalDateTime cancellationDate, @Param("id") Long id, Limit limit);
     
   /**
    * 취소 유형으로 취소 이력 조회
@@ -4,12 +4,20 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.eeerrorcode.lottomate.domain.entity.payment.Subscription;
 import com.eeerrorcode.lottomate.domain.entity.payment.SubscriptionStatus;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 
 @Repository
 public interface SubscriptionRepository extends JpaRepository<Subscription, Long>{
@@ -33,6 +41,19 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
    */
   List<Subscription> findByStatusAndNextPaymentDateBeforeAndAutoRenewalTrue(
     SubscriptionStatus status, LocalDateTime date);
+
+  /**
+   * 자동 갱신 결제 대상 구독 점유 조회 (다음 결제일이 지났고 점유되지 않았거나 점유가 만료된 구독, 다음 결제일 순)
+   * 다른 노드가 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 노드가 동시에 조회해도 서로 다른 구독을 가져감
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("SELECT s FROM subscriptions s WHERE s.status = :status AND s.autoRenewal = true"
+    + " AND s.nextPaymentDate <= :now"
+    + " AND (s.renewalClaimedUntil IS NULL OR s.renewalClaimedUntil < :now)"
+    + " ORDER BY s.nextPaymentDate, s.id")
+  List<Subscription> findDueForRenewal(@Param("status") SubscriptionStatus status,
+    @Param("now") LocalDateTime now, Limit limit);
   
   /**
    * 결제 수단 ID와 상태로 구독 존재 여부 확인
@@ -43,4 +64,11 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
    * 플랜 ID로 활성 구독 수 조회
    */
   long countByPlanIdAndStatus(Long planId, SubscriptionStatus status);
+
+  /**
+   * 사용자의 지정 상태 구독 중 가장 큰 플랜 최대 번호 개수 조회 (구독이 없으면 empty)
+   */
+  @Query("SELECT MAX(s.plan.maxLottoNumbers) FROM subscriptions s WHERE s.user.id = :userId AND s.status = :status")
+  Optional<Integer> findMaxLottoNumbersByUserIdAndStatus(@Param("userId") Long userId,
+    @Param("status") SubscriptionStatus status);
 }
@@ -0,0 +1,10 @@
+package com.eeerrorcode.lottomate.repository.projection.lotto;
+
+/**
+ * 사용자별 응모 중복 판정 키입니다. (회차, 번호 마스크)
+ *
+ * @param drawRound   응모 회차
+ * @param numbersMask 응모 번호 마스크
+ */
+public record LottoTicketKey(long drawRound, long numbersMask) {
+}
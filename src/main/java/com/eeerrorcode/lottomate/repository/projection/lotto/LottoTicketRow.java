@@ -0,0 +1,22 @@
+package com.eeerrorcode.lottomate.repository.projection.lotto;
+
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+/**
+ * 당첨 판정에 필요한 응모 내역 최소 정보입니다. (ID, "1,2,3,4,5,6" 형식 번호 문자열, 번호 마스크)
+ *
+ * @param id          응모 내역 ID
+ * @param numbers     콤마로 구분된 응모 번호
+ * @param numbersMask 응모 번호 마스크 (마이그레이션 전이면 null)
+ */
+public record LottoTicketRow(long id, String numbers, Long numbersMask) {
+
+  /**
+   * 저장된 마스크를 반환하고, 없으면 번호 문자열을 변환합니다.
+   *
+   * @throws IllegalArgumentException 번호 문자열 형식이 잘못된 경우
+   */
+  public long mask() {
+    return numbersMask != null ? numbersMask : LottoBitmask.parse(numbers);
+  }
+}
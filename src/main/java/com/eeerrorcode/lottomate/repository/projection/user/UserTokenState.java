@@ -0,0 +1,11 @@
+package com.eeerrorcode.lottomate.repository.projection.user;
+
+/**
+ * 액세스 토큰 검증에 필요한 사용자 상태입니다. (토큰 버전, 활성 여부)
+ *
+ * @param id           사용자 ID
+ * @param tokenVersion 계정 토큰 버전 (비밀번호 변경, 비활성화 시 증가)
+ * @param active       계정 활성 여부
+ */
+public record UserTokenState(long id, long tokenVersion, boolean active) {
+}
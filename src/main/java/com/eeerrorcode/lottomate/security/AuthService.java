@@ -85,7 +85,7 @@ public class AuthService {
         }
     
         // 액세스 토큰 생성
-        String accessToken = jwtTokenProvider.generateToken(user.getEmail());
+        String accessToken = jwtTokenProvider.generateToken(user);
         
         // 리프레시 토큰 생성
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
@@ -112,7 +112,7 @@ public class AuthService {
     @Transactional
     public AuthResponse processUnifiedLoginResponse(User user, String deviceInfo) {
         // 액세스 토큰 생성
-        String accessToken = jwtTokenProvider.generateToken(user.getEmail());
+        String accessToken = jwtTokenProvider.generateToken(user);
         
         // 리프레시 토큰 생성
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
@@ -180,12 +180,9 @@ public class AuthService {
      */
     public Optional<Long> getUserIdFromToken(String accessToken) {
         try {
-            if (jwtTokenProvider.validateToken(accessToken)) {
-                String email = jwtTokenProvider.getEmailFromToken(accessToken);
-                return userRepository.findByEmail(email)
-                        .map(User::getId);
-            }
-            return Optional.empty();
+            String email = jwtTokenProvider.parse(accessToken).getSubject();
+            return userRepository.findByEmail(email)
+                    .map(User::getId);
         } catch (Exception e) {
             log.warn("토큰에서 사용자 정보 추출 실패: {}", e.getMessage());
             return Optional.empty();
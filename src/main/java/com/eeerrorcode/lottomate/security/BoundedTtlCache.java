@@ -0,0 +1,156 @@
+package com.eeerrorcode.lottomate.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 인증 경로의 캐시들이 공유하는 크기 제한 TTL 캐시.
+ * <p>
+ * 항목마다 만료 시각을 두고, 조회 시 만료된 항목은 없는 것으로 취급해 제거합니다. 저장 시 max-size에 도달했으면
+ * 만료된 항목을 먼저 비우고, 그래도 가득 차 있으면 최대 크기의 3/4까지 임의의 항목을 덜어냅니다.
+ * 정리는 한 스레드만 수행하며, 다른 스레드가 이미 정리 중이면 기다리지 않고 넘어갑니다.
+ * max-size가 0 이하이면 아무것도 저장하지 않습니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{name} (result=hit|miss): 캐시 조회 결과</li>
+ *   <li>{name}.size: 캐시 항목 수</li>
+ *   <li>{name}.evictions: 크기 제한으로 정리된 항목 수 (만료 항목 포함)</li>
+ * </ul>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+final class BoundedTtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictLock = new ReentrantLock();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    BoundedTtlCache(String name, MeterRegistry meterRegistry, int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.hitCounter = Counter.builder(name).tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(name).tag("result", "miss").register(meterRegistry);
+        this.evictionCounter = Counter.builder(name + ".evictions").register(meterRegistry);
+        Gauge.builder(name + ".size", entries, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * @return max-size가 0보다 커서 캐시를 사용하면 true
+     */
+    boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * 유효한 항목을 조회합니다. 캐시를 사용하지 않으면 조회 결과를 기록하지 않고 null을 반환합니다.
+     *
+     * @return 저장된 값 (없거나 만료되었으면 null)
+     */
+    V get(K key) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt() > System.currentTimeMillis()) {
+                hitCounter.increment();
+                return entry.value();
+            }
+            entries.remove(key, entry);
+        }
+        missCounter.increment();
+        return null;
+    }
+
+    /**
+     * ttl 동안 유효한 항목을 저장합니다.
+     */
+    void put(K key, V value) {
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    /**
+     * ttl과 notAfter 중 이른 시각까지 유효한 항목을 저장합니다. 이미 지난 시각이면 저장하지 않습니다.
+     *
+     * @param notAfter 항목의 최대 유효 시각 (epoch millis)
+     */
+    void put(K key, V value, long notAfter) {
+        if (!isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(now + ttlMillis, notAfter);
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * 항목을 즉시 제거합니다.
+     */
+    void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 항목을 즉시 제거하고, 트랜잭션 안에서 호출되면 트랜잭션 완료 직후에도 한 번 더 제거합니다.
+     * (커밋 전에 다른 요청이 이전 값으로 다시 채운 항목을 남기지 않기 위함)
+     */
+    void invalidateOnCompletion(K key) {
+        entries.remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entries.remove(key);
+                }
+            });
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        if (!evictLock.tryLock()) {
+            return;
+        }
+        try {
+            int before = entries.size();
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            int target = maxSize - maxSize / 4;
+            Iterator<K> iterator = entries.keySet().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+            evictionCounter.increment(Math.max(0, before - entries.size()));
+        } finally {
+            evictLock.unlock();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
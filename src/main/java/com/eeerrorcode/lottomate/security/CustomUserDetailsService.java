@@ -14,9 +14,17 @@ import lombok.RequiredArgsConstructor;
 public class CustomUserDetailsService implements UserDetailsService {
     
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
     
+    /**
+     * 이메일로 사용자 정보 조회 (최근 조회 결과는 캐시에서 반환)
+     */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return userDetailsCache.get(email, this::loadFromRepository);
+    }
+
+    private CustomUserDetails loadFromRepository(String email) {
         return userRepository.findByEmail(email)
                 .map(CustomUserDetails::new)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
@@ -5,20 +5,37 @@ import java.io.IOException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.eeerrorcode.lottomate.domain.entity.user.User;
+import com.eeerrorcode.lottomate.domain.entity.user.User.Role;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Bearer 액세스 토큰으로 SecurityContext를 채우는 필터.
+ * <p>
+ * 무상태 인증 모드(statelessAuth)에서는 사용자 ID, 권한, 계정 버전 클레임이 있는 토큰이면
+ * DB 조회 없이 클레임만으로 사용자를 구성하고, 계정 버전만 {@link UserVersionCache}로 확인합니다.
+ * 클레임이 없는 이전 토큰이거나 모드가 꺼져 있으면 {@link CustomUserDetailsService}로 사용자를 조회하며,
+ * 이때도 토큰의 계정 버전이 사용자의 현재 버전과 다르면 인증하지 않습니다.
+ * </p>
+ */
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final UserVersionCache userVersionCache;
+    private final boolean statelessAuth;
 
     @Override
     protected void doFilterInternal(
@@ -38,12 +55,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             
-            if (tokenProvider.validateToken(token)) {
-                String email = tokenProvider.getEmailFromToken(token);
-                
-                // 실제 DB에서 사용자 정보를 조회
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                
+            UserDetails userDetails = userDetailsOf(token);
+            if (userDetails != null) {
                 // 인증 객체 생성 및 SecurityContext에 설정
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -58,4 +71,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 토큰을 한 번만 파싱해 검증하고 사용자 정보를 구성
+     * 
+     * @param token JWT 토큰
+     * @return 사용자 정보 (유효하지 않은 토큰이거나 계정 버전이 다르면 null)
+     */
+    private UserDetails userDetailsOf(String token) {
+        try {
+            Claims claims = tokenProvider.parse(token);
+            Long version = tokenProvider.getTokenVersion(claims);
+
+            if (statelessAuth && version != null && claims.get(JwtTokenProvider.CLAIM_USER_ID) != null
+                    && claims.get(JwtTokenProvider.CLAIM_ROLE) != null) {
+                Long userId = tokenProvider.getUserId(claims);
+                if (!userVersionCache.isCurrent(userId, version)) {
+                    return null;
+                }
+                return statelessUserDetails(userId, claims);
+            }
+
+            // 실제 DB에서 사용자 정보를 조회 (최근 조회 결과는 캐시 사용)
+            CustomUserDetails userDetails =
+                    (CustomUserDetails) userDetailsService.loadUserByUsername(claims.getSubject());
+            if (version != null && version != userDetails.getUser().getTokenVersion()) {
+                return null;
+            }
+            return userDetails;
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 클레임만으로 사용자 정보 구성 (ID, 이메일, 권한만 채워짐)
+     */
+    private CustomUserDetails statelessUserDetails(Long userId, Claims claims) {
+        User user = User.builder()
+                .id(userId)
+                .email(claims.getSubject())
+                .role(Role.valueOf(claims.get(JwtTokenProvider.CLAIM_ROLE, String.class)))
+                .isActive(true)
+                .build();
+        return new CustomUserDetails(user);
+    }
+}
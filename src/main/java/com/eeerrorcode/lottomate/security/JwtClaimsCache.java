@@ -0,0 +1,103 @@
+package com.eeerrorcode.lottomate.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 서명 검증을 마친 JWT의 클레임을 잠시 보관하는 캐시.
+ * <p>
+ * 같은 클라이언트가 같은 액세스 토큰으로 반복 요청하면 HMAC 서명 검증과 JSON 파싱을 다시 하지 않도록,
+ * 토큰 문자열의 SHA-256 해시를 키로 검증된 클레임을 저장합니다. 원본 토큰은 메모리에 남기지 않으며,
+ * 해시가 같으려면 토큰이 같아야 하므로 위조 토큰이 캐시 항목을 가로챌 수 없습니다.
+ * </p>
+ * <p>
+ * 항목은 토큰 만료 시각과 ttl-seconds 중 이른 시각까지만 유효하며, 크기 제한과 정리 방식은
+ * {@link BoundedTtlCache}를 따릅니다. max-size가 0이면 캐시를 사용하지 않습니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>jwt.claims.cache (result=hit|miss): 캐시 조회 결과</li>
+ *   <li>jwt.claims.cache.size: 캐시 항목 수</li>
+ *   <li>jwt.claims.cache.evictions: 크기 제한으로 정리된 항목 수</li>
+ * </ul>
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final BoundedTtlCache<ByteBuffer, Claims> cache;
+    private final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(JwtClaimsCache::sha256);
+
+    @Autowired
+    public JwtClaimsCache(MeterRegistry meterRegistry,
+            @Value("${jwt.claims-cache.max-size:10000}") int maxSize,
+            @Value("${jwt.claims-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = new BoundedTtlCache<>("jwt.claims.cache", meterRegistry, maxSize,
+                TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    /**
+     * 캐시된 클레임 조회
+     *
+     * @param token JWT 토큰
+     * @return 검증된 클레임 (없거나 만료되었으면 null)
+     */
+    public Claims get(String token) {
+        return cache.isEnabled() ? cache.get(keyOf(token)) : null;
+    }
+
+    /**
+     * 서명 검증을 마친 토큰의 클레임 저장
+     *
+     * @param token  JWT 토큰
+     * @param claims 검증된 클레임
+     */
+    public void put(String token, Claims claims) {
+        if (!cache.isEnabled()) {
+            return;
+        }
+        Date expiration = claims.getExpiration();
+        cache.put(keyOf(token), claims, expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+    }
+
+    /**
+     * 캐시된 토큰 제거
+     *
+     * @param token JWT 토큰
+     */
+    public void invalidate(String token) {
+        if (cache.isEnabled()) {
+            cache.invalidate(keyOf(token));
+        }
+    }
+
+    /**
+     * @return 캐시 항목 수
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private ByteBuffer keyOf(String token) {
+        MessageDigest digest = digests.get();
+        return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
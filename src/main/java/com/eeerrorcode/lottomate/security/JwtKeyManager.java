@@ -0,0 +1,193 @@
+package com.eeerrorcode.lottomate.security;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * JWT 서명 키 관리.
+ * <p>
+ * 모든 인스턴스가 같은 설정에서 같은 키를 만들므로, 어느 인스턴스가 발급한 토큰이든
+ * 다른 인스턴스와 재시작 후에도 검증됩니다. 키는 kid로 구분하며 기동 시 한 번만 읽어
+ * 불변 맵으로 보관하고, 토큰 헤더의 kid로 검증 키를 바로 찾습니다.
+ * </p>
+ * <ul>
+ *   <li>jwt.secret: signing-kid 키의 비밀값 (필수, 256비트 이상)</li>
+ *   <li>jwt.additional-keys: 검증에 함께 쓰는 키 목록 ("kid=secret,kid=secret")</li>
+ *   <li>jwt.keystore.path: 비밀 키 항목을 담은 키스토어 파일 (별칭이 kid, 설정 키보다 우선)</li>
+ * </ul>
+ * <p>
+ * 비밀값이 없거나 256비트보다 짧으면 기동에 실패합니다. 기본값을 두지 않으므로
+ * 공개된 값이 서명 키로 쓰이는 일이 없습니다.
+ * </p>
+ * <p>
+ * 키 교체 절차: 새 키를 additional-keys(또는 키스토어)에 추가해 모든 인스턴스에 배포한 뒤
+ * signing-kid를 새 키로 바꾸고, 이전 키는 그 키로 발급한 토큰이 모두 만료된 후 제거합니다.
+ * </p>
+ */
+@Component
+@Log4j2
+public class JwtKeyManager extends SigningKeyResolverAdapter {
+
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final String signingKeyId;
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> keys;
+
+    @Autowired
+    public JwtKeyManager(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.signing-kid:primary}") String signingKeyId,
+            @Value("${jwt.additional-keys:}") String additionalKeys,
+            @Value("${jwt.keystore.path:}") String keystorePath,
+            @Value("${jwt.keystore.password:}") String keystorePassword,
+            @Value("${jwt.keystore.type:PKCS12}") String keystoreType) {
+        Map<String, SecretKey> loaded = new LinkedHashMap<>();
+        loaded.put(signingKeyId, toKey(signingKeyId, secret));
+
+        if (additionalKeys != null && !additionalKeys.isBlank()) {
+            for (String entry : additionalKeys.split(",")) {
+                int separator = entry.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalStateException("jwt.additional-keys 형식이 올바르지 않습니다 (kid=secret): " + entry.trim());
+                }
+                String kid = entry.substring(0, separator).trim();
+                loaded.put(kid, toKey(kid, entry.substring(separator + 1).trim()));
+            }
+        }
+
+        if (keystorePath != null && !keystorePath.isBlank()) {
+            loaded.putAll(loadKeystore(Path.of(keystorePath), keystorePassword, keystoreType));
+        }
+
+        this.signingKeyId = signingKeyId;
+        this.signingKey = loaded.get(signingKeyId);
+        this.keys = Collections.unmodifiableMap(loaded);
+        log.info("[JWT 키] 서명 kid={}, 검증 키 {}개", signingKeyId, keys.size());
+    }
+
+    /**
+     * @return 토큰 서명에 사용할 kid
+     */
+    public String signingKeyId() {
+        return signingKeyId;
+    }
+
+    /**
+     * @return 토큰 서명에 사용할 키
+     */
+    public SecretKey signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * @return 검증 가능한 kid 목록
+     */
+    public Set<String> keyIds() {
+        return keys.keySet();
+    }
+
+    /**
+     * 토큰 헤더의 kid로 검증 키를 찾습니다. kid가 없는 토큰은 현재 서명 키로 검증합니다.
+     */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            return signingKey;
+        }
+        SecretKey key = keys.get(kid);
+        if (key == null) {
+            throw new SignatureException("알 수 없는 서명 키입니다: kid=" + kid);
+        }
+        return key;
+    }
+
+    /**
+     * 비밀값으로 HMAC 키 생성. Base64 값이면 디코딩한 바이트를 그대로 쓰고, Base64가 아니면
+     * 원문(UTF-8)의 SHA-256 해시를 키로 사용합니다. 어느 쪽이든 256비트보다 짧으면 거부합니다.
+     *
+     * @throws IllegalStateException 비밀값이 비어 있거나 256비트보다 짧은 경우
+     */
+    private static SecretKey toKey(String kid, String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("JWT 비밀값이 비어 있습니다: kid=" + kid);
+        }
+        byte[] decoded = null;
+        try {
+            decoded = Base64.getDecoder().decode(secret);
+        } catch (IllegalArgumentException e) {
+            // Base64가 아니면 원문에서 유도
+        }
+        if (decoded != null) {
+            if (decoded.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("JWT 비밀값은 256비트 이상이어야 합니다: kid=" + kid
+                        + ", " + decoded.length * 8 + "비트");
+            }
+            return Keys.hmacShaKeyFor(decoded);
+        }
+        byte[] raw = secret.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("JWT 비밀값은 256비트 이상이어야 합니다: kid=" + kid
+                    + ", " + raw.length * 8 + "비트");
+        }
+        try {
+            return Keys.hmacShaKeyFor(MessageDigest.getInstance("SHA-256").digest(raw));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 키스토어의 비밀 키 항목을 별칭(kid) 단위로 읽습니다.
+     */
+    private static Map<String, SecretKey> loadKeystore(Path path, String password, String type) {
+        char[] passwordChars = password == null ? new char[0] : password.toCharArray();
+        Map<String, SecretKey> loaded = new LinkedHashMap<>();
+        try (InputStream in = Files.newInputStream(path)) {
+            KeyStore keyStore = KeyStore.getInstance(type);
+            keyStore.load(in, passwordChars);
+            Enumeration<String> aliases = keyStore.aliases();
+            while (aliases.hasMoreElements()) {
+                String alias = aliases.nextElement();
+                if (!keyStore.entryInstanceOf(alias, KeyStore.SecretKeyEntry.class)) {
+                    continue;
+                }
+                Key key = keyStore.getKey(alias, passwordChars);
+                loaded.put(alias, Keys.hmacShaKeyFor(key.getEncoded()));
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 키스토어를 읽을 수 없습니다: " + path, e);
+        }
+        if (loaded.isEmpty()) {
+            throw new IllegalStateException("JWT 키스토어에 비밀 키가 없습니다: " + path);
+        }
+        return loaded;
+    }
+}
@@ -1,18 +1,19 @@
 package com.eeerrorcode.lottomate.security;
 
-import java.security.Key;
 import java.util.Date;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.eeerrorcode.lottomate.domain.entity.user.User;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.log4j.Log4j2;
 
@@ -20,21 +21,34 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret:c2VjdXJpdHkta2V5LWZvci1sb3R0by1hcHBsaWNhdGlvbi13aXRoLWp3dC10b2tlbi1tYW5hZ2VtZW50}")
-    private String secretKey;
-    
-    @Value("${jwt.token-validity-in-seconds:86400}")
-    private long tokenValidityInSeconds;
-    
-    @Value("${jwt.refresh-token-validity-in-seconds:2592000}")
-    private long refreshTokenValidityInSeconds;
+    // 액세스 토큰 클레임 이름
+    public static final String CLAIM_USER_ID = "userId";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_VERSION = "ver";
+
+    private final JwtKeyManager keyManager;
+    private final long tokenValidityInSeconds;
+    private final long refreshTokenValidityInSeconds;
+    private final JwtClaimsCache claimsCache;
+
+    // 파서는 스레드 안전하므로 한 번만 만들어 재사용
+    private JwtParser parser;
 
-    private Key key;
+    @Autowired
+    public JwtTokenProvider(JwtClaimsCache claimsCache,
+            JwtKeyManager keyManager,
+            @Value("${jwt.token-validity-in-seconds:86400}") long tokenValidityInSeconds,
+            @Value("${jwt.refresh-token-validity-in-seconds:2592000}") long refreshTokenValidityInSeconds) {
+        this.claimsCache = claimsCache;
+        this.keyManager = keyManager;
+        this.tokenValidityInSeconds = tokenValidityInSeconds;
+        this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+    }
     
     @PostConstruct
     public void init() {
-        // 안전한 키 생성 (256비트 이상)
-        this.key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        // 토큰 헤더의 kid로 검증 키를 찾는 파서 (모든 인스턴스가 같은 키를 공유)
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(keyManager).build();
     }
 
     // 액세스 토큰 생성
@@ -43,16 +57,29 @@ public class JwtTokenProvider {
         Date expiry = new Date(now.getTime() + tokenValidityInSeconds * 1000);
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyManager.signingKeyId())
                 .setSubject(email)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(key)
+                .signWith(keyManager.signingKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
     
-    // 액세스 토큰 생성 (User 객체 파라미터)
+    // 액세스 토큰 생성 (User 객체 파라미터, 사용자 ID/권한/계정 버전 클레임 포함)
     public String generateToken(User user) {
-        return generateToken(user.getEmail());
+        Date now = new Date();
+        Date expiry = new Date(now.getTime() + tokenValidityInSeconds * 1000);
+
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyManager.signingKeyId())
+                .setSubject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_VERSION, user.getTokenVersion())
+                .setIssuedAt(now)
+                .setExpiration(expiry)
+                .signWith(keyManager.signingKey(), SignatureAlgorithm.HS256)
+                .compact();
     }
     
     // 리프레시 토큰 생성
@@ -61,10 +88,11 @@ public class JwtTokenProvider {
         Date expiry = new Date(now.getTime() + refreshTokenValidityInSeconds * 1000);
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyManager.signingKeyId())
                 .setSubject(email)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(key)
+                .signWith(keyManager.signingKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
     
@@ -73,18 +101,35 @@ public class JwtTokenProvider {
         return generateRefreshToken(user.getEmail());
     }
     
+    /**
+     * 토큰의 서명과 만료를 한 번에 검증하고 클레임을 반환합니다.
+     * 최근에 검증한 토큰이면 서명 검증 없이 캐시된 클레임을 반환합니다.
+     * 
+     * @param token JWT 토큰
+     * @return 검증된 클레임 (호출자는 수정하지 않아야 함)
+     * @throws JwtException 서명이 틀렸거나 만료된 토큰인 경우
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
+     */
+    public Claims parse(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("토큰이 비어 있습니다.");
+        }
+        Claims claims = claimsCache.get(token);
+        if (claims != null) {
+            return claims;
+        }
+        claims = parser.parseClaimsJws(token).getBody();
+        claimsCache.put(token, claims);
+        return claims;
+    }
+
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parse(token).getSubject();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parse(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -98,14 +143,18 @@ public class JwtTokenProvider {
      * @return 사용자 ID
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return getUserId(parse(token));
+    }
 
+    /**
+     * 검증된 클레임에서 사용자 ID 추출
+     * 
+     * @param claims 검증된 클레임
+     * @return 사용자 ID
+     */
+    public Long getUserId(Claims claims) {
         // 토큰에서 userId 추출 (문자열이나 숫자로 저장되었을 수 있음)
-        Object userId = claims.get("userId");
+        Object userId = claims.get(CLAIM_USER_ID);
         if (userId instanceof Integer) {
             return ((Integer) userId).longValue();
         } else if (userId instanceof Long) {
@@ -123,4 +172,15 @@ public class JwtTokenProvider {
         throw new JwtException("토큰에서 userId를 찾을 수 없습니다.");
     }
 
+    /**
+     * 검증된 클레임에서 계정 버전 추출
+     * 
+     * @param claims 검증된 클레임
+     * @return 계정 버전 (버전 클레임이 없는 이전 토큰이면 null)
+     */
+    public Long getTokenVersion(Claims claims) {
+        Object version = claims.get(CLAIM_VERSION);
+        return version instanceof Number number ? number.longValue() : null;
+    }
+
 }
\ No newline at end of file
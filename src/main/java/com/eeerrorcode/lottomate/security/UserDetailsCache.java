@@ -0,0 +1,79 @@
+package com.eeerrorcode.lottomate.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 이메일별 {@link CustomUserDetails} 캐시.
+ * <p>
+ * 인증 필터는 요청마다 사용자 정보를 조회하지만 사용자 정보는 거의 바뀌지 않으므로,
+ * 한 번 조회한 결과를 ttl-seconds 동안 재사용해 정상 상태의 인증 요청이 users 테이블을 읽지 않도록 합니다.
+ * 회원 정보 수정, 비밀번호 변경, 계정 비활성화 시에는 {@link #invalidate(String)}로 즉시 제거하며,
+ * 트랜잭션 안에서 호출되면 커밋 직후에도 한 번 더 제거해 커밋 전 다른 요청이 다시 채운 이전 값을 남기지 않습니다.
+ * 존재하지 않는 사용자는 캐시하지 않습니다.
+ * </p>
+ * <p>
+ * 캐시된 사용자 엔티티는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 합니다.
+ * 크기 제한과 정리 방식은 {@link BoundedTtlCache}를 따르며, max-size가 0이면 캐시를 사용하지 않습니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>security.user.details.cache (result=hit|miss): 캐시 조회 결과</li>
+ *   <li>security.user.details.cache.size: 캐시 항목 수</li>
+ *   <li>security.user.details.cache.evictions: 크기 제한으로 정리된 항목 수</li>
+ * </ul>
+ */
+@Component
+public class UserDetailsCache {
+
+    private final BoundedTtlCache<String, CustomUserDetails> cache;
+
+    @Autowired
+    public UserDetailsCache(MeterRegistry meterRegistry,
+            @Value("${security.user-details-cache.max-size:10000}") int maxSize,
+            @Value("${security.user-details-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = new BoundedTtlCache<>("security.user.details.cache", meterRegistry, maxSize,
+                TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    /**
+     * 캐시된 사용자 정보를 반환하고, 없으면 loader로 조회해 저장합니다.
+     *
+     * @param email  사용자 이메일
+     * @param loader 캐시에 없을 때의 조회 함수 (사용자가 없으면 예외를 던져야 함)
+     * @return 사용자 정보
+     */
+    public CustomUserDetails get(String email, Function<String, CustomUserDetails> loader) {
+        CustomUserDetails cached = cache.get(email);
+        if (cached != null) {
+            return cached;
+        }
+        CustomUserDetails userDetails = loader.apply(email);
+        cache.put(email, userDetails);
+        return userDetails;
+    }
+
+    /**
+     * 사용자 정보 변경 시 캐시 항목 제거
+     *
+     * @param email 사용자 이메일
+     */
+    public void invalidate(String email) {
+        if (email != null) {
+            cache.invalidateOnCompletion(email);
+        }
+    }
+
+    /**
+     * @return 캐시 항목 수
+     */
+    public int size() {
+        return cache.size();
+    }
+}
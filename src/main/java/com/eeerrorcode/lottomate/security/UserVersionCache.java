@@ -0,0 +1,89 @@
+package com.eeerrorcode.lottomate.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eeerrorcode.lottomate.repository.UserRepository;
+import com.eeerrorcode.lottomate.repository.projection.user.UserTokenState;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 사용자별 현재 계정 토큰 버전 캐시.
+ * <p>
+ * 무상태 인증 모드에서 인증 필터는 토큰 클레임만으로 사용자를 구성하므로, 비활성화되었거나
+ * 비밀번호가 바뀐 계정의 토큰을 걸러내기 위해 토큰의 ver 클레임을 이 캐시의 값과 비교합니다.
+ * 캐시에 없으면 (ID, 토큰 버전, 활성 여부)만 조회해 ttl-seconds 동안 보관하고,
+ * 비활성 계정이나 없는 계정은 어떤 토큰 버전과도 일치하지 않는 값으로 저장합니다.
+ * 같은 인스턴스의 계정 변경은 {@link #invalidate(Long)}로 즉시 반영되고,
+ * 다른 인스턴스의 변경은 ttl-seconds 안에 반영됩니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>security.user.version.cache (result=hit|miss): 캐시 조회 결과</li>
+ *   <li>security.user.version.cache.size: 캐시 항목 수</li>
+ *   <li>security.user.version.cache.evictions: 크기 제한으로 정리된 항목 수</li>
+ * </ul>
+ */
+@Component
+public class UserVersionCache {
+
+    private static final long REVOKED = -1L;
+
+    private final UserRepository userRepository;
+    private final BoundedTtlCache<Long, Long> cache;
+
+    @Autowired
+    public UserVersionCache(UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${security.user-version-cache.max-size:100000}") int maxSize,
+            @Value("${security.user-version-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = new BoundedTtlCache<>("security.user.version.cache", meterRegistry, maxSize,
+                TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    /**
+     * 토큰의 계정 버전이 현재 버전과 같은지 확인
+     *
+     * @param userId       사용자 ID
+     * @param tokenVersion 토큰에 담긴 계정 버전
+     * @return 활성 계정이고 버전이 같으면 true
+     */
+    public boolean isCurrent(long userId, long tokenVersion) {
+        return tokenVersion >= 0 && currentVersion(userId) == tokenVersion;
+    }
+
+    /**
+     * 계정 변경 시 캐시 항목 제거 (트랜잭션 안이면 완료 직후에도 한 번 더 제거)
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            cache.invalidateOnCompletion(userId);
+        }
+    }
+
+    /**
+     * @return 캐시 항목 수
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private long currentVersion(long userId) {
+        Long cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long version = userRepository.findTokenStateById(userId)
+                .filter(UserTokenState::active)
+                .map(UserTokenState::tokenVersion)
+                .orElse(REVOKED);
+        cache.put(userId, version);
+        return version;
+    }
+}
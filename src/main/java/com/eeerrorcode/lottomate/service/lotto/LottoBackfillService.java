@@ -0,0 +1,36 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBackfillReport;
+
+/**
+ * 브라우저 없이 HTTP로 회차 페이지를 병렬 수집하여 DB에 일괄 저장하는 서비스 인터페이스입니다.
+ * 신규 환경 구축 시 전체 회차를 빠르게 채우는 용도로 사용합니다.
+ */
+public interface LottoBackfillService {
+
+  /**
+   * 동행복권 사이트에서 최신 회차 번호를 HTTP로 조회합니다.
+   *
+   * @return 최신 회차 번호
+   * @throws IllegalStateException 페이지 조회 또는 파싱에 실패한 경우
+   */
+  int fetchLatestRound();
+
+  /**
+   * 지정된 회차 범위 중 DB에 없는 회차만 병렬로 수집하여 일괄 저장합니다.
+   * 저장된 회차 목록은 시작 시 한 번만 조회하며, 일부 회차가 실패해도 나머지 회차는 계속 처리합니다.
+   *
+   * @param startRound 수집 시작 회차 (포함)
+   * @param endRound   수집 종료 회차 (포함)
+   * @return 수집 결과 요약
+   * @throws IllegalArgumentException 회차 범위가 올바르지 않은 경우
+   */
+  LottoBackfillReport backfill(long startRound, long endRound);
+
+  /**
+   * 1회차부터 최신 회차까지 누락된 모든 회차를 수집합니다.
+   *
+   * @return 수집 결과 요약
+   */
+  LottoBackfillReport backfillAll();
+}
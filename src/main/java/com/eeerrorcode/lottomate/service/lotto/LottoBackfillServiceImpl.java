@@ -0,0 +1,214 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBackfillReport;
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.repository.lotto.LottoResultBatchWriter;
+import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class LottoBackfillServiceImpl implements LottoBackfillService {
+
+  private static final int MAX_ATTEMPTS = 2;
+
+  private final LottoResultRepository lottoResultRepository;
+  private final LottoResultBatchWriter lottoResultBatchWriter;
+  private final LottoDrawIndex lottoDrawIndex;
+
+  @Value("${lotto.crawler.base-url:https://dhlottery.co.kr}")
+  private String baseUrl;
+
+  @Value("${lotto.backfill.parallelism:4}")
+  private int parallelism;
+
+  @Value("${lotto.backfill.min-interval-ms:200}")
+  private long minIntervalMillis; // 요청 시작 간 최소 간격 (대상 사이트 부하 방지)
+
+  @Value("${lotto.backfill.batch-size:50}")
+  private int batchSize;
+
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(5))
+      .followRedirects(HttpClient.Redirect.NORMAL)
+      .build();
+
+  @Override
+  public int fetchLatestRound() {
+    try {
+      int latest = LottoRoundPageParser.parseLatestRound(
+          LottoRoundPageParser.document(fetch(baseUrl + "/gameResult.do?method=byWin")));
+      log.info("[일괄 수집] 최신 회차 번호: {}", latest);
+      return latest;
+    } catch (IOException e) {
+      throw new IllegalStateException("최신 회차 페이지 조회 실패: " + e.getMessage(), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("최신 회차 페이지 조회 중단", e);
+    }
+  }
+
+  @Override
+  public LottoBackfillReport backfillAll() {
+    return backfill(1, fetchLatestRound());
+  }
+
+  @Override
+  public LottoBackfillReport backfill(long startRound, long endRound) {
+    if (startRound < 1 || startRound > endRound) {
+      throw new IllegalArgumentException("수집 회차 범위가 올바르지 않습니다: " + startRound + " ~ " + endRound);
+    }
+    long startedAt = System.currentTimeMillis();
+
+    Set<Long> existing = new HashSet<>(lottoResultRepository.findAllDrawRounds());
+    List<Long> targets = LongStream.rangeClosed(startRound, endRound)
+        .filter(round -> !existing.contains(round))
+        .boxed()
+        .toList();
+    long skipped = (endRound - startRound + 1) - targets.size();
+    log.info("[일괄 수집] {} ~ {}회차 중 {}개 회차 수집 시작 (기존 {}개 건너뜀)", startRound, endRound, targets.size(), skipped);
+
+    Queue<Long> failed = new ConcurrentLinkedQueue<>();
+    AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+    long saved = 0;
+
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), workerThreadFactory());
+    try {
+      CompletionService<LottoResults> completion = new ExecutorCompletionService<>(executor);
+      for (Long round : targets) {
+        completion.submit(() -> fetchRound(round.intValue(), nextSlot, failed));
+      }
+
+      List<LottoResults> buffer = new ArrayList<>(batchSize);
+      for (int i = 0; i < targets.size(); i++) {
+        LottoResults result = completion.take().get();
+        if (result == null) {
+          continue;
+        }
+        buffer.add(result);
+        if (buffer.size() >= batchSize) {
+          saved += flush(buffer, failed);
+        }
+      }
+      saved += flush(buffer, failed);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("[일괄 수집] 작업이 중단되었습니다.");
+    } catch (ExecutionException e) {
+      log.error("[일괄 수집] 수집 작업 오류", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    List<Long> failedRounds = failed.stream().sorted().toList();
+    long elapsed = System.currentTimeMillis() - startedAt;
+    log.info("[일괄 수집] 완료: 저장 {}건, 실패 {}건, 소요 {}ms", saved, failedRounds.size(), elapsed);
+
+    return LottoBackfillReport.builder()
+        .startRound(startRound)
+        .endRound(endRound)
+        .skippedCount(skipped)
+        .savedCount(saved)
+        .failedRounds(failedRounds)
+        .elapsedMillis(elapsed)
+        .build();
+  }
+
+  // 수집된 회차를 상세 정보와 함께 JDBC batch로 한 번에 저장
+  private long flush(List<LottoResults> buffer, Queue<Long> failed) {
+    if (buffer.isEmpty()) {
+      return 0;
+    }
+    long count = buffer.size();
+    try {
+      lottoResultBatchWriter.writeAll(buffer);
+      lottoDrawIndex.appendAll(buffer);
+    } catch (Exception e) {
+      log.error("[일괄 수집] {}건 저장 실패: {}", count, e.getMessage());
+      buffer.forEach(result -> failed.add(result.getDrawRound()));
+      count = 0;
+    }
+    buffer.clear();
+    return count;
+  }
+
+  private LottoResults fetchRound(int round, AtomicLong nextSlot, Queue<Long> failed) {
+    for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+      try {
+        awaitSlot(nextSlot);
+        byte[] body = fetch(baseUrl + "/gameResult.do?method=byWin&drwNo=" + round);
+        return LottoRoundPageParser.parseRound(round, LottoRoundPageParser.document(body));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (IOException e) {
+        log.warn("[{}회차] 페이지 조회 실패 ({}/{}): {}", round, attempt, MAX_ATTEMPTS, e.getMessage());
+      } catch (RuntimeException e) {
+        log.warn("[{}회차] 파싱 실패: {}", round, e.getMessage());
+        break;
+      }
+    }
+    failed.add((long) round);
+    return null;
+  }
+
+  // 모든 작업 스레드가 공유하는 다음 요청 가능 시각을 예약하고 그 시각까지 대기
+  private void awaitSlot(AtomicLong nextSlot) throws InterruptedException {
+    long interval = TimeUnit.MILLISECONDS.toNanos(minIntervalMillis);
+    long slot = nextSlot.getAndAccumulate(System.nanoTime(), (previous, now) -> Math.max(previous, now) + interval);
+    long wait = slot - System.nanoTime();
+    if (wait > 0) {
+      TimeUnit.NANOSECONDS.sleep(wait);
+    }
+  }
+
+  private byte[] fetch(String url) throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+        .timeout(Duration.ofSeconds(10))
+        .GET()
+        .build();
+    HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() != 200) {
+      throw new IOException("HTTP " + response.statusCode() + " - " + url);
+    }
+    return response.body();
+  }
+
+  private static ThreadFactory workerThreadFactory() {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "lotto-backfill-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -30,8 +30,8 @@ public interface LottoCrawlerService {
   public void crawlAndSave(WebDriver driver, int Round);
 
   /**
-   * 로또 1회차부터 최신 회차까지 전체 데이터를 동행복권 사이트에서 순차적으로 크롤링하고 DB에 저장합니다.
-   * 중복된 회차는 건너뛰며, 모든 회차를 자동으로 처리합니다.
+   * 로또 1회차부터 최신 회차까지 전체 데이터를 동행복권 사이트에서 크롤링하고 DB에 저장합니다.
+   * 중복된 회차는 건너뛰며, 브라우저 없이 {@link LottoBackfillService}로 병렬 수집합니다.
    */
   public void crawlAll();
 
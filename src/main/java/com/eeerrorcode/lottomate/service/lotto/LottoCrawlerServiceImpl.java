@@ -4,23 +4,21 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.stereotype.Service;
 
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBackfillReport;
 import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResultDetails;
 import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
-import com.eeerrorcode.lottomate.repository.lotto.LottoResultDetailsRepository;
+import com.eeerrorcode.lottomate.repository.lotto.LottoResultBatchWriter;
 import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
@@ -29,8 +27,11 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class LottoCrawlerServiceImpl implements LottoCrawlerService {
 
-  private final LottoResultDetailsRepository lottoResultDetailsRepository;
+  private final LottoResultBatchWriter lottoResultBatchWriter;
   private final LottoResultRepository lottoResultRepository;
+  private final LottoDrawIndex lottoDrawIndex;
+  private final LottoBackfillService lottoBackfillService;
+  private final WebDriverPool webDriverPool;
 
   @Override
   public void crawlAndSave(WebDriver driver, int round) {
@@ -97,9 +98,7 @@ public class LottoCrawlerServiceImpl implements LottoCrawlerService {
           .totalSalesAmount(totalSales)
           .build();
 
-      lottoResultRepository.save(returnResults);
-
-      List<LottoResultDetails> details = new ArrayList<>();
+      List<LottoResultDetails> details = returnResults.getPrizeDetails();
       List<WebElement> rows = driver.findElements(By.cssSelector(".tbl_data tbody tr"));
 
       Integer availableRows = rows.size();
@@ -123,7 +122,8 @@ public class LottoCrawlerServiceImpl implements LottoCrawlerService {
         details.add(detail);
       }
 
-      lottoResultDetailsRepository.saveAll(details);
+      lottoResultBatchWriter.writeAll(List.of(returnResults));
+      lottoDrawIndex.append(returnResults);
       log.info("{} 회차 저장 완료", round);
     } catch (Exception e) {
       log.info("{} 회차 저장 중 오류 발생", round, e.getMessage(), e);
@@ -133,55 +133,43 @@ public class LottoCrawlerServiceImpl implements LottoCrawlerService {
 
   @Override
   public void crawlAll() {
-    WebDriverManager.chromedriver().setup();
-    WebDriver driver = new ChromeDriver();
-
-    try {
-      Integer latest = getLatestRound();
-      if (latest == -1) {
-        log.info("최신 회차 정보 없음");
-        return;
-      }
-      for (int round = 1; round <= latest; round++) {
-        if (lottoResultRepository.existsByDrawRound(Long.valueOf(round))) {
-          log.info("{} 회차 중복, 넘어갑니다", round);
-          continue;
-        }
-        crawlAndSave(driver, round);
-      }
-      log.info("{} 회차까지 크롤링 완료", latest);
-    } catch (Exception e) {
-      log.info("크롤링 중 오류 발생", e.getMessage(), e);
-    } finally {
-      driver.quit();
-    }
+    LottoBackfillReport report = lottoBackfillService.backfillAll();
+    log.info("{} 회차까지 크롤링 완료 (신규 {}건, 실패 회차 {})",
+        report.getEndRound(), report.getSavedCount(), report.getFailedRounds());
   }
 
   @Override
   public void crawlLatest() {
-    WebDriverManager.chromedriver().setup();
-    WebDriver driver = new ChromeDriver();
-
-    try {
-      Integer latest = getLatestRound();
+    try (PooledWebDriver pooled = webDriverPool.borrow()) {
+      WebDriver driver = pooled.driver();
+      Integer latest = getLatestRound(driver);
       if (latest == -1) {
         return;
       }
       if (lottoResultRepository.existsByDrawRound((long) latest)) {
         log.info(latest + "회차 존재");
+        // 다른 인스턴스가 저장한 회차면 이 인스턴스의 인덱스가 아직 모르므로 따라잡음
+        lottoDrawIndex.syncTo(latest);
         return;
       }
       crawlAndSave(driver, latest);
     } catch (Exception e) {
       log.info("크롤링 오류 발생");
-    } finally {
-      driver.quit();
     }
   }
 
   @Override
   public Integer getLatestRound() {
-    WebDriver driver = new ChromeDriver();
+    try (PooledWebDriver pooled = webDriverPool.borrow()) {
+      return getLatestRound(pooled.driver());
+    } catch (Exception e) {
+      log.warn("크롤링 대상 사이트 최신 회차 정보 로딩 실패: {}", e.getMessage());
+      return -1;
+    }
+  }
+
+  // 이미 대여한 세션으로 최신 회차 조회 (브라우저를 추가로 띄우지 않음)
+  private Integer getLatestRound(WebDriver driver) {
     try {
       driver.get("https://dhlottery.co.kr/gameResult.do?method=byWin");
 
@@ -197,20 +185,19 @@ public class LottoCrawlerServiceImpl implements LottoCrawlerService {
     } catch (Exception e) {
       log.warn("크롤링 대상 사이트 최신 회차 정보 로딩 실패: {}", e.getMessage());
       return -1;
-    } finally {
-      driver.quit();
     }
   }
 
   @Override
   public Long crawlLatestRound() {
-    WebDriverManager.chromedriver().setup();
-    WebDriver driver = new ChromeDriver();
-
-    try {
-      Integer latest = getLatestRound();
+    try (PooledWebDriver pooled = webDriverPool.borrow()) {
+      WebDriver driver = pooled.driver();
+      Integer latest = getLatestRound(driver);
       if (latest == -1 || lottoResultRepository.existsByDrawRound((long) latest)) {
         log.info("[{}회차] 이미 존재하거나 유효하지 않음. 건너뜀.", latest);
+        if (latest != -1) {
+          lottoDrawIndex.syncTo(latest);
+        }
         return null;
       }
 
@@ -220,9 +207,6 @@ public class LottoCrawlerServiceImpl implements LottoCrawlerService {
     } catch (Exception e) {
       log.error("[크롤링 실패] 예외 발생", e);
       return null;
-
-    } finally {
-      driver.quit();
     }
   }
 
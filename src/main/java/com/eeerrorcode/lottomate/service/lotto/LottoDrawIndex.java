@@ -0,0 +1,139 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 로또 당첨 이력 인메모리 인덱스 컴포넌트.
+ * <p>
+ * 애플리케이션 기동 시 lotto_results 전체를 한 번 읽어 {@link LottoDrawSnapshot}을 만들고,
+ * 통계/추천 API는 DB 대신 이 스냅샷으로 응답합니다. 크롤러가 새 회차를 저장하면
+ * {@link #append(LottoResults)}로 새 스냅샷을 만들어 원자적으로 교체하므로,
+ * 읽는 쪽은 항상 일관된 하나의 스냅샷만 보게 됩니다.
+ * 다른 인스턴스가 저장한 회차는 {@link #syncTo(long)}로 DB에서 읽어 따라잡습니다.
+ * 스냅샷이 교체될 때마다 {@link LottoDrawIndexUpdatedEvent}를 발행합니다.
+ * </p>
+ *
+ * @see LottoDrawSnapshot
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class LottoDrawIndex {
+
+  private final LottoResultRepository lottoResultRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final AtomicReference<LottoDrawSnapshot> snapshot = new AtomicReference<>(LottoDrawSnapshot.empty());
+  private volatile boolean loaded = false;
+
+  /**
+   * 기동 완료 시점에 전체 회차를 적재합니다. 실패하더라도 첫 조회 시 다시 적재를 시도합니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    try {
+      reload();
+    } catch (Exception e) {
+      log.warn("[회차 인덱스] 초기 적재 실패, 첫 조회 시 재시도합니다: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 현재 스냅샷을 반환합니다. 아직 적재되지 않았다면 DB에서 적재한 뒤 반환합니다.
+   *
+   * @return 현재 회차 스냅샷
+   */
+  public LottoDrawSnapshot current() {
+    if (!loaded) {
+      synchronized (this) {
+        if (!loaded) {
+          reload();
+        }
+      }
+    }
+    return snapshot.get();
+  }
+
+  /**
+   * DB의 전체 회차로 스냅샷을 다시 만듭니다.
+   */
+  public synchronized void reload() {
+    long startedAt = System.currentTimeMillis();
+    LottoDrawSnapshot rebuilt = LottoDrawSnapshot.of(lottoResultRepository.findAll());
+    snapshot.set(rebuilt);
+    loaded = true;
+    log.info("[회차 인덱스] {}개 회차 적재 완료 ({}ms)", rebuilt.size(), System.currentTimeMillis() - startedAt);
+    eventPublisher.publishEvent(new LottoDrawIndexUpdatedEvent(rebuilt));
+  }
+
+  /**
+   * 새로 저장된 회차를 스냅샷에 반영합니다.
+   *
+   * @param result 저장이 완료된 당첨 결과
+   */
+  public synchronized void append(LottoResults result) {
+    if (!loaded) {
+      reload();
+      return;
+    }
+    LottoDrawSnapshot previous = snapshot.get();
+    LottoDrawSnapshot appended = previous.append(result);
+    if (appended != previous) {
+      snapshot.set(appended);
+      eventPublisher.publishEvent(new LottoDrawIndexUpdatedEvent(appended));
+    }
+  }
+
+  /**
+   * 여러 회차를 한 번에 스냅샷에 반영하고, 스냅샷이 바뀐 경우 이벤트를 한 번만 발행합니다.
+   * 백필처럼 회차가 묶음으로 저장될 때 회차마다 구독자(랭킹 재계산 등)가 다시 실행되지 않도록 합니다.
+   *
+   * @param results 저장이 완료된 당첨 결과 목록
+   */
+  public synchronized void appendAll(Collection<LottoResults> results) {
+    if (results.isEmpty()) {
+      return;
+    }
+    if (!loaded) {
+      reload();
+      return;
+    }
+    LottoDrawSnapshot previous = snapshot.get();
+    LottoDrawSnapshot appended = previous.appendAll(results);
+    if (appended != previous) {
+      snapshot.set(appended);
+      eventPublisher.publishEvent(new LottoDrawIndexUpdatedEvent(appended));
+    }
+  }
+
+  /**
+   * DB에 저장된 것으로 확인된 회차까지 스냅샷이 뒤처져 있으면 빠진 회차를 DB에서 읽어 반영합니다.
+   * 다른 인스턴스의 크롤러가 새 회차를 저장한 경우 이 인스턴스의 스냅샷도 같은 회차로 맞추기 위해 사용합니다.
+   *
+   * @param latestRound DB에 저장된 최신 회차
+   */
+  public synchronized void syncTo(long latestRound) {
+    LottoDrawSnapshot current = current();
+    long snapshotRound = current.isEmpty() ? 0L : current.latestRound();
+    if (snapshotRound >= latestRound) {
+      return;
+    }
+    List<LottoResults> missing = lottoResultRepository.findByDrawRoundBetween(snapshotRound + 1, latestRound);
+    log.info("[회차 인덱스] {}회차 이후 DB에 저장된 {}개 회차 반영", snapshotRound, missing.size());
+    appendAll(missing);
+  }
+
+}
@@ -0,0 +1,9 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+/**
+ * {@link LottoDrawIndex}의 스냅샷이 교체되었을 때 발행되는 이벤트입니다.
+ *
+ * @param snapshot 새로 반영된 스냅샷
+ */
+public record LottoDrawIndexUpdatedEvent(LottoDrawSnapshot snapshot) {
+}
@@ -0,0 +1,324 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.repository.projection.lotto.NumberFrequency;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+/**
+ * 전체 로또 당첨 이력을 메모리에 보관하는 불변 스냅샷입니다.
+ * <p>
+ * 회차마다 본번호 6개를 45비트 마스크(long) 하나로, 보너스 번호를 byte 하나로 저장하며
+ * 배열은 회차 오름차순으로 정렬되어 있습니다. 번호별 누적 출현 횟수(prefix sum)를 본번호와
+ * 보너스 번호로 나누어 함께 보관하므로, 임의의 회차 구간 분포는 번호당 뺄셈 한 번으로 계산됩니다.
+ * 스냅샷은 생성 이후 변경되지 않으므로
+ * 여러 요청 스레드에서 동기화 없이 읽을 수 있고, 새 회차가 추가되면 {@link #append(LottoResults)}로
+ * 새 스냅샷을 만들어 {@link LottoDrawIndex}가 통째로 교체합니다.
+ * </p>
+ *
+ * @see LottoDrawIndex
+ * @see LottoBitmask
+ */
+public final class LottoDrawSnapshot {
+
+  private static final int ROW = LottoBitmask.MAX_NUMBER + 1;
+
+  private static final LottoDrawSnapshot EMPTY = new LottoDrawSnapshot(new long[0], new long[0], new byte[0]);
+
+  private final long[] rounds;
+  private final long[] masks;
+  private final byte[] bonuses;
+
+  // (i * ROW + n): 0 ~ i-1번째 회차까지 번호 n의 누적 출현 횟수
+  private final int[] mainPrefix;
+  private final int[] bonusPrefix;
+
+  private LottoDrawSnapshot(long[] rounds, long[] masks, byte[] bonuses) {
+    this(rounds, masks, bonuses, new int[(rounds.length + 1) * ROW], new int[(rounds.length + 1) * ROW], 0);
+  }
+
+  private LottoDrawSnapshot(long[] rounds, long[] masks, byte[] bonuses,
+      int[] mainPrefix, int[] bonusPrefix, int validRows) {
+    this.rounds = rounds;
+    this.masks = masks;
+    this.bonuses = bonuses;
+    this.mainPrefix = mainPrefix;
+    this.bonusPrefix = bonusPrefix;
+    fillPrefix(validRows);
+  }
+
+  /**
+   * 누적 테이블의 validRows번째 행 이후를 채웁니다. 0 ~ validRows-1 행은 이미 계산된 값으로 간주합니다.
+   */
+  private void fillPrefix(int validRows) {
+    for (int i = Math.max(validRows, 1) - 1; i < rounds.length; i++) {
+      int previous = i * ROW;
+      int current = previous + ROW;
+      System.arraycopy(mainPrefix, previous, mainPrefix, current, ROW);
+      System.arraycopy(bonusPrefix, previous, bonusPrefix, current, ROW);
+
+      long remaining = masks[i];
+      while (remaining != 0) {
+        mainPrefix[current + Long.numberOfTrailingZeros(remaining) + 1]++;
+        remaining &= remaining - 1;
+      }
+      bonusPrefix[current + bonuses[i]]++;
+    }
+  }
+
+  public static LottoDrawSnapshot empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 당첨 결과 엔티티 목록으로부터 스냅샷을 생성합니다. 입력 순서와 무관하게 회차 오름차순으로 정렬됩니다.
+   *
+   * @param results 로또 당첨 결과 목록
+   * @return 생성된 스냅샷
+   */
+  public static LottoDrawSnapshot of(List<LottoResults> results) {
+    List<LottoResults> sorted = new ArrayList<>(results);
+    sorted.sort(Comparator.comparing(LottoResults::getDrawRound));
+
+    int size = sorted.size();
+    long[] rounds = new long[size];
+    long[] masks = new long[size];
+    byte[] bonuses = new byte[size];
+
+    for (int i = 0; i < size; i++) {
+      LottoResults result = sorted.get(i);
+      rounds[i] = result.getDrawRound();
+      masks[i] = maskOf(result);
+      bonuses[i] = result.getBonusNumber().byteValue();
+    }
+    return new LottoDrawSnapshot(rounds, masks, bonuses);
+  }
+
+  /**
+   * 새 회차를 추가한 스냅샷을 반환합니다. 이미 존재하는 회차라면 자기 자신을 그대로 반환합니다.
+   *
+   * @param result 추가할 당첨 결과
+   * @return 회차가 추가된 새 스냅샷
+   */
+  public LottoDrawSnapshot append(LottoResults result) {
+    long round = result.getDrawRound();
+    int position = Arrays.binarySearch(rounds, round);
+    if (position >= 0) {
+      return this;
+    }
+    int insertAt = -position - 1;
+    int size = rounds.length;
+
+    long[] newRounds = new long[size + 1];
+    long[] newMasks = new long[size + 1];
+    byte[] newBonuses = new byte[size + 1];
+
+    System.arraycopy(rounds, 0, newRounds, 0, insertAt);
+    System.arraycopy(masks, 0, newMasks, 0, insertAt);
+    System.arraycopy(bonuses, 0, newBonuses, 0, insertAt);
+
+    newRounds[insertAt] = round;
+    newMasks[insertAt] = maskOf(result);
+    newBonuses[insertAt] = result.getBonusNumber().byteValue();
+
+    System.arraycopy(rounds, insertAt, newRounds, insertAt + 1, size - insertAt);
+    System.arraycopy(masks, insertAt, newMasks, insertAt + 1, size - insertAt);
+    System.arraycopy(bonuses, insertAt, newBonuses, insertAt + 1, size - insertAt);
+
+    // 삽입 위치 이전의 누적값은 그대로 재사용하고, 이후 행만 다시 계산합니다. (최신 회차 추가 시 한 행)
+    int[] newMainPrefix = new int[(size + 2) * ROW];
+    int[] newBonusPrefix = new int[(size + 2) * ROW];
+    System.arraycopy(mainPrefix, 0, newMainPrefix, 0, (insertAt + 1) * ROW);
+    System.arraycopy(bonusPrefix, 0, newBonusPrefix, 0, (insertAt + 1) * ROW);
+
+    return new LottoDrawSnapshot(newRounds, newMasks, newBonuses, newMainPrefix, newBonusPrefix, insertAt + 1);
+  }
+
+  /**
+   * 여러 회차를 한 번에 추가한 스냅샷을 반환합니다. 배열 복사와 누적 테이블 재계산은 한 번만 수행하며,
+   * 이미 존재하거나 중복된 회차는 무시합니다. 추가할 회차가 없다면 자기 자신을 그대로 반환합니다.
+   *
+   * @param results 추가할 당첨 결과 목록
+   * @return 회차가 추가된 새 스냅샷
+   */
+  public LottoDrawSnapshot appendAll(Collection<LottoResults> results) {
+    List<LottoResults> added = new ArrayList<>(results.size());
+    for (LottoResults result : results) {
+      if (Arrays.binarySearch(rounds, result.getDrawRound()) < 0) {
+        added.add(result);
+      }
+    }
+    if (added.isEmpty()) {
+      return this;
+    }
+    added.sort(Comparator.comparing(LottoResults::getDrawRound));
+
+    int size = rounds.length;
+    int capacity = size + added.size();
+    long[] newRounds = new long[capacity];
+    long[] newMasks = new long[capacity];
+    byte[] newBonuses = new byte[capacity];
+
+    // 기존 배열과 정렬된 추가분을 병합
+    int i = 0;
+    int j = 0;
+    int k = 0;
+    while (i < size || j < added.size()) {
+      if (j < added.size() && (i >= size || added.get(j).getDrawRound() < rounds[i])) {
+        LottoResults result = added.get(j++);
+        if (k > 0 && newRounds[k - 1] == result.getDrawRound()) {
+          continue;
+        }
+        newRounds[k] = result.getDrawRound();
+        newMasks[k] = maskOf(result);
+        newBonuses[k] = result.getBonusNumber().byteValue();
+      } else {
+        newRounds[k] = rounds[i];
+        newMasks[k] = masks[i];
+        newBonuses[k] = bonuses[i];
+        i++;
+      }
+      k++;
+    }
+    if (k < capacity) {
+      newRounds = Arrays.copyOf(newRounds, k);
+      newMasks = Arrays.copyOf(newMasks, k);
+      newBonuses = Arrays.copyOf(newBonuses, k);
+    }
+
+    // 가장 앞선 추가 회차 이전의 누적값은 그대로 재사용
+    int insertAt = -Arrays.binarySearch(rounds, added.get(0).getDrawRound()) - 1;
+    int[] newMainPrefix = new int[(k + 1) * ROW];
+    int[] newBonusPrefix = new int[(k + 1) * ROW];
+    System.arraycopy(mainPrefix, 0, newMainPrefix, 0, (insertAt + 1) * ROW);
+    System.arraycopy(bonusPrefix, 0, newBonusPrefix, 0, (insertAt + 1) * ROW);
+
+    return new LottoDrawSnapshot(newRounds, newMasks, newBonuses, newMainPrefix, newBonusPrefix, insertAt + 1);
+  }
+
+  public int size() {
+    return rounds.length;
+  }
+
+  public boolean isEmpty() {
+    return rounds.length == 0;
+  }
+
+  /**
+   * 가장 최신 회차 번호
+   *
+   * @throws IllegalStateException 스냅샷이 비어 있는 경우
+   */
+  public long latestRound() {
+    if (isEmpty()) {
+      throw new IllegalStateException("로또 회차 데이터가 없습니다.");
+    }
+    return rounds[rounds.length - 1];
+  }
+
+  public long roundAt(int index) {
+    return rounds[index];
+  }
+
+  public long maskAt(int index) {
+    return masks[index];
+  }
+
+  public int bonusAt(int index) {
+    return bonuses[index];
+  }
+
+  /**
+   * startRound 이상인 첫 회차의 위치 (포함)
+   */
+  public int fromIndex(long startRound) {
+    int position = Arrays.binarySearch(rounds, startRound);
+    return position >= 0 ? position : -position - 1;
+  }
+
+  /**
+   * endRound 초과인 첫 회차의 위치 (미포함)
+   */
+  public int toIndex(long endRound) {
+    int position = Arrays.binarySearch(rounds, endRound);
+    return position >= 0 ? position + 1 : -position - 1;
+  }
+
+  /**
+   * [from, to) 구간의 본번호 출현 횟수. 반환 배열은 번호(1~45)를 인덱스로 사용합니다.
+   * 누적 테이블의 두 행을 빼서 계산하므로 구간 길이와 무관하게 일정한 시간이 걸립니다.
+   */
+  public int[] countMain(int from, int to) {
+    return difference(mainPrefix, from, to);
+  }
+
+  /**
+   * [from, to) 구간의 보너스 번호 출현 횟수. 반환 배열은 번호(1~45)를 인덱스로 사용합니다.
+   */
+  public int[] countBonus(int from, int to) {
+    return difference(bonusPrefix, from, to);
+  }
+
+  private static int[] difference(int[] prefix, int from, int to) {
+    int[] counts = new int[ROW];
+    if (from >= to) {
+      return counts;
+    }
+    int lower = from * ROW;
+    int upper = to * ROW;
+    for (int number = 1; number < ROW; number++) {
+      counts[number] = prefix[upper + number] - prefix[lower + number];
+    }
+    return counts;
+  }
+
+  /**
+   * startRound 이후 회차의 번호별 출현 빈도를 기존 native query 결과와 같은 형태로 반환합니다.
+   * 한 번도 등장하지 않은 번호는 포함되지 않으며, 번호 오름차순으로 정렬된 수정 가능한 리스트입니다.
+   *
+   * @param startRound   집계 시작 회차 (포함)
+   * @param includeBonus 보너스 번호 포함 여부
+   * @return 번호별 출현 빈도 목록
+   */
+  public List<NumberFrequency> frequenciesFrom(long startRound, boolean includeBonus) {
+    int from = fromIndex(startRound);
+    int[] counts = countMain(from, rounds.length);
+    if (includeBonus) {
+      int[] bonusCounts = countBonus(from, rounds.length);
+      for (int number = 1; number <= LottoBitmask.MAX_NUMBER; number++) {
+        counts[number] += bonusCounts[number];
+      }
+    }
+
+    List<NumberFrequency> frequencies = new ArrayList<>(LottoBitmask.MAX_NUMBER);
+    for (int number = 1; number <= LottoBitmask.MAX_NUMBER; number++) {
+      if (counts[number] > 0) {
+        frequencies.add(new Frequency((long) number, (long) counts[number]));
+      }
+    }
+    return frequencies;
+  }
+
+  private static long maskOf(LottoResults result) {
+    return LottoBitmask.of(
+        result.getN1(), result.getN2(), result.getN3(),
+        result.getN4(), result.getN5(), result.getN6());
+  }
+
+  private record Frequency(Long num, Long frequency) implements NumberFrequency {
+    @Override
+    public Long getNum() {
+      return num;
+    }
+
+    @Override
+    public Long getFrequency() {
+      return frequency;
+    }
+  }
+}
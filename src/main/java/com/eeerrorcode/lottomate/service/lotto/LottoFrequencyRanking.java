@@ -0,0 +1,116 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.util.List;
+
+import com.eeerrorcode.lottomate.repository.projection.lotto.NumberFrequency;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+/**
+ * 한 집계 구간의 번호별 출현 빈도를 미리 정렬해 둔 불변 랭킹입니다.
+ * <p>
+ * 추천 모드별 정렬 결과(빈도 내림차순/오름차순 번호 배열), analyzeInsights에서 쓰는 번호별 출현 횟수와 순위,
+ * 등장한 번호 마스크를 한 번에 계산해 두므로 추천 요청마다 다시 정렬하거나 집계하지 않습니다.
+ * 동일 빈도는 번호 오름차순으로 정렬되어 기존 정렬 결과와 같습니다.
+ * </p>
+ */
+public final class LottoFrequencyRanking {
+
+  private static final int ROW = LottoBitmask.MAX_NUMBER + 1;
+
+  private final long[] counts = new long[ROW];
+  private final long[] ranks = new long[ROW];
+  private final int[] descendingNumbers;
+  private final int[] ascendingNumbers;
+  private final long presentMask;
+
+  private LottoFrequencyRanking(List<NumberFrequency> frequencies) {
+    int size = frequencies.size();
+    this.descendingNumbers = new int[size];
+    this.ascendingNumbers = new int[size];
+    long mask = 0L;
+    for (int i = 0; i < size; i++) {
+      NumberFrequency frequency = frequencies.get(i);
+      int number = frequency.getNum().intValue();
+      counts[number] = frequency.getFrequency();
+      descendingNumbers[i] = number;
+      ascendingNumbers[i] = number;
+      mask |= LottoBitmask.bit(number);
+    }
+    sortByCount(descendingNumbers, true);
+    sortByCount(ascendingNumbers, false);
+    for (int i = 0; i < size; i++) {
+      ranks[descendingNumbers[i]] = i + 1L;
+    }
+    this.presentMask = mask;
+  }
+
+  // 최대 45개이므로 삽입 정렬 (안정 정렬이라 같은 빈도는 입력 순서 유지)
+  private void sortByCount(int[] numbers, boolean descending) {
+    for (int i = 1; i < numbers.length; i++) {
+      int number = numbers[i];
+      long count = counts[number];
+      int j = i - 1;
+      while (j >= 0 && (descending ? counts[numbers[j]] < count : counts[numbers[j]] > count)) {
+        numbers[j + 1] = numbers[j];
+        j--;
+      }
+      numbers[j + 1] = number;
+    }
+  }
+
+  /**
+   * 번호별 출현 빈도 목록으로 랭킹을 만듭니다.
+   *
+   * @param frequencies 번호별 출현 빈도 (등장하지 않은 번호는 생략 가능)
+   * @return 랭킹
+   */
+  public static LottoFrequencyRanking of(List<NumberFrequency> frequencies) {
+    return new LottoFrequencyRanking(frequencies);
+  }
+
+  /**
+   * @return 랭킹에 포함된(한 번 이상 등장한) 번호 수
+   */
+  public int size() {
+    return descendingNumbers.length;
+  }
+
+  /**
+   * @return 랭킹에 포함된 번호 마스크
+   */
+  public long presentMask() {
+    return presentMask;
+  }
+
+  /**
+   * @param index 0부터 시작하는 순위 위치
+   * @return 빈도 내림차순 index번째 번호
+   */
+  public int numberByDescending(int index) {
+    return descendingNumbers[index];
+  }
+
+  /**
+   * @param index 0부터 시작하는 순위 위치
+   * @return 빈도 오름차순 index번째 번호
+   */
+  public int numberByAscending(int index) {
+    return ascendingNumbers[index];
+  }
+
+  /**
+   * @param number 로또 번호 (1~45)
+   * @return 출현 횟수, 등장하지 않았거나 범위 밖이면 0
+   */
+  public long countOf(long number) {
+    return number >= 1 && number < ROW ? counts[(int) number] : 0L;
+  }
+
+  /**
+   * @param number 로또 번호 (1~45)
+   * @return 빈도 내림차순 순위 (1부터), 등장하지 않았거나 범위 밖이면 0
+   */
+  public long rankOf(long number) {
+    return number >= 1 && number < ROW ? ranks[(int) number] : 0L;
+  }
+}
@@ -0,0 +1,114 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.io.IOException;
+
+import com.eeerrorcode.lottomate.domain.enums.HeatmapFormat;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * 회차 스냅샷의 특정 구간을 중간 Map 없이 JSON으로 바로 써 내려가는 히트맵 인코더입니다.
+ * <p>
+ * 생성 시점의 스냅샷과 구간을 고정해 두므로, 응답을 스트리밍하는 도중 새 회차가 추가되어도
+ * 한 응답 안의 데이터는 일관됩니다.
+ * </p>
+ *
+ * <pre>
+ * BITMASK: {"format":"BITMASK","startRound":1,"endRound":3,
+ *           "rounds":[1,2,3],"masks":[63,...],"bonuses":[7,...]}
+ *          masks의 (n - 1)번째 비트가 번호 n의 본번호 출현 여부입니다.
+ *
+ * RLE:     {"format":"RLE","startRound":1,"endRound":3,"rounds":[1,2,3],
+ *           "runs":{"1":[0,2,1],"2":[1,1,1],...}}
+ *          미출현 구간 길이부터 시작하여 미출현/출현(보너스 포함) 구간 길이를 번갈아 나열합니다.
+ * </pre>
+ *
+ * @see HeatmapFormat
+ */
+public final class LottoHeatmapEncoder {
+
+  private final LottoDrawSnapshot snapshot;
+  private final HeatmapFormat format;
+  private final long startRound;
+  private final long endRound;
+  private final int from;
+  private final int to;
+
+  public LottoHeatmapEncoder(LottoDrawSnapshot snapshot, HeatmapFormat format, long startRound, long endRound) {
+    if (format == HeatmapFormat.MAP) {
+      throw new IllegalArgumentException("MAP 형식은 스트리밍 인코딩을 지원하지 않습니다.");
+    }
+    this.snapshot = snapshot;
+    this.format = format;
+    this.startRound = startRound;
+    this.endRound = endRound;
+    this.from = snapshot.fromIndex(startRound);
+    this.to = snapshot.toIndex(endRound);
+  }
+
+  /**
+   * 인코딩된 히트맵 객체 하나를 generator에 씁니다.
+   *
+   * @param gen 대상 JsonGenerator
+   * @throws IOException 출력 실패 시
+   */
+  public void writeTo(JsonGenerator gen) throws IOException {
+    gen.writeStartObject();
+    gen.writeStringField("format", format.name());
+    gen.writeNumberField("startRound", startRound);
+    gen.writeNumberField("endRound", endRound);
+
+    gen.writeArrayFieldStart("rounds");
+    for (int i = from; i < to; i++) {
+      gen.writeNumber(snapshot.roundAt(i));
+    }
+    gen.writeEndArray();
+
+    if (format == HeatmapFormat.BITMASK) {
+      writeBitmask(gen);
+    } else {
+      writeRunLength(gen);
+    }
+    gen.writeEndObject();
+  }
+
+  private void writeBitmask(JsonGenerator gen) throws IOException {
+    gen.writeArrayFieldStart("masks");
+    for (int i = from; i < to; i++) {
+      gen.writeNumber(snapshot.maskAt(i));
+    }
+    gen.writeEndArray();
+
+    gen.writeArrayFieldStart("bonuses");
+    for (int i = from; i < to; i++) {
+      gen.writeNumber(snapshot.bonusAt(i));
+    }
+    gen.writeEndArray();
+  }
+
+  private void writeRunLength(JsonGenerator gen) throws IOException {
+    gen.writeObjectFieldStart("runs");
+    for (int number = 1; number <= LottoBitmask.MAX_NUMBER; number++) {
+      gen.writeArrayFieldStart(String.valueOf(number));
+
+      boolean appearedRun = false;
+      int runLength = 0;
+      for (int i = from; i < to; i++) {
+        boolean appeared = LottoBitmask.contains(snapshot.maskAt(i), number) || snapshot.bonusAt(i) == number;
+        if (appeared != appearedRun) {
+          gen.writeNumber(runLength);
+          appearedRun = appeared;
+          runLength = 0;
+        }
+        runLength++;
+      }
+      if (runLength > 0) {
+        gen.writeNumber(runLength);
+      }
+
+      gen.writeEndArray();
+    }
+    gen.writeEndObject();
+  }
+
+}
@@ -2,6 +2,9 @@ package com.eeerrorcode.lottomate.service.lotto;
 
 import java.util.List;
 
+import com.eeerrorcode.lottomate.domain.dto.CursorSlice;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBulkHistoryResponse;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoTicketMatchResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoUserHistoryRequest;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoUserHistoryResponse;
 
@@ -21,6 +24,17 @@ public interface LottoHistoryService {
    */
   List<LottoUserHistoryResponse> logUserHistory(Long userId, int page, int size);
 
+  /**
+   * 특정 사용자의 로또 응모 기록을 회차, ID 내림차순으로 커서 기반 조회합니다. (전체 건수는 세지 않음)
+   *
+   * @param userId 조회 대상 사용자 ID
+   * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+   * @param size   한 페이지당 항목 수
+   * @return 응모 기록 페이지
+   * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+   */
+  CursorSlice<LottoUserHistoryResponse> logUserHistory(Long userId, String cursor, int size);
+
   /**
    * 사용자의 로또 응모 정보를 저장합니다.
    *
@@ -29,8 +43,33 @@ public interface LottoHistoryService {
    */
   void saveUserLottoHistory(Long userId, LottoUserHistoryRequest request);
 
+  /**
+   * 사용자의 응모 정보 여러 건을 한 번에 저장합니다.
+   * 같은 멱등 키로 이미 저장된 요청이면 새로 저장하지 않고 기존 결과를 반환합니다.
+   *
+   * @param userId         저장할 사용자 ID
+   * @param idempotencyKey 클라이언트가 요청마다 발급한 멱등 키
+   * @param requests       응모 기록 정보 요청 DTO 목록
+   * @return 저장(또는 재요청 시 기존) 결과
+   * @throws IllegalArgumentException 번호가 올바르지 않거나 요청 건수가 허용 범위를 벗어난 경우
+   * @throws com.eeerrorcode.lottomate.exeption.DuplicateTicketException 같은 회차에 같은 번호 조합이 이미 있는 경우
+   */
+  LottoBulkHistoryResponse saveUserLottoHistories(Long userId, String idempotencyKey,
+      List<LottoUserHistoryRequest> requests);
+
   /**
    * 미처리 응모 기록을 회차별 당첨 결과 기준으로 갱신합니다.
    */
   void updateWinningResults(Long drawRound);
+
+  /**
+   * 응모 색인에 임의의 당첨 조합을 적용하여 등수별 당첨 수를 계산합니다. (DB 변경 없음)
+   *
+   * @param drawRound   응모 회차 (null이면 현재 응모 중인 회차)
+   * @param numbers     콤마로 구분된 당첨 번호 6개
+   * @param bonusNumber 보너스 번호
+   * @return 등수별 당첨 수
+   * @throws IllegalArgumentException 번호가 올바르지 않은 경우
+   */
+  LottoTicketMatchResponse simulateWinning(Long drawRound, String numbers, int bonusNumber);
 }
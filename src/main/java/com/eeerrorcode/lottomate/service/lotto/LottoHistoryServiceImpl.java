@@ -1,31 +1,48 @@
 package com.eeerrorcode.lottomate.service.lotto;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import com.eeerrorcode.lottomate.domain.dto.CursorSlice;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBulkHistoryResponse;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoTicketMatchResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoUserHistoryRequest;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoUserHistoryResponse;
-import com.eeerrorcode.lottomate.domain.dto.lotto.LottoUserWinningUpdateRequest;
 import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
 import com.eeerrorcode.lottomate.domain.entity.lotto.LottoUserHistory;
 import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
+import com.eeerrorcode.lottomate.exeption.DuplicateTicketException;
 import com.eeerrorcode.lottomate.repository.lotto.LottoUserHistoryRepository;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketKey;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+import com.eeerrorcode.lottomate.util.CursorUtil;
 import com.eeerrorcode.lottomate.util.PageUtil;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 
 @Service
 @RequiredArgsConstructor
+@Log4j2
 public class LottoHistoryServiceImpl implements LottoHistoryService {
 
   private final LottoUserHistoryRepository historyRepository;
   private final LottoResultRepository lottoResultRepository;
+  private final LottoWinnerEvaluator lottoWinnerEvaluator;
+  private final LottoTicketIndex lottoTicketIndex;
+
+  @Value("${lotto.history.bulk.max-size:50}")
+  private int bulkMaxSize;
 
   @Override
   public List<LottoUserHistoryResponse> logUserHistory(Long userId, int page, int size) {
@@ -33,10 +50,89 @@ public class LottoHistoryServiceImpl implements LottoHistoryService {
     return historyRepository.findByUserId(userId, pageable).map(LottoUserHistoryResponse::toDto).toList();
   }
 
+  @Override
+  public CursorSlice<LottoUserHistoryResponse> logUserHistory(Long userId, String cursor, int size) {
+    List<LottoUserHistory> rows;
+    if (cursor == null || cursor.isBlank()) {
+      rows = historyRepository.findByUserIdOrderByDrawRoundDescIdDesc(userId, CursorUtil.limitOf(size));
+    } else {
+      String[] keys = CursorUtil.decode(cursor, 2);
+      rows = historyRepository.findByUserIdAfter(userId, Long.parseLong(keys[0]), Long.parseLong(keys[1]),
+          CursorUtil.limitOf(size));
+    }
+    return CursorUtil.slice(rows, size, h -> CursorUtil.encode(h.getDrawRound(), h.getId()),
+        LottoUserHistoryResponse::toDto);
+  }
+
   @Override
   public void saveUserLottoHistory(Long userId, LottoUserHistoryRequest request) {
     LottoUserHistory entity = request.toEntity(userId);
-    historyRepository.save(entity);
+    lottoTicketIndex.add(historyRepository.save(entity));
+  }
+
+  @Override
+  public LottoBulkHistoryResponse saveUserLottoHistories(Long userId, String idempotencyKey,
+      List<LottoUserHistoryRequest> requests) {
+    if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > 64) {
+      throw new IllegalArgumentException("멱등 키는 1~64자여야 합니다.");
+    }
+    if (requests == null || requests.isEmpty() || requests.size() > bulkMaxSize) {
+      throw new IllegalArgumentException("한 번에 1~" + bulkMaxSize + "건까지 저장할 수 있습니다.");
+    }
+
+    List<LottoUserHistory> previous = historyRepository.findByUserIdAndSubmissionKeyOrderByIdAsc(userId, idempotencyKey);
+    if (!previous.isEmpty()) {
+      return bulkResponse(idempotencyKey, true, previous);
+    }
+
+    // 번호 검증과 요청 내 중복 확인
+    List<LottoUserHistory> entities = new ArrayList<>(requests.size());
+    Set<LottoTicketKey> keys = new LinkedHashSet<>();
+    for (LottoUserHistoryRequest request : requests) {
+      if (request.getDrawRound() == null || request.getDrawRound() < 1) {
+        throw new IllegalArgumentException("회차가 올바르지 않습니다: " + request.getDrawRound());
+      }
+      LottoUserHistory entity = request.toEntity(userId, idempotencyKey);
+      if (!keys.add(new LottoTicketKey(entity.getDrawRound(), entity.getNumbersMask()))) {
+        throw new DuplicateTicketException(
+            entity.getDrawRound() + "회차 " + entity.getNumbers() + " 조합이 요청에 중복되어 있습니다.");
+      }
+      entities.add(entity);
+    }
+
+    // 이미 응모한 조합 확인 (user_id, draw_round, numbers_mask unique 인덱스 조회)
+    List<LottoTicketKey> existing = historyRepository.findExistingTicketKeys(userId, keys);
+    if (!existing.isEmpty()) {
+      LottoTicketKey first = existing.get(0);
+      throw new DuplicateTicketException(first.drawRound() + "회차 " + LottoBitmask.format(first.numbersMask())
+          + " 조합은 이미 응모되었습니다. (중복 " + existing.size() + "건)");
+    }
+
+    try {
+      historyRepository.insertAll(entities);
+    } catch (DuplicateKeyException e) {
+      // 같은 키의 재요청이 동시에 들어와 먼저 저장된 경우 그 결과를 반환
+      List<LottoUserHistory> raced = historyRepository.findByUserIdAndSubmissionKeyOrderByIdAsc(userId, idempotencyKey);
+      if (!raced.isEmpty()) {
+        return bulkResponse(idempotencyKey, true, raced);
+      }
+      throw new DuplicateTicketException("이미 응모된 조합이 포함되어 있습니다.", e);
+    }
+
+    List<LottoUserHistory> saved = historyRepository.findByUserIdAndSubmissionKeyOrderByIdAsc(userId, idempotencyKey);
+    saved.forEach(lottoTicketIndex::add);
+    log.info("[응모 일괄 저장] 사용자 {} / {}건 저장", userId, saved.size());
+    return bulkResponse(idempotencyKey, false, saved);
+  }
+
+  private static LottoBulkHistoryResponse bulkResponse(String idempotencyKey, boolean replayed,
+      List<LottoUserHistory> tickets) {
+    return LottoBulkHistoryResponse.builder()
+        .idempotencyKey(idempotencyKey)
+        .replayed(replayed)
+        .savedCount(tickets.size())
+        .tickets(tickets.stream().map(LottoUserHistoryResponse::toDto).toList())
+        .build();
   }
 
   @Override
@@ -44,51 +140,72 @@ public class LottoHistoryServiceImpl implements LottoHistoryService {
     LottoResults result = lottoResultRepository.findByDrawRound(drawRound)
         .orElseThrow(() -> new IllegalArgumentException(drawRound + "회차 결과가 없습니다."));
 
-    Set<Integer> winningNumbers = Set.of(
+    long winningMask = LottoBitmask.of(
         result.getN1(), result.getN2(), result.getN3(),
         result.getN4(), result.getN5(), result.getN6());
-    int bonus = result.getBonusNumber();
 
-    List<LottoUserHistory> histories = historyRepository.findByDrawRoundAndIsClaimedFalse(drawRound);
-    List<LottoUserHistory> updatedHistories = new ArrayList<>();
-
-    for (LottoUserHistory history : histories) {
-      Set<Integer> userNumbers = Arrays.stream(history.getNumbers().split(","))
-          .map(String::trim)
-          .map(Integer::parseInt)
-          .collect(Collectors.toSet());
+    // 색인이 있으면 색인으로 등수를 계산해 응모 내역을 읽지 않고 먼저 반영
+    // (색인은 회차를 불러온 뒤 이 인스턴스에서 저장된 응모만 알고, 마스크가 없는 응모는 담지 않으므로
+    //  반영 후 남은 미확인 응모는 아래 DB 판정이 처리)
+    if (lottoTicketIndex.isIndexed(drawRound)) {
+      long[][] idsByRank;
+      try {
+        idsByRank = lottoTicketIndex.winnerIds(drawRound, winningMask, result.getBonusNumber());
+      } catch (RuntimeException e) {
+        log.warn("[당첨 판정] {}회차 색인 조회 실패, DB에서 판정합니다: {}", drawRound, e.getMessage());
+        idsByRank = null;
+      }
+      if (idsByRank != null) {
+        log.info("[당첨 판정] {}회차 색인 기준 당첨 수 1등 {} / 2등 {} / 3등 {} / 4등 {} / 5등 {}",
+            drawRound, idsByRank[1].length, idsByRank[2].length, idsByRank[3].length,
+            idsByRank[4].length, idsByRank[5].length);
+        lottoWinnerEvaluator.apply(drawRound, idsByRank);
+      }
+    }
 
-      long matchCount = userNumbers.stream().filter(winningNumbers::contains).count();
-      boolean bonusMatch = userNumbers.contains(bonus);
+    lottoWinnerEvaluator.evaluate(drawRound, winningMask, result.getBonusNumber());
+  }
 
-      int rank = calculateRank(matchCount, bonusMatch);
-      long amount = 0L;
+  @Override
+  public LottoTicketMatchResponse simulateWinning(Long drawRound, String numbers, int bonusNumber) {
+    long round = drawRound != null ? drawRound : lottoTicketIndex.openRound();
+    if (round < 1) {
+      throw new IllegalArgumentException("응모 중인 회차가 아직 준비되지 않았습니다.");
+    }
+    if (numbers == null) {
+      throw new IllegalArgumentException("당첨 번호가 없습니다.");
+    }
+    long winningMask = LottoBitmask.parse(numbers);
+    if (LottoBitmask.count(winningMask) != 6) {
+      throw new IllegalArgumentException("당첨 번호는 서로 다른 6개여야 합니다: " + numbers);
+    }
+    if (bonusNumber < LottoBitmask.MIN_NUMBER || bonusNumber > LottoBitmask.MAX_NUMBER
+        || LottoBitmask.contains(winningMask, bonusNumber)) {
+      throw new IllegalArgumentException("보너스 번호는 당첨 번호와 다른 1~45 사이의 숫자여야 합니다: " + bonusNumber);
+    }
 
-      LottoUserWinningUpdateRequest updateDto = LottoUserWinningUpdateRequest.builder()
-          .winningRank(rank)
-          .winningAmount(amount)
-          .isClaimed(true)
-          .build();
+    long startedAt = System.nanoTime();
+    long[] counts = lottoTicketIndex.countRanks(round, winningMask, bonusNumber);
+    long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
 
-      LottoUserHistory updated = updateDto.toUpdatedEntity(history);
-      updatedHistories.add(updated);
+    Map<Integer, Long> rankCounts = new LinkedHashMap<>();
+    long ticketCount = counts[0];
+    for (int rank = 1; rank <= 5; rank++) {
+      rankCounts.put(rank, counts[rank]);
+      ticketCount += counts[rank];
     }
-
-    historyRepository.saveAll(updatedHistories);
+    return LottoTicketMatchResponse.builder()
+        .drawRound(round)
+        .winningNumbers(LottoBitmask.toList(winningMask))
+        .bonusNumber(bonusNumber)
+        .ticketCount(ticketCount)
+        .rankCounts(rankCounts)
+        .elapsedMicros(elapsedMicros)
+        .build();
   }
 
   public int calculateRank(long matchCount, boolean bonusMatch) {
-    if (matchCount == 6)
-      return 1;
-    if (matchCount == 5 && bonusMatch)
-      return 2;
-    if (matchCount == 5)
-      return 3;
-    if (matchCount == 4)
-      return 4;
-    if (matchCount == 3)
-      return 5;
-    return 0;
+    return LottoWinnerEvaluator.rankOf(matchCount, bonusMatch);
   }
 
 }
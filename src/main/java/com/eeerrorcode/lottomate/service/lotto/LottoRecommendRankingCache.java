@@ -0,0 +1,100 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.eeerrorcode.lottomate.domain.enums.LottoRange;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 추천 엔진이 사용하는 {@link LottoFrequencyRanking}을 (구간, 보너스 포함 여부, 최신 회차) 단위로 캐시합니다.
+ * <p>
+ * 빈도 랭킹은 새 회차가 반영될 때만 바뀌므로, {@link LottoDrawIndex}가 스냅샷을 교체하면
+ * 모든 {@link LottoRange} × 보너스 조합을 즉시 다시 계산하고 이전 회차의 항목은 버립니다.
+ * 이벤트보다 조회가 먼저 도착하더라도 키에 최신 회차가 포함되어 있으므로 오래된 랭킹을 반환하지 않습니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>lotto.recommend.ranking.cache (result=hit|miss): 캐시 조회 결과</li>
+ *   <li>lotto.recommend.ranking.rebuild: 전체 랭킹 재계산 소요 시간</li>
+ * </ul>
+ */
+@Component
+@Log4j2
+public class LottoRecommendRankingCache {
+
+  private final LottoDrawIndex lottoDrawIndex;
+  private final Map<RankingKey, LottoFrequencyRanking> rankings = new ConcurrentHashMap<>();
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Timer rebuildTimer;
+
+  public LottoRecommendRankingCache(LottoDrawIndex lottoDrawIndex, MeterRegistry meterRegistry) {
+    this.lottoDrawIndex = lottoDrawIndex;
+    this.hitCounter = Counter.builder("lotto.recommend.ranking.cache").tag("result", "hit").register(meterRegistry);
+    this.missCounter = Counter.builder("lotto.recommend.ranking.cache").tag("result", "miss").register(meterRegistry);
+    this.rebuildTimer = Timer.builder("lotto.recommend.ranking.rebuild")
+        .description("추천 빈도 랭킹 전체 재계산 시간")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 현재 스냅샷 기준 랭킹을 반환합니다.
+   *
+   * @param range        집계 구간
+   * @param includeBonus 보너스 번호 포함 여부
+   * @return 빈도 랭킹
+   * @throws IllegalStateException 적재된 회차가 없을 때
+   */
+  public LottoFrequencyRanking get(LottoRange range, boolean includeBonus) {
+    LottoDrawSnapshot snapshot = lottoDrawIndex.current();
+    RankingKey key = new RankingKey(range, includeBonus, snapshot.latestRound());
+    LottoFrequencyRanking cached = rankings.get(key);
+    if (cached != null) {
+      hitCounter.increment();
+      return cached;
+    }
+    missCounter.increment();
+    return rankings.computeIfAbsent(key, k -> build(snapshot, k));
+  }
+
+  /**
+   * 스냅샷이 교체되면 모든 조합의 랭킹을 다시 계산하고 이전 회차 항목을 제거합니다.
+   */
+  @EventListener
+  public void onIndexUpdated(LottoDrawIndexUpdatedEvent event) {
+    LottoDrawSnapshot snapshot = event.snapshot();
+    if (snapshot.isEmpty()) {
+      rankings.clear();
+      return;
+    }
+
+    long latestRound = snapshot.latestRound();
+    rebuildTimer.record(() -> {
+      for (LottoRange range : LottoRange.values()) {
+        for (boolean includeBonus : new boolean[] { false, true }) {
+          RankingKey key = new RankingKey(range, includeBonus, latestRound);
+          rankings.put(key, build(snapshot, key));
+        }
+      }
+    });
+    rankings.keySet().removeIf(key -> key.latestRound() != latestRound);
+    log.info("[추천 랭킹] {}회차 기준 {}개 랭킹 재계산 완료", latestRound, rankings.size());
+  }
+
+  private static LottoFrequencyRanking build(LottoDrawSnapshot snapshot, RankingKey key) {
+    long rangeStart = key.latestRound() - key.range().getVALUE() + 1;
+    return LottoFrequencyRanking.of(snapshot.frequenciesFrom(rangeStart, key.includeBonus()));
+  }
+
+  private record RankingKey(LottoRange range, boolean includeBonus, long latestRound) {
+  }
+}
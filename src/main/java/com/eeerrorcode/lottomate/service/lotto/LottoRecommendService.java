@@ -3,6 +3,7 @@ package com.eeerrorcode.lottomate.service.lotto;
 import java.util.List;
 import java.util.Set;
 
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBulkRecommendResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoNumberInsight;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoRecommendOption;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoRecommendResponse;
@@ -23,5 +24,17 @@ public interface LottoRecommendService {
    */
   LottoRecommendResponse recommendNumbers(LottoRecommendOption option);
 
+  /**
+   * 같은 옵션으로 서로 다른 번호 조합을 count개 생성합니다.
+   * 모든 조합은 하나의 빈도 스냅샷을 공유하며, 요청 수는 사용자의 활성 구독 플랜(maxLottoNumbers)으로 제한됩니다.
+   *
+   * @param userId 요청 사용자 ID (비로그인 시 null, 기본 한도 적용)
+   * @param option 모든 조합에 공통으로 적용할 추천 옵션
+   * @param count  생성할 조합 수
+   * @return 중복 없는 추천 조합 목록과 생성 소요 시간
+   * @throws com.eeerrorcode.lottomate.exeption.SubscriptionException 요청 수가 플랜 한도를 넘는 경우
+   */
+  LottoBulkRecommendResponse recommendBulk(Long userId, LottoRecommendOption option, int count);
+
   List<LottoNumberInsight> analyzeInsights(List<Long> recommendedNumbers, List<NumberFrequency> frequencyList, Set<Long> fixedNumbers);
 }
\ No newline at end of file
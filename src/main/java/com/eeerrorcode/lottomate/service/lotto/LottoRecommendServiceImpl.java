@@ -1,88 +1,79 @@
 package com.eeerrorcode.lottomate.service.lotto;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBulkRecommendResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoNumberInsight;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoRecommendOption;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoRecommendResponse;
-import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoRecommendTicket;
+import com.eeerrorcode.lottomate.domain.entity.payment.SubscriptionStatus;
+import com.eeerrorcode.lottomate.domain.enums.LottoRecommendSystem;
+import com.eeerrorcode.lottomate.exeption.SubscriptionException;
+import com.eeerrorcode.lottomate.repository.payment.SubscriptionRepository;
 import com.eeerrorcode.lottomate.repository.projection.lotto.NumberFrequency;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 @Log4j2
 public class LottoRecommendServiceImpl implements LottoRecommendService {
 
-  @Autowired
-  private final LottoResultRepository lottoResultRepository;
-
-  @Override
-  public LottoRecommendResponse recommendNumbers(LottoRecommendOption option) {
-    try {
-      Long latestRound = lottoResultRepository.findTopByOrderByDrawRoundDesc()
-          .orElseThrow(() -> new RuntimeException("최신 회차 정보가 없습니다."))
-          .getDrawRound();
-
-      Long rangeStart = latestRound - option.getRange().getVALUE() + 1;
+  private static final int TICKET_SIZE = 6;
+  private static final int MAX_ATTEMPTS_PER_TICKET = 20;
 
-      List<NumberFrequency> frequencyList = option.isIncludeBonusNumber()
-          ? lottoResultRepository.findNumberFrequenciesWithBonusInRange(rangeStart)
-          : lottoResultRepository.findNumberFrequenciesInRange(rangeStart);
+  @Autowired
+  private final LottoDrawIndex lottoDrawIndex;
 
-      switch (option.getMode()) {
-        case HIGH_FREQUENCY -> frequencyList.sort((a, b) -> Long.compare(b.getFrequency(), a.getFrequency()));
-        case LOW_FREQUENCY -> frequencyList.sort((a, b) -> Long.compare(a.getFrequency(), b.getFrequency()));
-        case MIXED -> Collections.shuffle(frequencyList);
-        default -> throw new IllegalArgumentException("잘못된 추천 모드입니다.");
-      }
+  @Autowired
+  private final LottoRecommendRankingCache lottoRecommendRankingCache;
 
-      List<Long> sortedByFrequency = frequencyList.stream()
-          .map(NumberFrequency::getNum)
-          .toList();
+  @Autowired
+  private final SubscriptionRepository subscriptionRepository;
 
-      Set<Long> excluded = option.getExcludedNumbers() != null
-          ? option.getExcludedNumbers()
-          : Collections.emptySet();
+  // 활성 구독이 없는 사용자의 일괄 추천 최대 조합 수
+  @Value("${lotto.recommend.bulk.default-limit:5}")
+  private int defaultBulkLimit;
 
-      List<Long> candidates = sortedByFrequency.stream()
-          .filter(n -> !excluded.contains(n))
-          .toList();
+  // 이 수 이상의 조합을 요청하면 병렬로 생성
+  @Value("${lotto.recommend.bulk.parallel-threshold:256}")
+  private int parallelThreshold;
 
-      List<Long> finalNumbers = new ArrayList<>();
-      if (option.getFixedNumbers() != null && !option.getFixedNumbers().isEmpty()) {
-        finalNumbers.addAll(option.getFixedNumbers());
+  @Override
+  public LottoRecommendResponse recommendNumbers(LottoRecommendOption option) {
+    try {
+      LottoDrawSnapshot snapshot = lottoDrawIndex.current();
+      if (snapshot.isEmpty()) {
+        throw new RuntimeException("최신 회차 정보가 없습니다.");
       }
 
-      int remaining = 6 - finalNumbers.size();
-      candidates = candidates.stream()
-          .filter(n -> !finalNumbers.contains(n))
-          .toList();
-
-      List<Long> mixed = applyEvenOddFilter(candidates, option.isAllowEvenOddMix());
-
-      finalNumbers.addAll(
-          mixed.stream()
-              .limit(Math.max(0, remaining))
-              .toList());
+      LottoFrequencyRanking ranking = lottoRecommendRankingCache.get(option.getRange(), option.isIncludeBonusNumber());
 
-      List<Long> result = finalNumbers.stream()
-          .limit(6)
-          .sorted()
-          .toList();
+      long fixedMask = toMask(option.getFixedNumbers());
+      long resultMask = pickNumbers(ranking, option.getMode(), option.isAllowEvenOddMix(),
+          toMask(option.getExcludedNumbers()), fixedMask);
 
-      List<LottoNumberInsight> insights = analyzeInsights(result, frequencyList, option.getFixedNumbers());
+      List<Long> result = new ArrayList<>(TICKET_SIZE);
+      List<LottoNumberInsight> insights = new ArrayList<>(TICKET_SIZE);
+      for (long remaining = resultMask; remaining != 0; remaining &= remaining - 1) {
+        int number = Long.numberOfTrailingZeros(remaining) + 1;
+        result.add((long) number);
+        insights.add(insightOf(number, ranking, (fixedMask & LottoBitmask.bit(number)) != 0));
+      }
 
       return LottoRecommendResponse.builder()
           .numbers(result)
@@ -96,88 +87,231 @@ public class LottoRecommendServiceImpl implements LottoRecommendService {
     }
   }
 
-  private List<Long> applyEvenOddFilter(List<Long> numbers, boolean allowMix) {
-
-    if (allowMix) {
-      return numbers;
+  @Override
+  public LottoBulkRecommendResponse recommendBulk(Long userId, LottoRecommendOption option, int count) {
+    int maxCount = resolveBulkLimit(userId);
+    if (count < 1 || count > maxCount) {
+      throw new SubscriptionException("요청 가능한 조합 수는 1~" + maxCount + "개입니다: " + count);
+    }
+    if (lottoDrawIndex.current().isEmpty()) {
+      throw new RuntimeException("최신 회차 정보가 없습니다.");
     }
 
-    List<Long> evens = new ArrayList<>(numbers.stream().filter(n -> n % 2 == 0).toList());
-    List<Long> odds = new ArrayList<>(numbers.stream().filter(n -> n % 2 != 0).toList());
+    long startedAt = System.nanoTime();
+    LottoFrequencyRanking ranking = lottoRecommendRankingCache.get(option.getRange(), option.isIncludeBonusNumber());
+    LottoRecommendSystem mode = option.getMode();
+    boolean allowMix = option.isAllowEvenOddMix();
+    long excludedMask = toMask(option.getExcludedNumbers());
+    long fixedMask = toMask(option.getFixedNumbers());
+
+    // 순위 순서대로 채우는 모드는 항상 같은 조합이 나오므로, 요청 수만큼의 조합이 나올 수 있도록 상위(하위) 후보 폭을 넓힘
+    int remaining = TICKET_SIZE - Long.bitCount(fixedMask);
+    int available = Long.bitCount(ranking.presentMask() & ~excludedMask & ~fixedMask);
+    int extraPool = allowMix && mode != LottoRecommendSystem.MIXED
+        ? poolSizeFor(count, remaining, available) - remaining
+        : 0;
+
+    // 중복 조합은 마스크 집합으로 걸러내고, 가능한 조합이 부족하면 시도 횟수 한도에서 멈춤
+    Set<Long> tickets = ConcurrentHashMap.newKeySet(count * 2);
+    AtomicInteger attempts = new AtomicInteger();
+    int maxAttempts = count * MAX_ATTEMPTS_PER_TICKET;
+    IntStream slots = IntStream.range(0, count);
+    if (count >= parallelThreshold) {
+      slots = slots.parallel();
+    }
+    slots.forEach(i -> {
+      while (attempts.getAndIncrement() < maxAttempts) {
+        if (tickets.add(pickNumbers(ranking, mode, allowMix, excludedMask, fixedMask, extraPool))) {
+          return;
+        }
+      }
+    });
 
-    log.info("짝수 후보 개수: {}", evens.size());
-    log.info("홀수 후보 개수: {}", odds.size());
-    log.info("총 후보 수: {}", numbers.size());
+    List<LottoRecommendTicket> result = new ArrayList<>(tickets.size());
+    for (long mask : tickets) {
+      result.add(toTicket(mask, ranking, fixedMask));
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    if (result.size() < count) {
+      log.info("[일괄 추천] 옵션상 가능한 조합 부족: 요청 {}개, 생성 {}개", count, result.size());
+    }
 
-    Collections.shuffle(evens);
-    Collections.shuffle(odds);
+    return LottoBulkRecommendResponse.builder()
+        .options(option)
+        .requestedCount(count)
+        .maxCount(maxCount)
+        .tickets(result)
+        .generationMillis(elapsedMillis)
+        .build();
+  }
 
-    List<Long> result = new ArrayList<>();
+  // 활성 구독 플랜의 최대 번호 개수, 구독이 없으면 기본 한도
+  private int resolveBulkLimit(Long userId) {
+    if (userId == null) {
+      return defaultBulkLimit;
+    }
+    return subscriptionRepository.findMaxLottoNumbersByUserIdAndStatus(userId, SubscriptionStatus.ACTIVE)
+        .map(maxLottoNumbers -> Math.max(defaultBulkLimit, maxLottoNumbers))
+        .orElse(defaultBulkLimit);
+  }
 
-    if (evens.size() >= 3 && odds.size() >= 3) {
-      result.addAll(evens.subList(0, 3));
-      result.addAll(odds.subList(0, 3));
-    } else {
-      int evenCount = Math.min(3, evens.size());
-      int oddCount = Math.min(3, odds.size());
+  // 중복 재시도가 과하지 않도록 C(pool, remaining) >= count * 1.5가 되는 가장 작은 후보 폭 (가능한 후보 수 이내)
+  static int poolSizeFor(int count, int remaining, int available) {
+    int pool = Math.min(remaining, available);
+    while (pool < available && combinations(pool, remaining) < count + count / 2L) {
+      pool++;
+    }
+    return Math.max(pool, remaining);
+  }
 
-      result.addAll(evens.subList(0, evenCount));
-      result.addAll(odds.subList(0, oddCount));
+  private static long combinations(int n, int k) {
+    long result = 1L;
+    for (int i = 1; i <= k; i++) {
+      result = result * (n - k + i) / i;
+    }
+    return result;
+  }
 
-      List<Long> leftovers = new ArrayList<>(numbers);
-      leftovers.removeAll(result);
-      Collections.shuffle(leftovers);
-      while (result.size() < 6 && !leftovers.isEmpty()) {
-        result.add(leftovers.remove(0));
-      }
+  private static LottoRecommendTicket toTicket(long mask, LottoFrequencyRanking ranking, long fixedMask) {
+    List<Long> numbers = new ArrayList<>(TICKET_SIZE);
+    List<LottoNumberInsight> insights = new ArrayList<>(TICKET_SIZE);
+    for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+      int number = Long.numberOfTrailingZeros(remaining) + 1;
+      numbers.add((long) number);
+      insights.add(insightOf(number, ranking, (fixedMask & LottoBitmask.bit(number)) != 0));
     }
-    return result.stream().limit(6).toList();
+    return LottoRecommendTicket.builder()
+        .numbers(numbers)
+        .insights(insights)
+        .build();
   }
 
-  @Override
-  public List<LottoNumberInsight> analyzeInsights(List<Long> recommendedNumbers, List<NumberFrequency> frequencyList,
-      Set<Long> fixedNumbers) {
+  /**
+   * 추천 번호 한 조합을 마스크로 뽑습니다. 고정 번호를 먼저 채우고, 남은 자리는 제외 번호와 고정 번호를 뺀
+   * 후보(집계 구간에 한 번 이상 등장한 번호) 중에서 채웁니다.
+   * <p>
+   * 짝/홀 혼합을 허용하면 모드 순서(빈도 내림차순/오름차순/무작위)대로 채우고, 허용하지 않으면
+   * 짝수 최대 3개, 홀수 최대 3개를 무작위로 고른 뒤 부족한 자리를 남은 후보에서 무작위로 채웁니다.
+   * 박싱이나 컬렉션 없이 long 마스크와 {@link ThreadLocalRandom}만 사용합니다.
+   * </p>
+   *
+   * @return 선택된 번호 마스크 (최대 6개)
+   */
+  static long pickNumbers(LottoFrequencyRanking ranking, LottoRecommendSystem mode, boolean allowEvenOddMix,
+      long excludedMask, long fixedMask) {
+    return pickNumbers(ranking, mode, allowEvenOddMix, excludedMask, fixedMask, 0);
+  }
 
-    Map<Long, Long> countMap = frequencyList.stream()
-        .collect(Collectors.toMap(NumberFrequency::getNum, NumberFrequency::getFrequency));
+  /**
+   * extraPool이 0보다 크면 순위 순서 모드에서 상위(하위) remaining + extraPool개 후보 중 무작위로 채웁니다.
+   */
+  static long pickNumbers(LottoFrequencyRanking ranking, LottoRecommendSystem mode, boolean allowEvenOddMix,
+      long excludedMask, long fixedMask, int extraPool) {
+    if (Long.bitCount(fixedMask) > TICKET_SIZE) {
+      throw new IllegalArgumentException("고정 번호는 최대 6개까지 선택할 수 있습니다.");
+    }
+    long candidates = ranking.presentMask() & ~excludedMask & ~fixedMask;
+    int remaining = TICKET_SIZE - Long.bitCount(fixedMask);
 
-    List<Long> rankedNumbers = frequencyList.stream()
-        .sorted((a, b) -> Long.compare(b.getFrequency(), a.getFrequency()))
-        .map(NumberFrequency::getNum)
-        .toList();
+    if (!allowEvenOddMix) {
+      return fixedMask | pickBalanced(candidates, remaining);
+    }
+    return fixedMask | switch (mode) {
+      case HIGH_FREQUENCY -> pickInOrder(ranking, candidates, remaining, extraPool, true);
+      case LOW_FREQUENCY -> pickInOrder(ranking, candidates, remaining, extraPool, false);
+      case MIXED -> pickRandom(candidates, remaining);
+      default -> throw new IllegalArgumentException("잘못된 추천 모드입니다.");
+    };
+  }
 
-    Map<Long, Long> rankMap = new HashMap<>();
-    for (int i = 0; i < rankedNumbers.size(); i++) {
-      rankMap.put(rankedNumbers.get(i), i + 1L);
+  // 빈도 순위 순서대로 후보를 채움 (extraPool만큼 넓힌 후보 폭 안에서는 무작위)
+  private static long pickInOrder(LottoFrequencyRanking ranking, long candidates, int count, int extraPool,
+      boolean descending) {
+    long pool = 0L;
+    int poolSize = count + extraPool;
+    for (int i = 0; i < ranking.size() && poolSize > 0; i++) {
+      long bit = LottoBitmask.bit(descending ? ranking.numberByDescending(i) : ranking.numberByAscending(i));
+      if ((candidates & bit) != 0) {
+        pool |= bit;
+        poolSize--;
+      }
     }
+    return extraPool > 0 ? pickRandom(pool, count) : pool;
+  }
 
-    List<LottoNumberInsight> insights = new ArrayList<>();
+  // 짝수 3개, 홀수 3개를 우선 뽑고 부족분은 남은 후보에서 채움
+  private static long pickBalanced(long candidates, int count) {
+    long evens = pickRandom(candidates & LottoBitmask.EVENS, Math.min(3, count));
+    count -= Long.bitCount(evens);
+    long odds = pickRandom(candidates & LottoBitmask.ODDS, Math.min(3, count));
+    count -= Long.bitCount(odds);
+    long picked = evens | odds;
+    return picked | pickRandom(candidates & ~picked, count);
+  }
 
-    for (Long number : recommendedNumbers) {
-      Long count = countMap.getOrDefault(number, 0L);
-      Long rank = rankMap.getOrDefault(number, 0L);
-      String reason;
-
-      if (fixedNumbers != null && fixedNumbers.contains(number)) {
-        reason = "사용자가 고정 선택한 번호";
-      } else if (count == 0) {
-        reason = "최근 회차 내 미출현 번호 중 하나";
-      } else if (rank <= 10) {
-        reason = "출현 빈도 상위권 번호 (TOP10)";
-      } else if (rank >= 36) {
-        reason = "출현 빈도 하위권 번호 (BOTTOM10)";
-      } else {
-        reason = "균형 조합을 위한 중간 빈도 번호";
+  // 후보 마스크에서 중복 없이 count개를 무작위로 뽑음
+  private static long pickRandom(long candidates, int count) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long picked = 0L;
+    while (count > 0 && candidates != 0) {
+      int number = LottoBitmask.nth(candidates, random.nextInt(Long.bitCount(candidates)));
+      long bit = LottoBitmask.bit(number);
+      picked |= bit;
+      candidates &= ~bit;
+      count--;
+    }
+    return picked;
+  }
+
+  private static long toMask(Set<Long> numbers) {
+    long mask = 0L;
+    if (numbers != null) {
+      for (Long number : numbers) {
+        mask |= LottoBitmask.bit(number.intValue());
       }
+    }
+    return mask;
+  }
 
-      insights.add(LottoNumberInsight.builder()
-          .number(number)
-          .count(count)
-          .rank(rank)
-          .reason(reason)
-          .build());
+  @Override
+  public List<LottoNumberInsight> analyzeInsights(List<Long> recommendedNumbers, List<NumberFrequency> frequencyList,
+      Set<Long> fixedNumbers) {
+    return analyzeInsights(recommendedNumbers, LottoFrequencyRanking.of(frequencyList), fixedNumbers);
+  }
 
+  private List<LottoNumberInsight> analyzeInsights(List<Long> recommendedNumbers, LottoFrequencyRanking ranking,
+      Set<Long> fixedNumbers) {
+
+    List<LottoNumberInsight> insights = new ArrayList<>(recommendedNumbers.size());
+    for (Long number : recommendedNumbers) {
+      boolean fixed = fixedNumbers != null && fixedNumbers.contains(number);
+      insights.add(insightOf(number.intValue(), ranking, fixed));
     }
     return insights;
   }
+
+  private static LottoNumberInsight insightOf(int number, LottoFrequencyRanking ranking, boolean fixed) {
+    long count = ranking.countOf(number);
+    long rank = ranking.rankOf(number);
+    String reason;
+
+    if (fixed) {
+      reason = "사용자가 고정 선택한 번호";
+    } else if (count == 0) {
+      reason = "최근 회차 내 미출현 번호 중 하나";
+    } else if (rank <= 10) {
+      reason = "출현 빈도 상위권 번호 (TOP10)";
+    } else if (rank >= 36) {
+      reason = "출현 빈도 하위권 번호 (BOTTOM10)";
+    } else {
+      reason = "균형 조합을 위한 중간 빈도 번호";
+    }
+
+    return LottoNumberInsight.builder()
+        .number((long) number)
+        .count(count)
+        .rank(rank)
+        .reason(reason)
+        .build();
+  }
 }
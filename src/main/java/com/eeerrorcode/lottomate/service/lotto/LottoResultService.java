@@ -5,6 +5,7 @@ import java.util.Map;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoLatestResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoNumberHitmapResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoResultResponse;
+import com.eeerrorcode.lottomate.domain.enums.HeatmapFormat;
 
 /**
  * 로또 결과 조회 및 통계 분석을 위한 서비스 인터페이스입니다.
@@ -69,6 +70,18 @@ public interface LottoResultService {
 
   Map<Integer, Map<Long, Integer>> getHistoricalHitmap(long startRound, long endRound);
 
+  /**
+   * 지정된 회차 범위의 히트맵을 중간 Map 없이 응답 스트림에 바로 쓸 수 있는 인코더로 반환합니다.
+   * 회차 범위 검증과 스냅샷 고정은 호출 시점에 이루어지며, 실제 직렬화는 {@link LottoHeatmapEncoder#writeTo}에서 수행됩니다.
+   *
+   * @param startRound 조회할 시작 회차 (포함)
+   * @param endRound   조회할 종료 회차 (포함)
+   * @param format     인코딩 방식 (BITMASK 또는 RLE)
+   * @return 히트맵 인코더
+   * @throws IllegalArgumentException startRound가 endRound보다 크거나 MAP 형식을 요청한 경우 발생
+   */
+  LottoHeatmapEncoder encodeHeatmap(long startRound, long endRound, HeatmapFormat format);
+
   LottoLatestResponse getLatestDraw();
 
   // SortedMap<Long, Map<Integer, Integer>> getHitmapMatrix();
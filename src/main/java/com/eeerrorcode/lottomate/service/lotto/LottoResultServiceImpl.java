@@ -1,7 +1,6 @@
 package com.eeerrorcode.lottomate.service.lotto;
 
 import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.SortedMap;
@@ -13,8 +12,9 @@ import com.eeerrorcode.lottomate.domain.dto.lotto.LottoLatestResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoNumberHitmapResponse;
 import com.eeerrorcode.lottomate.domain.dto.lotto.LottoResultResponse;
 import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.domain.enums.HeatmapFormat;
 import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
-import com.eeerrorcode.lottomate.repository.projection.lotto.NumberFrequency;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class LottoResultServiceImpl implements LottoResultService {
 
   private final LottoResultRepository lottoResultRepository;
+  private final LottoDrawIndex lottoDrawIndex;
 
   @Override
   public LottoResultResponse getLottoStatus() {
@@ -40,22 +41,17 @@ public class LottoResultServiceImpl implements LottoResultService {
 
   @Override
   public Map<Long, Long> getNumberDistribution(long range) {
+    LottoDrawSnapshot snapshot = lottoDrawIndex.current();
+    if (snapshot.isEmpty()) {
+      throw new RuntimeException("최신 회차 정보가 없습니다.");
+    }
 
-    Long latestRound = lottoResultRepository.findTopByOrderByDrawRoundDesc()
-        .orElseThrow(() -> new RuntimeException("최신 회차 정보가 없습니다."))
-        .getDrawRound();
-
-    Long rangeStart = latestRound - range + 1;
-
-    List<NumberFrequency> numberFrequencyList = lottoResultRepository.findNumberFrequenciesInRange(rangeStart);
+    long rangeStart = snapshot.latestRound() - range + 1;
+    int[] counts = snapshot.countMain(snapshot.fromIndex(rangeStart), snapshot.size());
 
     Map<Long, Long> distribution = new TreeMap<>();
-    for (long i = 1; i <= 45; i++) {
-      distribution.put(i, 0L);
-    }
-
-    for (NumberFrequency row : numberFrequencyList) {
-      distribution.put(row.getNum(), row.getFrequency());
+    for (int i = 1; i <= 45; i++) {
+      distribution.put((long) i, (long) counts[i]);
     }
 
     return distribution;
@@ -66,25 +62,21 @@ public class LottoResultServiceImpl implements LottoResultService {
     if (start > end)
       throw new IllegalArgumentException("startRound는 endRound보다 작아야 합니다.");
 
-    List<LottoResults> resultsInRange = lottoResultRepository.findByDrawRoundBetween(start, end);
+    LottoDrawSnapshot snapshot = lottoDrawIndex.current();
+    int from = snapshot.fromIndex(start);
+    int to = snapshot.toIndex(end);
 
     SortedMap<Long, Map<Integer, Integer>> matrix = new TreeMap<>();
 
-    for (LottoResults result : resultsInRange) {
+    for (int index = from; index < to; index++) {
+      long mask = snapshot.maskAt(index);
+      int bonus = snapshot.bonusAt(index);
+
       Map<Integer, Integer> numberMap = new TreeMap<>();
       for (int i = 1; i <= 45; i++)
-        numberMap.put(i, 0);
+        numberMap.put(i, (LottoBitmask.contains(mask, i) ? 1 : 0) + (i == bonus ? 1 : 0));
 
-      List<Integer> appeared = List.of(
-          result.getN1(), result.getN2(), result.getN3(),
-          result.getN4(), result.getN5(), result.getN6(),
-          result.getBonusNumber());
-
-      for (Integer num : appeared) {
-        numberMap.put(num, numberMap.get(num) + 1);
-      }
-
-      matrix.put(result.getDrawRound(), numberMap);
+      matrix.put(snapshot.roundAt(index), numberMap);
     }
 
     return LottoNumberHitmapResponse.builder().hitmapMatrix(matrix).build();
@@ -95,22 +87,16 @@ public class LottoResultServiceImpl implements LottoResultService {
     if (start > end)
       throw new IllegalArgumentException("시작 회차는 종료 회차보다 작아야 합니다.");
 
-    List<LottoResults> results = lottoResultRepository.findByDrawRoundBetween(start, end);
+    LottoDrawSnapshot snapshot = lottoDrawIndex.current();
+    int from = snapshot.fromIndex(start);
+    int to = snapshot.toIndex(end);
+
+    int[] mainCounts = snapshot.countMain(from, to);
+    int[] bonusCounts = snapshot.countBonus(from, to);
 
     Map<Integer, Integer> freqMap = new TreeMap<>();
     for (int i = 1; i <= 45; i++)
-      freqMap.put(i, 0);
-
-    for (LottoResults result : results) {
-      List<Integer> numbers = List.of(
-          result.getN1(), result.getN2(), result.getN3(),
-          result.getN4(), result.getN5(), result.getN6(),
-          result.getBonusNumber());
-
-      for (Integer num : numbers) {
-        freqMap.put(num, freqMap.get(num) + 1);
-      }
-    }
+      freqMap.put(i, mainCounts[i] + bonusCounts[i]);
 
     return freqMap;
   }
@@ -121,7 +107,9 @@ public class LottoResultServiceImpl implements LottoResultService {
       throw new IllegalArgumentException("startRound는 endRound보다 작거나 같아야 합니다.");
     }
 
-    List<LottoResults> results = lottoResultRepository.findByDrawRoundBetween(startRound, endRound);
+    LottoDrawSnapshot snapshot = lottoDrawIndex.current();
+    int from = snapshot.fromIndex(startRound);
+    int to = snapshot.toIndex(endRound);
 
     // 1~45번까지 모든 번호 초기화
     Map<Integer, Map<Long, Integer>> resultMap = new TreeMap<>();
@@ -130,16 +118,12 @@ public class LottoResultServiceImpl implements LottoResultService {
       resultMap.put(num, new TreeMap<>()); // 번호 중심
     }
 
-    for (LottoResults result : results) {
-      Long round = result.getDrawRound();
-
-      List<Integer> appeared = List.of(
-          result.getN1(), result.getN2(), result.getN3(),
-          result.getN4(), result.getN5(), result.getN6(),
-          result.getBonusNumber());
+    for (int index = from; index < to; index++) {
+      Long round = snapshot.roundAt(index);
+      long appeared = snapshot.maskAt(index) | LottoBitmask.bit(snapshot.bonusAt(index));
 
       for (int num = 1; num <= 45; num++) {
-        int value = appeared.contains(num) ? 1 : 0;
+        int value = LottoBitmask.contains(appeared, num) ? 1 : 0;
         resultMap.get(num).put(round, value);
       }
     }
@@ -147,6 +131,14 @@ public class LottoResultServiceImpl implements LottoResultService {
     return resultMap;
   }
 
+  @Override
+  public LottoHeatmapEncoder encodeHeatmap(long startRound, long endRound, HeatmapFormat format) {
+    if (startRound > endRound) {
+      throw new IllegalArgumentException("startRound는 endRound보다 작거나 같아야 합니다.");
+    }
+    return new LottoHeatmapEncoder(lottoDrawIndex.current(), format, startRound, endRound);
+  }
+
   @Override
   public LottoLatestResponse getLatestDraw() {
     LottoResults latest = lottoResultRepository.findTopByOrderByDrawRoundDesc()
@@ -0,0 +1,128 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResultDetails;
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+
+/**
+ * 동행복권 회차별 당첨 결과 페이지(HTML)를 jsoup으로 파싱합니다.
+ * <p>
+ * 브라우저 없이 HTTP로 받은 페이지를 처리하기 위한 용도이며,
+ * {@link LottoCrawlerServiceImpl#crawlAndSave}와 동일한 CSS 셀렉터를 사용하여 같은 값을 추출합니다.
+ * </p>
+ */
+public final class LottoRoundPageParser {
+
+  private static final DateTimeFormatter DRAW_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일");
+
+  private LottoRoundPageParser() {
+  }
+
+  /**
+   * HTTP 응답 본문을 Document로 변환합니다. 문자셋(EUC-KR 등)은 meta 태그에서 감지합니다.
+   *
+   * @param body 응답 본문
+   * @return 파싱된 Document
+   * @throws IOException 본문을 읽을 수 없는 경우
+   */
+  public static Document document(byte[] body) throws IOException {
+    return Jsoup.parse(new ByteArrayInputStream(body), null, "");
+  }
+
+  /**
+   * 최신 회차 페이지에서 최신 회차 번호를 추출합니다.
+   *
+   * @param document 최신 회차 페이지
+   * @return 최신 회차 번호
+   * @throws IllegalStateException 회차 정보를 찾을 수 없는 경우
+   */
+  public static int parseLatestRound(Document document) {
+    Element roundElement = document.selectFirst(".win_result h4 strong");
+    if (roundElement == null) {
+      throw new IllegalStateException("최신 회차 정보를 찾을 수 없습니다.");
+    }
+    return Integer.parseInt(digits(roundElement.text()));
+  }
+
+  /**
+   * 회차 페이지를 당첨 결과 엔티티로 변환합니다. 등수별 상세 정보는 prizeDetails에 함께 담깁니다.
+   *
+   * @param round    회차 번호
+   * @param document 회차 페이지
+   * @return 저장 전 당첨 결과 엔티티
+   * @throws IllegalStateException 필수 항목을 찾을 수 없는 경우
+   */
+  public static LottoResults parseRound(int round, Document document) {
+    Elements balls = document.select(".win_result .nums span.ball_645");
+    Element bonusBall = document.selectFirst(".win_result .bonus span.ball_645");
+    Element desc = document.selectFirst(".win_result .desc");
+    if (balls.size() < 6 || bonusBall == null || desc == null) {
+      throw new IllegalStateException(round + "회차 당첨 번호를 찾을 수 없습니다.");
+    }
+
+    String rawDate = desc.text().replaceAll("[^0-9년월일 ]", "").trim();
+    LocalDate drawDate = LocalDate.parse(rawDate, DRAW_DATE_FORMAT);
+
+    Long winners = Long.parseLong(digits(requireText(document, ".tbl_data tr:nth-of-type(1) td:nth-of-type(2)", round)));
+    Long firstPrizeAmount = Long.parseLong(digits(requireText(document, ".tbl_data tr:nth-of-type(1) td:nth-of-type(3)", round)));
+
+    Long totalSales = 0L;
+    try {
+      totalSales = Long.parseLong(digits(desc.text()));
+    } catch (NumberFormatException e) {
+      // 판매 금액은 선택 항목
+    }
+
+    LottoResults result = LottoResults.builder()
+        .drawRound((long) round)
+        .drawDate(drawDate.atStartOfDay())
+        .n1(ball(balls, 0)).n2(ball(balls, 1)).n3(ball(balls, 2))
+        .n4(ball(balls, 3)).n5(ball(balls, 4)).n6(ball(balls, 5))
+        .bonusNumber(Integer.parseInt(bonusBall.text().trim()))
+        .firstPrizeWinners(winners)
+        .firstPrizeAmount(firstPrizeAmount)
+        .totalSalesAmount(totalSales)
+        .build();
+
+    Elements rows = document.select(".tbl_data tbody tr");
+    for (int i = 1; i < rows.size() && i <= 5; i++) {
+      Elements cols = rows.get(i).select("td");
+      if (cols.size() < 4)
+        continue;
+
+      result.getPrizeDetails().add(LottoResultDetails.builder()
+          .lottoResults(result)
+          .rank(Integer.parseInt(digits(cols.get(0).text())))
+          .winnerCount(Long.parseLong(digits(cols.get(2).text())))
+          .prizeAmount(Long.parseLong(digits(cols.get(3).text())))
+          .build());
+    }
+
+    return result;
+  }
+
+  private static Integer ball(Elements balls, int index) {
+    return Integer.parseInt(balls.get(index).text().trim());
+  }
+
+  private static String requireText(Document document, String selector, int round) {
+    Element element = document.selectFirst(selector);
+    if (element == null) {
+      throw new IllegalStateException(round + "회차 당첨 정보를 찾을 수 없습니다: " + selector);
+    }
+    return element.text();
+  }
+
+  private static String digits(String text) {
+    return text.replaceAll("[^0-9]", "");
+  }
+}
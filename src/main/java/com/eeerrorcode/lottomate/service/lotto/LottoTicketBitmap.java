@@ -0,0 +1,241 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+/**
+ * 한 회차 응모 내역의 번호별 역색인(번호 → 응모 ID 비트맵).
+ * <p>
+ * 응모 ID에서 기준 ID(64의 배수)를 뺀 값을 비트 위치로 사용합니다. 한 회차의 응모 ID는
+ * 한 주 동안 연속적으로 발급되므로 비트맵은 거의 빈틈 없이 채워지고, 번호마다 응모의 약 6/45가
+ * 설정되므로 압축 컨테이너 없이 long 배열 그대로가 가장 작고 빠릅니다.
+ * 같은 ID를 여러 번 추가해도 한 번만 반영됩니다.
+ * </p>
+ * <p>
+ * 당첨 판정은 64개 응모 단위로 당첨 번호 6개의 비트맵을 비트 슬라이스 덧셈(3비트 카운터)하여
+ * 일치 개수별 집합을 구하고, 보너스 번호 비트맵과 교집합하여 등수를 나눕니다.
+ * </p>
+ */
+public final class LottoTicketBitmap {
+
+  private static final int INITIAL_WORDS = 64;
+
+  private final long drawRound;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private long baseId = -1L;
+  private long[] present = new long[0];
+  private final long[][] numberBits = new long[LottoBitmask.MAX_NUMBER][];
+  private int words = 0;
+  private int size = 0;
+
+  public LottoTicketBitmap(long drawRound) {
+    this.drawRound = drawRound;
+    for (int i = 0; i < numberBits.length; i++) {
+      numberBits[i] = new long[0];
+    }
+  }
+
+  public long getDrawRound() {
+    return drawRound;
+  }
+
+  /**
+   * @return 색인된 응모 수
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 응모 한 건을 색인합니다.
+   *
+   * @param id   응모 내역 ID
+   * @param mask 응모 번호 마스크
+   * @return 새로 추가되었으면 true, 이미 있던 ID면 false
+   */
+  public boolean add(long id, long mask) {
+    lock.writeLock().lock();
+    try {
+      return addLocked(id, mask);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 여러 응모를 한 번의 잠금으로 색인합니다.
+   *
+   * @param ids   응모 내역 ID
+   * @param masks ids와 같은 위치의 응모 번호 마스크
+   * @param count 반영할 건수 (배열 앞에서부터)
+   * @return 새로 추가된 건수
+   */
+  public int addAll(long[] ids, long[] masks, int count) {
+    int added = 0;
+    lock.writeLock().lock();
+    try {
+      for (int i = 0; i < count; i++) {
+        if (addLocked(ids[i], masks[i])) {
+          added++;
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return added;
+  }
+
+  private boolean addLocked(long id, long mask) {
+    ensureCapacity(id);
+    int offset = (int) (id - baseId);
+    int word = offset >>> 6;
+    long bit = 1L << offset;
+    if ((present[word] & bit) != 0) {
+      return false;
+    }
+    present[word] |= bit;
+    for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+      numberBits[Long.numberOfTrailingZeros(remaining)][word] |= bit;
+    }
+    words = Math.max(words, word + 1);
+    size++;
+    return true;
+  }
+
+  private void ensureCapacity(long id) {
+    long alignedId = id & ~63L;
+    if (baseId < 0) {
+      baseId = alignedId;
+      resize(INITIAL_WORDS, 0);
+      return;
+    }
+    if (id < baseId) {
+      // 기준 ID보다 먼저 발급된 응모가 늦게 들어온 경우 앞쪽으로 확장
+      int shift = Math.toIntExact((baseId - alignedId) >>> 6);
+      baseId = alignedId;
+      resize(Math.max(present.length, words + shift), shift);
+      words += shift;
+      return;
+    }
+    long word = (id - baseId) >>> 6;
+    if (word >= present.length) {
+      resize(Math.toIntExact(Math.max(word + 1, (long) present.length * 2)), 0);
+    }
+  }
+
+  private void resize(int capacity, int shift) {
+    present = copy(present, capacity, shift);
+    for (int i = 0; i < numberBits.length; i++) {
+      numberBits[i] = copy(numberBits[i], capacity, shift);
+    }
+  }
+
+  private long[] copy(long[] source, int capacity, int shift) {
+    long[] target = new long[capacity];
+    System.arraycopy(source, 0, target, shift, Math.min(words, source.length));
+    return target;
+  }
+
+  /**
+   * 당첨 번호 조합에 대한 등수별 당첨 수를 계산합니다.
+   *
+   * @param winningMask 당첨 번호 6개의 마스크
+   * @param bonusNumber 보너스 번호
+   * @return 등수별 당첨 수 (인덱스 1~5, 0은 미당첨)
+   */
+  public long[] countRanks(long winningMask, int bonusNumber) {
+    return scan(winningMask, bonusNumber, null);
+  }
+
+  /**
+   * 당첨 번호 조합에 대한 등수별 응모 ID를 계산합니다.
+   *
+   * @param winningMask 당첨 번호 6개의 마스크
+   * @param bonusNumber 보너스 번호
+   * @return 등수별 응모 ID 배열 (인덱스 1~5, 0은 미당첨), 각 배열은 ID 오름차순
+   */
+  public long[][] winnerIds(long winningMask, int bonusNumber) {
+    long[][] ids = new long[6][];
+    lock.readLock().lock();
+    try {
+      long[] counts = scan(winningMask, bonusNumber, null);
+      for (int rank = 0; rank <= 5; rank++) {
+        ids[rank] = new long[(int) counts[rank]];
+      }
+      scan(winningMask, bonusNumber, ids);
+    } finally {
+      lock.readLock().unlock();
+    }
+    return ids;
+  }
+
+  private long[] scan(long winningMask, int bonusNumber, long[][] ids) {
+    if (LottoBitmask.count(winningMask) != 6 || (winningMask & ~LottoBitmask.ALL) != 0) {
+      throw new IllegalArgumentException("당첨 번호는 서로 다른 1~45의 숫자 6개여야 합니다.");
+    }
+    long bonusBit = LottoBitmask.bit(bonusNumber);
+    if ((winningMask & bonusBit) != 0) {
+      throw new IllegalArgumentException("보너스 번호는 당첨 번호와 달라야 합니다: " + bonusNumber);
+    }
+    int[] winning = new int[6];
+    int index = 0;
+    for (long remaining = winningMask; remaining != 0; remaining &= remaining - 1) {
+      winning[index++] = Long.numberOfTrailingZeros(remaining);
+    }
+
+    long[] counts = new long[6];
+    int[] filled = new int[6];
+    lock.readLock().lock();
+    try {
+      long[] bonus = numberBits[bonusNumber - 1];
+      for (int word = 0; word < words; word++) {
+        if (present[word] == 0) {
+          continue;
+        }
+        // 64개 응모의 일치 개수(0~6)를 c2c1c0 세 비트로 누적
+        long c0 = 0L;
+        long c1 = 0L;
+        long c2 = 0L;
+        for (int number : winning) {
+          long bits = numberBits[number][word];
+          long carry0 = c0 & bits;
+          c0 ^= bits;
+          long carry1 = c1 & carry0;
+          c1 ^= carry0;
+          c2 |= carry1;
+        }
+        long five = c2 & ~c1 & c0;
+        long base = baseId + ((long) word << 6);
+        collect(1, c2 & c1 & ~c0, base, counts, ids, filled);         // 6개
+        collect(2, five & bonus[word], base, counts, ids, filled);    // 5개 + 보너스
+        collect(3, five & ~bonus[word], base, counts, ids, filled);   // 5개
+        collect(4, c2 & ~c1 & ~c0, base, counts, ids, filled);        // 4개
+        collect(5, ~c2 & c1 & c0, base, counts, ids, filled);         // 3개
+        if (ids != null) {
+          // 3개 이상 일치하지 않은 응모 (미당첨)
+          collect(0, present[word] & ~(c2 | (c1 & c0)), base, counts, ids, filled);
+        }
+      }
+      counts[0] = size - counts[1] - counts[2] - counts[3] - counts[4] - counts[5];
+    } finally {
+      lock.readLock().unlock();
+    }
+    return counts;
+  }
+
+  private static void collect(int rank, long bits, long base, long[] counts, long[][] ids, int[] filled) {
+    counts[rank] += Long.bitCount(bits);
+    if (ids != null) {
+      for (long remaining = bits; remaining != 0; remaining &= remaining - 1) {
+        ids[rank][filled[rank]++] = base + Long.numberOfTrailingZeros(remaining);
+      }
+    }
+  }
+}
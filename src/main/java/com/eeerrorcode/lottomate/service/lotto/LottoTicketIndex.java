@@ -0,0 +1,242 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoUserHistory;
+import com.eeerrorcode.lottomate.repository.lotto.LottoUserHistoryRepository;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketRow;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 응모 중인 회차의 인메모리 응모 역색인 컴포넌트.
+ * <p>
+ * 회차별로 {@link LottoTicketBitmap}을 유지하며, 당첨 회차가 갱신되면({@link LottoDrawIndexUpdatedEvent})
+ * 다음 회차(최신 회차 + 1)의 색인을 DB에서 만들고 방금 추첨된 회차보다 오래된 색인은 제거합니다.
+ * 응모가 저장될 때마다 {@link #add(LottoUserHistory)}로 즉시 반영되므로, 추첨 직후 등수별 당첨 수를
+ * 응모 전체를 다시 읽지 않고 비트맵 연산만으로 구할 수 있습니다.
+ * 색인은 응모를 받는 회차(와 방금 추첨된 직전 회차)만 보관하고 회차마다 한 번만 적재되며,
+ * 그 밖의 회차를 조회하면 DB에서 임시로 만들어 쓰고 보관하지 않습니다.
+ * 색인은 언제든 DB에서 다시 만들 수 있는 캐시이며, 당첨 결과의 기준은 여전히 DB입니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>lotto.ticket.index.tickets: 색인된 전체 응모 수</li>
+ *   <li>lotto.ticket.index.added: 저장 시점에 색인한 응모 수</li>
+ *   <li>lotto.ticket.index.match: 당첨 조합 판정 시간</li>
+ * </ul>
+ */
+@Component
+@Log4j2
+public class LottoTicketIndex {
+
+  private final LottoUserHistoryRepository historyRepository;
+  private final int loadBatchSize;
+  private final Map<Long, IndexedRound> rounds = new ConcurrentHashMap<>();
+  private volatile long openRound = 0L;
+
+  private final Counter addedCounter;
+  private final Timer matchTimer;
+
+  @Autowired
+  public LottoTicketIndex(LottoUserHistoryRepository historyRepository, MeterRegistry meterRegistry,
+      @Value("${lotto.ticket-index.load-batch-size:5000}") int loadBatchSize) {
+    this.historyRepository = historyRepository;
+    this.loadBatchSize = loadBatchSize;
+    this.addedCounter = Counter.builder("lotto.ticket.index.added").register(meterRegistry);
+    this.matchTimer = Timer.builder("lotto.ticket.index.match")
+        .description("색인 기반 등수별 당첨 수 계산 시간")
+        .register(meterRegistry);
+    Gauge.builder("lotto.ticket.index.tickets", rounds,
+        map -> map.values().stream().mapToLong(indexed -> indexed.bitmap().size()).sum())
+        .register(meterRegistry);
+  }
+
+  /**
+   * 당첨 회차가 갱신되면 다음 회차 색인을 준비하고, 추첨된 회차 이전의 색인을 제거합니다.
+   */
+  @EventListener
+  public void onDrawIndexUpdated(LottoDrawIndexUpdatedEvent event) {
+    long latestRound = event.snapshot().isEmpty() ? 0L : event.snapshot().latestRound();
+    openRound = latestRound + 1;
+    rounds.keySet().removeIf(round -> round < latestRound);
+    if (!rounds.containsKey(openRound)) {
+      try {
+        indexRound(openRound);
+      } catch (Exception e) {
+        log.warn("[응모 색인] {}회차 색인 적재 실패, 조회 시 다시 적재합니다: {}", openRound, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * @return 현재 응모를 받는 회차 (당첨 회차 적재 전이면 0)
+   */
+  public long openRound() {
+    return openRound;
+  }
+
+  /**
+   * 저장이 완료된 응모를 해당 회차 색인에 반영합니다. 색인 중인 회차가 아니면 무시합니다.
+   *
+   * @param saved ID가 발급된 응모 내역
+   */
+  public void add(LottoUserHistory saved) {
+    IndexedRound indexed = rounds.get(saved.getDrawRound());
+    if (indexed == null || saved.getId() == null || saved.getNumbersMask() == null) {
+      return;
+    }
+    // 적재 중인 색인에도 바로 추가 (같은 ID는 한 번만 반영)
+    if (indexed.bitmap().add(saved.getId(), saved.getNumbersMask())) {
+      addedCounter.increment();
+    }
+  }
+
+  /**
+   * 회차 색인을 DB에서 다시 만듭니다. 보관 중인 회차라면 새 색인을 먼저 등록한 뒤 적재하므로
+   * 적재 중에 저장된 응모도 빠지지 않고, 중복 ID는 한 번만 반영됩니다.
+   *
+   * @param drawRound 응모 회차
+   * @return 색인된 응모 수
+   */
+  public int rebuild(long drawRound) {
+    if (drawRound != openRound && !rounds.containsKey(drawRound)) {
+      return load(new LottoTicketBitmap(drawRound)).size();
+    }
+    IndexedRound indexed = new IndexedRound(new LottoTicketBitmap(drawRound), new CompletableFuture<>());
+    rounds.put(drawRound, indexed);
+    return fill(drawRound, indexed).size();
+  }
+
+  /**
+   * @return 회차 색인을 보관 중이면 true (적재 중 포함)
+   */
+  public boolean isIndexed(long drawRound) {
+    return rounds.containsKey(drawRound);
+  }
+
+  // 회차 색인을 한 번만 등록하고 적재 (동시에 요청한 스레드는 먼저 등록한 스레드의 적재를 기다림)
+  private IndexedRound indexRound(long drawRound) {
+    IndexedRound created = new IndexedRound(new LottoTicketBitmap(drawRound), new CompletableFuture<>());
+    IndexedRound existing = rounds.putIfAbsent(drawRound, created);
+    if (existing != null) {
+      return existing;
+    }
+    fill(drawRound, created);
+    return created;
+  }
+
+  private LottoTicketBitmap fill(long drawRound, IndexedRound indexed) {
+    try {
+      load(indexed.bitmap());
+      indexed.ready().complete(null);
+      return indexed.bitmap();
+    } catch (RuntimeException e) {
+      rounds.remove(drawRound, indexed);
+      indexed.ready().completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private LottoTicketBitmap load(LottoTicketBitmap bitmap) {
+    long drawRound = bitmap.getDrawRound();
+    long startedAt = System.nanoTime();
+
+    long[] ids = new long[loadBatchSize];
+    long[] masks = new long[loadBatchSize];
+    long afterId = 0L;
+    while (true) {
+      List<LottoTicketRow> page = historyRepository.findTickets(drawRound, afterId, loadBatchSize);
+      if (page.isEmpty()) {
+        break;
+      }
+      afterId = page.get(page.size() - 1).id();
+      int count = 0;
+      for (LottoTicketRow row : page) {
+        try {
+          masks[count] = row.mask();
+        } catch (IllegalArgumentException e) {
+          continue;
+        }
+        ids[count++] = row.id();
+      }
+      bitmap.addAll(ids, masks, count);
+      if (page.size() < loadBatchSize) {
+        break;
+      }
+    }
+    log.info("[응모 색인] {}회차 {}건 적재 ({}ms)",
+        drawRound, bitmap.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    return bitmap;
+  }
+
+  /**
+   * 색인 중인 회차에 임의의 당첨 조합을 적용한 등수별 당첨 수를 계산합니다.
+   * 색인이 없는 회차는 DB에서 적재한 뒤 계산합니다. (응모를 받는 회차가 아니면 보관하지 않음)
+   *
+   * @param drawRound   응모 회차
+   * @param winningMask 당첨 번호 6개의 마스크
+   * @param bonusNumber 보너스 번호
+   * @return 등수별 당첨 수 (인덱스 1~5, 0은 미당첨)
+   * @throws IllegalArgumentException 당첨 번호 또는 보너스 번호가 올바르지 않은 경우
+   */
+  public long[] countRanks(long drawRound, long winningMask, int bonusNumber) {
+    LottoTicketBitmap bitmap = bitmapOf(drawRound);
+    return matchTimer.record(() -> bitmap.countRanks(winningMask, bonusNumber));
+  }
+
+  /**
+   * 등수별 응모 ID를 계산합니다.
+   *
+   * @return 등수별 응모 ID 배열 (인덱스 1~5, 0은 미당첨)
+   * @see #countRanks(long, long, int)
+   */
+  public long[][] winnerIds(long drawRound, long winningMask, int bonusNumber) {
+    LottoTicketBitmap bitmap = bitmapOf(drawRound);
+    return matchTimer.record(() -> bitmap.winnerIds(winningMask, bonusNumber));
+  }
+
+  /**
+   * @return 회차의 색인된 응모 수 (색인이 없으면 0)
+   */
+  public int size(long drawRound) {
+    IndexedRound indexed = rounds.get(drawRound);
+    return indexed == null ? 0 : indexed.bitmap().size();
+  }
+
+  private LottoTicketBitmap bitmapOf(long drawRound) {
+    IndexedRound indexed = rounds.get(drawRound);
+    if (indexed == null && drawRound == openRound) {
+      indexed = indexRound(drawRound);
+    }
+    if (indexed == null) {
+      return load(new LottoTicketBitmap(drawRound));
+    }
+    try {
+      indexed.ready().join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+    return indexed.bitmap();
+  }
+
+  /**
+   * 보관 중인 회차 색인과 적재 완료 여부입니다.
+   */
+  private record IndexedRound(LottoTicketBitmap bitmap, CompletableFuture<Void> ready) {
+  }
+}
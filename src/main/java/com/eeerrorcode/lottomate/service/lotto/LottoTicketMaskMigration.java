@@ -0,0 +1,152 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.eeerrorcode.lottomate.repository.lotto.LottoUserHistoryRepository;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketRow;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 기존 응모 내역의 번호 문자열을 numbers_mask 컬럼으로 채우는 온라인 마이그레이션 작업.
+ * <p>
+ * numbers_mask가 비어 있는 행을 ID 기준 keyset 페이지(batch-size건)로 읽고, 페이지마다 짧은
+ * JDBC batch UPDATE 한 번으로 반영합니다. 트랜잭션을 길게 잡지 않고 행 단위 잠금만 사용하므로
+ * 서비스 중에도 lotto_user_history 테이블을 막지 않으며, 페이지 사이에 pause-ms만큼 쉬어 DB 부하를 조절합니다.
+ * 이미 채워진 행은 다시 읽지 않으므로 중단되어도 다시 실행하면 남은 행만 처리합니다.
+ * 번호 형식이 잘못된 행과, 같은 사용자/회차/번호 조합이 이미 마스크를 가진 중복 응모 행은
+ * null로 남기고 건너뜁니다. (기존 번호 문자열로 계속 판정됨)
+ * </p>
+ *
+ * <ul>
+ *   <li>lotto.ticket.mask.migrated: 마스크를 채운 응모 수</li>
+ *   <li>lotto.ticket.mask.invalid: 번호 형식 오류로 건너뛴 응모 수</li>
+ * </ul>
+ */
+@Component
+@Log4j2
+public class LottoTicketMaskMigration {
+
+  private final LottoUserHistoryRepository historyRepository;
+  private final boolean enabled;
+  private final int batchSize;
+  private final long pauseMillis;
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  private final Counter migratedCounter;
+  private final Counter invalidCounter;
+
+  @Autowired
+  public LottoTicketMaskMigration(LottoUserHistoryRepository historyRepository, MeterRegistry meterRegistry,
+      @Value("${lotto.ticket-mask-migration.enabled:true}") boolean enabled,
+      @Value("${lotto.ticket-mask-migration.batch-size:1000}") int batchSize,
+      @Value("${lotto.ticket-mask-migration.pause-ms:50}") long pauseMillis) {
+    this.historyRepository = historyRepository;
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    this.pauseMillis = pauseMillis;
+    this.migratedCounter = Counter.builder("lotto.ticket.mask.migrated").register(meterRegistry);
+    this.invalidCounter = Counter.builder("lotto.ticket.mask.invalid").register(meterRegistry);
+  }
+
+  /**
+   * 애플리케이션 기동 완료 후 백그라운드 스레드에서 마이그레이션을 시작합니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void startOnReady() {
+    if (!enabled) {
+      return;
+    }
+    Thread thread = new Thread(() -> {
+      try {
+        migrate();
+      } catch (RuntimeException e) {
+        log.error("[번호 마스크 마이그레이션] 실패: {}", e.getMessage(), e);
+      }
+    }, "lotto-ticket-mask-migration");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * numbers_mask가 비어 있는 응모 내역을 모두 채웁니다. 이미 실행 중이면 바로 0을 반환합니다.
+   *
+   * @return 마스크를 채운 응모 수
+   */
+  public long migrate() {
+    if (!running.compareAndSet(false, true)) {
+      log.info("[번호 마스크 마이그레이션] 이미 실행 중입니다.");
+      return 0L;
+    }
+    long startedAt = System.nanoTime();
+    long migrated = 0L;
+    long invalid = 0L;
+    long duplicated = 0L;
+    long afterId = 0L;
+    long[] ids = new long[batchSize];
+    long[] masks = new long[batchSize];
+    try {
+      while (true) {
+        List<LottoTicketRow> page = historyRepository.findTicketsWithoutMask(afterId, batchSize);
+        if (page.isEmpty()) {
+          break;
+        }
+        afterId = page.get(page.size() - 1).id();
+
+        int count = 0;
+        for (LottoTicketRow row : page) {
+          long mask;
+          try {
+            mask = LottoBitmask.parse(row.numbers());
+          } catch (IllegalArgumentException e) {
+            mask = 0L;
+          }
+          // 응모 등록과 같은 기준: 서로 다른 6개가 아니면(개수 부족, 중복 번호) 형식 오류
+          if (LottoBitmask.count(mask) != 6) {
+            log.warn("[번호 마스크 마이그레이션] 번호 형식 오류로 건너뜀 (id={}): {}", row.id(), row.numbers());
+            invalid++;
+            continue;
+          }
+          ids[count] = row.id();
+          masks[count] = mask;
+          count++;
+        }
+
+        int updated = historyRepository.updateNumbersMasks(ids, masks, count);
+        migrated += updated;
+        duplicated += count - updated;
+        migratedCounter.increment(updated);
+        invalidCounter.increment(page.size() - count);
+        log.debug("[번호 마스크 마이그레이션] 진행 {}건 (마지막 id={})", migrated, afterId);
+
+        if (page.size() < batchSize) {
+          break;
+        }
+        if (pauseMillis > 0) {
+          TimeUnit.MILLISECONDS.sleep(pauseMillis);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("[번호 마스크 마이그레이션] 중단됨 ({}건 반영)", migrated);
+    } finally {
+      running.set(false);
+    }
+    if (migrated > 0 || invalid > 0 || duplicated > 0) {
+      log.info("[번호 마스크 마이그레이션] {}건 반영, 형식 오류 {}건, 중복 응모 {}건, {}ms",
+          migrated, invalid, duplicated, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+    return migrated;
+  }
+}
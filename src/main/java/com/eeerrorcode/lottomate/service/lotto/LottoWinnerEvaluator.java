@@ -0,0 +1,282 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eeerrorcode.lottomate.repository.lotto.LottoUserHistoryRepository;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketRow;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 회차별 응모 내역 당첨 판정 파이프라인 컴포넌트.
+ * <p>
+ * 미확인 응모 내역을 ID 기준 keyset 페이지(chunk-size건)로 읽고, 각 페이지를 작업 스레드에서
+ * 판정한 뒤 JDBC batch UPDATE로 반영합니다. 읽기는 한 스레드가 순서대로 진행하고, 동시에 처리 중인
+ * 페이지 수는 parallelism × 2로 제한되어 메모리 사용량이 회차 응모 수와 무관합니다.
+ * 응모 번호는 저장된 45비트 마스크(없으면 번호 문자열을 변환)와 당첨 마스크의 AND 결과 비트 수로 일치 개수를 셉니다.
+ * 이미 확인된 내역은 다시 읽지 않으므로 중간에 실패해도 같은 회차로 다시 실행하면 남은 내역만 처리합니다.
+ * </p>
+ * <p>
+ * 응모 색인({@link LottoTicketIndex})으로 등수가 이미 계산된 경우에는 {@link #apply(long, long[][])}로
+ * 응모 내역을 읽지 않고 같은 chunk 단위 batch UPDATE만 수행합니다. 색인은 지름길일 뿐 전체 응모를 보장하지 않으므로
+ * 호출 측은 이어서 {@link #evaluate(long, long, int)}로 남은 미확인 응모를 판정합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>lotto.winner.tickets.evaluated: 판정한 응모 수 (처리량)</li>
+ *   <li>lotto.winner.tickets.winning (rank=1~5): 등수별 당첨 수</li>
+ *   <li>lotto.winner.tickets.invalid: 번호 형식 오류로 건너뛴 응모 수</li>
+ *   <li>lotto.winner.chunk: 페이지당 판정 + 반영 시간</li>
+ *   <li>lotto.winner.progress: 진행 중인 회차에서 지금까지 판정한 응모 수</li>
+ * </ul>
+ */
+@Component
+@Log4j2
+public class LottoWinnerEvaluator implements DisposableBean {
+
+  private final LottoUserHistoryRepository historyRepository;
+  private final int chunkSize;
+  private final ExecutorService executor;
+  private final Semaphore inFlight;
+
+  private final Counter evaluatedCounter;
+  private final Counter invalidCounter;
+  private final Counter[] winningCounters = new Counter[6];
+  private final Timer chunkTimer;
+  private final AtomicLong progress = new AtomicLong();
+
+  @Autowired
+  public LottoWinnerEvaluator(LottoUserHistoryRepository historyRepository, MeterRegistry meterRegistry,
+      @Value("${lotto.winner.chunk-size:5000}") int chunkSize,
+      @Value("${lotto.winner.parallelism:4}") int parallelism) {
+    this.historyRepository = historyRepository;
+    this.chunkSize = chunkSize;
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+      Thread thread = new Thread(runnable, "lotto-winner-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.inFlight = new Semaphore(parallelism * 2);
+
+    this.evaluatedCounter = Counter.builder("lotto.winner.tickets.evaluated").register(meterRegistry);
+    this.invalidCounter = Counter.builder("lotto.winner.tickets.invalid").register(meterRegistry);
+    for (int rank = 1; rank <= 5; rank++) {
+      winningCounters[rank] = Counter.builder("lotto.winner.tickets.winning")
+          .tag("rank", String.valueOf(rank))
+          .register(meterRegistry);
+    }
+    this.chunkTimer = Timer.builder("lotto.winner.chunk")
+        .description("응모 내역 페이지당 당첨 판정 및 반영 시간")
+        .register(meterRegistry);
+    Gauge.builder("lotto.winner.progress", progress, AtomicLong::get).register(meterRegistry);
+  }
+
+  /**
+   * 회차의 미확인 응모 내역을 모두 판정하여 반영합니다.
+   *
+   * @param drawRound   응모 회차
+   * @param winningMask 당첨 번호 6개의 마스크
+   * @param bonusNumber 보너스 번호
+   * @return 반영된 응모 수
+   * @throws IllegalStateException 페이지 처리 중 오류가 발생한 경우 (처리된 페이지는 반영된 상태로 남음)
+   */
+  public long evaluate(long drawRound, long winningMask, int bonusNumber) {
+    long startedAt = System.nanoTime();
+    long bonusBit = LottoBitmask.bit(bonusNumber);
+    progress.set(0L);
+
+    List<Future<Integer>> chunks = new ArrayList<>();
+    long afterId = 0L;
+    try {
+      while (true) {
+        List<LottoTicketRow> page = historyRepository.findUnclaimedTickets(drawRound, afterId, chunkSize);
+        if (page.isEmpty()) {
+          break;
+        }
+        afterId = page.get(page.size() - 1).id();
+        chunks.add(submit(() -> evaluateChunk(page, winningMask, bonusBit)));
+        if (page.size() < chunkSize) {
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(drawRound + "회차 당첨 판정이 중단되었습니다.", e);
+    }
+    return await(drawRound, chunks, startedAt);
+  }
+
+  /**
+   * 색인으로 계산한 등수를 응모 내역을 읽지 않고 반영합니다. 이미 확인된 내역은 건너뜁니다.
+   *
+   * @param drawRound 응모 회차
+   * @param idsByRank 등수별 응모 ID (인덱스 0은 미당첨, 1~5는 등수)
+   * @return 반영된 응모 수
+   * @throws IllegalStateException chunk 처리 중 오류가 발생한 경우 (처리된 chunk는 반영된 상태로 남음)
+   */
+  public long apply(long drawRound, long[][] idsByRank) {
+    long startedAt = System.nanoTime();
+    progress.set(0L);
+
+    List<Future<Integer>> chunks = new ArrayList<>();
+    long[] ids = new long[chunkSize];
+    int[] ranks = new int[chunkSize];
+    int count = 0;
+    try {
+      for (int rank = 0; rank < idsByRank.length; rank++) {
+        for (long id : idsByRank[rank]) {
+          ids[count] = id;
+          ranks[count] = rank;
+          if (++count == chunkSize) {
+            chunks.add(submitRanks(ids, ranks, count));
+            count = 0;
+          }
+        }
+      }
+      if (count > 0) {
+        chunks.add(submitRanks(ids, ranks, count));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(drawRound + "회차 당첨 반영이 중단되었습니다.", e);
+    }
+    return await(drawRound, chunks, startedAt);
+  }
+
+  private Future<Integer> submitRanks(long[] ids, int[] ranks, int count) throws InterruptedException {
+    long[] chunkIds = Arrays.copyOf(ids, count);
+    int[] chunkRanks = Arrays.copyOf(ranks, count);
+    return submit(() -> applyChunk(chunkIds, chunkRanks, count));
+  }
+
+  // 동시에 처리 중인 chunk 수를 제한하며 작업 스레드에 제출
+  private Future<Integer> submit(Callable<Integer> chunk) throws InterruptedException {
+    inFlight.acquire();
+    try {
+      return executor.submit(() -> {
+        try {
+          return chunkTimer.recordCallable(chunk);
+        } finally {
+          inFlight.release();
+        }
+      });
+    } catch (RuntimeException e) {
+      inFlight.release();
+      throw e;
+    }
+  }
+
+  private long await(long drawRound, List<Future<Integer>> chunks, long startedAt) {
+    long updated = 0L;
+    Exception failure = null;
+    for (Future<Integer> chunk : chunks) {
+      try {
+        updated += chunk.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failure = e;
+      } catch (ExecutionException e) {
+        failure = failure == null ? (Exception) e.getCause() : failure;
+      }
+    }
+    long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    if (failure != null) {
+      throw new IllegalStateException(drawRound + "회차 당첨 판정 중 오류가 발생했습니다. (반영 " + updated + "건)", failure);
+    }
+    log.info("[당첨 판정] {}회차 {}건 반영, {}개 페이지, {}ms ({}건/s)",
+        drawRound, updated, chunks.size(), elapsedMillis, updated * 1000 / elapsedMillis);
+    return updated;
+  }
+
+  private int evaluateChunk(List<LottoTicketRow> page, long winningMask, long bonusBit) {
+    int size = page.size();
+    long[] ids = new long[size];
+    int[] ranks = new int[size];
+    int count = 0;
+    int[] rankCounts = new int[6];
+
+    for (int i = 0; i < size; i++) {
+      LottoTicketRow row = page.get(i);
+      long mask;
+      try {
+        mask = row.mask();
+      } catch (IllegalArgumentException e) {
+        log.warn("[당첨 판정] 번호 형식 오류로 건너뜀 (id={}): {}", row.id(), row.numbers());
+        invalidCounter.increment();
+        continue;
+      }
+      int rank = rankOf(Long.bitCount(mask & winningMask), (mask & bonusBit) != 0);
+      ids[count] = row.id();
+      ranks[count] = rank;
+      rankCounts[rank]++;
+      count++;
+    }
+
+    return applyChunk(ids, ranks, count, rankCounts);
+  }
+
+  private int applyChunk(long[] ids, int[] ranks, int count) {
+    int[] rankCounts = new int[6];
+    for (int i = 0; i < count; i++) {
+      rankCounts[ranks[i]]++;
+    }
+    return applyChunk(ids, ranks, count, rankCounts);
+  }
+
+  private int applyChunk(long[] ids, int[] ranks, int count, int[] rankCounts) {
+    int updated = historyRepository.updateWinningRanks(ids, ranks, count);
+    evaluatedCounter.increment(count);
+    for (int rank = 1; rank <= 5; rank++) {
+      if (rankCounts[rank] > 0) {
+        winningCounters[rank].increment(rankCounts[rank]);
+      }
+    }
+    long done = progress.addAndGet(count);
+    log.debug("[당첨 판정] 진행 {}건", done);
+    return updated;
+  }
+
+  /**
+   * 일치 개수와 보너스 일치 여부로 등수를 계산합니다. (0은 미당첨)
+   */
+  public static int rankOf(long matchCount, boolean bonusMatch) {
+    if (matchCount == 6)
+      return 1;
+    if (matchCount == 5 && bonusMatch)
+      return 2;
+    if (matchCount == 5)
+      return 3;
+    if (matchCount == 4)
+      return 4;
+    if (matchCount == 3)
+      return 5;
+    return 0;
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+}
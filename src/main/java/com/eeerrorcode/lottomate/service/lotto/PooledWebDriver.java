@@ -0,0 +1,78 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * {@link WebDriverPool}에서 대여한 브라우저 세션입니다.
+ * try-with-resources로 사용하면 블록 종료 시 자동으로 풀에 반환됩니다.
+ *
+ * <pre>
+ * try (PooledWebDriver pooled = webDriverPool.borrow()) {
+ *   pooled.driver().get(url);
+ * }
+ * </pre>
+ */
+public class PooledWebDriver implements AutoCloseable {
+
+  private final WebDriverPool pool;
+  private final WebDriver driver;
+  private final long createdAt;
+  private long lastReturnedAt;
+  private int useCount;
+  private boolean broken;
+  private boolean borrowed;
+
+  PooledWebDriver(WebDriverPool pool, WebDriver driver, long now) {
+    this.pool = pool;
+    this.driver = driver;
+    this.createdAt = now;
+    this.lastReturnedAt = now;
+  }
+
+  public WebDriver driver() {
+    return driver;
+  }
+
+  /**
+   * 세션이 더 이상 정상 동작하지 않음을 표시합니다. 반환 시 재사용하지 않고 종료됩니다.
+   */
+  public void markBroken() {
+    this.broken = true;
+  }
+
+  public int getUseCount() {
+    return useCount;
+  }
+
+  public long getCreatedAt() {
+    return createdAt;
+  }
+
+  @Override
+  public void close() {
+    pool.release(this);
+  }
+
+  // 아래 상태 변경은 모두 WebDriverPool의 lock 안에서만 호출됩니다.
+  boolean isBroken() {
+    return broken;
+  }
+
+  boolean isBorrowed() {
+    return borrowed;
+  }
+
+  long getLastReturnedAt() {
+    return lastReturnedAt;
+  }
+
+  void onBorrow() {
+    borrowed = true;
+    useCount++;
+  }
+
+  void onReturn(long now) {
+    borrowed = false;
+    lastReturnedAt = now;
+  }
+}
@@ -0,0 +1,246 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 크롤러가 재사용하는 WebDriver(브라우저 세션) 풀 컴포넌트.
+ * <p>
+ * 세션은 처음 필요할 때 생성되고(lazy), 반환된 세션은 다음 대여 시 재사용됩니다.
+ * 대여 시 세션 상태를 확인하여 죽은 세션은 새로 만들고, 일정 시간 사용되지 않은 세션은
+ * 주기적으로 종료하여 메모리를 반환합니다. 동시에 존재하는 세션 수는 max-size를 넘지 않습니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>lotto.webdriver.borrow.wait: 대여 대기 시간</li>
+ *   <li>lotto.webdriver.session.reuse: 대여된 세션의 이전 사용 횟수 (0이면 새 세션)</li>
+ *   <li>lotto.webdriver.sessions.created / evicted: 생성 / 종료된 세션 수</li>
+ *   <li>lotto.webdriver.sessions.idle / active: 유휴 / 사용 중 세션 수</li>
+ * </ul>
+ *
+ * @see PooledWebDriver
+ */
+@Component
+@Log4j2
+public class WebDriverPool implements DisposableBean {
+
+  private final Supplier<WebDriver> driverFactory;
+  private final long idleTimeoutMillis;
+  private final long borrowTimeoutMillis;
+
+  private final Semaphore permits;
+  private final Deque<PooledWebDriver> idle = new ArrayDeque<>();
+  private final Object lock = new Object();
+  private int active = 0;
+  private boolean closed = false;
+
+  private final Timer borrowWaitTimer;
+  private final DistributionSummary reuseSummary;
+  private final Counter createdCounter;
+  private final Counter evictedCounter;
+
+  @Autowired
+  public WebDriverPool(MeterRegistry meterRegistry,
+      @Value("${lotto.crawler.webdriver.max-size:1}") int maxSize,
+      @Value("${lotto.crawler.webdriver.idle-timeout-seconds:600}") long idleTimeoutSeconds,
+      @Value("${lotto.crawler.webdriver.borrow-timeout-seconds:120}") long borrowTimeoutSeconds) {
+    this(WebDriverPool::createChromeDriver, meterRegistry, maxSize,
+        Duration.ofSeconds(idleTimeoutSeconds), Duration.ofSeconds(borrowTimeoutSeconds));
+  }
+
+  public WebDriverPool(Supplier<WebDriver> driverFactory, MeterRegistry meterRegistry, int maxSize,
+      Duration idleTimeout, Duration borrowTimeout) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("WebDriver 풀 크기는 1 이상이어야 합니다: " + maxSize);
+    }
+    this.driverFactory = driverFactory;
+    this.idleTimeoutMillis = idleTimeout.toMillis();
+    this.borrowTimeoutMillis = borrowTimeout.toMillis();
+    this.permits = new Semaphore(maxSize, true);
+
+    this.borrowWaitTimer = Timer.builder("lotto.webdriver.borrow.wait")
+        .description("WebDriver 대여 대기 시간")
+        .register(meterRegistry);
+    this.reuseSummary = DistributionSummary.builder("lotto.webdriver.session.reuse")
+        .description("대여된 WebDriver 세션의 이전 사용 횟수")
+        .register(meterRegistry);
+    this.createdCounter = Counter.builder("lotto.webdriver.sessions.created").register(meterRegistry);
+    this.evictedCounter = Counter.builder("lotto.webdriver.sessions.evicted").register(meterRegistry);
+    Gauge.builder("lotto.webdriver.sessions.idle", this, WebDriverPool::idleCount).register(meterRegistry);
+    Gauge.builder("lotto.webdriver.sessions.active", this, WebDriverPool::activeCount).register(meterRegistry);
+  }
+
+  /**
+   * 세션을 대여합니다. 유휴 세션이 있으면 상태 확인 후 재사용하고, 없으면 새로 생성합니다.
+   * 모든 세션이 사용 중이면 borrow-timeout 동안 반환을 기다립니다.
+   *
+   * @return 대여한 세션 (사용 후 close()로 반환)
+   * @throws IllegalStateException 대기 시간 초과, 풀 종료 또는 세션 생성 실패 시
+   */
+  public PooledWebDriver borrow() {
+    long startedAt = System.nanoTime();
+    try {
+      if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        throw new IllegalStateException("WebDriver 대여 대기 시간을 초과했습니다.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("WebDriver 대여가 중단되었습니다.", e);
+    }
+    borrowWaitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+    try {
+      PooledWebDriver pooled = takeHealthyIdle();
+      if (pooled == null) {
+        pooled = new PooledWebDriver(this, driverFactory.get(), System.currentTimeMillis());
+        createdCounter.increment();
+        log.info("[WebDriver 풀] 새 세션 생성");
+      }
+      synchronized (lock) {
+        if (closed) {
+          quitQuietly(pooled);
+          throw new IllegalStateException("WebDriver 풀이 종료되었습니다.");
+        }
+        pooled.onBorrow();
+        active++;
+      }
+      reuseSummary.record(pooled.getUseCount() - 1);
+      return pooled;
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * 세션을 풀에 반환합니다. 고장 표시된 세션이나 풀 종료 후 반환된 세션은 바로 종료됩니다.
+   */
+  void release(PooledWebDriver pooled) {
+    boolean discard;
+    synchronized (lock) {
+      if (!pooled.isBorrowed()) {
+        return;
+      }
+      pooled.onReturn(System.currentTimeMillis());
+      active--;
+      discard = closed || pooled.isBroken();
+      if (!discard) {
+        idle.push(pooled);
+      }
+    }
+    if (discard) {
+      quitQuietly(pooled);
+    }
+    permits.release();
+  }
+
+  /**
+   * idle-timeout 이상 사용되지 않은 유휴 세션을 종료합니다.
+   */
+  @Scheduled(fixedDelayString = "${lotto.crawler.webdriver.evict-interval-ms:60000}")
+  public void evictIdle() {
+    long now = System.currentTimeMillis();
+    List<PooledWebDriver> expired = new ArrayList<>();
+    synchronized (lock) {
+      Iterator<PooledWebDriver> iterator = idle.iterator();
+      while (iterator.hasNext()) {
+        PooledWebDriver pooled = iterator.next();
+        if (now - pooled.getLastReturnedAt() >= idleTimeoutMillis) {
+          iterator.remove();
+          expired.add(pooled);
+        }
+      }
+    }
+    expired.forEach(this::quitQuietly);
+    if (!expired.isEmpty()) {
+      log.info("[WebDriver 풀] 유휴 세션 {}개 종료", expired.size());
+    }
+  }
+
+  @Override
+  public void destroy() {
+    List<PooledWebDriver> remaining;
+    synchronized (lock) {
+      closed = true;
+      remaining = new ArrayList<>(idle);
+      idle.clear();
+    }
+    remaining.forEach(this::quitQuietly);
+  }
+
+  public int idleCount() {
+    synchronized (lock) {
+      return idle.size();
+    }
+  }
+
+  public int activeCount() {
+    synchronized (lock) {
+      return active;
+    }
+  }
+
+  // 최근 반환된 세션부터 꺼내 상태를 확인하고, 응답하지 않는 세션은 종료
+  private PooledWebDriver takeHealthyIdle() {
+    while (true) {
+      PooledWebDriver candidate;
+      synchronized (lock) {
+        candidate = idle.poll();
+      }
+      if (candidate == null) {
+        return null;
+      }
+      if (isHealthy(candidate.driver())) {
+        return candidate;
+      }
+      log.warn("[WebDriver 풀] 응답 없는 세션 폐기");
+      quitQuietly(candidate);
+    }
+  }
+
+  private boolean isHealthy(WebDriver driver) {
+    try {
+      driver.getWindowHandle();
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private void quitQuietly(PooledWebDriver pooled) {
+    evictedCounter.increment();
+    try {
+      pooled.driver().quit();
+    } catch (Exception e) {
+      log.warn("[WebDriver 풀] 세션 종료 실패: {}", e.getMessage());
+    }
+  }
+
+  private static WebDriver createChromeDriver() {
+    WebDriverManager.chromedriver().setup();
+    return new ChromeDriver();
+  }
+}
@@ -1,14 +1,19 @@
 package com.eeerrorcode.lottomate.service.payment;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import com.eeerrorcode.lottomate.domain.dto.payment.PaymentGatewayResponseDto;
@@ -16,66 +21,32 @@ import com.eeerrorcode.lottomate.exeption.PaymentException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * 외부 결제 게이트웨이(포트원)와의 통신을 담당하는 서비스
+ * (DB를 사용하지 않으므로 트랜잭션을 열지 않음. 원격 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 호출)
  */
 @Service
-@Transactional
 @Log4j2
 @RequiredArgsConstructor
 public class PaymentGatewayService {
   private final RestTemplate restTemplate;
   private final ObjectMapper objectMapper;
-  
-  @Value("${iamport.api.key}")
-  private String iamportApiKey;
-  
-  @Value("${iamport.api.secret}")
-  private String iamportApiSecret;
+  private final PortOneTokenManager portOneTokenManager;
   
   @Value("${iamport.api.url}")
   private String iamportApiUrl;
   
   /**
-   * 포트원 액세스 토큰 발급
+   * 포트원 액세스 토큰 조회 (만료 전까지 공유되는 토큰, 갱신 시점이 지났으면 새로 발급)
    * 
-   * @return 발급된 액세스 토큰
+   * @return 액세스 토큰
    * @throws PaymentException 토큰 발급 실패 시 발생
    */
   public String getAccessToken() {
-    try {
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.APPLICATION_JSON);
-      
-      String requestBody = String.format(
-        "{\"imp_key\":\"%s\",\"imp_secret\":\"%s\"}", 
-        iamportApiKey, 
-        iamportApiSecret
-      );
-      
-      HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
-      String url = iamportApiUrl + "/users/getToken";
-      
-      String response = restTemplate.postForObject(url, entity, String.class);
-      JsonNode root = objectMapper.readTree(response);
-      
-      // 응답 코드가 0이 아닐 경우 오류
-      if (root.get("code").asInt(1) != 0) {
-        throw new PaymentException("포트원 토큰 발급 실패: " + root.get("message").asText());
-      }
-      
-      // 액세스 토큰 추출
-      String accessToken = root.get("response").get("access_token").asText();
-      log.info("포트원 액세스 토큰 발급 성공");
-      return accessToken;
-    } catch (Exception e) {
-      log.error("포트원 토큰 발급 실패: " + e.getMessage(), e);
-      throw new PaymentException("포트원 토큰 발급 중 오류 발생: " + e.getMessage());
-    }
+    return portOneTokenManager.getAccessToken();
   }
   
   /**
@@ -86,9 +57,10 @@ public class PaymentGatewayService {
    * @throws PaymentException 결제 정보 조회 실패 시 발생
    */
   public PaymentGatewayResponseDto getPaymentInfo(String impUid) {
+    String accessToken = null;
     try {
-      // 액세스 토큰 발급
-      String accessToken = getAccessToken();
+      // 액세스 토큰 조회
+      accessToken = getAccessToken();
       
       HttpHeaders headers = new HttpHeaders();
       headers.set("Authorization", accessToken);
@@ -96,7 +68,7 @@ public class PaymentGatewayService {
       HttpEntity<String> entity = new HttpEntity<>(headers);
       String url = iamportApiUrl + "/payments/" + impUid;
       
-      String response = restTemplate.getForObject(url, String.class, entity);
+      String response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class).getBody();
       JsonNode root = objectMapper.readTree(response);
       
       // 응답 코드가 0이 아닐 경우 오류
@@ -104,34 +76,80 @@ public class PaymentGatewayService {
         throw new PaymentException("포트원 결제 정보 조회 실패: " + root.get("message").asText());
       }
       
-      // 결제 정보 추출 및 DTO 매핑
-      JsonNode paymentData = root.get("response");
-      PaymentGatewayResponseDto responseDto = new PaymentGatewayResponseDto();
-      
-      responseDto.setImpUid(paymentData.get("imp_uid").asText());
-      responseDto.setMerchantUid(paymentData.get("merchant_uid").asText());
-      responseDto.setAmount(new BigDecimal(paymentData.get("amount").asText()));
-      responseDto.setStatus(paymentData.get("status").asText());
-      
-      // 카드 정보가 있는 경우
-      if (paymentData.has("card_info") && !paymentData.get("card_info").isNull()) {
-        JsonNode cardInfo = paymentData.get("card_info");
-        responseDto.setCardName(cardInfo.get("card_name").asText());
-        responseDto.setCardNumber(cardInfo.get("card_number").asText());
-      }
-      
-      // 영수증 URL이 있는 경우
-      if (paymentData.has("receipt_url") && !paymentData.get("receipt_url").isNull()) {
-        responseDto.setReceiptUrl(paymentData.get("receipt_url").asText());
-      }
-      
-      return responseDto;
+      return toPaymentInfo(root.get("response"));
     } catch (Exception e) {
+      portOneTokenManager.invalidateIfUnauthorized(accessToken, e);
       log.error("포트원 결제 정보 조회 실패: " + e.getMessage(), e);
       throw new PaymentException("포트원 결제 정보 조회 중 오류 발생: " + e.getMessage());
     }
   }
   
+  /**
+   * 주문번호로 결제 정보 조회. 결제 고유번호 없이 우리 주문번호만으로 포트원의 실제 결제를 확인할 때 사용합니다.
+   *
+   * @param merchantUid 주문번호
+   * @return 결제 정보 (포트원에 해당 주문의 결제가 없으면 빈 값)
+   * @throws PaymentException 결제 정보 조회 실패 시 발생
+   */
+  public Optional<PaymentGatewayResponseDto> findPaymentByMerchantUid(String merchantUid) {
+    String accessToken = null;
+    try {
+      accessToken = getAccessToken();
+
+      HttpHeaders headers = new HttpHeaders();
+      headers.set("Authorization", accessToken);
+
+      HttpEntity<String> entity = new HttpEntity<>(headers);
+      String url = iamportApiUrl + "/payments/find/" + merchantUid;
+
+      String response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class).getBody();
+      JsonNode root = objectMapper.readTree(response);
+
+      // 응답 코드가 0이 아닐 경우 오류
+      if (root.get("code").asInt(1) != 0) {
+        throw new PaymentException("포트원 결제 정보 조회 실패: " + root.get("message").asText());
+      }
+      return Optional.of(toPaymentInfo(root.get("response")));
+    } catch (HttpClientErrorException.NotFound e) {
+      return Optional.empty();
+    } catch (Exception e) {
+      portOneTokenManager.invalidateIfUnauthorized(accessToken, e);
+      log.error("포트원 주문번호 결제 조회 실패: merchantUid={}, {}", merchantUid, e.getMessage());
+      throw new PaymentException("포트원 결제 정보 조회 중 오류 발생: " + e.getMessage());
+    }
+  }
+
+  // 포트원 결제 정보(response)를 DTO로 매핑
+  private static PaymentGatewayResponseDto toPaymentInfo(JsonNode paymentData) {
+    PaymentGatewayResponseDto responseDto = new PaymentGatewayResponseDto();
+    
+    responseDto.setImpUid(paymentData.get("imp_uid").asText());
+    responseDto.setMerchantUid(paymentData.get("merchant_uid").asText());
+    responseDto.setAmount(new BigDecimal(paymentData.get("amount").asText()));
+    responseDto.setStatus(paymentData.get("status").asText());
+    responseDto.setPayMethod(paymentData.path("pay_method").asText(null));
+    if (paymentData.hasNonNull("fail_reason")) {
+      responseDto.setErrorMsg(paymentData.get("fail_reason").asText());
+    }
+    if (paymentData.hasNonNull("cancel_amount")) {
+      responseDto.setCancelAmount(new BigDecimal(paymentData.get("cancel_amount").asText()));
+    }
+    
+    // 카드 정보가 있는 경우
+    if (paymentData.has("card_info") && !paymentData.get("card_info").isNull()) {
+      JsonNode cardInfo = paymentData.get("card_info");
+      responseDto.setCardName(cardInfo.get("card_name").asText());
+      responseDto.setCardNumber(cardInfo.get("card_number").asText());
+    }
+    
+    // 영수증 URL이 있는 경우
+    if (paymentData.has("receipt_url") && !paymentData.get("receipt_url").isNull()) {
+      responseDto.setReceiptUrl(paymentData.get("receipt_url").asText());
+    }
+    
+    return responseDto;
+  }
+  
   /**
    * 결제 환불 처리
    * 
@@ -142,9 +160,10 @@ public class PaymentGatewayService {
    * @throws PaymentException 환불 처리 실패 시 발생
    */
   public PaymentGatewayResponseDto refundPayment(String impUid, BigDecimal amount, String reason) {
+    String accessToken = null;
     try {
-      // 액세스 토큰 발급
-      String accessToken = getAccessToken();
+      // 액세스 토큰 조회
+      accessToken = getAccessToken();
       
       HttpHeaders headers = new HttpHeaders();
       headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
@@ -178,6 +197,7 @@ public class PaymentGatewayService {
       log.info("포트원 결제 환불 성공: impUid={}, amount={}", impUid, amount);
       return responseDto;
     } catch (Exception e) {
+      portOneTokenManager.invalidateIfUnauthorized(accessToken, e);
       log.error("포트원 결제 환불 실패: " + e.getMessage(), e);
       throw new PaymentException("포트원 결제 환불 중 오류 발생: " + e.getMessage());
     }
@@ -195,9 +215,10 @@ public class PaymentGatewayService {
    * @throws PaymentException 빌링키 발급 실패 시 발생
    */
   public String issueBillingKey(String customerUid, String cardNumber, String expiry, String birth, String pwd2Digit) {
+    String accessToken = null;
     try {
-      // 액세스 토큰 발급
-      String accessToken = getAccessToken();
+      // 액세스 토큰 조회
+      accessToken = getAccessToken();
       
       HttpHeaders headers = new HttpHeaders();
       headers.setContentType(MediaType.APPLICATION_JSON);
@@ -223,6 +244,7 @@ public class PaymentGatewayService {
       log.info("포트원 빌링키 발급 성공: customerUid={}", customerUid);
       return customerUid;
     } catch (Exception e) {
+      portOneTokenManager.invalidateIfUnauthorized(accessToken, e);
       log.error("포트원 빌링키 발급 실패: " + e.getMessage(), e);
       throw new PaymentException("포트원 빌링키 발급 중 오류 발생: " + e.getMessage());
     }
@@ -235,23 +257,26 @@ public class PaymentGatewayService {
    * @param merchantUid 주문번호
    * @param amount 결제금액
    * @param name 주문명
-   * @return 정기결제 요청 결과
-   * @throws PaymentException 정기결제 요청 실패 시 발생
+   * @return 정기결제 요청 결과 (포트원이 요청을 거절했거나 카드 승인이 거절되면 status=failed, errorMsg에 사유)
+   * @throws PaymentException 통신 오류 등으로 결제 결과를 알 수 없는 경우 발생
    */
   public PaymentGatewayResponseDto requestSubscription(String customerUid, String merchantUid, BigDecimal amount, String name) {
+    String accessToken = null;
     try {
-      // 액세스 토큰 발급
-      String accessToken = getAccessToken();
+      // 액세스 토큰 조회
+      accessToken = getAccessToken();
       
       HttpHeaders headers = new HttpHeaders();
       headers.setContentType(MediaType.APPLICATION_JSON);
       headers.set("Authorization", accessToken);
       
-      // 정기결제 요청 본문
-      String requestBody = String.format(
-        "{\"customer_uid\":\"%s\",\"merchant_uid\":\"%s\",\"amount\":%s,\"name\":\"%s\"}", 
-        customerUid, merchantUid, amount.toString(), name
-      );
+      // 정기결제 요청 본문 (주문명 등에 따옴표가 있어도 깨지지 않도록 직렬화)
+      Map<String, Object> body = new LinkedHashMap<>();
+      body.put("customer_uid", customerUid);
+      body.put("merchant_uid", merchantUid);
+      body.put("amount", amount);
+      body.put("name", name);
+      String requestBody = objectMapper.writeValueAsString(body);
       
       HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
       String url = iamportApiUrl + "/subscribe/payments/again";
@@ -259,12 +284,20 @@ public class PaymentGatewayService {
       String response = restTemplate.postForObject(url, entity, String.class);
       JsonNode root = objectMapper.readTree(response);
       
-      // 응답 코드가 0이 아닐 경우 오류
+      // 응답 코드가 0이 아닐 경우 포트원이 요청을 거절한 것 (빌링키 없음 등)
       if (root.get("code").asInt(1) != 0) {
-        throw new PaymentException("포트원 정기결제 요청 실패: " + root.get("message").asText());
+        log.warn("포트원 정기결제 요청 거절: merchantUid={}, message={}", merchantUid, root.path("message").asText());
+        return PaymentGatewayResponseDto.builder()
+          .merchantUid(merchantUid)
+          .customerUid(customerUid)
+          .amount(amount)
+          .status("failed")
+          .errorCode(root.get("code").asText())
+          .errorMsg(root.path("message").asText(null))
+          .build();
       }
       
-      // 결제 결과 추출 및 DTO 매핑
+      // 결제 결과 추출 및 DTO 매핑 (카드 승인 거절 시 status=failed, fail_reason에 사유)
       JsonNode paymentData = root.get("response");
       PaymentGatewayResponseDto responseDto = new PaymentGatewayResponseDto();
       
@@ -272,11 +305,19 @@ public class PaymentGatewayService {
       responseDto.setMerchantUid(paymentData.get("merchant_uid").asText());
       responseDto.setAmount(new BigDecimal(paymentData.get("amount").asText()));
       responseDto.setStatus(paymentData.get("status").asText());
+      responseDto.setCustomerUid(customerUid);
+      if (paymentData.hasNonNull("fail_reason")) {
+        responseDto.setErrorMsg(paymentData.get("fail_reason").asText());
+      }
+      if (paymentData.hasNonNull("receipt_url")) {
+        responseDto.setReceiptUrl(paymentData.get("receipt_url").asText());
+      }
       
-      log.info("포트원 정기결제 요청 성공: customerUid={}, merchantUid={}, amount={}", 
-        customerUid, merchantUid, amount);
+      log.info("포트원 정기결제 요청 완료: customerUid={}, merchantUid={}, amount={}, status={}", 
+        customerUid, merchantUid, amount, responseDto.getStatus());
       return responseDto;
     } catch (Exception e) {
+      portOneTokenManager.invalidateIfUnauthorized(accessToken, e);
       log.error("포트원 정기결제 요청 실패: " + e.getMessage(), e);
       throw new PaymentException("포트원 정기결제 요청 중 오류 발생: " + e.getMessage());
     }
@@ -0,0 +1,31 @@
+package com.eeerrorcode.lottomate.service.payment;
+
+import java.time.LocalDateTime;
+
+import com.eeerrorcode.lottomate.domain.dto.payment.PaymentReconciliationReport;
+
+/**
+ * 로컬 결제 정보와 포트원 결제 정보를 비교(대사)하는 서비스 인터페이스입니다.
+ * 결제 상태, 금액, 환불 금액이 다른 결제를 불일치 내역으로 보고하고 결제 로그에 남깁니다.
+ */
+public interface PaymentReconciliationService {
+
+  /**
+   * 결제일이 지정된 기간에 속한 결제를 포트원 결제 정보와 병렬로 비교합니다.
+   * 일부 결제의 포트원 조회가 실패해도 나머지 결제는 계속 비교하며, 실패한 주문번호는 결과에 포함합니다.
+   *
+   * @param from 대사 기간 시작 (포함)
+   * @param to   대사 기간 종료 (미포함)
+   * @return 대사 결과 요약
+   * @throws IllegalArgumentException 기간이 올바르지 않은 경우
+   * @throws IllegalStateException    다른 대사 작업이 진행 중인 경우
+   */
+  PaymentReconciliationReport reconcile(LocalDateTime from, LocalDateTime to);
+
+  /**
+   * 전날 결제분을 대사합니다. (스케줄러 실행용)
+   *
+   * @return 대사 결과 요약
+   */
+  PaymentReconciliationReport reconcilePreviousDay();
+}
@@ -0,0 +1,314 @@
+package com.eeerrorcode.lottomate.service.payment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.eeerrorcode.lottomate.domain.dto.payment.PaymentDiscrepancyDto;
+import com.eeerrorcode.lottomate.domain.dto.payment.PaymentGatewayResponseDto;
+import com.eeerrorcode.lottomate.domain.dto.payment.PaymentReconciliationReport;
+import com.eeerrorcode.lottomate.domain.entity.payment.Payment;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentLog;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentLogAction;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentStatus;
+import com.eeerrorcode.lottomate.repository.payment.PaymentLogRepository;
+import com.eeerrorcode.lottomate.repository.payment.PaymentRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 결제 대사 서비스 구현.
+ * <p>
+ * 결제일 기간의 결제를 (결제일, ID) 커서로 page-size건씩 읽고, 각 결제의 포트원 결제 정보를 parallelism개 작업 스레드로
+ * 동시에 조회합니다(공용 커넥션 풀 사용). 한 페이지를 조회하는 동안 다음 페이지를 미리 읽어 DB 조회와 포트원 조회가
+ * 겹치도록 하며, 불일치 결제는 페이지 단위로 결제 로그(RECONCILIATION_MISMATCH)에 일괄 저장합니다.
+ * 결제 정보는 비교만 하고 수정하지 않습니다. 작업이 중단되거나 비교 작업 오류로 멈추면 그때까지의 결과를
+ * 미완료(incomplete)로 표시해 반환합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>payment.reconciliation.checked (result=matched|mismatched|failed): 결제별 비교 결과</li>
+ *   <li>payment.reconciliation.duration: 대사 작업 전체 소요 시간</li>
+ * </ul>
+ */
+@Service
+@Log4j2
+public class PaymentReconciliationServiceImpl implements PaymentReconciliationService {
+
+  private static final int MAX_ATTEMPTS = 2;
+  private static final String RECONCILIATION_LOG_ADDRESS = "system"; // 스케줄러/관리자 작업이므로 요청 IP 없음
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+  private final PaymentRepository paymentRepository;
+  private final PaymentLogRepository paymentLogRepository;
+  private final PaymentGatewayService paymentGatewayService;
+  private final ObjectMapper objectMapper;
+  private final int parallelism;
+  private final int pageSize;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+  private final Counter matchedCounter;
+  private final Counter mismatchedCounter;
+  private final Counter failedCounter;
+  private final Timer runTimer;
+
+  @Autowired
+  public PaymentReconciliationServiceImpl(PaymentRepository paymentRepository,
+      PaymentLogRepository paymentLogRepository, PaymentGatewayService paymentGatewayService,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry,
+      @Value("${payment.reconciliation.parallelism:8}") int parallelism,
+      @Value("${payment.reconciliation.page-size:500}") int pageSize) {
+    this.paymentRepository = paymentRepository;
+    this.paymentLogRepository = paymentLogRepository;
+    this.paymentGatewayService = paymentGatewayService;
+    this.objectMapper = objectMapper;
+    this.parallelism = Math.max(1, parallelism);
+    this.pageSize = Math.max(1, pageSize);
+
+    this.matchedCounter = counter(meterRegistry, "matched");
+    this.mismatchedCounter = counter(meterRegistry, "mismatched");
+    this.failedCounter = counter(meterRegistry, "failed");
+    this.runTimer = Timer.builder("payment.reconciliation.duration")
+      .description("결제 대사 작업 전체 소요 시간")
+      .register(meterRegistry);
+  }
+
+  /**
+   * 매일 새벽 전날 결제분 대사 (cron을 "-"로 설정하면 비활성화)
+   */
+  @Scheduled(cron = "${payment.reconciliation.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+  public void runScheduledReconciliation() {
+    try {
+      reconcilePreviousDay();
+    } catch (Exception e) {
+      log.error("[결제 대사] 스케줄 실행 실패", e);
+    }
+  }
+
+  @Override
+  public PaymentReconciliationReport reconcilePreviousDay() {
+    LocalDate today = LocalDate.now(ZONE);
+    return reconcile(today.minusDays(1).atStartOfDay(), today.atStartOfDay());
+  }
+
+  @Override
+  public PaymentReconciliationReport reconcile(LocalDateTime from, LocalDateTime to) {
+    if (from == null || to == null || !from.isBefore(to)) {
+      throw new IllegalArgumentException("대사 기간이 올바르지 않습니다: " + from + " ~ " + to);
+    }
+    if (!running.compareAndSet(false, true)) {
+      throw new IllegalStateException("결제 대사가 이미 진행 중입니다.");
+    }
+    try {
+      return runTimer.record(() -> run(from, to));
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private PaymentReconciliationReport run(LocalDateTime from, LocalDateTime to) {
+    long startedAt = System.currentTimeMillis();
+    log.info("[결제 대사] {} ~ {} 결제 대사 시작 (동시 조회 {}건)", from, to, parallelism);
+
+    List<PaymentDiscrepancyDto> discrepancies = new ArrayList<>();
+    List<String> failedMerchantUids = new ArrayList<>();
+    long checked = 0;
+    boolean incomplete = false;
+
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism, workerThreadFactory());
+    try {
+      CompletionService<Check> completion = new ExecutorCompletionService<>(executor);
+      List<Payment> page = fetchPage(to, from, 0L);
+      while (!page.isEmpty()) {
+        for (Payment payment : page) {
+          completion.submit(() -> check(payment));
+        }
+        // 현재 페이지를 포트원에서 조회하는 동안 다음 페이지를 미리 읽음
+        List<Payment> next = page.size() < pageSize
+          ? List.of()
+          : fetchPage(to, page.get(page.size() - 1).getPaymentDate(), page.get(page.size() - 1).getId());
+
+        List<PaymentLog> logs = new ArrayList<>();
+        for (int i = 0; i < page.size(); i++) {
+          Check check = completion.take().get();
+          checked++;
+          if (check.failed()) {
+            failedCounter.increment();
+            failedMerchantUids.add(check.payment().getMerchantUid());
+          } else if (check.discrepancy() == null) {
+            matchedCounter.increment();
+          } else {
+            mismatchedCounter.increment();
+            discrepancies.add(check.discrepancy());
+            logs.add(mismatchLog(check.payment(), check.discrepancy()));
+          }
+        }
+        saveLogs(logs);
+        page = next;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      incomplete = true;
+      log.warn("[결제 대사] 작업이 중단되었습니다.");
+    } catch (ExecutionException e) {
+      incomplete = true;
+      log.error("[결제 대사] 비교 작업 오류", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    long elapsed = System.currentTimeMillis() - startedAt;
+    long matched = checked - discrepancies.size() - failedMerchantUids.size();
+    log.info("[결제 대사] {}: 비교 {}건, 일치 {}건, 불일치 {}건, 조회 실패 {}건, 소요 {}ms",
+      incomplete ? "미완료" : "완료", checked, matched, discrepancies.size(), failedMerchantUids.size(), elapsed);
+
+    return PaymentReconciliationReport.builder()
+      .from(from)
+      .to(to)
+      .checkedCount(checked)
+      .matchedCount(matched)
+      .discrepancies(discrepancies)
+      .failedMerchantUids(failedMerchantUids)
+      .incomplete(incomplete)
+      .elapsedMillis(elapsed)
+      .build();
+  }
+
+  private List<Payment> fetchPage(LocalDateTime to, LocalDateTime afterDate, Long afterId) {
+    return paymentRepository.findReconciliationPage(to, afterDate, afterId, Limit.of(pageSize));
+  }
+
+  private Check check(Payment payment) {
+    if (payment.getImpUid() == null || payment.getImpUid().isBlank()) {
+      // 결제일이 있는데 포트원 결제 고유번호가 없으면 포트원에서 확인할 수 없는 결제
+      return new Check(payment, discrepancy(payment, null, List.of("impUid")), false);
+    }
+    for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+      try {
+        PaymentGatewayResponseDto paymentInfo = paymentGatewayService.getPaymentInfo(payment.getImpUid());
+        List<String> fields = compare(payment, paymentInfo);
+        return new Check(payment, fields.isEmpty() ? null : discrepancy(payment, paymentInfo, fields), false);
+      } catch (RuntimeException e) {
+        log.warn("[결제 대사] 포트원 조회 실패 ({}/{}): merchantUid={}, {}",
+          attempt, MAX_ATTEMPTS, payment.getMerchantUid(), e.getMessage());
+      }
+    }
+    return new Check(payment, null, true);
+  }
+
+  private static List<String> compare(Payment payment, PaymentGatewayResponseDto paymentInfo) {
+    List<String> fields = new ArrayList<>();
+    if (!Objects.equals(payment.getMerchantUid(), paymentInfo.getMerchantUid())) {
+      fields.add("merchantUid");
+    }
+    if (!Objects.equals(expectedGatewayStatus(payment.getPaymentStatus()), paymentInfo.getStatus())) {
+      fields.add("status");
+    }
+    if (amountOf(payment.getAmount()).compareTo(amountOf(paymentInfo.getAmount())) != 0) {
+      fields.add("amount");
+    }
+    if (amountOf(payment.getRefundAmount()).compareTo(amountOf(paymentInfo.getCancelAmount())) != 0) {
+      fields.add("refundAmount");
+    }
+    return fields;
+  }
+
+  /**
+   * 로컬 결제 상태에 대응하는 포트원 결제 상태 (포트원은 부분 취소 후에도 paid 상태 유지)
+   */
+  private static String expectedGatewayStatus(PaymentStatus paymentStatus) {
+    return switch (paymentStatus) {
+      case COMPLETE, PARTIAL_REFUNDED -> "paid";
+      case REFUNDED -> "cancelled";
+      case FAILED -> "failed";
+      case PENDING -> "ready";
+    };
+  }
+
+  private static BigDecimal amountOf(BigDecimal amount) {
+    return amount != null ? amount : BigDecimal.ZERO;
+  }
+
+  private static PaymentDiscrepancyDto discrepancy(Payment payment, PaymentGatewayResponseDto paymentInfo,
+      List<String> fields) {
+    return PaymentDiscrepancyDto.builder()
+      .paymentId(payment.getId())
+      .merchantUid(payment.getMerchantUid())
+      .impUid(payment.getImpUid())
+      .fields(fields)
+      .localStatus(payment.getPaymentStatus())
+      .gatewayStatus(paymentInfo != null ? paymentInfo.getStatus() : null)
+      .localAmount(payment.getAmount())
+      .gatewayAmount(paymentInfo != null ? paymentInfo.getAmount() : null)
+      .localRefundAmount(amountOf(payment.getRefundAmount()))
+      .gatewayCancelAmount(paymentInfo != null ? amountOf(paymentInfo.getCancelAmount()) : null)
+      .build();
+  }
+
+  private PaymentLog mismatchLog(Payment payment, PaymentDiscrepancyDto discrepancy) {
+    String responseData;
+    try {
+      responseData = objectMapper.writeValueAsString(discrepancy);
+    } catch (JsonProcessingException e) {
+      responseData = discrepancy.toString();
+    }
+    return PaymentLog.builder()
+      .user(payment.getUser())
+      .payment(payment)
+      .action(PaymentLogAction.RECONCILIATION_MISMATCH)
+      .responseData(responseData)
+      .ipAddress(RECONCILIATION_LOG_ADDRESS)
+      .build();
+  }
+
+  private void saveLogs(List<PaymentLog> logs) {
+    if (logs.isEmpty()) {
+      return;
+    }
+    try {
+      paymentLogRepository.saveAll(logs);
+    } catch (Exception e) {
+      // 로그 저장에 실패해도 불일치 내역은 결과에 포함되므로 대사는 계속 진행
+      log.error("[결제 대사] 불일치 로그 {}건 저장 실패: {}", logs.size(), e.getMessage());
+    }
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("payment.reconciliation.checked").tag("result", result).register(meterRegistry);
+  }
+
+  private static ThreadFactory workerThreadFactory() {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "payment-reconcile-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private record Check(Payment payment, PaymentDiscrepancyDto discrepancy, boolean failed) {
+  }
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.eeerrorcode.lottomate.domain.dto.CursorSlice;
 import com.eeerrorcode.lottomate.domain.dto.payment.*;
 import com.eeerrorcode.lottomate.domain.entity.payment.*;
 import com.eeerrorcode.lottomate.domain.entity.user.User;
@@ -88,6 +89,16 @@ public interface PaymentService {
    * @return 결제 로그 목록
    */
   List<PaymentLogResponseDto> getPaymentLogs(Long userId);
+
+  /**
+   * 결제 로그 커서 조회 (최신순, 전체 건수는 세지 않음)
+   * 
+   * @param userId 사용자 ID
+   * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+   * @param size 한 페이지당 항목 수
+   * @return 결제 로그 페이지
+   */
+  CursorSlice<PaymentLogResponseDto> getPaymentLogs(Long userId, String cursor, int size);
   
   /**
    * 관리자용 결제 로그 상세 조회
@@ -13,11 +13,13 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import com.eeerrorcode.lottomate.domain.dto.CursorSlice;
 import com.eeerrorcode.lottomate.domain.dto.payment.*;
 import com.eeerrorcode.lottomate.domain.entity.payment.*;
 import com.eeerrorcode.lottomate.exeption.*;
 import com.eeerrorcode.lottomate.repository.UserRepository;
 import com.eeerrorcode.lottomate.repository.payment.*;
+import com.eeerrorcode.lottomate.util.CursorUtil;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -38,6 +40,7 @@ public class PaymentServiceImpl implements PaymentService{
   private final RestTemplate restTemplate;
   private final ObjectMapper objectMapper;
   private final PaymentGatewayService paymentGatewayService;
+  private final PortOneTokenManager portOneTokenManager;
   
   // // 생성자에 @Qualifier 추가
   // public PaymentServiceImpl(
@@ -58,80 +61,12 @@ public class PaymentServiceImpl implements PaymentService{
   //   this.objectMapper = objectMapper;
   // }
 
-  @Value("${iamport.api.key}")
-  private String iamportApiKey;
-  
-  @Value("${iamport.api.secret}")
-  private String iamportApiSecret;
-  
   @Value("${iamport.api.url}")
   private String iamportApiUrl;
 
   @Override
   public String getPortOneAccessToken() {
-    try {
-      log.info("포트원 액세스 토큰 발급 요청");
-      
-      // API 키 확인
-      if (iamportApiKey == null || iamportApiKey.isEmpty() || iamportApiSecret == null || iamportApiSecret.isEmpty()) {
-        log.error("포트원 API 키 또는 시크릿이 설정되지 않았습니다");
-        throw new PaymentException("포트원 API 키가 설정되지 않았습니다");
-      }
-      
-      // 토큰 요청 헤더 및 본문 설정
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.APPLICATION_JSON);
-      
-      String requestBody = String.format(
-        "{\"imp_key\":\"%s\",\"imp_secret\":\"%s\"}", 
-        iamportApiKey, 
-        iamportApiSecret
-      );
-      
-      // 요청 엔티티 생성
-      HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
-      String url = iamportApiUrl + "/users/getToken";
-      
-      log.info("포트원 토큰 요청 URL: {}", url);
-      
-      // API 호출
-      ResponseEntity<String> responseEntity = restTemplate.postForEntity(url, entity, String.class);
-      String response = responseEntity.getBody();
-      
-      if (response == null || response.isEmpty()) {
-        log.error("포트원 토큰 발급 응답이 비어있습니다");
-        throw new PaymentException("포트원 토큰 발급 응답이 비어있습니다");
-      }
-      
-      log.debug("포트원 토큰 응답: {}", response);
-      
-      // 응답 파싱
-      JsonNode root = objectMapper.readTree(response);
-      
-      // 응답 코드가 0이 아닐 경우 오류
-      if (root.get("code").asInt(1) != 0) {
-        log.error("포트원 토큰 발급 실패: {}", root.get("message").asText());
-        throw new PaymentException("포트원 토큰 발급 실패: " + root.get("message").asText());
-      }
-      
-      // 액세스 토큰 추출 및 반환
-      JsonNode responseNode = root.get("response");
-      if (responseNode == null || responseNode.isNull() || !responseNode.has("access_token")) {
-        log.error("포트원 응답에 토큰 정보가 없습니다");
-        throw new PaymentException("포트원 응답에 토큰 정보가 없습니다");
-      }
-      
-      String accessToken = responseNode.get("access_token").asText();
-      log.info("포트원 액세스 토큰 발급 성공");
-      
-      return accessToken;
-    } catch (HttpClientErrorException e) {
-      log.error("포트원 토큰 발급 HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
-      throw new PaymentException("포트원 토큰 발급 중 HTTP 오류 발생: " + e.getMessage());
-    } catch (Exception e) {
-      log.error("포트원 토큰 발급 실패: " + e.getMessage(), e);
-      throw new PaymentException("포트원 토큰 발급 중 오류 발생: " + e.getMessage());
-    }
+    return portOneTokenManager.getAccessToken();
   }
   
   @Override
@@ -141,6 +76,7 @@ public class PaymentServiceImpl implements PaymentService{
       subscriptionId, PaymentStatus.COMPLETE)
       .orElseThrow(() -> new ResourceNotFoundException("환불할 결제 정보를 찾을 수 없습니다: " + subscriptionId));
     
+    String token = null;
     try {
       // 이미 환불된 경우 예외 발생
       if (payment.isRefunded()) {
@@ -148,7 +84,7 @@ public class PaymentServiceImpl implements PaymentService{
       }
       
       // 포트원 환불 요청
-      String token = getIamportAccessToken();
+      token = getPortOneAccessToken();
       
       HttpHeaders headers = new HttpHeaders();
       headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
@@ -177,6 +113,7 @@ public class PaymentServiceImpl implements PaymentService{
       log.info("결제 환불 처리 완료: subscriptionId = {}, paymentId = {}, amount = {}", 
         subscriptionId, payment.getId(), payment.getAmount());
     } catch (Exception e) {
+      portOneTokenManager.invalidateIfUnauthorized(token, e);
       log.error("결제 환불 처리 실패: " + e.getMessage(), e);
       throw new PaymentException("결제 환불 처리 중 오류 발생: " + e.getMessage());
     }
@@ -184,12 +121,12 @@ public class PaymentServiceImpl implements PaymentService{
 
   @Override
   public void verifyPayment(String impUid, String merchantUid, BigDecimal amount) {
+    String token = null;
     try {
       log.info("결제 검증 시작: impUid={}, merchantUid={}, amount={}", impUid, merchantUid, amount);
       
-      // 매번 새로운 토큰을 발급받아 사용 (캐싱된 토큰을 사용하지 않음)
-      String token = getPortOneAccessToken();
-      log.info("포트원 액세스 토큰 발급 성공");
+      // 만료 전까지 공유되는 토큰 사용 (갱신 시점이 지났으면 새로 발급)
+      token = getPortOneAccessToken();
       
       if (token == null || token.isEmpty()) {
         throw new PaymentVerificationException("포트원 액세스 토큰 발급 실패");
@@ -251,6 +188,7 @@ public class PaymentServiceImpl implements PaymentService{
       
       log.info("결제 검증 성공: {}, {}, {}", impUid, merchantUid, amount);
     } catch (HttpClientErrorException e) {
+      portOneTokenManager.invalidateIfUnauthorized(token, e);
       log.error("HTTP 클라이언트 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
       throw new PaymentVerificationException("결제 검증 중 HTTP 오류 발생: " + e.getMessage(), e);
     } catch (Exception e) {
@@ -424,6 +362,18 @@ public class PaymentServiceImpl implements PaymentService{
     return paymentLogRepository.findByUserIdOrderByCreatedAtDesc(userId).stream().map(l -> toLogResponseDto(l)).toList();
   }
 
+  @Override
+  public CursorSlice<PaymentLogResponseDto> getPaymentLogs(Long userId, String cursor, int size) {
+    List<PaymentLog> logs;
+    if (cursor == null || cursor.isBlank()) {
+      logs = paymentLogRepository.findByUserIdOrderByIdDesc(userId, CursorUtil.limitOf(size));
+    } else {
+      long lastId = Long.parseLong(CursorUtil.decode(cursor, 1)[0]);
+      logs = paymentLogRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, lastId, CursorUtil.limitOf(size));
+    }
+    return CursorUtil.slice(logs, size, l -> CursorUtil.encode(l.getId()), this::toLogResponseDto);
+  }
+
   @Override
   public PaymentLogDto getPaymentLogDetail(Long logId) {
     return toLogDto(paymentLogRepository.findById(logId)
@@ -495,40 +445,4 @@ public class PaymentServiceImpl implements PaymentService{
       throw new PaymentException("결제 환불 처리 중 오류 발생: " + e.getMessage());
     }
   }
-  
-  /**
-   * 포트원 API 액세스 토큰 발급
-   * 
-   * @return 액세스 토큰
-   */
-  private String getIamportAccessToken() {
-    try {
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.APPLICATION_JSON);
-      
-      String requestBody = String.format(
-        "{\"imp_key\":\"%s\",\"imp_secret\":\"%s\"}", 
-        iamportApiKey, 
-        iamportApiSecret
-      );
-      
-      HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
-      String url = iamportApiUrl + "/users/getToken";
-      
-      String response = restTemplate.postForObject(url, entity, String.class);
-      JsonNode root = objectMapper.readTree(response);
-      
-      // 응답 코드가 0이 아닐 경우 오류
-      if (root.get("code").asInt(1) != 0) {
-        throw new PaymentException("포트원 토큰 발급 실패: " + root.get("message").asText());
-      }
-      
-      // 액세스 토큰 추출
-      String accessToken = root.get("response").get("access_token").asText();
-      return accessToken;
-    } catch (Exception e) {
-      log.error("포트원 토큰 발급 실패: " + e.getMessage(), e);
-      throw new PaymentException("포트원 토큰 발급 중 오류 발생: " + e.getMessage());
-    }
-  }
-}
+}
\ No newline at end of file
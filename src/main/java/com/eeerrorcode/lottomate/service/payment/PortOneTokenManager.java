@@ -0,0 +1,338 @@
+package com.eeerrorcode.lottomate.service.payment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.eeerrorcode.lottomate.domain.dto.payment.PortOneTokenDto;
+import com.eeerrorcode.lottomate.exeption.PaymentException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 포트원 API 액세스 토큰 관리 컴포넌트.
+ * <p>
+ * 모든 결제 경로가 이 컴포넌트에서 토큰을 받아 사용하며, 발급받은 토큰은 expired_at보다
+ * refresh-margin-seconds 앞선 시점까지 재사용합니다. 만료 시각은 응답의 now와 expired_at 차이로 계산해
+ * 포트원 서버와의 시계 차이에 영향을 받지 않습니다. 토큰이 없거나 갱신 시점이 지나 여러 요청이 동시에 들어오면
+ * 발급 요청은 한 번만 보내고 나머지 요청은 그 결과를 함께 기다립니다.
+ * </p>
+ * <p>
+ * background-refresh가 켜져 있으면 갱신 시점에 백그라운드에서 미리 새 토큰을 받아 두므로 결제 요청이
+ * 토큰 발급을 기다리지 않습니다. 직전 갱신 이후 토큰을 사용한 요청이 없으면 미리 갱신하지 않고,
+ * 갱신에 실패해도 기존 토큰이 아직 만료되지 않았다면 그 토큰을 계속 사용하며, 다음 갱신은 10초 뒤에 다시 시도합니다.
+ * 포트원이 401을 반환하면 {@link #invalidate(String)}로 해당 토큰을 버리고 다음 요청에서 새로 발급합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>portone.token.requests (result=hit|shared|miss): 토큰 요청 결과 (hit, shared는 발급을 생략한 요청)</li>
+ *   <li>portone.token.fetch (result=success|failure): 포트원 토큰 발급 호출 수</li>
+ *   <li>portone.token.remaining.seconds: 현재 토큰의 남은 유효 시간</li>
+ * </ul>
+ */
+@Component
+@Log4j2
+public class PortOneTokenManager implements DisposableBean {
+
+  private static final long RETRY_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+  private final RestTemplate restTemplate;
+  private final ObjectMapper objectMapper;
+  private final String apiKey;
+  private final String apiSecret;
+  private final String apiUrl;
+  private final long refreshMarginMillis;
+  private final ScheduledExecutorService scheduler;
+
+  private volatile CachedToken current;
+  private final AtomicReference<CompletableFuture<CachedToken>> inFlight = new AtomicReference<>();
+  private final AtomicBoolean usedSinceCheck = new AtomicBoolean();
+
+  private final Counter hitCounter;
+  private final Counter sharedCounter;
+  private final Counter missCounter;
+  private final Counter fetchSuccessCounter;
+  private final Counter fetchFailureCounter;
+
+  @Autowired
+  public PortOneTokenManager(RestTemplate restTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+      @Value("${iamport.api.key}") String apiKey,
+      @Value("${iamport.api.secret}") String apiSecret,
+      @Value("${iamport.api.url}") String apiUrl,
+      @Value("${iamport.token.refresh-margin-seconds:60}") long refreshMarginSeconds,
+      @Value("${iamport.token.background-refresh:true}") boolean backgroundRefresh) {
+    this.restTemplate = restTemplate;
+    this.objectMapper = objectMapper;
+    this.apiKey = apiKey;
+    this.apiSecret = apiSecret;
+    this.apiUrl = apiUrl;
+    this.refreshMarginMillis = TimeUnit.SECONDS.toMillis(refreshMarginSeconds);
+    this.scheduler = backgroundRefresh ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "portone-token-refresh");
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
+
+    this.hitCounter = Counter.builder("portone.token.requests").tag("result", "hit").register(meterRegistry);
+    this.sharedCounter = Counter.builder("portone.token.requests").tag("result", "shared").register(meterRegistry);
+    this.missCounter = Counter.builder("portone.token.requests").tag("result", "miss").register(meterRegistry);
+    this.fetchSuccessCounter = Counter.builder("portone.token.fetch").tag("result", "success").register(meterRegistry);
+    this.fetchFailureCounter = Counter.builder("portone.token.fetch").tag("result", "failure").register(meterRegistry);
+    Gauge.builder("portone.token.remaining.seconds", this, PortOneTokenManager::remainingSeconds).register(meterRegistry);
+  }
+
+  /**
+   * 사용 가능한 포트원 액세스 토큰 반환 (갱신 시점이 지났으면 새로 발급)
+   *
+   * @return 액세스 토큰
+   * @throws PaymentException 토큰 발급 실패 시 발생
+   */
+  public String getAccessToken() {
+    return currentToken().value();
+  }
+
+  /**
+   * 사용 가능한 포트원 액세스 토큰과 만료 시각 반환 (갱신 시점이 지났으면 새로 발급)
+   *
+   * @return 액세스 토큰 정보
+   * @throws PaymentException 토큰 발급 실패 시 발생
+   */
+  public PortOneTokenDto getToken() {
+    CachedToken token = currentToken();
+    return PortOneTokenDto.builder()
+      .accessToken(token.value())
+      .expiredAt(TimeUnit.MILLISECONDS.toSeconds(token.expiresAt()))
+      .now(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()))
+      .build();
+  }
+
+  /**
+   * 포트원이 거부한 토큰을 버립니다. 이미 다른 토큰으로 교체되었으면 아무것도 하지 않습니다.
+   *
+   * @param accessToken 거부된 토큰
+   */
+  public void invalidate(String accessToken) {
+    CachedToken token = current;
+    if (token != null && token.value().equals(accessToken)) {
+      current = null;
+      log.warn("[포트원 토큰] 거부된 토큰을 폐기합니다");
+    }
+  }
+
+  /**
+   * 포트원 응답이 401이면 사용한 토큰을 버립니다.
+   *
+   * @param accessToken 요청에 사용한 토큰
+   * @param e           포트원 호출 중 발생한 예외
+   */
+  public void invalidateIfUnauthorized(String accessToken, Exception e) {
+    if (accessToken != null && e instanceof HttpClientErrorException clientError
+        && clientError.getStatusCode().isSameCodeAs(HttpStatus.UNAUTHORIZED)) {
+      invalidate(accessToken);
+    }
+  }
+
+  private CachedToken currentToken() {
+    usedSinceCheck.set(true);
+    CachedToken token = current;
+    if (token != null && token.refreshAt() > System.currentTimeMillis()) {
+      hitCounter.increment();
+      return token;
+    }
+    return refresh();
+  }
+
+  @Override
+  public void destroy() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  private CachedToken refresh() {
+    while (true) {
+      CompletableFuture<CachedToken> pending = inFlight.get();
+      if (pending != null) {
+        sharedCounter.increment();
+        return await(pending);
+      }
+      CompletableFuture<CachedToken> created = new CompletableFuture<>();
+      if (!inFlight.compareAndSet(null, created)) {
+        continue;
+      }
+      try {
+        // 다른 요청이 방금 갱신을 마쳤으면 그 토큰을 사용
+        CachedToken token = current;
+        if (token != null && token.refreshAt() > System.currentTimeMillis()) {
+          hitCounter.increment();
+          created.complete(token);
+          return token;
+        }
+        missCounter.increment();
+        CachedToken fetched = fetchOrKeep(token);
+        created.complete(fetched);
+        return fetched;
+      } catch (RuntimeException e) {
+        created.completeExceptionally(e);
+        throw e;
+      } finally {
+        inFlight.compareAndSet(created, null);
+      }
+    }
+  }
+
+  private CachedToken fetchOrKeep(CachedToken stale) {
+    try {
+      CachedToken fetched = fetch();
+      current = fetched;
+      scheduleRefresh(fetched.refreshAt());
+      return fetched;
+    } catch (RuntimeException e) {
+      long now = System.currentTimeMillis();
+      if (stale != null && stale.expiresAt() > now) {
+        // 재시도 시각까지는 기존 토큰을 그대로 내주어 요청마다 다시 발급을 시도하지 않도록 함
+        CachedToken kept = new CachedToken(stale.value(), stale.expiresAt(),
+          Math.min(stale.expiresAt(), now + RETRY_DELAY_MILLIS));
+        current = kept;
+        log.warn("[포트원 토큰] 갱신 실패, 만료 전인 기존 토큰을 사용합니다: {}", e.getMessage());
+        scheduleRefresh(kept.refreshAt());
+        return kept;
+      }
+      throw e;
+    }
+  }
+
+  private void scheduleRefresh(long refreshAt) {
+    if (scheduler == null) {
+      return;
+    }
+    long delay = Math.max(0L, refreshAt - System.currentTimeMillis());
+    scheduler.schedule(this::refreshInBackground, delay, TimeUnit.MILLISECONDS);
+  }
+
+  private void refreshInBackground() {
+    CachedToken token = current;
+    if (token != null && token.refreshAt() > System.currentTimeMillis()) {
+      return;
+    }
+    if (!usedSinceCheck.getAndSet(false)) {
+      log.debug("[포트원 토큰] 직전 갱신 이후 사용되지 않아 미리 갱신하지 않습니다");
+      return;
+    }
+    try {
+      refresh();
+    } catch (RuntimeException e) {
+      log.warn("[포트원 토큰] 백그라운드 갱신 실패: {}", e.getMessage());
+    }
+  }
+
+  private CachedToken fetch() {
+    if (apiKey == null || apiKey.isEmpty() || apiSecret == null || apiSecret.isEmpty()) {
+      log.error("포트원 API 키 또는 시크릿이 설정되지 않았습니다");
+      throw new PaymentException("포트원 API 키가 설정되지 않았습니다");
+    }
+    try {
+      HttpHeaders headers = new HttpHeaders();
+      headers.setContentType(MediaType.APPLICATION_JSON);
+
+      String requestBody = objectMapper.createObjectNode()
+        .put("imp_key", apiKey)
+        .put("imp_secret", apiSecret)
+        .toString();
+
+      HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
+      String response = restTemplate.postForObject(apiUrl + "/users/getToken", entity, String.class);
+      if (response == null || response.isEmpty()) {
+        throw new PaymentException("포트원 토큰 발급 응답이 비어있습니다");
+      }
+
+      JsonNode root = objectMapper.readTree(response);
+
+      // 응답 코드가 0이 아닐 경우 오류
+      if (root.path("code").asInt(1) != 0) {
+        throw new PaymentException("포트원 토큰 발급 실패: " + root.path("message").asText());
+      }
+
+      JsonNode responseNode = root.path("response");
+      if (!responseNode.hasNonNull("access_token")) {
+        throw new PaymentException("포트원 응답에 토큰 정보가 없습니다");
+      }
+
+      CachedToken token = toCachedToken(responseNode);
+      fetchSuccessCounter.increment();
+      log.info("포트원 액세스 토큰 발급 성공 (유효 {}초)", TimeUnit.MILLISECONDS.toSeconds(token.expiresAt() - System.currentTimeMillis()));
+      return token;
+    } catch (HttpClientErrorException e) {
+      fetchFailureCounter.increment();
+      log.error("포트원 토큰 발급 HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
+      throw new PaymentException("포트원 토큰 발급 중 HTTP 오류 발생: " + e.getMessage(), e);
+    } catch (PaymentException e) {
+      fetchFailureCounter.increment();
+      log.error(e.getMessage());
+      throw e;
+    } catch (Exception e) {
+      fetchFailureCounter.increment();
+      log.error("포트원 토큰 발급 실패: " + e.getMessage(), e);
+      throw new PaymentException("포트원 토큰 발급 중 오류 발생: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 응답의 expired_at - now(포트원 서버 시각)를 로컬 시각에 더해 만료 시각을 계산합니다.
+   * 남은 시간이 짧으면 갱신 여유는 남은 시간의 절반으로 줄입니다.
+   */
+  private CachedToken toCachedToken(JsonNode responseNode) {
+    long localNow = System.currentTimeMillis();
+    long expiredAt = responseNode.path("expired_at").asLong(0L);
+    long serverNow = responseNode.path("now").asLong(0L);
+    long lifetimeMillis = serverNow > 0
+      ? TimeUnit.SECONDS.toMillis(expiredAt - serverNow)
+      : TimeUnit.SECONDS.toMillis(expiredAt) - localNow;
+    lifetimeMillis = Math.max(0L, lifetimeMillis);
+    long expiresAt = localNow + lifetimeMillis;
+    long refreshAt = expiresAt - Math.min(refreshMarginMillis, lifetimeMillis / 2);
+    return new CachedToken(responseNode.get("access_token").asText(), expiresAt, refreshAt);
+  }
+
+  private static CachedToken await(CompletableFuture<CachedToken> pending) {
+    try {
+      return pending.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new PaymentException("포트원 토큰 발급 중 오류 발생: " + e.getMessage(), e);
+    }
+  }
+
+  private double remainingSeconds() {
+    CachedToken token = current;
+    if (token == null) {
+      return 0;
+    }
+    return Math.max(0L, token.expiresAt() - System.currentTimeMillis()) / 1000.0;
+  }
+
+  private record CachedToken(String value, long expiresAt, long refreshAt) {
+  }
+}
@@ -0,0 +1,262 @@
+package com.eeerrorcode.lottomate.service.subscription;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eeerrorcode.lottomate.domain.dto.payment.PaymentGatewayResponseDto;
+import com.eeerrorcode.lottomate.domain.entity.payment.Payment;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentStatus;
+import com.eeerrorcode.lottomate.repository.payment.PaymentRepository;
+import com.eeerrorcode.lottomate.service.payment.PaymentGatewayService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 결제 검증 작업 처리 컴포넌트.
+ * <p>
+ * 결제 검증 요청은 대기 상태의 구독과 결제만 기록한 뒤 이 컴포넌트에 주문번호를 넘기고 바로 응답합니다.
+ * 작업 스레드(workers개, 대기열 queue-capacity건)가 주문번호로 포트원 결제 정보를 트랜잭션 밖에서 조회하고,
+ * 결과 반영(구독 활성화 또는 실패 처리)만 짧은 트랜잭션으로 수행합니다. 대기열이 가득 차면 접수를 거절해
+ * 호출 측이 나중에 다시 요청하도록 합니다.
+ * </p>
+ * <p>
+ * 아직 결제가 끝나지 않았거나(ready) 포트원 조회에 실패하면 poll-interval-ms 후 다시 확인하며,
+ * max-attempts번 확인해도 결론이 나지 않으면 대기 상태로 남겨 웹훅이나 이후 요청이 처리하도록 합니다.
+ * 포트원 웹훅이 들어오면 예약된 재확인을 취소하고 즉시 확인합니다. 웹훅이나 클라이언트가 보낸 결제 고유번호는 사용하지 않고
+ * 항상 우리 주문번호로 포트원에서 결제를 찾으므로, 위조된 알림으로 다른 주문의 결제를 실패 처리할 수 없습니다.
+ * 같은 주문번호는 동시에 한 작업만 대기열에 들어가고, 작업이 처리 중일 때 들어온 요청은 작업이 끝난 뒤 한 번 더 확인합니다.
+ * 반영 시에는 결제 행을 잠그고 대기 상태일 때만 처리하므로 여러 인스턴스가 같은 주문을 확인해도 한 번만 반영됩니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>subscription.verification.jobs (result=completed|failed|retry|skipped|rejected): 작업 처리 결과</li>
+ *   <li>subscription.verification.duration: 작업당 처리 시간 (포트원 조회 + 반영)</li>
+ *   <li>subscription.verification.queue.size: 대기열 작업 수</li>
+ * </ul>
+ */
+@Component
+@Log4j2
+public class PaymentVerificationWorker implements DisposableBean {
+
+  private final SubscriptionService subscriptionService;
+  private final PaymentGatewayService paymentGatewayService;
+  private final PaymentRepository paymentRepository;
+  private final long pollIntervalMillis;
+  private final int maxAttempts;
+
+  private final ThreadPoolExecutor executor;
+  private final ScheduledExecutorService scheduler;
+  private final Set<String> queued = ConcurrentHashMap.newKeySet();
+  private final Set<String> rerunRequested = ConcurrentHashMap.newKeySet();
+  private final Map<String, ScheduledFuture<?>> scheduledPolls = new ConcurrentHashMap<>();
+
+  private final Counter completedCounter;
+  private final Counter failedCounter;
+  private final Counter retryCounter;
+  private final Counter skippedCounter;
+  private final Counter rejectedCounter;
+  private final Timer jobTimer;
+
+  @Autowired
+  public PaymentVerificationWorker(SubscriptionService subscriptionService, PaymentGatewayService paymentGatewayService,
+      PaymentRepository paymentRepository, MeterRegistry meterRegistry,
+      @Value("${subscription.verification.workers:4}") int workers,
+      @Value("${subscription.verification.queue-capacity:200}") int queueCapacity,
+      @Value("${subscription.verification.poll-interval-ms:10000}") long pollIntervalMillis,
+      @Value("${subscription.verification.max-attempts:6}") int maxAttempts) {
+    this.subscriptionService = subscriptionService;
+    this.paymentGatewayService = paymentGatewayService;
+    this.paymentRepository = paymentRepository;
+    this.pollIntervalMillis = pollIntervalMillis;
+    this.maxAttempts = maxAttempts;
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+        Thread thread = new Thread(runnable, "payment-verify-" + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }, new ThreadPoolExecutor.AbortPolicy());
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "payment-verify-poll");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    this.completedCounter = counter(meterRegistry, "completed");
+    this.failedCounter = counter(meterRegistry, "failed");
+    this.retryCounter = counter(meterRegistry, "retry");
+    this.skippedCounter = counter(meterRegistry, "skipped");
+    this.rejectedCounter = counter(meterRegistry, "rejected");
+    this.jobTimer = Timer.builder("subscription.verification.duration")
+      .description("결제 검증 작업당 포트원 조회 및 반영 시간")
+      .register(meterRegistry);
+    Gauge.builder("subscription.verification.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+  }
+
+  /**
+   * 결제 검증 작업 접수. 재확인이 예약되어 있으면 취소하고 바로 확인합니다.
+   *
+   * @param merchantUid 주문번호
+   * @return 접수되었거나 이미 대기열에 있으면 true, 대기열이 가득 차면 false
+   */
+  public boolean submit(String merchantUid) {
+    ScheduledFuture<?> poll = scheduledPolls.remove(merchantUid);
+    if (poll != null) {
+      poll.cancel(false);
+    }
+    return enqueue(new Job(merchantUid, 1));
+  }
+
+  /**
+   * @return 대기열 작업 수
+   */
+  public int queueSize() {
+    return executor.getQueue().size();
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  private boolean enqueue(Job job) {
+    if (!queued.add(job.merchantUid())) {
+      // 이미 대기 중이거나 처리 중인 작업이 있으면, 처리 중인 작업이 끝난 뒤 한 번 더 확인하도록 표시
+      rerunRequested.add(job.merchantUid());
+      return true;
+    }
+    try {
+      executor.execute(() -> run(job));
+      return true;
+    } catch (RejectedExecutionException e) {
+      queued.remove(job.merchantUid());
+      rejectedCounter.increment();
+      log.warn("[결제 검증] 대기열이 가득 차 접수하지 못했습니다: merchantUid={}", job.merchantUid());
+      return false;
+    }
+  }
+
+  private void run(Job job) {
+    // 작업 시작 전에 들어온 요청은 이번 확인으로 처리됨
+    rerunRequested.remove(job.merchantUid());
+    Outcome outcome;
+    try {
+      outcome = jobTimer.record(() -> verify(job));
+    } catch (RuntimeException e) {
+      log.warn("[결제 검증] 처리 중 오류, 다시 확인합니다: merchantUid={}, {}", job.merchantUid(), e.getMessage());
+      outcome = Outcome.RETRY;
+    } finally {
+      queued.remove(job.merchantUid());
+    }
+
+    switch (outcome) {
+      case COMPLETED -> completedCounter.increment();
+      case FAILED -> failedCounter.increment();
+      case SKIPPED -> skippedCounter.increment();
+      case RETRY -> retryCounter.increment();
+    }
+
+    // 처리 중에 들어온 웹훅은 방금 조회한 결과 이후의 상태 변경일 수 있으므로 바로 다시 확인
+    boolean rerun = rerunRequested.remove(job.merchantUid());
+    if (rerun && enqueue(new Job(job.merchantUid(), 1))) {
+      return;
+    }
+    if (rerun || outcome == Outcome.RETRY) {
+      schedulePoll(job);
+    }
+  }
+
+  private Outcome verify(Job job) {
+    Payment payment = paymentRepository.findByMerchantUid(job.merchantUid()).orElse(null);
+    if (payment == null || payment.getPaymentStatus() != PaymentStatus.PENDING) {
+      // 접수되지 않은 주문이거나 이미 처리된 주문
+      return Outcome.SKIPPED;
+    }
+
+    // 포트원에 아직 결제가 생성되지 않았으면 다시 확인
+    PaymentGatewayResponseDto paymentInfo = paymentGatewayService.findPaymentByMerchantUid(job.merchantUid())
+      .orElse(null);
+    if (paymentInfo == null) {
+      return Outcome.RETRY;
+    }
+    if (!job.merchantUid().equals(paymentInfo.getMerchantUid())) {
+      // 이 주문의 결제가 아니므로 주문 상태는 건드리지 않음
+      log.warn("[결제 검증] 조회된 결제의 주문번호가 다릅니다: 요청={}, 실제={}",
+        job.merchantUid(), paymentInfo.getMerchantUid());
+      return Outcome.RETRY;
+    }
+    String impUid = paymentInfo.getImpUid();
+    switch (paymentInfo.getStatus()) {
+      case "paid" -> {
+        if (payment.getAmount().compareTo(paymentInfo.getAmount()) != 0) {
+          return fail(job, "결제 금액 불일치: 요청=" + payment.getAmount() + ", 실제=" + paymentInfo.getAmount());
+        }
+        subscriptionService.completePaymentVerification(job.merchantUid(), paymentInfo);
+        log.info("[결제 검증] 결제 확인 및 구독 활성화: merchantUid={}, impUid={}", job.merchantUid(), impUid);
+        return Outcome.COMPLETED;
+      }
+      case "failed", "cancelled" -> {
+        return fail(job, "결제 상태 오류: " + paymentInfo.getStatus());
+      }
+      default -> {
+        // ready 등 결제가 아직 끝나지 않은 상태
+        return Outcome.RETRY;
+      }
+    }
+  }
+
+  private Outcome fail(Job job, String reason) {
+    subscriptionService.failPaymentVerification(job.merchantUid(), reason);
+    return Outcome.FAILED;
+  }
+
+  private void schedulePoll(Job job) {
+    if (job.attempt() >= maxAttempts) {
+      log.warn("[결제 검증] {}회 확인에도 결제가 확정되지 않아 대기 상태로 둡니다 (웹훅 대기): merchantUid={}",
+        job.attempt(), job.merchantUid());
+      return;
+    }
+    Job next = new Job(job.merchantUid(), job.attempt() + 1);
+    try {
+      scheduledPolls.put(job.merchantUid(), scheduler.schedule(() -> {
+        scheduledPolls.remove(job.merchantUid());
+        if (!enqueue(next)) {
+          schedulePoll(next);
+        }
+      }, pollIntervalMillis, TimeUnit.MILLISECONDS));
+    } catch (RejectedExecutionException e) {
+      log.warn("[결제 검증] 종료 중이라 재확인을 예약하지 않습니다: merchantUid={}", job.merchantUid());
+    }
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("subscription.verification.jobs").tag("result", result).register(meterRegistry);
+  }
+
+  private enum Outcome {
+    COMPLETED, FAILED, RETRY, SKIPPED
+  }
+
+  private record Job(String merchantUid, int attempt) {
+  }
+}
@@ -0,0 +1,321 @@
+package com.eeerrorcode.lottomate.service.subscription;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eeerrorcode.lottomate.domain.dto.payment.PaymentGatewayResponseDto;
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalChargeDto;
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalReport;
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalResultDto;
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalResultDto.Outcome;
+import com.eeerrorcode.lottomate.service.payment.PaymentGatewayService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 구독 자동 갱신 결제 스케줄러.
+ * <p>
+ * 다음 결제일이 지난 구독을 chunk-size건씩 점유(SKIP LOCKED + 점유 만료 시각)하고, 빌링키 정기결제를
+ * parallelism개 작업 스레드로 동시에 요청한 뒤 청크 결과를 한 트랜잭션으로 반영합니다. 점유는 노드마다 서로 다른
+ * 구독을 가져가므로 여러 노드에서 동시에 실행해도 같은 구독을 중복 결제하지 않습니다.
+ * </p>
+ * <p>
+ * 포트원 요청은 모든 작업 스레드가 공유하는 간격으로 초당 rate-per-second건 이하로 보내며, 통신 오류는
+ * max-attempts번까지 retry-backoff-ms씩 늘려 가며 다시 요청합니다. 그래도 결과를 알 수 없으면 결제를 대기 상태로 두고
+ * 점유가 만료된 뒤 같은 주문번호로 다시 요청합니다. 결과를 알 수 없던 요청(통신 오류, 이전 실행의 대기 상태 결제)을
+ * 다시 보내기 전과 포트원이 요청을 거절했을 때는 주문번호로 포트원 결제를 먼저 조회해, 이미 승인된 결제를 거절로
+ * 처리하거나 한 번 더 결제하지 않습니다. 한 번 실행은 max-duration-minutes를 넘기지 않으며,
+ * 남은 구독은 다음 실행에서 처리합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>subscription.renewal.charges (result=paid|declined|retry): 구독별 정기결제 결과</li>
+ *   <li>subscription.renewal.duration: 자동 갱신 실행 전체 소요 시간</li>
+ * </ul>
+ */
+@Component
+@Log4j2
+public class SubscriptionRenewalScheduler {
+
+  private final SubscriptionRenewalService subscriptionRenewalService;
+  private final PaymentGatewayService paymentGatewayService;
+  private final int parallelism;
+  private final int chunkSize;
+  private final long requestIntervalNanos;
+  private final int maxAttempts;
+  private final long retryBackoffMillis;
+  private final long maxDurationMillis;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+  private final Counter paidCounter;
+  private final Counter declinedCounter;
+  private final Counter retryCounter;
+  private final Timer runTimer;
+
+  @Autowired
+  public SubscriptionRenewalScheduler(SubscriptionRenewalService subscriptionRenewalService,
+      PaymentGatewayService paymentGatewayService, MeterRegistry meterRegistry,
+      @Value("${subscription.renewal.parallelism:16}") int parallelism,
+      @Value("${subscription.renewal.chunk-size:200}") int chunkSize,
+      @Value("${subscription.renewal.rate-per-second:20}") double ratePerSecond,
+      @Value("${subscription.renewal.max-attempts:3}") int maxAttempts,
+      @Value("${subscription.renewal.retry-backoff-ms:500}") long retryBackoffMillis,
+      @Value("${subscription.renewal.max-duration-minutes:50}") long maxDurationMinutes) {
+    this.subscriptionRenewalService = subscriptionRenewalService;
+    this.paymentGatewayService = paymentGatewayService;
+    this.parallelism = Math.max(1, parallelism);
+    this.chunkSize = Math.max(1, chunkSize);
+    this.requestIntervalNanos = ratePerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond) : 0L;
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.retryBackoffMillis = retryBackoffMillis;
+    this.maxDurationMillis = TimeUnit.MINUTES.toMillis(maxDurationMinutes);
+
+    this.paidCounter = counter(meterRegistry, "paid");
+    this.declinedCounter = counter(meterRegistry, "declined");
+    this.retryCounter = counter(meterRegistry, "retry");
+    this.runTimer = Timer.builder("subscription.renewal.duration")
+      .description("구독 자동 갱신 실행 전체 소요 시간")
+      .register(meterRegistry);
+  }
+
+  /**
+   * 주기적으로 결제일이 지난 구독 자동 갱신 (cron을 "-"로 설정하면 비활성화)
+   */
+  @Scheduled(cron = "${subscription.renewal.cron:0 */10 * * * *}", zone = "Asia/Seoul")
+  public void runScheduledRenewal() {
+    try {
+      renewDueSubscriptions();
+    } catch (Exception e) {
+      log.error("[자동 갱신] 스케줄 실행 실패", e);
+    }
+  }
+
+  /**
+   * 결제일이 지난 구독을 청크 단위로 점유해 정기결제하고 결과를 반영합니다.
+   *
+   * @return 실행 결과 요약
+   * @throws IllegalStateException 이 노드에서 자동 갱신이 이미 실행 중인 경우
+   */
+  public SubscriptionRenewalReport renewDueSubscriptions() {
+    if (!running.compareAndSet(false, true)) {
+      throw new IllegalStateException("구독 자동 갱신이 이미 실행 중입니다.");
+    }
+    try {
+      return runTimer.record(this::run);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private SubscriptionRenewalReport run() {
+    long startedAt = System.currentTimeMillis();
+    long deadline = startedAt + maxDurationMillis;
+    long claimed = 0;
+    long paid = 0;
+    long declined = 0;
+    long retry = 0;
+    boolean deadlineReached = false;
+
+    AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism, workerThreadFactory());
+    try {
+      CompletionService<SubscriptionRenewalResultDto> completion = new ExecutorCompletionService<>(executor);
+      while (true) {
+        if (System.currentTimeMillis() >= deadline) {
+          deadlineReached = true;
+          break;
+        }
+        List<SubscriptionRenewalChargeDto> chunk = subscriptionRenewalService.claimDueRenewals(LocalDateTime.now(), chunkSize);
+        if (chunk.isEmpty()) {
+          break;
+        }
+        claimed += chunk.size();
+        for (SubscriptionRenewalChargeDto charge : chunk) {
+          completion.submit(() -> charge(charge, nextSlot));
+        }
+
+        List<SubscriptionRenewalResultDto> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+          SubscriptionRenewalResultDto result = completion.take().get();
+          results.add(result);
+          switch (result.getOutcome()) {
+            case PAID -> {
+              paid++;
+              paidCounter.increment();
+            }
+            case DECLINED -> {
+              declined++;
+              declinedCounter.increment();
+            }
+            case RETRY -> {
+              retry++;
+              retryCounter.increment();
+            }
+          }
+        }
+        apply(results);
+
+        if (chunk.size() < chunkSize) {
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("[자동 갱신] 작업이 중단되었습니다.");
+    } catch (ExecutionException e) {
+      log.error("[자동 갱신] 결제 작업 오류", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    long elapsed = System.currentTimeMillis() - startedAt;
+    if (claimed > 0 || deadlineReached) {
+      log.info("[자동 갱신] 완료: 점유 {}건, 성공 {}건, 거절 {}건, 재시도 대기 {}건, 소요 {}ms{}",
+        claimed, paid, declined, retry, elapsed, deadlineReached ? " (실행 시간 한도 도달)" : "");
+    }
+
+    return SubscriptionRenewalReport.builder()
+      .claimedCount(claimed)
+      .paidCount(paid)
+      .declinedCount(declined)
+      .retryCount(retry)
+      .deadlineReached(deadlineReached)
+      .elapsedMillis(elapsed)
+      .build();
+  }
+
+  private SubscriptionRenewalResultDto charge(SubscriptionRenewalChargeDto charge, AtomicLong nextSlot) {
+    if (charge.getBillingKey() == null) {
+      return result(charge, Outcome.DECLINED, null, "빌링키 없음");
+    }
+    boolean outcomeUnknown = charge.isPreviouslyAttempted();
+    for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+      try {
+        if (outcomeUnknown) {
+          // 이전 요청이 포트원에 도달했을 수 있으므로 같은 주문번호의 결제가 있으면 그 결과를 사용
+          Optional<PaymentGatewayResponseDto> existing = findPayment(charge, nextSlot);
+          if (existing.isPresent()) {
+            return settle(charge, existing.get());
+          }
+          outcomeUnknown = false;
+        }
+        awaitSlot(nextSlot);
+        PaymentGatewayResponseDto response = paymentGatewayService.requestSubscription(
+          charge.getBillingKey(), charge.getMerchantUid(), charge.getAmount(), charge.getOrderName());
+        if (response.getErrorCode() != null) {
+          // 포트원이 요청을 거절함. 같은 주문번호가 이미 결제된 경우(중복 주문)일 수 있으므로 결제가 없을 때만 거절로 처리
+          return findPayment(charge, nextSlot)
+            .map(existing -> settle(charge, existing))
+            .orElseGet(() -> result(charge, Outcome.DECLINED, null, reasonOf(response)));
+        }
+        return settle(charge, response);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (RuntimeException e) {
+        outcomeUnknown = true;
+        log.warn("[자동 갱신] 정기결제 요청 실패 ({}/{}): merchantUid={}, {}",
+          attempt, maxAttempts, charge.getMerchantUid(), e.getMessage());
+        if (attempt < maxAttempts && !backoff(attempt)) {
+          break;
+        }
+      }
+    }
+    return result(charge, Outcome.RETRY, null, "정기결제 요청 실패 (재시도 초과)");
+  }
+
+  private Optional<PaymentGatewayResponseDto> findPayment(SubscriptionRenewalChargeDto charge, AtomicLong nextSlot)
+      throws InterruptedException {
+    awaitSlot(nextSlot);
+    return paymentGatewayService.findPaymentByMerchantUid(charge.getMerchantUid());
+  }
+
+  // 포트원 결제 상태로 결과 판정 (승인, 승인 거절 외의 상태는 확정되지 않았으므로 다음 실행에서 다시 확인)
+  private static SubscriptionRenewalResultDto settle(SubscriptionRenewalChargeDto charge,
+      PaymentGatewayResponseDto payment) {
+    return switch (String.valueOf(payment.getStatus())) {
+      case "paid" -> result(charge, Outcome.PAID, payment.getImpUid(), null);
+      case "failed" -> result(charge, Outcome.DECLINED, payment.getImpUid(), reasonOf(payment));
+      default -> result(charge, Outcome.RETRY, payment.getImpUid(), "결제 상태: " + payment.getStatus());
+    };
+  }
+
+  private static String reasonOf(PaymentGatewayResponseDto response) {
+    return response.getErrorMsg() != null ? response.getErrorMsg() : "결제 상태: " + response.getStatus();
+  }
+
+  // 반영 실패 시 점유가 만료된 뒤 같은 주문번호로 다시 요청됨
+  private void apply(List<SubscriptionRenewalResultDto> results) {
+    try {
+      subscriptionRenewalService.applyRenewalResults(results);
+    } catch (Exception e) {
+      log.error("[자동 갱신] 결과 {}건 반영 실패: {}", results.size(), e.getMessage(), e);
+    }
+  }
+
+  // 모든 작업 스레드가 공유하는 다음 요청 가능 시각을 예약하고 그 시각까지 대기
+  private void awaitSlot(AtomicLong nextSlot) throws InterruptedException {
+    if (requestIntervalNanos <= 0) {
+      return;
+    }
+    long slot = nextSlot.getAndAccumulate(System.nanoTime(), (previous, now) -> Math.max(previous, now) + requestIntervalNanos);
+    long wait = slot - System.nanoTime();
+    if (wait > 0) {
+      TimeUnit.NANOSECONDS.sleep(wait);
+    }
+  }
+
+  private boolean backoff(int attempt) {
+    try {
+      Thread.sleep(retryBackoffMillis * attempt);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static SubscriptionRenewalResultDto result(SubscriptionRenewalChargeDto charge, Outcome outcome,
+      String impUid, String reason) {
+    return SubscriptionRenewalResultDto.builder()
+      .subscriptionId(charge.getSubscriptionId())
+      .merchantUid(charge.getMerchantUid())
+      .outcome(outcome)
+      .impUid(impUid)
+      .reason(reason)
+      .build();
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("subscription.renewal.charges").tag("result", result).register(meterRegistry);
+  }
+
+  private static ThreadFactory workerThreadFactory() {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "subscription-renewal-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
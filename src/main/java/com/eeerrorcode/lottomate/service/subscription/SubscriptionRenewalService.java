@@ -0,0 +1,33 @@
+package com.eeerrorcode.lottomate.service.subscription;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalChargeDto;
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalResultDto;
+
+/**
+ * 구독 자동 갱신 결제의 DB 처리(대상 점유, 결과 반영)를 담당하는 서비스 인터페이스입니다.
+ * 포트원 결제 요청은 이 서비스 밖에서 수행하므로, 각 메서드는 청크 단위의 짧은 트랜잭션으로 끝납니다.
+ */
+public interface SubscriptionRenewalService {
+
+  /**
+   * 다음 결제일이 지난 자동 갱신 구독을 최대 limit건 점유하고, 구독별 대기 상태 결제를 기록합니다.
+   * 다른 노드가 잠근 구독은 건너뛰며, 점유한 구독은 점유 만료 시각까지 다른 노드가 가져가지 않습니다.
+   *
+   * @param now   기준 시각
+   * @param limit 최대 점유 건수
+   * @return 정기결제 요청 정보 목록 (없으면 빈 목록)
+   */
+  List<SubscriptionRenewalChargeDto> claimDueRenewals(LocalDateTime now, int limit);
+
+  /**
+   * 정기결제 요청 결과를 한 트랜잭션으로 반영합니다.
+   * 성공하면 결제를 완료하고 구독 기간을 연장하며, 거절되면 결제를 실패 처리하고 재시도 일정을 잡습니다.
+   * 결과 불명(RETRY)은 반영하지 않고 점유 만료 후 다시 요청되도록 둡니다. 대기 상태가 아닌 결제는 건너뜁니다.
+   *
+   * @param results 정기결제 요청 결과 목록
+   */
+  void applyRenewalResults(List<SubscriptionRenewalResultDto> results);
+}
@@ -0,0 +1,177 @@
+package com.eeerrorcode.lottomate.service.subscription;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalChargeDto;
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalResultDto;
+import com.eeerrorcode.lottomate.domain.entity.payment.Payment;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentLog;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentLogAction;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentStatus;
+import com.eeerrorcode.lottomate.domain.entity.payment.Subscription;
+import com.eeerrorcode.lottomate.domain.entity.payment.SubscriptionStatus;
+import com.eeerrorcode.lottomate.repository.payment.PaymentLogRepository;
+import com.eeerrorcode.lottomate.repository.payment.PaymentRepository;
+import com.eeerrorcode.lottomate.repository.payment.SubscriptionRepository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Service
+@Transactional
+@Log4j2
+@RequiredArgsConstructor
+public class SubscriptionRenewalServiceImpl implements SubscriptionRenewalService {
+  private static final String RENEWAL_LOG_ADDRESS = "system";
+  private static final DateTimeFormatter MERCHANT_UID_DATE = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+  private final SubscriptionRepository subscriptionRepository;
+  private final PaymentRepository paymentRepository;
+  private final PaymentLogRepository paymentLogRepository;
+
+  @Value("${subscription.renewal.claim-lease-minutes:30}")
+  private long claimLeaseMinutes; // 점유 만료 시간 (노드 장애 시 이 시간 후 다른 노드가 다시 점유)
+
+  @Value("${subscription.renewal.retry-delay-hours:24}")
+  private long retryDelayHours; // 결제 거절 후 재시도까지의 시간
+
+  @Value("${subscription.renewal.max-failures:3}")
+  private int maxFailures; // 연속 거절 시 구독을 비활성화하는 횟수
+
+  @Override
+  public List<SubscriptionRenewalChargeDto> claimDueRenewals(LocalDateTime now, int limit) {
+    List<Subscription> due = subscriptionRepository.findDueForRenewal(SubscriptionStatus.ACTIVE, now, Limit.of(limit));
+    if (due.isEmpty()) {
+      return List.of();
+    }
+
+    Map<String, Subscription> byMerchantUid = due.stream()
+      .collect(Collectors.toMap(this::renewalMerchantUid, Function.identity()));
+    Map<String, Payment> existing = paymentRepository.findByMerchantUidIn(byMerchantUid.keySet()).stream()
+      .collect(Collectors.toMap(Payment::getMerchantUid, Function.identity()));
+
+    LocalDateTime claimedUntil = now.plusMinutes(claimLeaseMinutes);
+    List<Payment> newPayments = new ArrayList<>();
+    List<SubscriptionRenewalChargeDto> charges = new ArrayList<>(due.size());
+    for (Map.Entry<String, Subscription> entry : byMerchantUid.entrySet()) {
+      String merchantUid = entry.getKey();
+      Subscription subscription = entry.getValue();
+      subscription.claimRenewal(claimedUntil);
+
+      Payment payment = existing.get(merchantUid);
+      if (payment == null) {
+        newPayments.add(Payment.builder()
+          .user(subscription.getUser())
+          .subscription(subscription)
+          .amount(subscription.getPlan().getPrice())
+          .paymentMethod("CARD")
+          .paymentStatus(PaymentStatus.PENDING)
+          .merchantUid(merchantUid)
+          .refundAmount(BigDecimal.ZERO)
+          .build());
+      } else if (payment.getPaymentStatus() != PaymentStatus.PENDING) {
+        // 같은 결제 예정일의 결제가 이미 처리됨 (결과 반영 후 다음 결제일이 바뀌지 않은 비정상 상태)
+        log.warn("[자동 갱신] 이미 처리된 결제가 있어 건너뜁니다: subscriptionId={}, merchantUid={}, status={}",
+          subscription.getId(), merchantUid, payment.getPaymentStatus());
+        continue;
+      }
+
+      charges.add(SubscriptionRenewalChargeDto.builder()
+        .subscriptionId(subscription.getId())
+        .merchantUid(merchantUid)
+        .billingKey(billingKeyOf(subscription))
+        .amount(subscription.getPlan().getPrice())
+        .orderName(subscription.getPlan().getName() + " 정기결제")
+        .previouslyAttempted(payment != null)
+        .build());
+    }
+    paymentRepository.saveAll(newPayments);
+
+    log.info("[자동 갱신] {}건 점유 (점유 만료 {})", charges.size(), claimedUntil);
+    return charges;
+  }
+
+  @Override
+  public void applyRenewalResults(List<SubscriptionRenewalResultDto> results) {
+    List<SubscriptionRenewalResultDto> settled = results.stream()
+      .filter(result -> result.getOutcome() != SubscriptionRenewalResultDto.Outcome.RETRY)
+      .toList();
+    if (settled.isEmpty()) {
+      return;
+    }
+
+    Map<String, Payment> payments = paymentRepository.findByMerchantUidIn(
+        settled.stream().map(SubscriptionRenewalResultDto::getMerchantUid).toList()).stream()
+      .collect(Collectors.toMap(Payment::getMerchantUid, Function.identity()));
+    Map<Long, Subscription> subscriptions = subscriptionRepository.findAllById(
+        settled.stream().map(SubscriptionRenewalResultDto::getSubscriptionId).toList()).stream()
+      .collect(Collectors.toMap(Subscription::getId, Function.identity()));
+
+    LocalDateTime now = LocalDateTime.now();
+    List<PaymentLog> logs = new ArrayList<>(settled.size());
+    for (SubscriptionRenewalResultDto result : settled) {
+      Payment payment = payments.get(result.getMerchantUid());
+      Subscription subscription = subscriptions.get(result.getSubscriptionId());
+      if (payment == null || subscription == null || payment.getPaymentStatus() != PaymentStatus.PENDING) {
+        continue;
+      }
+
+      if (result.getOutcome() == SubscriptionRenewalResultDto.Outcome.PAID) {
+        payment.completePayment(result.getImpUid(), now);
+        // 재시도로 미뤄진 결제일이 아니라 원래 결제 예정일 기준으로 연장해 매달 같은 날짜에 결제되도록 유지
+        LocalDateTime base = subscription.getRenewalAnchorDate() != null ? subscription.getRenewalAnchorDate() : now;
+        subscription.renew(base.plusMonths(Math.max(1, subscription.getPlan().getDurationMonths())));
+        logs.add(renewalLog(payment, PaymentLogAction.PAYMENT_SUCCESS, "renewal impUid=" + result.getImpUid()));
+      } else {
+        payment.failPayment();
+        subscription.recordRenewalFailure(now.plusHours(retryDelayHours), maxFailures);
+        logs.add(renewalLog(payment, PaymentLogAction.PAYMENT_FAILED, "renewal Error: " + result.getReason()));
+        if (!subscription.isAutoRenewal()) {
+          log.warn("[자동 갱신] {}회 연속 결제 실패로 구독을 비활성화합니다: subscriptionId={}",
+            subscription.getRenewalFailures(), subscription.getId());
+        }
+      }
+    }
+    paymentLogRepository.saveAll(logs);
+  }
+
+  /**
+   * 구독 ID와 결제 예정일로 주문번호 생성 (같은 회차를 다시 요청해도 같은 주문번호라 포트원에서 중복 결제되지 않음).
+   * 거절 후 재시도는 결제일이 재시도 시각으로 바뀌므로 새 주문번호로 요청합니다.
+   */
+  private String renewalMerchantUid(Subscription subscription) {
+    return "renewal_" + subscription.getId() + "_" + subscription.getNextPaymentDate().format(MERCHANT_UID_DATE);
+  }
+
+  private static String billingKeyOf(Subscription subscription) {
+    if (subscription.getBillingKey() != null && !subscription.getBillingKey().isBlank()) {
+      return subscription.getBillingKey();
+    }
+    if (subscription.getPaymentMethod() != null && subscription.getPaymentMethod().hasBillingKey()) {
+      return subscription.getPaymentMethod().getBillingKey();
+    }
+    return null;
+  }
+
+  private static PaymentLog renewalLog(Payment payment, PaymentLogAction action, String responseData) {
+    return PaymentLog.builder()
+      .user(payment.getUser())
+      .payment(payment)
+      .action(action)
+      .responseData(responseData)
+      .ipAddress(RENEWAL_LOG_ADDRESS)
+      .build();
+  }
+}
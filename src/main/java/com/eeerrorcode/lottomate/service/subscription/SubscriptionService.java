@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.eeerrorcode.lottomate.domain.dto.CursorSlice;
 import com.eeerrorcode.lottomate.domain.dto.payment.*;
 import com.eeerrorcode.lottomate.domain.dto.subscription.*;
 import com.eeerrorcode.lottomate.domain.entity.payment.*;
@@ -30,13 +31,40 @@ public interface SubscriptionService {
   Long createSubscription(Long userId, SubscriptionCreateRequestDto requestDto);
   
   /**
-   * 결제 확인 및 구독 활성화
+   * 결제 검증 요청 접수 (대기 상태의 구독과 결제를 기록, 같은 주문번호로 다시 요청하면 기존 기록 반환)
    * 
    * @param userId 사용자 ID
    * @param requestDTO 결제 검증 요청 Dto
-   * @return 구독 ID
+   * @return 결제 검증 상태
    */
-  Long verifyPaymentAndActivateSubscription(Long userId, SubscriptionVerifyPaymentRequestDto requestDto);
+  PaymentVerificationStatusDto requestPaymentVerification(Long userId, SubscriptionVerifyPaymentRequestDto requestDto);
+
+  /**
+   * 포트원에서 확인된 결제를 반영하고 구독 활성화 (이미 처리된 주문이면 현재 상태 반환)
+   * 
+   * @param merchantUid 주문번호
+   * @param paymentInfo 포트원 결제 정보
+   * @return 결제 검증 상태
+   */
+  PaymentVerificationStatusDto completePaymentVerification(String merchantUid, PaymentGatewayResponseDto paymentInfo);
+
+  /**
+   * 검증에 실패한 결제와 대기 중인 구독을 실패 처리 (이미 처리된 주문이면 현재 상태 반환)
+   * 
+   * @param merchantUid 주문번호
+   * @param reason 실패 사유
+   * @return 결제 검증 상태
+   */
+  PaymentVerificationStatusDto failPaymentVerification(String merchantUid, String reason);
+
+  /**
+   * 결제 검증 상태 조회
+   * 
+   * @param userId 사용자 ID
+   * @param merchantUid 주문번호
+   * @return 결제 검증 상태
+   */
+  PaymentVerificationStatusDto getPaymentVerificationStatus(Long userId, String merchantUid);
   
   /**
    * 구독 취소
@@ -111,6 +139,16 @@ public interface SubscriptionService {
    */
   List<SubscriptionCancellationResponseDto> getCancellationHistory(Long userId);
 
+  /**
+   * 구독 취소 이력 커서 조회 (최신순, 전체 건수는 세지 않음)
+   * 
+   * @param userId 사용자 ID
+   * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+   * @param size 한 페이지당 항목 수
+   * @return 취소 이력 페이지
+   */
+  CursorSlice<SubscriptionCancellationResponseDto> getCancellationHistory(Long userId, String cursor, int size);
+
   /**
    * 구독 취소 이력 상세 조회
    * 
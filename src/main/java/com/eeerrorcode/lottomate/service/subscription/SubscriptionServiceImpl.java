@@ -2,12 +2,15 @@ package com.eeerrorcode.lottomate.service.subscription;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import com.eeerrorcode.lottomate.domain.dto.CursorSlice;
 import com.eeerrorcode.lottomate.domain.dto.payment.*;
 import com.eeerrorcode.lottomate.domain.dto.subscription.*;
 import com.eeerrorcode.lottomate.domain.entity.payment.*;
@@ -17,6 +20,7 @@ import com.eeerrorcode.lottomate.exeption.SubscriptionException;
 import com.eeerrorcode.lottomate.repository.UserRepository;
 import com.eeerrorcode.lottomate.repository.payment.*;
 import com.eeerrorcode.lottomate.service.payment.PaymentService;
+import com.eeerrorcode.lottomate.util.CursorUtil;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +31,8 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 @RequiredArgsConstructor
 public class SubscriptionServiceImpl implements SubscriptionService {
+  private static final String VERIFICATION_LOG_ADDRESS = "system";
+
   private final SubscriptionRepository subscriptionRepository;
   private final PaymentRepository paymentRepository;
   private final SubscriptionPlanRepository subscriptionPlanRepository;
@@ -35,6 +41,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
   private final SubscriptionCancellationRepository subscriptionCancellationRepository;
   private final PaymentService paymentService;
   private final SubscriptionPlanService subscriptionPlanService;
+  private final PaymentLogRepository paymentLogRepository;
 
   @Override
   public SubscriptionResponseDto getSubscriptionInfo(Long userId) {
@@ -103,23 +110,18 @@ public class SubscriptionServiceImpl implements SubscriptionService {
   }
 
   @Override
-  public Long verifyPaymentAndActivateSubscription(Long userId, SubscriptionVerifyPaymentRequestDto requestDto) {
-    // 사용자 존재 확인
-    User user;
-    
-    // userId가 null이고 이메일이 존재할 경우, 이메일로 사용자 조회
-    if (userId == null && requestDto.getUserEmail() != null && !requestDto.getUserEmail().isEmpty()) {
-      user = userRepository.findByEmail(requestDto.getUserEmail())
-        .orElseThrow(() -> new ResourceNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + requestDto.getUserEmail()));
-      // userId를 재할당하지 않고 user.getId()를 직접 사용
-    } else {
-      // userId가 있는 경우
-      user = userRepository.findById(userId)
-        .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + userId));
-    }
+  public PaymentVerificationStatusDto requestPaymentVerification(Long userId, SubscriptionVerifyPaymentRequestDto requestDto) {
+    User user = userRepository.findById(userId)
+      .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
-    // 결제 검증 (포트원 API 호출)
-    paymentService.verifyPayment(requestDto.getImpUid(), requestDto.getMerchantUid(), requestDto.getAmount());
+    // 같은 주문번호로 이미 접수된 요청이면 기존 상태 반환 (재시도, 중복 요청)
+    Payment existing = paymentRepository.findByMerchantUid(requestDto.getMerchantUid()).orElse(null);
+    if (existing != null) {
+      if (!existing.getUser().getId().equals(user.getId())) {
+        throw new SubscriptionException("해당 주문에 대한 권한이 없습니다: " + requestDto.getMerchantUid());
+      }
+      return toVerificationStatus(existing);
+    }
 
     SubscriptionPlanDto planDto = subscriptionPlanService.getPlanByName(requestDto.getPlan());
     if (planDto == null) {
@@ -128,62 +130,130 @@ public class SubscriptionServiceImpl implements SubscriptionService {
 
     // 구독 기간 설정 (월간/연간)
     int durationMonths = "monthly".equals(requestDto.getPeriod()) ? 1 : 12;
-      
-    // 시작일, 종료일, 다음 결제일 설정
     LocalDateTime now = LocalDateTime.now();
     LocalDateTime endDate = now.plusMonths(durationMonths);
-    LocalDateTime nextPaymentDate = endDate;
-
-    // 이미 존재하는 활성 구독 확인 - user.getId()를 직접 사용
-    List<SubscriptionDto> activeSubscriptions = getSubscriptionsByUserIdAndStatus(user.getId(), SubscriptionStatus.ACTIVE);
-    
-    for (SubscriptionDto activeSubscription : activeSubscriptions) {
-      // Dto 수정 (취소 상태로)
-      activeSubscription.setStatus(SubscriptionStatus.CANCELLED);
-      activeSubscription.setAutoRenewal(false);
-      
-      // 종료일 설정 (이미 지났으면 현재 시간으로)
-      if (activeSubscription.getEndDate() == null || activeSubscription.getEndDate().isBefore(now)) {
-        activeSubscription.setEndDate(now);
-      }
-      
-      subscriptionRepository.save(toEntity(activeSubscription));
-    }
 
-    // 새 구독 Dto 생성 - user.getId()를 직접 사용
-    SubscriptionDto newSubscriptionDto = SubscriptionDto.builder()
+    // 결제 확인 전이므로 PENDING 상태로 저장 (확인되면 확인 시각 기준으로 기간을 다시 설정)
+    SubscriptionDto pendingSubscriptionDto = SubscriptionDto.builder()
       .userId(user.getId())
       .planId(planDto.getId())
       .planName(planDto.getName())
-      .status(SubscriptionStatus.ACTIVE)
+      .status(SubscriptionStatus.PENDING)
       .startDate(now)
       .endDate(endDate)
       .autoRenewal(true) // 기본적으로 자동 갱신 활성화
-      .nextPaymentDate(nextPaymentDate)
+      .nextPaymentDate(endDate)
       .build();
-    
-    // Dto를 저장
-    Long subscriptionId = subscriptionRepository.save(toEntity(newSubscriptionDto)).getId();
+    Long subscriptionId = subscriptionRepository.save(toEntity(pendingSubscriptionDto)).getId();
 
-    // 결제 정보 DTO 생성 - user.getId()를 직접 사용
     PaymentDto paymentDto = PaymentDto.builder()
       .userId(user.getId())
       .subscriptionId(subscriptionId)
       .amount(requestDto.getAmount())
       .paymentMethod("CARD") // 포트원 결제는 카드 결제로 가정
-      .paymentStatus(PaymentStatus.COMPLETE)
+      .paymentStatus(PaymentStatus.PENDING)
       .merchantUid(requestDto.getMerchantUid())
       .impUid(requestDto.getImpUid())
-      .paymentDate(now)
       .refundAmount(BigDecimal.ZERO)
       .build();
+    Payment payment = paymentRepository.save(toEntity(paymentDto));
 
-    // Dto를 저장
-    paymentRepository.save(toEntity(paymentDto));
+    log.info("결제 검증 요청 접수: merchantUid={}, subscriptionId={}", requestDto.getMerchantUid(), subscriptionId);
 
-    log.info("구독 활성화 완료 => {}", subscriptionId);
+    return toVerificationStatus(payment);
+  }
 
-    return subscriptionId;
+  @Override
+  public PaymentVerificationStatusDto completePaymentVerification(String merchantUid, PaymentGatewayResponseDto paymentInfo) {
+    Payment payment = paymentRepository.findByMerchantUidForUpdate(merchantUid)
+      .orElseThrow(() -> new ResourceNotFoundException("결제 정보를 찾을 수 없습니다: " + merchantUid));
+    if (payment.getPaymentStatus() != PaymentStatus.PENDING) {
+      return toVerificationStatus(payment);
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    Subscription subscription = payment.getSubscription();
+    if (subscription != null) {
+      // 이미 존재하는 활성 구독은 취소 (종료일이 이미 지났으면 현재 시간으로)
+      for (Subscription activeSubscription : subscriptionRepository.findByUserIdAndStatusOrderByCreatedAtDesc(
+          payment.getUser().getId(), SubscriptionStatus.ACTIVE)) {
+        activeSubscription.cancel();
+        if (activeSubscription.getEndDate() == null || activeSubscription.getEndDate().isBefore(now)) {
+          activeSubscription.setEndDate(now);
+        }
+      }
+
+      // 접수 시 정한 기간을 결제 확인 시각부터 다시 적용
+      long durationMonths = Math.max(1L, ChronoUnit.MONTHS.between(subscription.getStartDate(), subscription.getEndDate()));
+      subscription.activate(now, now.plusMonths(durationMonths));
+    }
+
+    payment.completePayment(paymentInfo.getImpUid(), now);
+    if (paymentInfo.getReceiptUrl() != null) {
+      payment.setReceiptUrl(paymentInfo.getReceiptUrl());
+    }
+    if (paymentInfo.getCardName() != null) {
+      payment.setCardInfo(paymentInfo.getCardName(), paymentInfo.getCardNumber());
+    }
+    paymentRepository.save(payment);
+    saveVerificationLog(payment, PaymentLogAction.PAYMENT_SUCCESS, "status=" + paymentInfo.getStatus());
+
+    log.info("구독 활성화 완료 => merchantUid={}, subscriptionId={}", merchantUid,
+      subscription == null ? null : subscription.getId());
+
+    return toVerificationStatus(payment);
+  }
+
+  @Override
+  public PaymentVerificationStatusDto failPaymentVerification(String merchantUid, String reason) {
+    Payment payment = paymentRepository.findByMerchantUidForUpdate(merchantUid)
+      .orElseThrow(() -> new ResourceNotFoundException("결제 정보를 찾을 수 없습니다: " + merchantUid));
+    if (payment.getPaymentStatus() != PaymentStatus.PENDING) {
+      return toVerificationStatus(payment);
+    }
+
+    payment.failPayment();
+    paymentRepository.save(payment);
+    Subscription subscription = payment.getSubscription();
+    if (subscription != null && subscription.getStatus() == SubscriptionStatus.PENDING) {
+      subscription.updateStatus(SubscriptionStatus.INACTIVE);
+      subscription.setAutoRenewal(false);
+    }
+    saveVerificationLog(payment, PaymentLogAction.PAYMENT_FAILED, "Error: " + reason);
+
+    log.warn("결제 검증 실패 처리: merchantUid={}, reason={}", merchantUid, reason);
+
+    return toVerificationStatus(payment);
+  }
+
+  @Override
+  public PaymentVerificationStatusDto getPaymentVerificationStatus(Long userId, String merchantUid) {
+    Payment payment = paymentRepository.findByMerchantUid(merchantUid)
+      .filter(p -> p.getUser().getId().equals(userId))
+      .orElseThrow(() -> new ResourceNotFoundException("결제 정보를 찾을 수 없습니다: " + merchantUid));
+    return toVerificationStatus(payment);
+  }
+
+  private PaymentVerificationStatusDto toVerificationStatus(Payment payment) {
+    return PaymentVerificationStatusDto.builder()
+      .merchantUid(payment.getMerchantUid())
+      .impUid(payment.getImpUid())
+      .status(payment.getPaymentStatus())
+      .subscriptionId(payment.getSubscription() == null ? null : payment.getSubscription().getId())
+      .build();
+  }
+
+  /**
+   * 결제 검증 결과 로그 기록 (요청 스레드가 아닌 검증 작업에서 기록하므로 IP 대신 처리 주체를 기록)
+   */
+  private void saveVerificationLog(Payment payment, PaymentLogAction action, String responseData) {
+    paymentLogRepository.save(PaymentLog.builder()
+      .user(payment.getUser())
+      .payment(payment)
+      .action(action)
+      .responseData(responseData)
+      .ipAddress(VERIFICATION_LOG_ADDRESS)
+      .build());
   }
 
   /**
@@ -443,6 +513,27 @@ public class SubscriptionServiceImpl implements SubscriptionService {
     return toCancellationResponseDtoList(cancellations);
   }
 
+  @Override
+  public CursorSlice<SubscriptionCancellationResponseDto> getCancellationHistory(Long userId, String cursor, int size) {
+    List<SubscriptionCancellation> cancellations;
+    if (cursor == null || cursor.isBlank()) {
+      cancellations = subscriptionCancellationRepository.findByUserIdOrderByCancellationDateDescIdDesc(
+        userId, CursorUtil.limitOf(size));
+    } else {
+      String[] keys = CursorUtil.decode(cursor, 2);
+      LocalDateTime cancellationDate;
+      try {
+        cancellationDate = LocalDateTime.parse(keys[0]);
+      } catch (DateTimeParseException e) {
+        throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+      }
+      cancellations = subscriptionCancellationRepository.findByUserIdAfter(
+        userId, cancellationDate, Long.parseLong(keys[1]), CursorUtil.limitOf(size));
+    }
+    return CursorUtil.slice(cancellations, size, c -> CursorUtil.encode(c.getCancellationDate(), c.getId()),
+      this::toCancellationResponseDto);
+  }
+
   @Override
   public SubscriptionCancellationDto getCancellationDetail(Long userId, Long cancellationId) {
     SubscriptionCancellationDto cancellation = toCancellationDto(subscriptionCancellationRepository.findById(cancellationId)
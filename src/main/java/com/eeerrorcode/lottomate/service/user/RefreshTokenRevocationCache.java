@@ -0,0 +1,132 @@
+package com.eeerrorcode.lottomate.service.user;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 로그아웃되었거나 갱신으로 교체된 리프레시 토큰 해시를 기억하는 인메모리 집합.
+ * <p>
+ * 폐기된 토큰은 DB에서도 이미 지워지거나 교체되었으므로, 이 집합은 같은 토큰이 다시 들어올 때
+ * DB 조회 없이 바로 거절하기 위한 것입니다. 교체된 토큰이 다시 사용되면 탈취 가능성이 있으므로 별도로 집계합니다.
+ * 항목은 토큰의 원래 만료 시각까지만 보관하며, max-size를 넘으면 만료된 항목부터 비우고
+ * 그래도 가득 차면 일부를 덜어냅니다. (놓친 항목은 DB 조회로 똑같이 거절됨)
+ * </p>
+ *
+ * <ul>
+ *   <li>auth.refresh.token.revoked (reason=logout|rotated): 폐기된 토큰 재사용 거절 수</li>
+ *   <li>auth.refresh.token.revoked.size: 보관 중인 폐기 토큰 수</li>
+ * </ul>
+ */
+@Component
+@Log4j2
+public class RefreshTokenRevocationCache {
+
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictLock = new ReentrantLock();
+
+    private final Counter logoutReuseCounter;
+    private final Counter rotatedReuseCounter;
+
+    @Autowired
+    public RefreshTokenRevocationCache(MeterRegistry meterRegistry,
+            @Value("${jwt.refresh-revocation-cache.max-size:100000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.logoutReuseCounter = Counter.builder("auth.refresh.token.revoked").tag("reason", "logout").register(meterRegistry);
+        this.rotatedReuseCounter = Counter.builder("auth.refresh.token.revoked").tag("reason", "rotated").register(meterRegistry);
+        Gauge.builder("auth.refresh.token.revoked.size", entries, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 로그아웃한 토큰 기록
+     *
+     * @param tokenHash 토큰 해시
+     * @param expiresAt 토큰 만료 시각 (epoch millis)
+     */
+    public void revoke(String tokenHash, long expiresAt) {
+        put(tokenHash, new Entry(expiresAt, false));
+    }
+
+    /**
+     * 갱신으로 교체된 토큰 기록
+     *
+     * @param tokenHash 토큰 해시
+     * @param expiresAt 토큰 만료 시각 (epoch millis)
+     */
+    public void rotated(String tokenHash, long expiresAt) {
+        put(tokenHash, new Entry(expiresAt, true));
+    }
+
+    /**
+     * 폐기된 토큰인지 확인
+     *
+     * @param tokenHash 토큰 해시
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String tokenHash) {
+        Entry entry = entries.get(tokenHash);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(tokenHash, entry);
+            return false;
+        }
+        if (entry.rotated()) {
+            rotatedReuseCounter.increment();
+            log.warn("[리프레시 토큰] 이미 교체된 토큰이 다시 사용되었습니다 (탈취 가능성)");
+        } else {
+            logoutReuseCounter.increment();
+        }
+        return true;
+    }
+
+    /**
+     * @return 보관 중인 폐기 토큰 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(String tokenHash, Entry entry) {
+        if (maxSize <= 0 || entry.expiresAt() <= System.currentTimeMillis()) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(tokenHash, entry);
+    }
+
+    private void evict() {
+        if (!evictLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            int target = maxSize - maxSize / 4;
+            Iterator<String> iterator = entries.keySet().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evictLock.unlock();
+        }
+    }
+
+    private record Entry(long expiresAt, boolean rotated) {
+    }
+}
@@ -1,14 +1,19 @@
 package com.eeerrorcode.lottomate.service.user;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.eeerrorcode.lottomate.domain.dto.user.RefreshTokenDto;
 import com.eeerrorcode.lottomate.domain.entity.user.RefreshToken;
@@ -18,6 +23,7 @@ import com.eeerrorcode.lottomate.exeption.ResourceNotFoundException;
 import com.eeerrorcode.lottomate.repository.RefreshTokenRepository;
 import com.eeerrorcode.lottomate.repository.UserRepository;
 import com.eeerrorcode.lottomate.security.JwtTokenProvider;
+import com.eeerrorcode.lottomate.util.TokenHashUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -25,6 +31,8 @@ import lombok.extern.log4j.Log4j2;
 /**
  * 리프레시 토큰 관리를 위한 서비스
  * 리프레시 토큰의 생성, 검증, 갱신 등의 기능을 담당합니다.
+ * 토큰은 SHA-256 해시로 저장/조회하며, 로그아웃되거나 교체된 토큰은
+ * {@link RefreshTokenRevocationCache}로 DB 조회 없이 거절합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -34,6 +42,7 @@ public class RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenRevocationCache revocationCache;
     
     @Value("${jwt.refresh-token-validity-in-seconds:2592000}")
     private long refreshTokenValidityInSeconds;
@@ -55,7 +64,8 @@ public class RefreshTokenService {
         Optional<RefreshToken> existingToken = refreshTokenRepository.findByUserIdAndDeviceInfo(userId, deviceInfo);
         if (existingToken.isPresent()) {
             RefreshToken refreshToken = existingToken.get();
-            refreshToken.setToken(token);
+            revokeAfterCommit(refreshToken.getTokenHash(), refreshToken.getExpiryDate(), false);
+            refreshToken.setTokenHash(TokenHashUtil.sha256Hex(token));
             refreshToken.setExpiryDate(LocalDateTime.now().plusSeconds(refreshTokenValidityInSeconds));
             RefreshToken savedToken = refreshTokenRepository.save(refreshToken);
             return toDto(savedToken);
@@ -66,7 +76,7 @@ public class RefreshTokenService {
         
         RefreshToken refreshToken = RefreshToken.builder()
                 .user(user)
-                .token(token)
+                .tokenHash(TokenHashUtil.sha256Hex(token))
                 .expiryDate(expiryDate)
                 .deviceInfo(deviceInfo)
                 .build();
@@ -86,17 +96,11 @@ public class RefreshTokenService {
      */
     @Transactional
     public String validateRefreshTokenAndGetAccessToken(String refreshToken) {
-        RefreshToken token = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> new AuthenticationException("유효하지 않은 리프레시 토큰입니다."));
-        
-        if (!token.isValid()) {
-            refreshTokenRepository.delete(token);
-            throw new AuthenticationException("만료된 리프레시 토큰입니다. 다시 로그인해 주세요.");
-        }
+        RefreshToken token = findValidToken(refreshToken);
         
         // 토큰이 유효하면 새 액세스 토큰 발급
         User user = token.getUser();
-        return jwtTokenProvider.generateToken(user.getEmail());
+        return jwtTokenProvider.generateToken(user);
     }
     
     /**
@@ -108,26 +112,24 @@ public class RefreshTokenService {
      */
     @Transactional
     public TokenRefreshResponseDto refreshToken(String oldRefreshToken) {
-        RefreshToken token = refreshTokenRepository.findByToken(oldRefreshToken)
-                .orElseThrow(() -> new AuthenticationException("유효하지 않은 리프레시 토큰입니다."));
-        
-        if (!token.isValid()) {
-            refreshTokenRepository.delete(token);
-            throw new AuthenticationException("만료된 리프레시 토큰입니다. 다시 로그인해 주세요.");
-        }
+        RefreshToken token = findValidToken(oldRefreshToken);
         
         User user = token.getUser();
         
         // 새 액세스 토큰 생성
-        String newAccessToken = jwtTokenProvider.generateToken(user.getEmail());
+        String newAccessToken = jwtTokenProvider.generateToken(user);
         
         // 새 리프레시 토큰 생성
         String newRefreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
         
-        // 기존 리프레시 토큰 업데이트
-        token.setToken(newRefreshToken);
-        token.setExpiryDate(LocalDateTime.now().plusSeconds(refreshTokenValidityInSeconds));
-        refreshTokenRepository.save(token);
+        // 기존 리프레시 토큰을 새 토큰으로 교체 (동시에 같은 토큰으로 갱신하면 한 요청만 성공)
+        LocalDateTime now = LocalDateTime.now();
+        int rotated = refreshTokenRepository.rotate(token.getId(), token.getTokenHash(),
+                TokenHashUtil.sha256Hex(newRefreshToken), now.plusSeconds(refreshTokenValidityInSeconds), now);
+        if (rotated == 0) {
+            throw new AuthenticationException("이미 갱신된 리프레시 토큰입니다. 다시 로그인해 주세요.");
+        }
+        revokeAfterCommit(token.getTokenHash(), token.getExpiryDate(), true);
         
         return TokenRefreshResponseDto.builder()
                 .accessToken(newAccessToken)
@@ -143,24 +145,27 @@ public class RefreshTokenService {
      */
     @Transactional
     public void logout(String token) {
-        refreshTokenRepository.findByToken(token).ifPresent(refreshToken -> {
-            refreshTokenRepository.delete(refreshToken);
-            log.info("리프레시 토큰 삭제 (로그아웃): userId={}", refreshToken.getUser().getId());
-        });
+        String tokenHash = TokenHashUtil.sha256Hex(token);
+        int deletedCount = refreshTokenRepository.deleteByTokenHash(tokenHash);
+        if (deletedCount > 0) {
+            revokeAfterCommit(tokenHash, LocalDateTime.now().plusSeconds(refreshTokenValidityInSeconds), false);
+            log.info("리프레시 토큰 삭제 (로그아웃): count={}", deletedCount);
+        }
     }
     
     /**
      * 특정 사용자의 모든 리프레시 토큰 제거 (모든 기기에서 로그아웃)
      * 
      * @param userId 사용자 ID
+     * @return 삭제된 토큰 수
      */
     @Transactional
-    public void logoutAll(Long userId) {
-        List<RefreshToken> tokens = refreshTokenRepository.findByUserId(userId);
-        if (!tokens.isEmpty()) {
-            refreshTokenRepository.deleteByUserId(userId);
-            log.info("사용자의 모든 리프레시 토큰 삭제: userId={}, count={}", userId, tokens.size());
+    public int logoutAll(Long userId) {
+        int deletedCount = refreshTokenRepository.deleteByUserId(userId);
+        if (deletedCount > 0) {
+            log.info("사용자의 모든 리프레시 토큰 삭제: userId={}, count={}", userId, deletedCount);
         }
+        return deletedCount;
     }
     
     /**
@@ -199,12 +204,75 @@ public class RefreshTokenService {
      */
     @Transactional(readOnly = true)
     public boolean validateRefreshToken(String refreshToken) {
-        RefreshToken token = refreshTokenRepository.findByToken(refreshToken)
+        String tokenHash = TokenHashUtil.sha256Hex(refreshToken);
+        if (revocationCache.isRevoked(tokenHash)) {
+            throw new AuthenticationException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        RefreshToken token = refreshTokenRepository.findByTokenHash(tokenHash)
                 .orElseThrow(() -> new AuthenticationException("유효하지 않은 리프레시 토큰입니다."));
         
         return token.isValid();
     }
 
+    /**
+     * 원문으로 저장된 이전 리프레시 토큰을 기동 시 해시로 변환합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void hashLegacyTokens() {
+        try {
+            int hashedCount = refreshTokenRepository.hashLegacyTokens();
+            if (hashedCount > 0) {
+                log.info("이전 리프레시 토큰 해시 변환 완료: {}개", hashedCount);
+            }
+        } catch (RuntimeException e) {
+            log.warn("이전 리프레시 토큰 해시 변환 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 해시로 리프레시 토큰을 찾고 만료 여부를 확인합니다.
+     * 폐기된 토큰은 DB 조회 없이 거절하고, 만료된 토큰은 삭제합니다.
+     * 
+     * @param refreshToken 리프레시 토큰 원문
+     * @return 유효한 리프레시 토큰
+     * @throws AuthenticationException 토큰이 유효하지 않거나 만료된 경우
+     */
+    private RefreshToken findValidToken(String refreshToken) {
+        String tokenHash = TokenHashUtil.sha256Hex(refreshToken);
+        if (revocationCache.isRevoked(tokenHash)) {
+            throw new AuthenticationException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        RefreshToken token = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new AuthenticationException("유효하지 않은 리프레시 토큰입니다."));
+        
+        if (!token.isValid()) {
+            refreshTokenRepository.delete(token);
+            throw new AuthenticationException("만료된 리프레시 토큰입니다. 다시 로그인해 주세요.");
+        }
+        return token;
+    }
+
+    /**
+     * 폐기된 토큰을 커밋 후 폐기 집합에 기록합니다. (롤백되면 기록하지 않음)
+     */
+    private void revokeAfterCommit(String tokenHash, LocalDateTime expiryDate, boolean rotated) {
+        long expiresAt = expiryDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Runnable revoke = rotated
+                ? () -> revocationCache.rotated(tokenHash, expiresAt)
+                : () -> revocationCache.revoke(tokenHash, expiresAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revoke.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revoke.run();
+            }
+        });
+    }
+
     /**
      * RefreshToken 엔티티를 DTO로 변환
      */
@@ -212,7 +280,6 @@ public class RefreshTokenService {
         return RefreshTokenDto.builder()
                 .id(token.getId())
                 .userId(token.getUser().getId())
-                .token(token.getToken())
                 .expiryDate(token.getExpiryDate())
                 .deviceInfo(token.getDeviceInfo())
                 .createdAt(token.getCreatedAt())
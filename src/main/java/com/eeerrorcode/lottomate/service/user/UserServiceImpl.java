@@ -10,6 +10,8 @@ import com.eeerrorcode.lottomate.domain.entity.user.User.Role;
 import com.eeerrorcode.lottomate.exeption.AuthenticationException;
 import com.eeerrorcode.lottomate.exeption.ResourceNotFoundException;
 import com.eeerrorcode.lottomate.repository.UserRepository;
+import com.eeerrorcode.lottomate.security.UserDetailsCache;
+import com.eeerrorcode.lottomate.security.UserVersionCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -22,6 +24,8 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
+    private final UserVersionCache userVersionCache;
 
     @Override
     public UserResponseDto registerUser(UserRegistrationDto registrationDto) {
@@ -82,6 +86,7 @@ public class UserServiceImpl implements UserService {
         }
         
         User updatedUser = userRepository.save(user);
+        userDetailsCache.invalidate(updatedUser.getEmail());
         log.info("회원 정보 수정 완료: id={}", updatedUser.getId());
         
         return toUserResponseDto(updatedUser);
@@ -100,8 +105,12 @@ public class UserServiceImpl implements UserService {
         // 새 비밀번호 암호화 및 저장
         String newEncodedPassword = passwordEncoder.encode(passwordChangeDto.getNewPassword());
         user.setPassword(newEncodedPassword);
+        // 이전에 발급된 액세스 토큰 무효화
+        user.increaseTokenVersion();
         
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getEmail());
+        userVersionCache.invalidate(user.getId());
         log.info("비밀번호 변경 완료: id={}", user.getId());
     }
 
@@ -112,8 +121,11 @@ public class UserServiceImpl implements UserService {
         
         // 계정 비활성화
         user.setActive(false);
+        user.increaseTokenVersion();
         
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getEmail());
+        userVersionCache.invalidate(user.getId());
         log.info("회원 계정 비활성화 완료: id={}", user.getId());
     }
 
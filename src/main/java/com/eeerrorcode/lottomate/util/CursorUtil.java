@@ -0,0 +1,93 @@
+package com.eeerrorcode.lottomate.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Limit;
+
+import com.eeerrorcode.lottomate.domain.dto.CursorSlice;
+
+/**
+ * 커서(keyset) 페이지네이션 유틸리티.
+ * <p>
+ * OFFSET 대신 마지막으로 본 정렬 키(예: 회차, ID) 다음부터 읽으므로 깊은 페이지에서도 비용이 같고,
+ * 한 건을 더 조회해 다음 페이지 여부를 판단하므로 COUNT 쿼리가 필요 없습니다.
+ * 커서는 정렬 키를 "|"로 이어 붙인 뒤 URL-safe Base64로 인코딩한 문자열입니다.
+ * </p>
+ */
+public class CursorUtil {
+
+  private static final String SEPARATOR = "|";
+
+  /**
+   * 다음 페이지 여부 판단을 위해 size + 1건을 조회하는 Limit 생성
+   *
+   * @param size 한 페이지당 항목 수
+   * @return Limit
+   */
+  public static Limit limitOf(int size) {
+    return Limit.of(size + 1);
+  }
+
+  /**
+   * 정렬 키로 커서 생성
+   *
+   * @param keys 마지막 항목의 정렬 키 (정렬 순서대로)
+   * @return 커서 문자열
+   */
+  public static String encode(Object... keys) {
+    StringBuilder builder = new StringBuilder();
+    for (Object key : keys) {
+      if (builder.length() > 0) {
+        builder.append(SEPARATOR);
+      }
+      builder.append(key);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서를 정렬 키 문자열로 분해
+   *
+   * @param cursor   커서 문자열
+   * @param keyCount 기대하는 정렬 키 개수
+   * @return 정렬 키 문자열 배열
+   * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+   */
+  public static String[] decode(String cursor, int keyCount) {
+    String decoded;
+    try {
+      decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+    }
+    String[] keys = decoded.split("\\|", -1);
+    if (keys.length != keyCount) {
+      throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+    }
+    return keys;
+  }
+
+  /**
+   * limitOf(size)로 조회한 결과를 한 페이지로 자르고 다음 커서를 만듭니다.
+   *
+   * @param rows     size + 1건까지 조회된 결과
+   * @param size     한 페이지당 항목 수
+   * @param cursorOf 항목의 커서 생성 함수
+   * @param mapper   응답 변환 함수
+   * @return 커서 페이지
+   */
+  public static <T, R> CursorSlice<R> slice(List<T> rows, int size, Function<T, String> cursorOf,
+      Function<T, R> mapper) {
+    boolean hasNext = rows.size() > size;
+    List<T> page = hasNext ? rows.subList(0, size) : rows;
+    return CursorSlice.<R>builder()
+        .items(page.stream().map(mapper).toList())
+        .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+        .hasNext(hasNext)
+        .build();
+  }
+
+}
@@ -0,0 +1,144 @@
+package com.eeerrorcode.lottomate.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로또 번호 조합을 45비트 마스크(long)로 다루기 위한 유틸리티
+ * <p>
+ * 번호 n(1~45)은 (n - 1)번째 비트에 대응합니다.
+ * 예: {1, 2, 45} → 0b1_0000...0011
+ * </p>
+ */
+public class LottoBitmask {
+
+  public static final int MIN_NUMBER = 1;
+  public static final int MAX_NUMBER = 45;
+
+  /** 1~45 전체 번호 마스크 */
+  public static final long ALL = (1L << MAX_NUMBER) - 1;
+  /** 짝수 번호(2, 4, ..., 44) 마스크 */
+  public static final long EVENS = 0xAAAA_AAAA_AAAAL & ALL;
+  /** 홀수 번호(1, 3, ..., 45) 마스크 */
+  public static final long ODDS = ALL & ~EVENS;
+
+  /**
+   * 단일 번호에 해당하는 비트 반환
+   *
+   * @param number 로또 번호 (1~45)
+   * @return 해당 번호의 비트
+   * @throws IllegalArgumentException 번호가 1~45 범위를 벗어난 경우
+   */
+  public static long bit(int number) {
+    if (number < MIN_NUMBER || number > MAX_NUMBER) {
+      throw new IllegalArgumentException("로또 번호는 1~45 사이여야 합니다: " + number);
+    }
+    return 1L << (number - 1);
+  }
+
+  /**
+   * 번호 목록을 마스크로 변환
+   *
+   * @param numbers 로또 번호 목록
+   * @return 번호 조합 마스크
+   */
+  public static long of(int... numbers) {
+    long mask = 0L;
+    for (int number : numbers) {
+      mask |= bit(number);
+    }
+    return mask;
+  }
+
+  /**
+   * "1,2,3,4,5,6" 형식의 번호 문자열을 마스크로 변환 (공백 허용, 중간 객체 생성 없음)
+   *
+   * @param numbers 콤마로 구분된 번호 문자열
+   * @return 번호 조합 마스크
+   * @throws IllegalArgumentException 숫자가 아닌 문자가 있거나 번호가 1~45 범위를 벗어난 경우
+   */
+  public static long parse(String numbers) {
+    long mask = 0L;
+    int current = -1;
+    for (int i = 0, length = numbers.length(); i <= length; i++) {
+      char c = i < length ? numbers.charAt(i) : ',';
+      if (c >= '0' && c <= '9') {
+        current = (current < 0 ? 0 : current * 10) + (c - '0');
+        if (current > MAX_NUMBER) {
+          throw new IllegalArgumentException("로또 번호는 1~45 사이여야 합니다: " + numbers);
+        }
+      } else if (c == ',') {
+        if (current >= 0) {
+          mask |= bit(current);
+          current = -1;
+        }
+      } else if (c != ' ') {
+        throw new IllegalArgumentException("잘못된 번호 형식입니다: " + numbers);
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * 마스크에 번호가 포함되어 있는지 확인
+   */
+  public static boolean contains(long mask, int number) {
+    return (mask & bit(number)) != 0;
+  }
+
+  /**
+   * 마스크에 포함된 번호 개수
+   */
+  public static int count(long mask) {
+    return Long.bitCount(mask);
+  }
+
+  /**
+   * 마스크에서 index번째(0부터, 오름차순)로 작은 번호를 반환
+   *
+   * @param mask  번호 조합 마스크
+   * @param index 0 이상 count(mask) 미만
+   * @return 해당 위치의 번호
+   */
+  public static int nth(long mask, int index) {
+    long remaining = mask;
+    for (int i = 0; i < index; i++) {
+      remaining &= remaining - 1;
+    }
+    return Long.numberOfTrailingZeros(remaining) + 1;
+  }
+
+  /**
+   * 마스크를 "1,2,3,4,5,6" 형식(오름차순, 공백 없음)의 문자열로 변환
+   *
+   * @param mask 번호 조합 마스크
+   * @return 콤마로 구분된 번호 문자열
+   */
+  public static String format(long mask) {
+    StringBuilder builder = new StringBuilder(17);
+    for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+      if (builder.length() > 0) {
+        builder.append(',');
+      }
+      builder.append(Long.numberOfTrailingZeros(remaining) + 1);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * 마스크를 오름차순 번호 목록으로 변환
+   *
+   * @param mask 번호 조합 마스크
+   * @return 오름차순 정렬된 번호 목록
+   */
+  public static List<Integer> toList(long mask) {
+    List<Integer> numbers = new ArrayList<>(Long.bitCount(mask));
+    long remaining = mask;
+    while (remaining != 0) {
+      numbers.add(Long.numberOfTrailingZeros(remaining) + 1);
+      remaining &= remaining - 1;
+    }
+    return numbers;
+  }
+
+}
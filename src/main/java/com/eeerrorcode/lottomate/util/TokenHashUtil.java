@@ -0,0 +1,35 @@
+package com.eeerrorcode.lottomate.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 문자열의 고정 길이 해시 유틸리티.
+ * <p>
+ * 토큰 원문 대신 SHA-256 해시(소문자 16진수 64자)를 저장하고 조회 키로 사용합니다.
+ * MariaDB의 SHA2(값, 256) 결과와 같은 형식입니다.
+ * </p>
+ */
+public class TokenHashUtil {
+
+  /** 해시 문자열 길이 */
+  public static final int HASH_LENGTH = 64;
+
+  /**
+   * 토큰의 SHA-256 해시
+   *
+   * @param token 토큰 원문
+   * @return 소문자 16진수 해시 (64자)
+   */
+  public static String sha256Hex(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
+}
@@ -0,0 +1,136 @@
+package com.eeerrorcode.lottomate.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+public class HttpClientPoolTests {
+
+  private static final String HOST = "127.0.0.1";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+  private final CountDownLatch slowStarted = new CountDownLatch(1);
+  private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+  private HttpServer server;
+  private String baseUrl;
+  private HttpClientPool pool;
+
+  @BeforeEach
+  void startStubServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(HOST, 0), 0);
+    server.createContext("/ok", exchange -> respond(exchange, "{\"code\":0}"));
+    server.createContext("/slow", exchange -> {
+      slowStarted.countDown();
+      sleep(1500);
+      respond(exchange, "{\"code\":0}");
+    });
+    server.setExecutor(serverExecutor);
+    server.start();
+    baseUrl = "http://" + HOST + ":" + server.getAddress().getPort();
+  }
+
+  @AfterEach
+  void stopStubServer() throws IOException {
+    if (pool != null) {
+      pool.destroy();
+    }
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void testConnectionIsReusedAndLatencyRecordedPerHost() {
+    RestTemplate restTemplate = restTemplate("", 2000, 2000);
+
+    for (int i = 0; i < 20; i++) {
+      assertEquals("{\"code\":0}", restTemplate.getForObject(baseUrl + "/ok", String.class));
+    }
+
+    assertEquals(1, clientPorts.size());
+    assertEquals(0.0, meterRegistry.get("http.client.pool.leased").tag("host", HOST).gauge().value());
+    assertEquals(1.0, meterRegistry.get("http.client.pool.available").tag("host", HOST).gauge().value());
+    assertEquals(20L, meterRegistry.get("http.client.requests").tag("client.name", HOST).timer().count());
+  }
+
+  @Test
+  void testSlowResponseFailsAtReadTimeout() {
+    RestTemplate restTemplate = restTemplate("", 200, 2000);
+
+    long startedAt = System.nanoTime();
+    assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 1000);
+  }
+
+  @Test
+  void testRouteMaxBoundsConnectionsToDestination() throws Exception {
+    RestTemplate restTemplate = restTemplate(baseUrl + "=1", 3000, 200);
+    ExecutorService caller = Executors.newSingleThreadExecutor();
+    try {
+      Future<String> slow = caller.submit(() -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+      assertTrue(slowStarted.await(2, TimeUnit.SECONDS));
+
+      assertEquals(1.0, meterRegistry.get("http.client.pool.max").tag("host", HOST).gauge().value());
+      assertEquals(1.0, meterRegistry.get("http.client.pool.leased").tag("host", HOST).gauge().value());
+      assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(baseUrl + "/ok", String.class));
+
+      assertEquals("{\"code\":0}", slow.get(5, TimeUnit.SECONDS));
+      assertEquals("{\"code\":0}", restTemplate.getForObject(baseUrl + "/ok", String.class));
+    } finally {
+      caller.shutdownNow();
+    }
+  }
+
+  private RestTemplate restTemplate(String routeMax, long readTimeoutMillis, long poolTimeoutMillis) {
+    pool = new HttpClientPool(meterRegistry, 10, 5, routeMax, 1000, readTimeoutMillis, poolTimeoutMillis, 30);
+    RestTemplate restTemplate = new RestTemplateConfig().restTemplate(new RestTemplateBuilder(), pool);
+    ObservationRegistry observationRegistry = ObservationRegistry.create();
+    observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+    restTemplate.setObservationRegistry(observationRegistry);
+    return restTemplate;
+  }
+
+  private void respond(HttpExchange exchange, String body) throws IOException {
+    clientPorts.add(exchange.getRemoteAddress().getPort());
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.eeerrorcode.lottomate.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BoundedTtlCacheTests {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void testGetCountsHitsAndMisses() {
+    BoundedTtlCache<String, String> cache = new BoundedTtlCache<>("test.cache", meterRegistry, 10, 60_000L);
+    cache.put("a", "1");
+
+    assertEquals("1", cache.get("a"));
+    assertNull(cache.get("b"));
+    assertEquals(1.0, meterRegistry.get("test.cache").tag("result", "hit").counter().count());
+    assertEquals(1.0, meterRegistry.get("test.cache").tag("result", "miss").counter().count());
+    assertEquals(1.0, meterRegistry.get("test.cache.size").gauge().value());
+
+    cache.invalidate("a");
+    assertNull(cache.get("a"));
+  }
+
+  @Test
+  void testEntryExpiresAtEarlierOfTtlAndNotAfter() {
+    BoundedTtlCache<String, String> cache = new BoundedTtlCache<>("test.cache", meterRegistry, 10, 60_000L);
+    cache.put("expired", "1", System.currentTimeMillis() - 1);
+    cache.put("valid", "2", System.currentTimeMillis() + 60_000L);
+
+    assertNull(cache.get("expired"));
+    assertEquals("2", cache.get("valid"));
+    assertEquals(1, cache.size());
+
+    BoundedTtlCache<String, String> zeroTtl = new BoundedTtlCache<>("test.zero", meterRegistry, 10, 0L);
+    zeroTtl.put("a", "1");
+    assertNull(zeroTtl.get("a"));
+  }
+
+  @Test
+  void testSizeIsBoundedAndEvictionsAreCounted() {
+    BoundedTtlCache<Integer, Integer> cache = new BoundedTtlCache<>("test.cache", meterRegistry, 8, 60_000L);
+    for (int i = 0; i < 100; i++) {
+      cache.put(i, i);
+      assertTrue(cache.size() <= 8, "크기: " + cache.size());
+    }
+    assertEquals(100.0 - cache.size(), meterRegistry.get("test.cache.evictions").counter().count());
+  }
+
+  @Test
+  void testDisabledCacheStoresNothing() {
+    BoundedTtlCache<String, String> cache = new BoundedTtlCache<>("test.cache", meterRegistry, 0, 60_000L);
+    cache.put("a", "1");
+
+    assertFalse(cache.isEnabled());
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.size());
+    assertEquals(0.0, meterRegistry.get("test.cache").tag("result", "miss").counter().count());
+  }
+}
@@ -0,0 +1,86 @@
+package com.eeerrorcode.lottomate.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.eeerrorcode.lottomate.domain.entity.user.User;
+import com.eeerrorcode.lottomate.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CustomUserDetailsServiceTests {
+
+  private static final String EMAIL = "user@lottomate.com";
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final UserDetailsCache cache = new UserDetailsCache(meterRegistry, 100, 300L);
+  private final CustomUserDetailsService service = new CustomUserDetailsService(userRepository, cache);
+
+  @Test
+  void testRepeatedLookupsReadRepositoryOnce() {
+    when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(true)));
+
+    for (int i = 0; i < 5; i++) {
+      assertEquals(EMAIL, service.loadUserByUsername(EMAIL).getUsername());
+    }
+
+    verify(userRepository, times(1)).findByEmail(EMAIL);
+    assertEquals(4.0, meterRegistry.get("security.user.details.cache").tag("result", "hit").counter().count());
+    assertEquals(1.0, meterRegistry.get("security.user.details.cache").tag("result", "miss").counter().count());
+  }
+
+  @Test
+  void testInvalidateReloadsChangedUser() {
+    when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(true)));
+    service.loadUserByUsername(EMAIL);
+
+    when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(false)));
+    cache.invalidate(EMAIL);
+
+    assertFalse(service.loadUserByUsername(EMAIL).isEnabled());
+    verify(userRepository, times(2)).findByEmail(EMAIL);
+  }
+
+  @Test
+  void testInvalidateInTransactionAlsoEvictsAfterCommit() {
+    when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(true)));
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      cache.invalidate(EMAIL);
+      // 커밋 전에 다른 요청이 이전 값을 다시 채운 경우
+      service.loadUserByUsername(EMAIL);
+      assertEquals(1, cache.size());
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+      assertEquals(0, cache.size());
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void testMissingUserIsNotCached() {
+    when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+    assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername(EMAIL));
+    assertEquals(0, cache.size());
+  }
+
+  private static User user(boolean active) {
+    return User.builder().id(1L).email(EMAIL).password("encoded").name("user").isActive(active).build();
+  }
+}
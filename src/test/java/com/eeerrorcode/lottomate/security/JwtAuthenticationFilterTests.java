@@ -0,0 +1,108 @@
+package com.eeerrorcode.lottomate.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.eeerrorcode.lottomate.domain.entity.user.User;
+import com.eeerrorcode.lottomate.domain.entity.user.User.Role;
+import com.eeerrorcode.lottomate.repository.UserRepository;
+import com.eeerrorcode.lottomate.repository.projection.user.UserTokenState;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class JwtAuthenticationFilterTests {
+
+  private static final String EMAIL = "user@lottomate.com";
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final JwtTokenProvider tokenProvider = provider();
+  private final UserVersionCache userVersionCache = new UserVersionCache(userRepository, meterRegistry, 100, 60L);
+  private final CustomUserDetailsService userDetailsService =
+      new CustomUserDetailsService(userRepository, new UserDetailsCache(meterRegistry, 100, 300L));
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void testStatelessModeBuildsPrincipalFromClaims() throws Exception {
+    User user = user(3L);
+    when(userRepository.findTokenStateById(1L)).thenReturn(Optional.of(new UserTokenState(1L, 3L, true)));
+    JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, userVersionCache, true);
+    String token = tokenProvider.generateToken(user);
+
+    for (int i = 0; i < 3; i++) {
+      Authentication authentication = authenticate(filter, token);
+      CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+      assertEquals(1L, principal.getUser().getId());
+      assertEquals(EMAIL, principal.getUsername());
+      assertEquals("ROLE_ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    verify(userRepository, never()).findByEmail(anyString());
+    verify(userRepository, times(1)).findTokenStateById(1L);
+  }
+
+  @Test
+  void testStatelessModeRejectsOutdatedOrDeactivatedAccount() throws Exception {
+    JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, userVersionCache, true);
+    String token = tokenProvider.generateToken(user(3L));
+
+    // 비밀번호 변경으로 버전이 올라간 경우
+    when(userRepository.findTokenStateById(1L)).thenReturn(Optional.of(new UserTokenState(1L, 4L, true)));
+    assertNull(authenticate(filter, token));
+
+    // 비활성화된 경우
+    userVersionCache.invalidate(1L);
+    when(userRepository.findTokenStateById(1L)).thenReturn(Optional.of(new UserTokenState(1L, 3L, false)));
+    assertNull(authenticate(filter, token));
+  }
+
+  @Test
+  void testDatabaseModeChecksTokenVersionAndAcceptsLegacyTokens() throws Exception {
+    when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(4L)));
+    JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, userVersionCache, false);
+
+    assertNull(authenticate(filter, tokenProvider.generateToken(user(3L))));
+    assertEquals(EMAIL, authenticate(filter, tokenProvider.generateToken(user(4L))).getName());
+    assertEquals(EMAIL, authenticate(filter, tokenProvider.generateToken(EMAIL)).getName());
+    verify(userRepository, never()).findTokenStateById(1L);
+  }
+
+  private static Authentication authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+    SecurityContextHolder.clearContext();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/lotto/user/history");
+    request.addHeader("Authorization", "Bearer " + token);
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    return SecurityContextHolder.getContext().getAuthentication();
+  }
+
+  private static User user(long tokenVersion) {
+    return User.builder().id(1L).email(EMAIL).name("user").role(Role.ADMIN).tokenVersion(tokenVersion).build();
+  }
+
+  private JwtTokenProvider provider() {
+    JwtTokenProvider provider = new JwtTokenProvider(new JwtClaimsCache(meterRegistry, 100, 300L),
+        new JwtKeyManager("test-secret-for-lottomate-tests-256bit", "primary", "", "", "", "PKCS12"), 3600L, 86400L);
+    provider.init();
+    return provider;
+  }
+}
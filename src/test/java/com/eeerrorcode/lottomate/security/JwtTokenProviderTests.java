@@ -0,0 +1,160 @@
+package com.eeerrorcode.lottomate.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Set;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class JwtTokenProviderTests {
+
+  private static final String TEST_SECRET = "test-secret-for-lottomate-tests-256bit";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void testParseCachesVerifiedClaims() {
+    JwtClaimsCache cache = new JwtClaimsCache(meterRegistry, 100, 300L);
+    JwtTokenProvider provider = provider(cache);
+    String token = provider.generateToken("user@lottomate.com");
+
+    Claims first = provider.parse(token);
+    Claims second = provider.parse(token);
+
+    assertEquals("user@lottomate.com", first.getSubject());
+    assertSame(first, second);
+    assertEquals(1, cache.size());
+    assertEquals(1.0, meterRegistry.get("jwt.claims.cache").tag("result", "hit").counter().count());
+  }
+
+  @Test
+  void testRejectsTamperedAndForeignTokens() {
+    JwtTokenProvider provider = provider(new JwtClaimsCache(meterRegistry, 100, 300L));
+    String token = provider.generateToken("user@lottomate.com");
+    provider.parse(token);
+
+    String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+    JwtTokenProvider other = provider(new JwtClaimsCache(meterRegistry, 100, 300L),
+        new JwtKeyManager("other-secret-for-lottomate-tests-256bit", "primary", "", "", "", "PKCS12"));
+
+    assertThrows(JwtException.class, () -> provider.parse(tampered));
+    assertFalse(provider.validateToken(other.generateToken("user@lottomate.com")));
+    assertFalse(provider.validateToken(""));
+    assertTrue(provider.validateToken(token));
+  }
+
+  @Test
+  void testCacheHonorsTokenExpiryAndSize() {
+    JwtClaimsCache cache = new JwtClaimsCache(meterRegistry, 4, 300L);
+
+    cache.put("expired", Jwts.claims().setSubject("a").setExpiration(new Date(System.currentTimeMillis() - 1000L)));
+    assertNull(cache.get("expired"));
+
+    for (int i = 0; i < 10; i++) {
+      cache.put("token-" + i, Jwts.claims().setSubject("u" + i)
+          .setExpiration(new Date(System.currentTimeMillis() + 60_000L)));
+    }
+    assertTrue(cache.size() <= 4);
+    assertEquals("u9", cache.get("token-9").getSubject());
+
+    cache.invalidate("token-9");
+    assertNull(cache.get("token-9"));
+  }
+
+  @Test
+  void testInstancesWithSameConfigurationShareKeys() {
+    JwtTokenProvider first = provider(new JwtClaimsCache(meterRegistry, 0, 300L));
+    JwtTokenProvider second = provider(new JwtClaimsCache(meterRegistry, 0, 300L));
+
+    String token = first.generateToken("user@lottomate.com");
+
+    assertEquals("user@lottomate.com", second.getEmailFromToken(token));
+    assertEquals("primary", Jwts.parserBuilder().setSigningKeyResolver(keyManager()).build()
+        .parseClaimsJws(token).getHeader().getKeyId());
+  }
+
+  @Test
+  void testRotationKeepsPreviousKeyForVerification() {
+    String oldSecret = Base64.getEncoder().encodeToString(new byte[32]);
+    String newSecret = Base64.getEncoder().encodeToString("new-signing-key-for-rotation-32b".getBytes(StandardCharsets.UTF_8));
+    JwtTokenProvider before = provider(new JwtClaimsCache(meterRegistry, 0, 300L),
+        new JwtKeyManager(oldSecret, "2024", "", "", "", "PKCS12"));
+    JwtTokenProvider after = provider(new JwtClaimsCache(meterRegistry, 0, 300L),
+        new JwtKeyManager(newSecret, "2025", "2024=" + oldSecret, "", "", "PKCS12"));
+    JwtTokenProvider retired = provider(new JwtClaimsCache(meterRegistry, 0, 300L),
+        new JwtKeyManager(newSecret, "2025", "", "", "", "PKCS12"));
+
+    String oldToken = before.generateToken("user@lottomate.com");
+
+    assertTrue(after.validateToken(oldToken));
+    assertTrue(after.validateToken(after.generateToken("user@lottomate.com")));
+    assertFalse(before.validateToken(after.generateToken("user@lottomate.com")));
+    assertFalse(retired.validateToken(oldToken));
+  }
+
+  @Test
+  void testRejectsMissingOrShortSecrets() {
+    assertThrows(IllegalStateException.class, () -> new JwtKeyManager("", "primary", "", "", "", "PKCS12"));
+    assertThrows(IllegalStateException.class,
+        () -> new JwtKeyManager("default-insecure-key", "primary", "", "", "", "PKCS12"));
+    assertThrows(IllegalStateException.class,
+        () -> new JwtKeyManager(Base64.getEncoder().encodeToString(new byte[31]), "primary", "", "", "", "PKCS12"));
+    assertThrows(IllegalStateException.class,
+        () -> new JwtKeyManager(TEST_SECRET, "primary", "old=short", "", "", "PKCS12"));
+  }
+
+  @Test
+  void testLoadsSecretKeysFromKeystore(@TempDir Path dir) throws Exception {
+    char[] password = "changeit".toCharArray();
+    KeyStore keyStore = KeyStore.getInstance("PKCS12");
+    keyStore.load(null, password);
+    keyStore.setEntry("ks-1", new KeyStore.SecretKeyEntry(new SecretKeySpec(new byte[32], "HmacSHA256")),
+        new KeyStore.PasswordProtection(password));
+    Path file = dir.resolve("jwt.p12");
+    try (OutputStream out = Files.newOutputStream(file)) {
+      keyStore.store(out, password);
+    }
+
+    JwtKeyManager manager = new JwtKeyManager("config-secret-for-lottomate-tests-256bit", "ks-1", "", file.toString(), "changeit", "PKCS12");
+    JwtTokenProvider fromKeystore = provider(new JwtClaimsCache(meterRegistry, 0, 300L), manager);
+    JwtTokenProvider fromSameKey = provider(new JwtClaimsCache(meterRegistry, 0, 300L),
+        new JwtKeyManager(Base64.getEncoder().encodeToString(new byte[32]), "ks-1", "", "", "", "PKCS12"));
+
+    assertEquals(Set.of("ks-1"), manager.keyIds());
+    assertTrue(fromSameKey.validateToken(fromKeystore.generateToken("user@lottomate.com")));
+  }
+
+  private static JwtKeyManager keyManager() {
+    return new JwtKeyManager(TEST_SECRET, "primary", "", "", "", "PKCS12");
+  }
+
+  private static JwtTokenProvider provider(JwtClaimsCache cache) {
+    return provider(cache, keyManager());
+  }
+
+  private static JwtTokenProvider provider(JwtClaimsCache cache, JwtKeyManager keyManager) {
+    JwtTokenProvider provider = new JwtTokenProvider(cache, keyManager, 3600L, 86400L);
+    provider.init();
+    return provider;
+  }
+}
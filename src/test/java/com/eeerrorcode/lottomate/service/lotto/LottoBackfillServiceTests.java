@@ -0,0 +1,122 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBackfillReport;
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.repository.lotto.LottoResultBatchWriter;
+import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 저장해 둔 회차 페이지를 제공하는 로컬 HTTP 서버를 대상으로 일괄 수집을 검증합니다.
+ * 최신 회차는 5회차이며, 4회차 요청은 항상 500 응답을 반환합니다.
+ */
+public class LottoBackfillServiceTests {
+
+  private final LottoResultRepository lottoResultRepository = mock(LottoResultRepository.class);
+  private final LottoResultBatchWriter lottoResultBatchWriter = mock(LottoResultBatchWriter.class);
+  private final LottoDrawIndex lottoDrawIndex = mock(LottoDrawIndex.class);
+  private final List<LottoResults> saved = Collections.synchronizedList(new ArrayList<>());
+
+  private HttpServer server;
+  private LottoBackfillServiceImpl service;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    String page;
+    try (InputStream in = getClass().getResourceAsStream("/lotto/round.html")) {
+      page = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/gameResult.do", exchange -> {
+      String query = exchange.getRequestURI().getQuery();
+      String round = query.contains("drwNo=") ? query.substring(query.indexOf("drwNo=") + 6) : "5";
+      if (round.equals("4")) {
+        exchange.sendResponseHeaders(500, -1);
+        exchange.close();
+        return;
+      }
+      byte[] body = page.replace("{round}", round).getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    server.setExecutor(Executors.newFixedThreadPool(4));
+    server.start();
+
+    when(lottoResultBatchWriter.writeAll(anyList())).thenAnswer(invocation -> {
+      List<LottoResults> batch = invocation.getArgument(0);
+      saved.addAll(batch);
+      return batch.size();
+    });
+
+    service = new LottoBackfillServiceImpl(lottoResultRepository, lottoResultBatchWriter, lottoDrawIndex);
+    ReflectionTestUtils.setField(service, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+    ReflectionTestUtils.setField(service, "parallelism", 3);
+    ReflectionTestUtils.setField(service, "minIntervalMillis", 0L);
+    ReflectionTestUtils.setField(service, "batchSize", 2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void testFetchLatestRound() {
+    assertEquals(5, service.fetchLatestRound());
+  }
+
+  @Test
+  void testBackfillSkipsExistingRounds() {
+    when(lottoResultRepository.findAllDrawRounds()).thenReturn(List.of(1L, 2L));
+
+    LottoBackfillReport report = service.backfillAll();
+
+    assertEquals(2L, report.getSkippedCount());
+    assertEquals(2L, report.getSavedCount());
+    assertEquals(List.of(4L), report.getFailedRounds());
+
+    List<LottoResults> sorted = new ArrayList<>(saved);
+    sorted.sort(Comparator.comparing(LottoResults::getDrawRound));
+    assertEquals(List.of(3L, 5L), sorted.stream().map(LottoResults::getDrawRound).toList());
+
+    LottoResults round3 = sorted.get(0);
+    assertEquals(List.of(3, 11, 19, 27, 35, 43),
+        List.of(round3.getN1(), round3.getN2(), round3.getN3(), round3.getN4(), round3.getN5(), round3.getN6()));
+    assertEquals(7, round3.getBonusNumber());
+    assertEquals(12L, round3.getFirstPrizeWinners());
+    assertEquals(4, round3.getPrizeDetails().size());
+
+    // 한 번의 저장 묶음은 인덱스에 한 번에 반영
+    verify(lottoDrawIndex, times(1)).appendAll(anyList());
+    verify(lottoDrawIndex, never()).append(any());
+  }
+
+}
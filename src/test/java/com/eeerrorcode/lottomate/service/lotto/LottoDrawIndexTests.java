@@ -0,0 +1,59 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
+
+public class LottoDrawIndexTests {
+
+  private final LottoResultRepository lottoResultRepository = mock(LottoResultRepository.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final LottoDrawIndex index = new LottoDrawIndex(lottoResultRepository, eventPublisher);
+
+  @Test
+  void testSyncToLoadsRoundsSavedByAnotherInstance() {
+    when(lottoResultRepository.findAll()).thenReturn(List.of(draw(1), draw(2)));
+    index.reload();
+    // 다른 인스턴스가 3, 4회차를 저장함
+    when(lottoResultRepository.findByDrawRoundBetween(3L, 4L)).thenReturn(List.of(draw(3), draw(4)));
+
+    index.syncTo(4L);
+
+    assertEquals(4L, index.current().latestRound());
+    assertEquals(4, index.current().size());
+    // 적재 1회 + 따라잡기 1회
+    verify(eventPublisher, times(2)).publishEvent(any(LottoDrawIndexUpdatedEvent.class));
+  }
+
+  @Test
+  void testSyncToSkipsDbWhenSnapshotIsCurrent() {
+    when(lottoResultRepository.findAll()).thenReturn(List.of(draw(1), draw(2)));
+    index.reload();
+
+    index.syncTo(2L);
+
+    verify(lottoResultRepository, never()).findByDrawRoundBetween(anyLong(), anyLong());
+    verify(eventPublisher, times(1)).publishEvent(any(LottoDrawIndexUpdatedEvent.class));
+  }
+
+  private static LottoResults draw(long round) {
+    return LottoResults.builder()
+        .drawRound(round)
+        .n1(1).n2(2).n3(3).n4(4).n5(5).n6((int) (5 + round))
+        .bonusNumber(45)
+        .build();
+  }
+}
@@ -0,0 +1,119 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.repository.projection.lotto.NumberFrequency;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+public class LottoDrawSnapshotTests {
+
+  private LottoResults draw(long round, int n1, int n2, int n3, int n4, int n5, int n6, int bonus) {
+    return LottoResults.builder()
+        .drawRound(round)
+        .n1(n1).n2(n2).n3(n3).n4(n4).n5(n5).n6(n6)
+        .bonusNumber(bonus)
+        .build();
+  }
+
+  private final LottoDrawSnapshot snapshot = LottoDrawSnapshot.of(List.of(
+      draw(3, 1, 2, 3, 4, 5, 6, 7),
+      draw(1, 1, 10, 20, 30, 40, 45, 2),
+      draw(2, 1, 11, 21, 31, 41, 44, 45)));
+
+  @Test
+  void testSortedByRound() {
+    assertEquals(3, snapshot.size());
+    assertEquals(1, snapshot.roundAt(0));
+    assertEquals(3, snapshot.latestRound());
+    assertEquals(LottoBitmask.of(1, 10, 20, 30, 40, 45), snapshot.maskAt(0));
+  }
+
+  @Test
+  void testCountInRange() {
+    int from = snapshot.fromIndex(2);
+    int to = snapshot.toIndex(3);
+    int[] main = snapshot.countMain(from, to);
+    int[] bonus = snapshot.countBonus(from, to);
+
+    assertEquals(2, main[1]);
+    assertEquals(1, main[44]);
+    assertEquals(0, main[45]);
+    assertEquals(1, bonus[45]);
+    assertEquals(1, bonus[7]);
+  }
+
+  @Test
+  void testFrequenciesFrom() {
+    List<NumberFrequency> withoutBonus = snapshot.frequenciesFrom(1, false);
+    List<NumberFrequency> withBonus = snapshot.frequenciesFrom(1, true);
+
+    assertEquals(1L, withoutBonus.get(0).getNum());
+    assertEquals(3L, withoutBonus.get(0).getFrequency());
+    assertTrue(withoutBonus.stream().noneMatch(f -> f.getNum() == 7L));
+    assertTrue(withBonus.stream().anyMatch(f -> f.getNum() == 7L && f.getFrequency() == 1L));
+  }
+
+  @Test
+  void testAppend() {
+    LottoDrawSnapshot appended = snapshot.append(draw(4, 5, 6, 7, 8, 9, 10, 11));
+
+    assertEquals(4, appended.size());
+    assertEquals(4, appended.latestRound());
+    assertEquals(3, snapshot.size());
+    assertSame(appended, appended.append(draw(4, 5, 6, 7, 8, 9, 10, 11)));
+  }
+
+  @Test
+  void testAppendAllMatchesFullRebuild() {
+    LottoDrawSnapshot sparse = LottoDrawSnapshot.of(List.of(
+        draw(2, 1, 2, 3, 4, 5, 6, 7),
+        draw(5, 1, 2, 3, 4, 5, 6, 7)));
+    List<LottoResults> added = List.of(
+        draw(6, 10, 11, 12, 13, 14, 15, 16),
+        draw(1, 1, 40, 41, 42, 43, 44, 45),
+        draw(3, 20, 21, 22, 23, 24, 25, 26),
+        draw(3, 20, 21, 22, 23, 24, 25, 26),
+        draw(5, 30, 31, 32, 33, 34, 35, 36));
+    LottoDrawSnapshot rebuilt = LottoDrawSnapshot.of(List.of(
+        draw(1, 1, 40, 41, 42, 43, 44, 45),
+        draw(2, 1, 2, 3, 4, 5, 6, 7),
+        draw(3, 20, 21, 22, 23, 24, 25, 26),
+        draw(5, 1, 2, 3, 4, 5, 6, 7),
+        draw(6, 10, 11, 12, 13, 14, 15, 16)));
+
+    LottoDrawSnapshot merged = sparse.appendAll(added);
+
+    assertEquals(5, merged.size());
+    assertEquals(6, merged.latestRound());
+    for (int from = 0; from <= merged.size(); from++) {
+      for (int to = from; to <= merged.size(); to++) {
+        assertArrayEquals(rebuilt.countMain(from, to), merged.countMain(from, to));
+        assertArrayEquals(rebuilt.countBonus(from, to), merged.countBonus(from, to));
+      }
+    }
+    assertSame(merged, merged.appendAll(added));
+  }
+
+  @Test
+  void testPrefixAfterInsertInMiddle() {
+    LottoDrawSnapshot sparse = LottoDrawSnapshot.of(List.of(
+        draw(1, 1, 2, 3, 4, 5, 6, 7),
+        draw(3, 1, 2, 3, 4, 5, 6, 7)));
+    LottoDrawSnapshot filled = sparse.append(draw(2, 1, 40, 41, 42, 43, 44, 45));
+
+    assertEquals(3, filled.countMain(0, filled.size())[1]);
+    assertEquals(1, filled.countMain(filled.fromIndex(2), filled.toIndex(2))[40]);
+    assertEquals(1, filled.countMain(filled.fromIndex(3), filled.size())[2]);
+    assertEquals(2, filled.countBonus(0, filled.size())[7]);
+    assertEquals(0, filled.countMain(2, 2)[1]);
+  }
+
+}
@@ -0,0 +1,149 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.domain.enums.HeatmapFormat;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class LottoHeatmapEncoderTests {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final LottoDrawSnapshot snapshot = LottoDrawSnapshot.of(List.of(
+      draw(1, 1, 2, 3, 4, 5, 6, 7),
+      draw(2, 1, 8, 9, 10, 11, 12, 13),
+      draw(3, 14, 15, 16, 17, 18, 19, 1),
+      draw(4, 20, 21, 22, 23, 24, 25, 26),
+      draw(5, 1, 27, 28, 29, 30, 31, 32)));
+
+  @Test
+  void testRunLengthBoundaries() throws IOException {
+    JsonNode runs = encode(HeatmapFormat.RLE, 1, 5).get("runs");
+
+    // 첫 구간부터 출현하면 미출현 길이 0으로 시작
+    assertEquals(List.of(0, 3, 1, 1), ints(runs.get("1")));
+    // 마지막 회차에서 출현으로 끝나는 경우
+    assertEquals(List.of(4, 1), ints(runs.get("27")));
+    // 한 번도 출현하지 않으면 전체 길이 하나
+    assertEquals(List.of(5), ints(runs.get("45")));
+    // 모든 번호의 구간 길이 합은 회차 수와 같음
+    for (int number = 1; number <= LottoBitmask.MAX_NUMBER; number++) {
+      assertEquals(5, ints(runs.get(String.valueOf(number))).stream().mapToInt(Integer::intValue).sum());
+    }
+  }
+
+  @Test
+  void testRunLengthIncludesBonusNumbers() throws IOException {
+    JsonNode runs = encode(HeatmapFormat.RLE, 1, 5).get("runs");
+
+    assertEquals(List.of(0, 1, 4), ints(runs.get("7")));
+    assertEquals(List.of(3, 1, 1), ints(runs.get("26")));
+    assertEquals(List.of(4, 1), ints(runs.get("32")));
+  }
+
+  @Test
+  void testBitmaskKeepsBonusSeparate() throws IOException {
+    JsonNode json = encode(HeatmapFormat.BITMASK, 2, 3);
+
+    assertEquals(List.of(2, 3), ints(json.get("rounds")));
+    assertEquals(LottoBitmask.of(1, 8, 9, 10, 11, 12), json.get("masks").get(0).asLong());
+    assertEquals(LottoBitmask.of(14, 15, 16, 17, 18, 19), json.get("masks").get(1).asLong());
+    assertEquals(List.of(13, 1), ints(json.get("bonuses")));
+  }
+
+  @Test
+  void testEmptyRange() throws IOException {
+    JsonNode rle = encode(HeatmapFormat.RLE, 10, 20);
+    JsonNode bitmask = encode(HeatmapFormat.BITMASK, 10, 20);
+
+    assertEquals(10, rle.get("startRound").asInt());
+    assertEquals(20, rle.get("endRound").asInt());
+    assertEquals(0, rle.get("rounds").size());
+    assertEquals(0, rle.get("runs").get("1").size());
+    assertEquals(LottoBitmask.MAX_NUMBER, rle.get("runs").size());
+    assertEquals(0, bitmask.get("masks").size());
+    assertEquals(0, bitmask.get("bonuses").size());
+  }
+
+  @Test
+  void testSingleRoundRange() throws IOException {
+    JsonNode runs = encode(HeatmapFormat.RLE, 3, 3).get("runs");
+
+    assertEquals(List.of(0, 1), ints(runs.get("14")));
+    assertEquals(List.of(0, 1), ints(runs.get("1")));
+    assertEquals(List.of(1), ints(runs.get("2")));
+  }
+
+  @Test
+  void testRunLengthRoundTripsToBitmask() throws IOException {
+    JsonNode rle = encode(HeatmapFormat.RLE, 1, 5);
+    JsonNode bitmask = encode(HeatmapFormat.BITMASK, 1, 5);
+    int roundCount = rle.get("rounds").size();
+
+    for (int number = 1; number <= LottoBitmask.MAX_NUMBER; number++) {
+      boolean[] decoded = decode(ints(rle.get("runs").get(String.valueOf(number))), roundCount);
+      for (int i = 0; i < roundCount; i++) {
+        boolean expected = LottoBitmask.contains(bitmask.get("masks").get(i).asLong(), number)
+            || bitmask.get("bonuses").get(i).asInt() == number;
+        assertEquals(expected, decoded[i], "번호 " + number + ", " + (i + 1) + "번째 회차");
+      }
+    }
+  }
+
+  @Test
+  void testMapFormatIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new LottoHeatmapEncoder(snapshot, HeatmapFormat.MAP, 1, 5));
+  }
+
+  private JsonNode encode(HeatmapFormat format, long startRound, long endRound) throws IOException {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator gen = objectMapper.getFactory().createGenerator(writer)) {
+      new LottoHeatmapEncoder(snapshot, format, startRound, endRound).writeTo(gen);
+    }
+    JsonNode json = objectMapper.readTree(writer.toString());
+    assertEquals(format.name(), json.get("format").asText());
+    return json;
+  }
+
+  // 미출현 길이부터 번갈아 나열된 구간 길이를 회차별 출현 여부로 복원
+  private static boolean[] decode(List<Integer> runs, int roundCount) {
+    boolean[] appeared = new boolean[roundCount];
+    int position = 0;
+    boolean appearedRun = false;
+    for (int run : runs) {
+      for (int i = 0; i < run; i++) {
+        appeared[position++] = appearedRun;
+      }
+      appearedRun = !appearedRun;
+    }
+    assertTrue(position == roundCount, "구간 길이 합: " + position);
+    return appeared;
+  }
+
+  private static List<Integer> ints(JsonNode array) {
+    List<Integer> values = new ArrayList<>();
+    array.forEach(node -> values.add(node.asInt()));
+    return values;
+  }
+
+  private static LottoResults draw(long round, int n1, int n2, int n3, int n4, int n5, int n6, int bonus) {
+    return LottoResults.builder()
+        .drawRound(round)
+        .n1(n1).n2(n2).n3(n3).n4(n4).n5(n5).n6(n6)
+        .bonusNumber(bonus)
+        .build();
+  }
+}
@@ -0,0 +1,121 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBulkHistoryResponse;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoUserHistoryRequest;
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoUserHistory;
+import com.eeerrorcode.lottomate.exeption.DuplicateTicketException;
+import com.eeerrorcode.lottomate.repository.lotto.LottoUserHistoryRepository;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketKey;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+public class LottoHistoryBulkSaveTests {
+
+  private static final String KEY = "submission-1";
+
+  private final LottoUserHistoryRepository historyRepository = mock(LottoUserHistoryRepository.class);
+  private final LottoTicketIndex lottoTicketIndex = mock(LottoTicketIndex.class);
+  private final List<LottoUserHistory> stored = new ArrayList<>();
+  private LottoHistoryServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    service = new LottoHistoryServiceImpl(historyRepository, null, null, lottoTicketIndex);
+    ReflectionTestUtils.setField(service, "bulkMaxSize", 5);
+
+    when(historyRepository.findByUserIdAndSubmissionKeyOrderByIdAsc(eq(1L), eq(KEY)))
+        .thenAnswer(invocation -> List.copyOf(stored));
+    when(historyRepository.findExistingTicketKeys(anyLong(), any())).thenReturn(List.of());
+    when(historyRepository.insertAll(anyList())).thenAnswer(invocation -> {
+      List<LottoUserHistory> tickets = invocation.getArgument(0);
+      stored.addAll(tickets);
+      return tickets.size();
+    });
+  }
+
+  @Test
+  void testSavesAllTicketsInOneInsertAndReplaysSameKey() {
+    LottoBulkHistoryResponse first = service.saveUserLottoHistories(1L, KEY,
+        List.of(ticket("6,5,4,3,2,1"), ticket("7,8,9,10,11,12")));
+
+    assertFalse(first.isReplayed());
+    assertEquals(2, first.getSavedCount());
+    assertEquals("1,2,3,4,5,6", first.getTickets().get(0).getNumbers());
+    assertEquals(KEY, stored.get(0).getSubmissionKey());
+    assertEquals(LottoBitmask.of(1, 2, 3, 4, 5, 6), stored.get(0).getNumbersMask());
+    verify(historyRepository, times(1)).insertAll(anyList());
+    verify(lottoTicketIndex, times(2)).add(any());
+
+    LottoBulkHistoryResponse replay = service.saveUserLottoHistories(1L, KEY,
+        List.of(ticket("6,5,4,3,2,1"), ticket("7,8,9,10,11,12")));
+
+    assertTrue(replay.isReplayed());
+    assertEquals(2, replay.getSavedCount());
+    verify(historyRepository, times(1)).insertAll(anyList());
+  }
+
+  @Test
+  void testRejectsInvalidAndDuplicateTicketsBeforeInsert() {
+    assertThrows(IllegalArgumentException.class,
+        () -> service.saveUserLottoHistories(1L, KEY, List.of(ticket("1,2,3,4,5,6"), ticket("1,2,3,4,5"))));
+    assertThrows(DuplicateTicketException.class,
+        () -> service.saveUserLottoHistories(1L, KEY, List.of(ticket("1,2,3,4,5,6"), ticket("6,5,4,3,2,1"))));
+    assertThrows(IllegalArgumentException.class,
+        () -> service.saveUserLottoHistories(1L, KEY, List.of(ticket("1,2,3,4,5,6"), ticket("1,2,3,4,5,7"),
+            ticket("1,2,3,4,5,8"), ticket("1,2,3,4,5,9"), ticket("1,2,3,4,5,10"), ticket("1,2,3,4,5,11"))));
+    assertThrows(IllegalArgumentException.class,
+        () -> service.saveUserLottoHistories(1L, " ", List.of(ticket("1,2,3,4,5,6"))));
+
+    when(historyRepository.findExistingTicketKeys(anyLong(), any()))
+        .thenReturn(List.of(new LottoTicketKey(100L, LottoBitmask.of(1, 2, 3, 4, 5, 6))));
+    assertThrows(DuplicateTicketException.class,
+        () -> service.saveUserLottoHistories(1L, KEY, List.of(ticket("1,2,3,4,5,6"))));
+
+    verify(historyRepository, never()).insertAll(anyList());
+  }
+
+  @Test
+  void testConcurrentRetryWithSameKeyReturnsFirstResult() {
+    when(historyRepository.insertAll(anyList())).thenAnswer(invocation -> {
+      // 같은 키의 다른 요청이 먼저 저장을 마친 상황
+      List<LottoUserHistory> tickets = invocation.getArgument(0);
+      stored.addAll(tickets);
+      throw new DuplicateKeyException("uk_lotto_user_history_user_round_mask");
+    });
+
+    LottoBulkHistoryResponse response = service.saveUserLottoHistories(1L, KEY, List.of(ticket("1,2,3,4,5,6")));
+
+    assertTrue(response.isReplayed());
+    assertEquals(1, response.getSavedCount());
+  }
+
+  private static LottoUserHistoryRequest ticket(String numbers) {
+    return LottoUserHistoryRequest.builder()
+        .drawRound(100L)
+        .numbers(numbers)
+        .isAuto(true)
+        .isSubscribed(true)
+        .build();
+  }
+}
@@ -1,11 +1,33 @@
 package com.eeerrorcode.lottomate.service.lotto;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.repository.lotto.LottoResultRepository;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
 
 public class LottoHistoryServiceTests {
-    private final LottoHistoryServiceImpl service = new LottoHistoryServiceImpl(null, null);
+    private final LottoHistoryServiceImpl service = new LottoHistoryServiceImpl(null, null, null, null);
+
+  private final LottoResultRepository lottoResultRepository = mock(LottoResultRepository.class);
+  private final LottoWinnerEvaluator lottoWinnerEvaluator = mock(LottoWinnerEvaluator.class);
+  private final LottoTicketIndex lottoTicketIndex = mock(LottoTicketIndex.class);
+  private final LottoHistoryServiceImpl indexedService =
+      new LottoHistoryServiceImpl(null, lottoResultRepository, lottoWinnerEvaluator, lottoTicketIndex);
 
   @Test
   void testRank1() {
@@ -38,4 +60,44 @@ public class LottoHistoryServiceTests {
     assertEquals(0, service.calculateRank(2, true));
     assertEquals(0, service.calculateRank(0, false));
   }
+
+  @Test
+  void testIndexedRoundStillSettlesTicketsMissingFromIndex() {
+    long winningMask = LottoBitmask.of(1, 2, 3, 4, 5, 6);
+    when(lottoResultRepository.findByDrawRound(10L)).thenReturn(Optional.of(LottoResults.builder()
+        .drawRound(10L).n1(1).n2(2).n3(3).n4(4).n5(5).n6(6).bonusNumber(7).build()));
+    long[][] idsByRank = { { 2L }, { 1L }, {}, {}, {}, {} };
+    when(lottoTicketIndex.isIndexed(10L)).thenReturn(true);
+    when(lottoTicketIndex.winnerIds(10L, winningMask, 7)).thenReturn(idsByRank);
+
+    indexedService.updateWinningResults(10L);
+
+    // 색인 결과를 먼저 반영하고, 다른 인스턴스에서 저장되었거나 마스크가 없던 응모는 DB에서 이어서 판정
+    InOrder order = inOrder(lottoWinnerEvaluator);
+    order.verify(lottoWinnerEvaluator).apply(10L, idsByRank);
+    order.verify(lottoWinnerEvaluator).evaluate(10L, winningMask, 7);
+  }
+
+  @Test
+  void testSimulateRejectsInvalidWinningNumbers() {
+    when(lottoTicketIndex.openRound()).thenReturn(10L);
+
+    assertThrows(IllegalArgumentException.class, () -> indexedService.simulateWinning(null, "1,2,3", 7));
+    assertThrows(IllegalArgumentException.class, () -> indexedService.simulateWinning(null, "1,1,2,3,4,5", 7));
+    assertThrows(IllegalArgumentException.class, () -> indexedService.simulateWinning(null, "1,2,3,4,5,6,7", 8));
+    assertThrows(IllegalArgumentException.class, () -> indexedService.simulateWinning(null, null, 7));
+    assertThrows(IllegalArgumentException.class, () -> indexedService.simulateWinning(null, "1,2,3,4,5,6", 0));
+    assertThrows(IllegalArgumentException.class, () -> indexedService.simulateWinning(null, "1,2,3,4,5,6", 46));
+    assertThrows(IllegalArgumentException.class, () -> indexedService.simulateWinning(null, "1,2,3,4,5,6", 6));
+    verify(lottoTicketIndex, never()).countRanks(anyLong(), anyLong(), anyInt());
+  }
+
+  @Test
+  void testSimulateCountsValidWinningNumbers() {
+    when(lottoTicketIndex.openRound()).thenReturn(10L);
+    when(lottoTicketIndex.countRanks(eq(10L), eq(LottoBitmask.of(1, 2, 3, 4, 5, 6)), eq(7)))
+        .thenReturn(new long[] { 3L, 1L, 0L, 0L, 0L, 2L });
+
+    assertEquals(6L, indexedService.simulateWinning(null, "1,2,3,4,5,6", 7).getTicketCount());
+  }
 }
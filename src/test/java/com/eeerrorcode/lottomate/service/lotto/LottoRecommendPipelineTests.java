@@ -0,0 +1,172 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoBulkRecommendResponse;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoRecommendOption;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoRecommendTicket;
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.domain.entity.payment.SubscriptionStatus;
+import com.eeerrorcode.lottomate.domain.enums.LottoRange;
+import com.eeerrorcode.lottomate.domain.enums.LottoRecommendSystem;
+import com.eeerrorcode.lottomate.exeption.SubscriptionException;
+import com.eeerrorcode.lottomate.repository.payment.SubscriptionRepository;
+import com.eeerrorcode.lottomate.repository.projection.lotto.NumberFrequency;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+public class LottoRecommendPipelineTests {
+
+  // 번호 n의 빈도 = n (1~20만 등장)
+  private final LottoFrequencyRanking ranking = LottoFrequencyRanking.of(frequencies(20));
+
+  private static List<NumberFrequency> frequencies(int upTo) {
+    List<NumberFrequency> list = new ArrayList<>();
+    for (long n = 1; n <= upTo; n++) {
+      long num = n;
+      list.add(new NumberFrequency() {
+        @Override
+        public Long getNum() {
+          return num;
+        }
+
+        @Override
+        public Long getFrequency() {
+          return num;
+        }
+      });
+    }
+    return list;
+  }
+
+  @Test
+  void testHighFrequencyOrder() {
+    long mask = LottoRecommendServiceImpl.pickNumbers(ranking, LottoRecommendSystem.HIGH_FREQUENCY, true,
+        LottoBitmask.of(20), LottoBitmask.of(1));
+
+    assertEquals(List.of(1, 15, 16, 17, 18, 19), LottoBitmask.toList(mask));
+  }
+
+  @Test
+  void testLowFrequencyOrder() {
+    long mask = LottoRecommendServiceImpl.pickNumbers(ranking, LottoRecommendSystem.LOW_FREQUENCY, true, 0L, 0L);
+
+    assertEquals(List.of(1, 2, 3, 4, 5, 6), LottoBitmask.toList(mask));
+  }
+
+  @RepeatedTest(20)
+  void testEvenOddBalanced() {
+    long excluded = LottoBitmask.of(2, 4);
+    long mask = LottoRecommendServiceImpl.pickNumbers(ranking, LottoRecommendSystem.MIXED, false, excluded, 0L);
+
+    assertEquals(6, Long.bitCount(mask));
+    assertEquals(3, Long.bitCount(mask & LottoBitmask.EVENS));
+    assertEquals(0L, mask & excluded);
+    assertEquals(mask, mask & ranking.presentMask());
+  }
+
+  @Test
+  void testTopUpWhenEvensRunOut() {
+    LottoFrequencyRanking oddHeavy = LottoFrequencyRanking.of(frequencies(3));
+    long mask = LottoRecommendServiceImpl.pickNumbers(oddHeavy, LottoRecommendSystem.MIXED, false, 0L, 0L);
+
+    assertEquals(List.of(1, 2, 3), LottoBitmask.toList(mask));
+  }
+
+  @Test
+  void testTooManyFixedNumbers() {
+    long fixed = LottoBitmask.of(1, 2, 3, 4, 5, 6, 7);
+    assertThrows(IllegalArgumentException.class,
+        () -> LottoRecommendServiceImpl.pickNumbers(ranking, LottoRecommendSystem.MIXED, true, 0L, fixed));
+  }
+
+  @Test
+  void testPoolSizeFor() {
+    assertEquals(6, LottoRecommendServiceImpl.poolSizeFor(1, 6, 20));
+    assertEquals(8, LottoRecommendServiceImpl.poolSizeFor(10, 6, 20));
+    assertEquals(7, LottoRecommendServiceImpl.poolSizeFor(100, 6, 7));
+  }
+
+  @Test
+  void testBulkTicketsAreDistinct() {
+    LottoRecommendServiceImpl service = bulkService(ranking);
+    LottoRecommendOption option = LottoRecommendOption.builder()
+        .range(LottoRange.RECENT_100)
+        .mode(LottoRecommendSystem.HIGH_FREQUENCY)
+        .fixedNumbers(Set.of(1L))
+        .build();
+
+    LottoBulkRecommendResponse response = service.recommendBulk(7L, option, 10);
+
+    assertEquals(10, response.getTickets().size());
+    assertEquals(10, response.getTickets().stream().map(LottoRecommendTicket::getNumbers).distinct().count());
+    assertTrue(response.getTickets().stream().allMatch(t -> t.getNumbers().size() == 6 && t.getNumbers().contains(1L)));
+    assertEquals(10, response.getMaxCount());
+  }
+
+  @Test
+  void testBulkParallelStopsWhenCombinationsRunOut() {
+    LottoRecommendServiceImpl service = bulkService(LottoFrequencyRanking.of(frequencies(7)));
+    ReflectionTestUtils.setField(service, "parallelThreshold", 2);
+    LottoRecommendOption option = LottoRecommendOption.builder()
+        .range(LottoRange.RECENT_100)
+        .mode(LottoRecommendSystem.MIXED)
+        .build();
+
+    LottoBulkRecommendResponse response = service.recommendBulk(7L, option, 10);
+
+    // 7개 번호에서 나올 수 있는 조합은 7개뿐
+    assertEquals(7, response.getTickets().size());
+  }
+
+  @Test
+  void testBulkLimitedByPlan() {
+    LottoRecommendServiceImpl service = bulkService(ranking);
+    LottoRecommendOption option = LottoRecommendOption.builder()
+        .range(LottoRange.RECENT_100)
+        .mode(LottoRecommendSystem.MIXED)
+        .build();
+
+    assertThrows(SubscriptionException.class, () -> service.recommendBulk(7L, option, 11));
+    assertThrows(SubscriptionException.class, () -> service.recommendBulk(null, option, 6));
+  }
+
+  private LottoRecommendServiceImpl bulkService(LottoFrequencyRanking bulkRanking) {
+    LottoDrawIndex lottoDrawIndex = mock(LottoDrawIndex.class);
+    LottoRecommendRankingCache cache = mock(LottoRecommendRankingCache.class);
+    SubscriptionRepository subscriptionRepository = mock(SubscriptionRepository.class);
+    when(lottoDrawIndex.current()).thenReturn(LottoDrawSnapshot.of(List.of(LottoResults.builder()
+        .drawRound(1L).n1(1).n2(2).n3(3).n4(4).n5(5).n6(6).bonusNumber(7).build())));
+    when(cache.get(any(), anyBoolean())).thenReturn(bulkRanking);
+    when(subscriptionRepository.findMaxLottoNumbersByUserIdAndStatus(7L, SubscriptionStatus.ACTIVE))
+        .thenReturn(Optional.of(10));
+
+    LottoRecommendServiceImpl service = new LottoRecommendServiceImpl(lottoDrawIndex, cache, subscriptionRepository);
+    ReflectionTestUtils.setField(service, "defaultBulkLimit", 5);
+    ReflectionTestUtils.setField(service, "parallelThreshold", 256);
+    return service;
+  }
+
+  @Test
+  void testNth() {
+    long mask = LottoBitmask.of(4, 9, 45);
+    assertEquals(4, LottoBitmask.nth(mask, 0));
+    assertEquals(45, LottoBitmask.nth(mask, 2));
+    assertTrue(LottoBitmask.contains(LottoBitmask.EVENS, 44));
+    assertTrue(LottoBitmask.contains(LottoBitmask.ODDS, 45));
+  }
+}
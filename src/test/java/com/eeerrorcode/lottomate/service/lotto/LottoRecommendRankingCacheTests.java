@@ -0,0 +1,89 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.domain.enums.LottoRange;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LottoRecommendRankingCacheTests {
+
+  private final LottoDrawIndex lottoDrawIndex = mock(LottoDrawIndex.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final LottoRecommendRankingCache cache = new LottoRecommendRankingCache(lottoDrawIndex, meterRegistry);
+
+  private LottoResults draw(long round, int n1, int n2, int n3, int n4, int n5, int n6, int bonus) {
+    return LottoResults.builder()
+        .drawRound(round)
+        .n1(n1).n2(n2).n3(n3).n4(n4).n5(n5).n6(n6)
+        .bonusNumber(bonus)
+        .build();
+  }
+
+  private final LottoDrawSnapshot snapshot = LottoDrawSnapshot.of(List.of(
+      draw(1, 1, 10, 20, 30, 40, 45, 2),
+      draw(2, 1, 11, 21, 31, 41, 44, 45),
+      draw(3, 1, 2, 3, 4, 5, 45, 7)));
+
+  private double cacheCount(String result) {
+    return meterRegistry.counter("lotto.recommend.ranking.cache", "result", result).count();
+  }
+
+  @Test
+  void testRankingOrder() {
+    when(lottoDrawIndex.current()).thenReturn(snapshot);
+
+    LottoFrequencyRanking ranking = cache.get(LottoRange.RECENT_77, true);
+
+    assertArrayEquals(new int[] { 1, 45, 2 },
+        IntStream.range(0, 3).map(ranking::numberByDescending).toArray());
+    assertEquals(3L, ranking.countOf(1));
+    assertEquals(1L, ranking.rankOf(1));
+    assertEquals(2L, ranking.rankOf(45));
+    assertEquals(0L, ranking.rankOf(6));
+    // 같은 빈도는 번호 오름차순
+    assertArrayEquals(new int[] { 3, 4, 5 },
+        IntStream.range(0, 3).map(ranking::numberByAscending).toArray());
+    assertArrayEquals(new int[] { 2, 1, 45 },
+        IntStream.range(ranking.size() - 3, ranking.size()).map(ranking::numberByAscending).toArray());
+  }
+
+  @Test
+  void testHitAfterMiss() {
+    when(lottoDrawIndex.current()).thenReturn(snapshot);
+
+    LottoFrequencyRanking first = cache.get(LottoRange.RECENT_100, false);
+    LottoFrequencyRanking second = cache.get(LottoRange.RECENT_100, false);
+
+    assertSame(first, second);
+    assertEquals(1.0, cacheCount("miss"));
+    assertEquals(1.0, cacheCount("hit"));
+  }
+
+  @Test
+  void testRebuildOnNewRound() {
+    when(lottoDrawIndex.current()).thenReturn(snapshot);
+    LottoFrequencyRanking before = cache.get(LottoRange.RECENT_77, false);
+
+    LottoDrawSnapshot appended = snapshot.append(draw(4, 6, 7, 8, 9, 12, 13, 14));
+    when(lottoDrawIndex.current()).thenReturn(appended);
+    cache.onIndexUpdated(new LottoDrawIndexUpdatedEvent(appended));
+
+    LottoFrequencyRanking after = cache.get(LottoRange.RECENT_77, false);
+    assertNotSame(before, after);
+    assertEquals(1L, after.countOf(6));
+    assertEquals(1.0, cacheCount("hit"));
+    assertEquals(1L, meterRegistry.timer("lotto.recommend.ranking.rebuild").count());
+  }
+}
@@ -0,0 +1,166 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoResults;
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoUserHistory;
+import com.eeerrorcode.lottomate.repository.lotto.LottoUserHistoryRepository;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketRow;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LottoTicketIndexTests {
+
+  private static final long WINNING = LottoBitmask.of(1, 2, 3, 4, 5, 6);
+  private static final int BONUS = 7;
+
+  @Test
+  void testBitmapMatchesRankOfForRandomTickets() {
+    Random random = new Random(42L);
+    LottoTicketBitmap bitmap = new LottoTicketBitmap(10L);
+    long[] expected = new long[6];
+    List<List<Long>> expectedIds = new ArrayList<>();
+    for (int rank = 0; rank <= 5; rank++) {
+      expectedIds.add(new ArrayList<>());
+    }
+
+    // 기준 ID보다 작은 ID가 나중에 들어오는 경우도 포함
+    for (int i = 0; i < 20_000; i++) {
+      long id = 5_000L + (i * 7919L) % 20_000L;
+      long mask = randomMask(random, i % 50 == 0 ? 14 : 45);
+      bitmap.add(id, mask);
+      int rank = LottoWinnerEvaluator.rankOf(Long.bitCount(mask & WINNING), LottoBitmask.contains(mask, BONUS));
+      expected[rank]++;
+      expectedIds.get(rank).add(id);
+    }
+
+    assertEquals(20_000, bitmap.size());
+    assertArrayEquals(expected, bitmap.countRanks(WINNING, BONUS));
+
+    long[][] ids = bitmap.winnerIds(WINNING, BONUS);
+    for (int rank = 0; rank <= 5; rank++) {
+      assertArrayEquals(expectedIds.get(rank).stream().mapToLong(Long::longValue).sorted().toArray(), ids[rank]);
+    }
+  }
+
+  @Test
+  void testBitmapIgnoresDuplicateIdsAndRejectsInvalidCombination() {
+    LottoTicketBitmap bitmap = new LottoTicketBitmap(10L);
+    bitmap.add(100L, WINNING);
+    assertFalse(bitmap.add(100L, WINNING));
+    assertEquals(1, bitmap.size());
+    assertEquals(1L, bitmap.countRanks(WINNING, BONUS)[1]);
+
+    assertThrows(IllegalArgumentException.class, () -> bitmap.countRanks(LottoBitmask.of(1, 2, 3, 4, 5), BONUS));
+    assertThrows(IllegalArgumentException.class, () -> bitmap.countRanks(WINNING, 6));
+    assertThrows(IllegalArgumentException.class, () -> bitmap.countRanks(WINNING, 46));
+  }
+
+  @Test
+  void testIndexLoadsOpenRoundAndAddsSavedTickets() {
+    LottoUserHistoryRepository historyRepository = mock(LottoUserHistoryRepository.class);
+    List<LottoTicketRow> stored = List.of(
+        new LottoTicketRow(1L, "1,2,3,4,5,6", null),
+        new LottoTicketRow(2L, null, LottoBitmask.of(1, 2, 3, 4, 5, 7)),
+        new LottoTicketRow(3L, "1,2,x", null));
+    when(historyRepository.findTickets(eq(11L), anyLong(), anyInt())).thenAnswer(invocation -> {
+      long afterId = invocation.getArgument(1);
+      int limit = invocation.getArgument(2);
+      return stored.stream().filter(t -> t.id() > afterId).limit(limit).toList();
+    });
+
+    LottoTicketIndex index = new LottoTicketIndex(historyRepository, new SimpleMeterRegistry(), 2);
+    index.onDrawIndexUpdated(new LottoDrawIndexUpdatedEvent(LottoDrawSnapshot.of(List.of(draw(10L)))));
+
+    assertEquals(11L, index.openRound());
+    assertEquals(2, index.size(11L));
+
+    index.add(LottoUserHistory.builder().id(4L).drawRound(11L).numbers("1,2,3,4,44,45")
+        .numbersMask(LottoBitmask.of(1, 2, 3, 4, 44, 45)).build());
+    index.add(LottoUserHistory.builder().id(5L).drawRound(12L).numbers("1,2,3,4,5,6")
+        .numbersMask(WINNING).build());
+
+    assertArrayEquals(new long[] { 0, 1, 1, 0, 1, 0 }, index.countRanks(11L, WINNING, BONUS));
+    assertArrayEquals(new long[] { 4L }, index.winnerIds(11L, WINNING, BONUS)[4]);
+  }
+
+  @Test
+  void testIndexLoadsOpenRoundOnceAndDoesNotKeepOtherRounds() throws Exception {
+    LottoUserHistoryRepository historyRepository = mock(LottoUserHistoryRepository.class);
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    when(historyRepository.findTickets(anyLong(), anyLong(), anyInt())).thenAnswer(invocation -> {
+      long afterId = invocation.getArgument(1);
+      if (afterId > 0) {
+        return List.of();
+      }
+      loads.incrementAndGet();
+      loading.await(5, TimeUnit.SECONDS);
+      return List.of(new LottoTicketRow(1L, null, WINNING));
+    });
+    LottoTicketIndex index = new LottoTicketIndex(historyRepository, new SimpleMeterRegistry(), 10);
+    // 당첨 회차가 없으면 1회차가 응모 중인 회차, 적재가 끝나기 전에 동시 조회
+    ExecutorService executor = Executors.newFixedThreadPool(5);
+    try {
+      executor.submit(() -> index.onDrawIndexUpdated(new LottoDrawIndexUpdatedEvent(LottoDrawSnapshot.empty())));
+      Thread.sleep(50);
+      List<Future<long[]>> counts = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        counts.add(executor.submit(() -> index.countRanks(1L, WINNING, BONUS)));
+      }
+      Thread.sleep(100);
+      loading.countDown();
+      for (Future<long[]> count : counts) {
+        assertEquals(1L, count.get(5, TimeUnit.SECONDS)[1]);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, loads.get());
+    assertTrue(index.isIndexed(1L));
+
+    // 응모 중인 회차가 아니면 매번 DB에서 읽고 보관하지 않음
+    index.countRanks(5L, WINNING, BONUS);
+    index.countRanks(5L, WINNING, BONUS);
+    assertEquals(3, loads.get());
+    assertFalse(index.isIndexed(5L));
+  }
+
+  private static long randomMask(Random random, int range) {
+    long mask = 0L;
+    while (Long.bitCount(mask) < 6) {
+      mask |= LottoBitmask.bit(random.nextInt(range) + 1);
+    }
+    return mask;
+  }
+
+  private static LottoResults draw(long round) {
+    return LottoResults.builder()
+        .drawRound(round)
+        .n1(1).n2(2).n3(3).n4(4).n5(5).n6(6)
+        .bonusNumber(7)
+        .build();
+  }
+}
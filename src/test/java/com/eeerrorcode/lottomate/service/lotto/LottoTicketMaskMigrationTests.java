@@ -0,0 +1,112 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoUserHistoryRequest;
+import com.eeerrorcode.lottomate.domain.dto.lotto.LottoUserHistoryResponse;
+import com.eeerrorcode.lottomate.domain.entity.lotto.LottoUserHistory;
+import com.eeerrorcode.lottomate.repository.lotto.LottoUserHistoryRepository;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketRow;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LottoTicketMaskMigrationTests {
+
+  private final LottoUserHistoryRepository historyRepository = mock(LottoUserHistoryRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final Map<Long, Long> masks = new ConcurrentHashMap<>();
+  private final List<LottoTicketRow> tickets = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    for (long id = 1; id <= 7; id++) {
+      tickets.add(new LottoTicketRow(id, "1, 2, 3, 4, 5, " + (10 + id), null));
+    }
+    tickets.add(new LottoTicketRow(8, "1,2,x", null));
+    // 중복 번호, 개수 부족
+    tickets.add(new LottoTicketRow(9, "1,1,2,3,4,5", null));
+    tickets.add(new LottoTicketRow(10, "1,2,3", null));
+
+    // 마스크가 채워진 행은 다시 조회되지 않음
+    when(historyRepository.findTicketsWithoutMask(anyLong(), anyInt())).thenAnswer(invocation -> {
+      long afterId = invocation.getArgument(0);
+      int limit = invocation.getArgument(1);
+      return tickets.stream()
+          .filter(t -> t.id() > afterId && !masks.containsKey(t.id()))
+          .limit(limit)
+          .toList();
+    });
+    when(historyRepository.updateNumbersMasks(any(), any(), anyInt())).thenAnswer(invocation -> {
+      long[] ids = invocation.getArgument(0);
+      long[] values = invocation.getArgument(1);
+      int count = invocation.getArgument(2);
+      for (int i = 0; i < count; i++) {
+        masks.put(ids[i], values[i]);
+      }
+      return count;
+    });
+  }
+
+  @Test
+  void testMigrateFillsMasksInBatches() {
+    LottoTicketMaskMigration migration = new LottoTicketMaskMigration(historyRepository, meterRegistry, false, 3, 0L);
+
+    assertEquals(7L, migration.migrate());
+    assertEquals(LottoBitmask.of(1, 2, 3, 4, 5, 11), masks.get(1L));
+    assertEquals(LottoBitmask.of(1, 2, 3, 4, 5, 17), masks.get(7L));
+    assertFalse(masks.containsKey(8L));
+    assertFalse(masks.containsKey(9L));
+    assertFalse(masks.containsKey(10L));
+    assertEquals(7.0, meterRegistry.counter("lotto.ticket.mask.migrated").count());
+    assertEquals(3.0, meterRegistry.counter("lotto.ticket.mask.invalid").count());
+
+    // 다시 실행하면 형식 오류 행만 남음
+    assertEquals(0L, migration.migrate());
+  }
+
+  @Test
+  void testRequestTranslatesNumbersToMask() {
+    LottoUserHistoryRequest request = new LottoUserHistoryRequest();
+    request.setDrawRound(10L);
+    request.setNumbers("45, 3, 12,1,7,30");
+    request.setIsAuto(false);
+    request.setIsSubscribed(false);
+
+    LottoUserHistory entity = request.toEntity(1L);
+    assertEquals(LottoBitmask.of(1, 3, 7, 12, 30, 45), entity.getNumbersMask());
+    assertEquals("1,3,7,12,30,45", entity.getNumbers());
+    assertEquals("1,3,7,12,30,45", LottoUserHistoryResponse.toDto(entity).getNumbers());
+
+    request.setNumbers("1,2,3,4,5,5");
+    assertThrows(IllegalArgumentException.class, () -> request.toEntity(1L));
+    request.setNumbers("1,2,3,4,5,46");
+    assertThrows(IllegalArgumentException.class, () -> request.toEntity(1L));
+  }
+
+  @Test
+  void testResponseFallsBackToStringBeforeMigration() {
+    LottoUserHistory legacy = LottoUserHistory.builder()
+        .id(1L)
+        .drawRound(10L)
+        .numbers("5, 4, 3, 2, 1, 6")
+        .build();
+
+    assertEquals("5, 4, 3, 2, 1, 6", LottoUserHistoryResponse.toDto(legacy).getNumbers());
+  }
+}
@@ -0,0 +1,112 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.eeerrorcode.lottomate.repository.lotto.LottoUserHistoryRepository;
+import com.eeerrorcode.lottomate.repository.projection.lotto.LottoTicketRow;
+import com.eeerrorcode.lottomate.util.LottoBitmask;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LottoWinnerEvaluatorTests {
+
+  private final LottoUserHistoryRepository historyRepository = mock(LottoUserHistoryRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final Map<Long, Integer> ranks = new ConcurrentHashMap<>();
+  private final List<LottoTicketRow> tickets = new ArrayList<>();
+  private LottoWinnerEvaluator evaluator;
+
+  @BeforeEach
+  void setUp() {
+    // 당첨 번호 1~6, 보너스 7
+    tickets.add(new LottoTicketRow(1, "1,2,3,4,5,6", null));       // 1등
+    tickets.add(new LottoTicketRow(2, "1, 2, 3, 4, 5, 7", null));  // 2등
+    tickets.add(new LottoTicketRow(3, "1,2,3,4,5,45", null));      // 3등
+    tickets.add(new LottoTicketRow(4, "1,2,3,4,44,45", null));     // 4등
+    tickets.add(new LottoTicketRow(5, "1,2,3,43,44,45", null));    // 5등
+    tickets.add(new LottoTicketRow(6, "1,2,7,43,44,45", null));    // 미당첨
+    tickets.add(new LottoTicketRow(7, "1,2,x", null));             // 형식 오류
+
+    when(historyRepository.findUnclaimedTickets(eq(10L), anyLong(), anyInt())).thenAnswer(invocation -> {
+      long afterId = invocation.getArgument(1);
+      int limit = invocation.getArgument(2);
+      return tickets.stream().filter(t -> t.id() > afterId).limit(limit).toList();
+    });
+    when(historyRepository.updateWinningRanks(any(), any(), anyInt())).thenAnswer(invocation -> {
+      long[] ids = invocation.getArgument(0);
+      int[] values = invocation.getArgument(1);
+      int count = invocation.getArgument(2);
+      for (int i = 0; i < count; i++) {
+        ranks.put(ids[i], values[i]);
+      }
+      return count;
+    });
+
+    evaluator = new LottoWinnerEvaluator(historyRepository, meterRegistry, 2, 3);
+  }
+
+  @AfterEach
+  void tearDown() {
+    evaluator.destroy();
+  }
+
+  @Test
+  void testEvaluateAllPages() {
+    long updated = evaluator.evaluate(10L, LottoBitmask.of(1, 2, 3, 4, 5, 6), 7);
+
+    assertEquals(6L, updated);
+    assertEquals(Map.of(1L, 1, 2L, 2, 3L, 3, 4L, 4, 5L, 5, 6L, 0), ranks);
+    assertEquals(6.0, meterRegistry.counter("lotto.winner.tickets.evaluated").count());
+    assertEquals(1.0, meterRegistry.counter("lotto.winner.tickets.invalid").count());
+    assertEquals(1.0, meterRegistry.counter("lotto.winner.tickets.winning", "rank", "2").count());
+    assertEquals(4L, meterRegistry.timer("lotto.winner.chunk").count());
+  }
+
+  @Test
+  void testApplyIndexedRanksWithoutReadingTickets() {
+    LottoTicketBitmap bitmap = new LottoTicketBitmap(10L);
+    for (LottoTicketRow ticket : tickets.subList(0, 6)) {
+      bitmap.add(ticket.id(), ticket.mask());
+    }
+
+    long updated = evaluator.apply(10L, bitmap.winnerIds(LottoBitmask.of(1, 2, 3, 4, 5, 6), 7));
+
+    assertEquals(6L, updated);
+    assertEquals(Map.of(1L, 1, 2L, 2, 3L, 3, 4L, 4, 5L, 5, 6L, 0), ranks);
+    assertEquals(1.0, meterRegistry.counter("lotto.winner.tickets.winning", "rank", "2").count());
+    assertEquals(3L, meterRegistry.timer("lotto.winner.chunk").count());
+    verify(historyRepository, never()).findUnclaimedTickets(anyLong(), anyLong(), anyInt());
+  }
+
+  @Test
+  void testFailedChunkIsReported() {
+    when(historyRepository.updateWinningRanks(any(), any(), anyInt())).thenThrow(new IllegalStateException("db"));
+
+    assertThrows(IllegalStateException.class, () -> evaluator.evaluate(10L, LottoBitmask.of(1, 2, 3, 4, 5, 6), 7));
+  }
+
+  @Test
+  void testParse() {
+    assertEquals(LottoBitmask.of(1, 12, 45), LottoBitmask.parse(" 1,12 ,45"));
+    assertThrows(IllegalArgumentException.class, () -> LottoBitmask.parse("1,46"));
+    assertThrows(IllegalArgumentException.class, () -> LottoBitmask.parse("0,1"));
+  }
+}
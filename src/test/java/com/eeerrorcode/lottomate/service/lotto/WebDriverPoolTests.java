@@ -0,0 +1,91 @@
+package com.eeerrorcode.lottomate.service.lotto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class WebDriverPoolTests {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final AtomicInteger created = new AtomicInteger();
+
+  private WebDriverPool pool(int maxSize, Duration idleTimeout) {
+    return new WebDriverPool(() -> {
+      created.incrementAndGet();
+      return mock(WebDriver.class);
+    }, registry, maxSize, idleTimeout, Duration.ofMillis(100));
+  }
+
+  @Test
+  void testSessionIsReused() {
+    WebDriverPool pool = pool(1, Duration.ofMinutes(10));
+
+    WebDriver first;
+    try (PooledWebDriver pooled = pool.borrow()) {
+      first = pooled.driver();
+    }
+    try (PooledWebDriver pooled = pool.borrow()) {
+      assertSame(first, pooled.driver());
+      assertEquals(2, pooled.getUseCount());
+    }
+
+    assertEquals(1, created.get());
+    assertEquals(1.0, registry.get("lotto.webdriver.session.reuse").summary().totalAmount());
+  }
+
+  @Test
+  void testBorrowTimesOutWhenPoolExhausted() {
+    WebDriverPool pool = pool(1, Duration.ofMinutes(10));
+
+    try (PooledWebDriver pooled = pool.borrow()) {
+      assertThrows(IllegalStateException.class, pool::borrow);
+      assertEquals(1, pool.activeCount());
+    }
+    assertEquals(0, pool.activeCount());
+    assertEquals(1, pool.idleCount());
+  }
+
+  @Test
+  void testDeadSessionIsReplaced() {
+    WebDriverPool pool = pool(1, Duration.ofMinutes(10));
+
+    WebDriver first;
+    try (PooledWebDriver pooled = pool.borrow()) {
+      first = pooled.driver();
+    }
+    when(first.getWindowHandle()).thenThrow(new WebDriverException("session deleted"));
+
+    try (PooledWebDriver pooled = pool.borrow()) {
+      assertNotSame(first, pooled.driver());
+    }
+    verify(first).quit();
+    assertEquals(2, created.get());
+  }
+
+  @Test
+  void testIdleSessionIsEvicted() {
+    WebDriverPool pool = pool(2, Duration.ZERO);
+
+    WebDriver driver;
+    try (PooledWebDriver pooled = pool.borrow()) {
+      driver = pooled.driver();
+    }
+    pool.evictIdle();
+
+    verify(driver).quit();
+    assertEquals(0, pool.idleCount());
+  }
+}
@@ -0,0 +1,274 @@
+package com.eeerrorcode.lottomate.service.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.eeerrorcode.lottomate.domain.dto.payment.PaymentDiscrepancyDto;
+import com.eeerrorcode.lottomate.domain.dto.payment.PaymentReconciliationReport;
+import com.eeerrorcode.lottomate.domain.entity.payment.Payment;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentLog;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentLogAction;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentStatus;
+import com.eeerrorcode.lottomate.repository.payment.PaymentLogRepository;
+import com.eeerrorcode.lottomate.repository.payment.PaymentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PaymentReconciliationServiceTests {
+
+  private static final LocalDateTime FROM = LocalDateTime.of(2025, 5, 1, 0, 0);
+  private static final LocalDateTime TO = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+  private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+  private final PaymentLogRepository paymentLogRepository = mock(PaymentLogRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  // 로컬 포트원 대역 서버 (impUid별 결제 정보 응답)
+  private final Map<String, String> gatewayPayments = new ConcurrentHashMap<>();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+  private volatile long gatewayDelayMillis;
+  private HttpServer server;
+  private PortOneTokenManager tokenManager;
+  private PaymentGatewayService paymentGatewayService;
+
+  @BeforeEach
+  void startFakeGateway() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/users/getToken", exchange -> {
+      long now = System.currentTimeMillis() / 1000;
+      respond(exchange, 200, "{\"code\":0,\"response\":{\"access_token\":\"token\",\"now\":" + now
+          + ",\"expired_at\":" + (now + 1800) + "}}");
+    });
+    server.createContext("/payments/", exchange -> {
+      int current = inFlight.incrementAndGet();
+      maxInFlight.accumulateAndGet(current, Math::max);
+      try {
+        sleep(gatewayDelayMillis);
+        String impUid = exchange.getRequestURI().getPath().substring("/payments/".length());
+        String body = gatewayPayments.get(impUid);
+        if (body == null) {
+          respond(exchange, 404, "{\"code\":-1,\"message\":\"존재하지 않는 결제정보입니다.\",\"response\":null}");
+        } else {
+          respond(exchange, 200, "{\"code\":0,\"message\":null,\"response\":" + body + "}");
+        }
+      } finally {
+        inFlight.decrementAndGet();
+      }
+    });
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    RestTemplate restTemplate = new RestTemplate();
+    tokenManager = new PortOneTokenManager(restTemplate, objectMapper, meterRegistry, "key", "secret", baseUrl, 60, false);
+    paymentGatewayService = new PaymentGatewayService(restTemplate, objectMapper, tokenManager);
+    ReflectionTestUtils.setField(paymentGatewayService, "iamportApiUrl", baseUrl);
+  }
+
+  @AfterEach
+  void stopFakeGateway() {
+    tokenManager.destroy();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void testDiscrepanciesAreReportedAndLoggedAcrossPages() {
+    List<Payment> payments = List.of(
+        payment(1L, "imp-1", PaymentStatus.COMPLETE, "9900", "0"),
+        payment(2L, "imp-2", PaymentStatus.COMPLETE, "9900", "0"),
+        payment(3L, "imp-3", PaymentStatus.COMPLETE, "9900", "0"),
+        payment(4L, "imp-4", PaymentStatus.PARTIAL_REFUNDED, "9900", "3000"),
+        payment(5L, "imp-5", PaymentStatus.REFUNDED, "9900", "9900"),
+        payment(6L, "imp-unknown", PaymentStatus.COMPLETE, "9900", "0"));
+    givenPayments(payments);
+    gatewayPayments.put("imp-1", gatewayPayment("imp-1", "order-1", "9900", "paid", "0"));
+    gatewayPayments.put("imp-2", gatewayPayment("imp-2", "order-2", "990", "paid", "0"));
+    gatewayPayments.put("imp-3", gatewayPayment("imp-3", "order-3", "9900", "cancelled", "9900"));
+    gatewayPayments.put("imp-4", gatewayPayment("imp-4", "order-4", "9900", "paid", "3000"));
+    gatewayPayments.put("imp-5", gatewayPayment("imp-5", "order-5", "9900", "cancelled", "9900"));
+
+    PaymentReconciliationReport report = service(4, 2).reconcile(FROM, TO);
+
+    assertEquals(6L, report.getCheckedCount());
+    assertEquals(3L, report.getMatchedCount());
+    assertEquals(List.of("order-6"), report.getFailedMerchantUids());
+    List<PaymentDiscrepancyDto> discrepancies = new ArrayList<>(report.getDiscrepancies());
+    discrepancies.sort((a, b) -> a.getPaymentId().compareTo(b.getPaymentId()));
+    assertEquals(2, discrepancies.size());
+    assertEquals("order-2", discrepancies.get(0).getMerchantUid());
+    assertEquals(List.of("amount"), discrepancies.get(0).getFields());
+    assertEquals("order-3", discrepancies.get(1).getMerchantUid());
+    assertEquals(List.of("status", "refundAmount"), discrepancies.get(1).getFields());
+    assertEquals(0, new BigDecimal("9900").compareTo(discrepancies.get(1).getGatewayCancelAmount()));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<PaymentLog>> logs = ArgumentCaptor.forClass(List.class);
+    verify(paymentLogRepository, atLeastOnce()).saveAll(logs.capture());
+    List<PaymentLog> saved = logs.getAllValues().stream().flatMap(List::stream).toList();
+    assertEquals(2, saved.size());
+    assertTrue(saved.stream().allMatch(log -> log.getAction() == PaymentLogAction.RECONCILIATION_MISMATCH));
+    assertTrue(saved.stream().allMatch(log -> "system".equals(log.getIpAddress())));
+
+    assertEquals(3.0, meterRegistry.get("payment.reconciliation.checked").tag("result", "matched").counter().count());
+    assertEquals(2.0, meterRegistry.get("payment.reconciliation.checked").tag("result", "mismatched").counter().count());
+    assertEquals(1.0, meterRegistry.get("payment.reconciliation.checked").tag("result", "failed").counter().count());
+  }
+
+  @Test
+  void testGatewayLookupsRunConcurrentlyWithinParallelism() {
+    List<Payment> payments = new ArrayList<>();
+    for (long id = 1; id <= 24; id++) {
+      payments.add(payment(id, "imp-" + id, PaymentStatus.COMPLETE, "9900", "0"));
+      gatewayPayments.put("imp-" + id, gatewayPayment("imp-" + id, "order-" + id, "9900", "paid", null));
+    }
+    givenPayments(payments);
+    gatewayDelayMillis = 100;
+
+    PaymentReconciliationReport report = service(4, 10).reconcile(FROM, TO);
+
+    assertEquals(24L, report.getCheckedCount());
+    assertEquals(24L, report.getMatchedCount());
+    assertTrue(maxInFlight.get() > 1, "동시 조회 수: " + maxInFlight.get());
+    assertTrue(maxInFlight.get() <= 4, "동시 조회 수: " + maxInFlight.get());
+    // 순차 조회라면 24 x 100ms 이상 소요
+    assertTrue(report.getElapsedMillis() < 2000, "소요 시간: " + report.getElapsedMillis());
+    verify(paymentLogRepository, never()).saveAll(anyList());
+  }
+
+  @Test
+  void testInterruptedRunIsReportedAsIncomplete() throws Exception {
+    List<Payment> payments = new ArrayList<>();
+    for (long id = 1; id <= 8; id++) {
+      payments.add(payment(id, "imp-" + id, PaymentStatus.COMPLETE, "9900", "0"));
+      gatewayPayments.put("imp-" + id, gatewayPayment("imp-" + id, "order-" + id, "9900", "paid", null));
+    }
+    givenPayments(payments);
+    gatewayDelayMillis = 1000;
+
+    AtomicReference<PaymentReconciliationReport> report = new AtomicReference<>();
+    Thread runner = new Thread(() -> report.set(service(2, 4).reconcile(FROM, TO)));
+    runner.start();
+    Thread.sleep(200);
+    runner.interrupt();
+    runner.join(5000);
+
+    assertTrue(report.get().isIncomplete());
+    assertTrue(report.get().getCheckedCount() < 8, "비교 수: " + report.get().getCheckedCount());
+  }
+
+  @Test
+  void testCompletedRunIsNotIncomplete() {
+    givenPayments(List.of(payment(1L, "imp-1", PaymentStatus.COMPLETE, "9900", "0")));
+    gatewayPayments.put("imp-1", gatewayPayment("imp-1", "order-1", "9900", "paid", "0"));
+
+    PaymentReconciliationReport report = service(2, 4).reconcile(FROM, TO);
+
+    assertFalse(report.isIncomplete());
+    assertEquals(1L, report.getMatchedCount());
+  }
+
+  @Test
+  void testInvalidWindowIsRejected() {
+    PaymentReconciliationService service = service(4, 10);
+
+    assertThrows(IllegalArgumentException.class, () -> service.reconcile(TO, FROM));
+    assertThrows(IllegalArgumentException.class, () -> service.reconcile(FROM, FROM));
+  }
+
+  private PaymentReconciliationServiceImpl service(int parallelism, int pageSize) {
+    return new PaymentReconciliationServiceImpl(paymentRepository, paymentLogRepository, paymentGatewayService,
+        objectMapper, meterRegistry, parallelism, pageSize);
+  }
+
+  private void givenPayments(List<Payment> payments) {
+    when(paymentRepository.findReconciliationPage(any(), any(), any(), any())).thenAnswer(invocation -> {
+      LocalDateTime endDate = invocation.getArgument(0);
+      LocalDateTime afterDate = invocation.getArgument(1);
+      Long afterId = invocation.getArgument(2);
+      Limit limit = invocation.getArgument(3);
+      return payments.stream()
+          .filter(payment -> payment.getPaymentDate().isBefore(endDate))
+          .filter(payment -> payment.getPaymentDate().isAfter(afterDate)
+              || (payment.getPaymentDate().isEqual(afterDate) && payment.getId() > afterId))
+          .sorted(Comparator.comparing(Payment::getPaymentDate).thenComparing(Payment::getId))
+          .limit(limit.max())
+          .toList();
+    });
+  }
+
+  private static Payment payment(Long id, String impUid, PaymentStatus status, String amount, String refundAmount) {
+    return Payment.builder()
+        .id(id)
+        .merchantUid("order-" + id)
+        .impUid(impUid)
+        .paymentStatus(status)
+        .amount(new BigDecimal(amount))
+        .refundAmount(new BigDecimal(refundAmount))
+        .paymentDate(FROM.plusDays(id))
+        .build();
+  }
+
+  private static String gatewayPayment(String impUid, String merchantUid, String amount, String status,
+      String cancelAmount) {
+    return "{\"imp_uid\":\"" + impUid + "\",\"merchant_uid\":\"" + merchantUid + "\",\"amount\":" + amount
+        + ",\"status\":\"" + status + "\",\"pay_method\":\"card\""
+        + (cancelAmount != null ? ",\"cancel_amount\":" + cancelAmount : "") + "}";
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
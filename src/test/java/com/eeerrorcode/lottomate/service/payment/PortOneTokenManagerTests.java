@@ -0,0 +1,163 @@
+package com.eeerrorcode.lottomate.service.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.eeerrorcode.lottomate.exeption.PaymentException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PortOneTokenManagerTests {
+
+  private static final String TOKEN_URL = "https://api.iamport.kr/users/getToken";
+
+  private final RestTemplate restTemplate = mock(RestTemplate.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void testConcurrentRequestsShareSingleFetch() throws Exception {
+    CountDownLatch fetchStarted = new CountDownLatch(1);
+    CountDownLatch releaseFetch = new CountDownLatch(1);
+    when(restTemplate.postForObject(eq(TOKEN_URL), any(HttpEntity.class), eq(String.class))).thenAnswer(invocation -> {
+      fetchStarted.countDown();
+      releaseFetch.await(5, TimeUnit.SECONDS);
+      return tokenResponse("token-1", 1800);
+    });
+    PortOneTokenManager manager = manager(false);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(manager::getAccessToken));
+      }
+      assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+      Thread.sleep(100);
+      releaseFetch.countDown();
+      for (Future<String> result : results) {
+        assertEquals("token-1", result.get(5, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals("token-1", manager.getAccessToken());
+    verify(restTemplate, times(1)).postForObject(eq(TOKEN_URL), any(HttpEntity.class), eq(String.class));
+    assertEquals(1.0, meterRegistry.get("portone.token.fetch").tag("result", "success").counter().count());
+    assertEquals(1.0, meterRegistry.get("portone.token.requests").tag("result", "miss").counter().count());
+    double avoided = meterRegistry.get("portone.token.requests").tag("result", "hit").counter().count()
+        + meterRegistry.get("portone.token.requests").tag("result", "shared").counter().count();
+    assertEquals(8.0, avoided);
+  }
+
+  @Test
+  void testTokenIsRefetchedWithinRefreshMargin() {
+    // 유효 시간이 0초이면 바로 갱신 시점이 지난 토큰
+    when(restTemplate.postForObject(eq(TOKEN_URL), any(HttpEntity.class), eq(String.class)))
+        .thenReturn(tokenResponse("token-1", 0), tokenResponse("token-2", 1800));
+    PortOneTokenManager manager = manager(false);
+
+    assertEquals("token-1", manager.getAccessToken());
+    assertEquals("token-2", manager.getAccessToken());
+    assertEquals("token-2", manager.getAccessToken());
+    verify(restTemplate, times(2)).postForObject(eq(TOKEN_URL), any(HttpEntity.class), eq(String.class));
+  }
+
+  @Test
+  void testUnauthorizedResponseDiscardsToken() {
+    when(restTemplate.postForObject(eq(TOKEN_URL), any(HttpEntity.class), eq(String.class)))
+        .thenReturn(tokenResponse("token-1", 1800), tokenResponse("token-2", 1800));
+    PortOneTokenManager manager = manager(false);
+
+    String token = manager.getAccessToken();
+    manager.invalidateIfUnauthorized(token, new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+    assertEquals("token-1", manager.getAccessToken());
+
+    manager.invalidateIfUnauthorized(token, new HttpClientErrorException(HttpStatus.UNAUTHORIZED));
+    assertEquals("token-2", manager.getAccessToken());
+  }
+
+  @Test
+  void testFailedFetchIsSharedAndCounted() {
+    when(restTemplate.postForObject(eq(TOKEN_URL), any(HttpEntity.class), eq(String.class)))
+        .thenReturn("{\"code\":-1,\"message\":\"인증 실패\",\"response\":null}");
+    PortOneTokenManager manager = manager(false);
+
+    PaymentException e = assertThrows(PaymentException.class, manager::getAccessToken);
+    assertTrue(e.getMessage().contains("인증 실패"));
+    assertEquals(1.0, meterRegistry.get("portone.token.fetch").tag("result", "failure").counter().count());
+  }
+
+  @Test
+  void testFailedRefreshKeepsStaleTokenUntilRetryDelay() throws Exception {
+    // 유효 4초 -> 2초 뒤부터 갱신 시점
+    when(restTemplate.postForObject(eq(TOKEN_URL), any(HttpEntity.class), eq(String.class)))
+        .thenReturn(tokenResponse("token-1", 4))
+        .thenThrow(new HttpClientErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+    PortOneTokenManager manager = manager(false);
+
+    assertEquals("token-1", manager.getAccessToken());
+    Thread.sleep(2100);
+    assertEquals("token-1", manager.getAccessToken());
+    assertEquals("token-1", manager.getAccessToken());
+    assertEquals("token-1", manager.getToken().getAccessToken());
+
+    // 실패 후 재시도 시각 전까지는 다시 발급을 요청하지 않음
+    verify(restTemplate, times(2)).postForObject(eq(TOKEN_URL), any(HttpEntity.class), eq(String.class));
+    assertEquals(1.0, meterRegistry.get("portone.token.fetch").tag("result", "failure").counter().count());
+  }
+
+  @Test
+  void testBackgroundRefreshReplacesTokenBeforeExpiry() throws Exception {
+    AtomicInteger fetches = new AtomicInteger();
+    when(restTemplate.postForObject(eq(TOKEN_URL), any(HttpEntity.class), eq(String.class)))
+        .thenAnswer(invocation -> tokenResponse("token-" + fetches.incrementAndGet(), fetches.get() == 1 ? 1 : 1800));
+    PortOneTokenManager manager = manager(true);
+    try {
+      assertEquals("token-1", manager.getAccessToken());
+      long deadline = System.currentTimeMillis() + 5000;
+      while (fetches.get() < 2 && System.currentTimeMillis() < deadline) {
+        Thread.sleep(20);
+      }
+      assertEquals(2, fetches.get());
+      assertEquals("token-2", manager.getAccessToken());
+      assertEquals(2, fetches.get());
+    } finally {
+      manager.destroy();
+    }
+  }
+
+  private PortOneTokenManager manager(boolean backgroundRefresh) {
+    return new PortOneTokenManager(restTemplate, new ObjectMapper(), meterRegistry,
+        "imp-key", "imp-secret", "https://api.iamport.kr", 60, backgroundRefresh);
+  }
+
+  private static String tokenResponse(String token, long lifetimeSeconds) {
+    long now = System.currentTimeMillis() / 1000;
+    return "{\"code\":0,\"message\":null,\"response\":{\"access_token\":\"" + token
+        + "\",\"now\":" + now + ",\"expired_at\":" + (now + lifetimeSeconds) + "}}";
+  }
+}
@@ -0,0 +1,228 @@
+package com.eeerrorcode.lottomate.service.subscription;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.eeerrorcode.lottomate.domain.dto.payment.PaymentGatewayResponseDto;
+import com.eeerrorcode.lottomate.domain.entity.payment.Payment;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentStatus;
+import com.eeerrorcode.lottomate.repository.payment.PaymentRepository;
+import com.eeerrorcode.lottomate.service.payment.PaymentGatewayService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PaymentVerificationWorkerTests {
+
+  private final SubscriptionService subscriptionService = mock(SubscriptionService.class);
+  private final PaymentGatewayService paymentGatewayService = mock(PaymentGatewayService.class);
+  private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private PaymentVerificationWorker worker;
+
+  @AfterEach
+  void shutdown() {
+    worker.destroy();
+  }
+
+  @Test
+  void testPaidPaymentActivatesSubscription() throws Exception {
+    worker = worker(2, 10, 10000);
+    pending("order-1", "imp-1", "9900");
+    when(paymentGatewayService.findPaymentByMerchantUid("order-1"))
+        .thenReturn(Optional.of(info("order-1", "imp-1", "9900", "paid")));
+
+    assertTrue(worker.submit("order-1"));
+
+    verify(subscriptionService, timeout(2000)).completePaymentVerification(eq("order-1"), any());
+    verify(subscriptionService, never()).failPaymentVerification(anyString(), anyString());
+    awaitJobs("completed", 1.0);
+  }
+
+  @Test
+  void testAmountMismatchFailsPayment() {
+    worker = worker(2, 10, 10000);
+    pending("order-2", "imp-2", "9900");
+    when(paymentGatewayService.findPaymentByMerchantUid("order-2"))
+        .thenReturn(Optional.of(info("order-2", "imp-2", "100", "paid")));
+
+    worker.submit("order-2");
+
+    verify(subscriptionService, timeout(2000)).failPaymentVerification(eq("order-2"), contains("금액"));
+    verify(subscriptionService, never()).completePaymentVerification(anyString(), any());
+  }
+
+  @Test
+  void testAlreadyProcessedPaymentIsSkippedWithoutGatewayCall() throws Exception {
+    worker = worker(2, 10, 10000);
+    Payment completed = Payment.builder().merchantUid("order-3").impUid("imp-3")
+        .amount(new BigDecimal("9900")).paymentStatus(PaymentStatus.COMPLETE).build();
+    when(paymentRepository.findByMerchantUid("order-3")).thenReturn(Optional.of(completed));
+
+    worker.submit("order-3");
+
+    verify(paymentRepository, timeout(2000)).findByMerchantUid("order-3");
+    verify(paymentGatewayService, after(200).never()).findPaymentByMerchantUid(anyString());
+    awaitJobs("skipped", 1.0);
+  }
+
+  @Test
+  void testWebhookShortCircuitsScheduledPoll() throws Exception {
+    worker = worker(2, 10, 60000);
+    pending("order-4", "imp-4", "9900");
+    when(paymentGatewayService.findPaymentByMerchantUid("order-4"))
+        .thenReturn(Optional.of(info("order-4", "imp-4", "9900", "ready")),
+            Optional.of(info("order-4", "imp-4", "9900", "paid")));
+
+    worker.submit("order-4");
+    verify(paymentGatewayService, timeout(2000)).findPaymentByMerchantUid("order-4");
+    verify(subscriptionService, after(200).never()).completePaymentVerification(anyString(), any());
+
+    // 웹훅 수신 시 60초 뒤 재확인을 기다리지 않고 바로 확인
+    worker.submit("order-4");
+
+    verify(subscriptionService, timeout(2000)).completePaymentVerification(eq("order-4"), any());
+    verify(paymentGatewayService, times(2)).findPaymentByMerchantUid("order-4");
+    awaitJobs("retry", 1.0);
+  }
+
+  @Test
+  void testUnsettledPaymentIsPolledUntilPaid() {
+    worker = worker(2, 10, 50);
+    pending("order-5", "imp-5", "9900");
+    when(paymentGatewayService.findPaymentByMerchantUid("order-5"))
+        .thenReturn(Optional.of(info("order-5", "imp-5", "9900", "ready")),
+            Optional.of(info("order-5", "imp-5", "9900", "ready")), Optional.of(info("order-5", "imp-5", "9900", "paid")));
+
+    worker.submit("order-5");
+
+    verify(subscriptionService, timeout(2000)).completePaymentVerification(eq("order-5"), any());
+    verify(paymentGatewayService, times(3)).findPaymentByMerchantUid("order-5");
+  }
+
+  @Test
+  void testFullQueueRejectsAndDuplicateIsNotQueuedTwice() throws Exception {
+    worker = worker(1, 1, 10000);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    pending("order-a", "imp-a", "9900");
+    pending("order-b", "imp-b", "9900");
+    pending("order-c", "imp-c", "9900");
+    when(paymentGatewayService.findPaymentByMerchantUid("order-a")).thenAnswer(invocation -> {
+      started.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return Optional.of(info("order-a", "imp-a", "9900", "paid"));
+    });
+    when(paymentGatewayService.findPaymentByMerchantUid("order-b"))
+        .thenReturn(Optional.of(info("order-b", "imp-b", "9900", "paid")));
+
+    assertTrue(worker.submit("order-a"));
+    assertTrue(started.await(2, TimeUnit.SECONDS));
+    assertTrue(worker.submit("order-b"));
+    assertTrue(worker.submit("order-b"));
+    assertEquals(1, worker.queueSize());
+    assertFalse(worker.submit("order-c"));
+    awaitJobs("rejected", 1.0);
+
+    release.countDown();
+    verify(subscriptionService, timeout(2000)).completePaymentVerification(eq("order-b"), any());
+    verify(paymentGatewayService, times(1)).findPaymentByMerchantUid("order-b");
+  }
+
+  @Test
+  void testMerchantMismatchNeverFailsPayment() throws Exception {
+    worker = worker(2, 10, 10000);
+    pending("order-6", "imp-6", "9900");
+    // 다른 주문의 결제가 조회되어도 이 주문을 실패 처리하지 않고 다시 확인
+    when(paymentGatewayService.findPaymentByMerchantUid("order-6"))
+        .thenReturn(Optional.of(info("order-other", "imp-other", "9900", "failed")));
+
+    worker.submit("order-6");
+
+    awaitJobs("retry", 1.0);
+    verify(subscriptionService, never()).failPaymentVerification(anyString(), anyString());
+    verify(subscriptionService, never()).completePaymentVerification(anyString(), any());
+  }
+
+  @Test
+  void testUnknownPaymentAtGatewayIsRetried() throws Exception {
+    worker = worker(2, 10, 10000);
+    pending("order-7", "imp-7", "9900");
+    when(paymentGatewayService.findPaymentByMerchantUid("order-7")).thenReturn(Optional.empty());
+
+    worker.submit("order-7");
+
+    awaitJobs("retry", 1.0);
+    verify(subscriptionService, never()).failPaymentVerification(anyString(), anyString());
+  }
+
+  @Test
+  void testWebhookDuringRunningJobTriggersAnotherCheck() throws Exception {
+    worker = worker(1, 10, 60000);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    pending("order-8", "imp-8", "9900");
+    when(paymentGatewayService.findPaymentByMerchantUid("order-8"))
+        .thenAnswer(invocation -> {
+          started.countDown();
+          release.await(5, TimeUnit.SECONDS);
+          return Optional.of(info("order-8", "imp-8", "9900", "ready"));
+        })
+        .thenReturn(Optional.of(info("order-8", "imp-8", "9900", "paid")));
+
+    worker.submit("order-8");
+    assertTrue(started.await(2, TimeUnit.SECONDS));
+    // 조회 중에 결제 완료 웹훅 수신: 60초 뒤 재확인을 기다리지 않고 작업이 끝나면 바로 다시 확인
+    assertTrue(worker.submit("order-8"));
+    release.countDown();
+
+    verify(subscriptionService, timeout(2000)).completePaymentVerification(eq("order-8"), any());
+    verify(paymentGatewayService, times(2)).findPaymentByMerchantUid("order-8");
+  }
+
+  private PaymentVerificationWorker worker(int workers, int queueCapacity, long pollIntervalMillis) {
+    return new PaymentVerificationWorker(subscriptionService, paymentGatewayService, paymentRepository, meterRegistry,
+        workers, queueCapacity, pollIntervalMillis, 3);
+  }
+
+  private void pending(String merchantUid, String impUid, String amount) {
+    Payment payment = Payment.builder().merchantUid(merchantUid).impUid(impUid)
+        .amount(new BigDecimal(amount)).paymentStatus(PaymentStatus.PENDING).build();
+    when(paymentRepository.findByMerchantUid(merchantUid)).thenReturn(Optional.of(payment));
+  }
+
+  private static PaymentGatewayResponseDto info(String merchantUid, String impUid, String amount, String status) {
+    return PaymentGatewayResponseDto.builder().merchantUid(merchantUid).impUid(impUid)
+        .amount(new BigDecimal(amount)).status(status).build();
+  }
+
+  // 작업 결과는 결과 반영 뒤에 기록되므로 기록될 때까지 기다린 후 확인
+  private void awaitJobs(String result, double expected) throws InterruptedException {
+    Counter counter = meterRegistry.get("subscription.verification.jobs").tag("result", result).counter();
+    long deadline = System.currentTimeMillis() + 2000;
+    while (counter.count() < expected && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(expected, counter.count());
+  }
+}
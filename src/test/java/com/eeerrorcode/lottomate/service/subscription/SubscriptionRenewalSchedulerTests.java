@@ -0,0 +1,215 @@
+package com.eeerrorcode.lottomate.service.subscription;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.eeerrorcode.lottomate.domain.dto.payment.PaymentGatewayResponseDto;
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalChargeDto;
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalReport;
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalResultDto;
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalResultDto.Outcome;
+import com.eeerrorcode.lottomate.exeption.PaymentException;
+import com.eeerrorcode.lottomate.service.payment.PaymentGatewayService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SubscriptionRenewalSchedulerTests {
+
+  private final SubscriptionRenewalService subscriptionRenewalService = mock(SubscriptionRenewalService.class);
+  private final PaymentGatewayService paymentGatewayService = mock(PaymentGatewayService.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void testChargeOutcomesAreAppliedPerChunk() {
+    when(subscriptionRenewalService.claimDueRenewals(any(), anyInt())).thenReturn(List.of(
+        charge(1L, "key-1"), charge(2L, "key-2"), charge(3L, null), charge(4L, "key-4"), charge(5L, "key-5")));
+    // 스텁 게이트웨이: 1 승인, 2 카드 거절, 4 통신 오류 후 승인, 5 계속 통신 오류
+    when(paymentGatewayService.requestSubscription(eq("key-1"), anyString(), any(), anyString()))
+        .thenReturn(response("renewal_1", "paid", null));
+    when(paymentGatewayService.requestSubscription(eq("key-2"), anyString(), any(), anyString()))
+        .thenReturn(response("renewal_2", "failed", "한도 초과"));
+    when(paymentGatewayService.requestSubscription(eq("key-4"), anyString(), any(), anyString()))
+        .thenThrow(new PaymentException("timeout"))
+        .thenReturn(response("renewal_4", "paid", null));
+    when(paymentGatewayService.requestSubscription(eq("key-5"), anyString(), any(), anyString()))
+        .thenThrow(new PaymentException("timeout"));
+
+    SubscriptionRenewalReport report = scheduler(4, 10, 0, 50).renewDueSubscriptions();
+
+    assertEquals(5L, report.getClaimedCount());
+    assertEquals(2L, report.getPaidCount());
+    assertEquals(2L, report.getDeclinedCount());
+    assertEquals(1L, report.getRetryCount());
+    verify(paymentGatewayService, never()).requestSubscription(eq(null), anyString(), any(), anyString());
+    verify(paymentGatewayService, times(3)).requestSubscription(eq("key-5"), anyString(), any(), anyString());
+
+    Map<Long, SubscriptionRenewalResultDto> results = appliedResults().stream()
+        .collect(Collectors.toMap(SubscriptionRenewalResultDto::getSubscriptionId, Function.identity()));
+    assertEquals(Outcome.PAID, results.get(1L).getOutcome());
+    assertEquals("imp_renewal_1", results.get(1L).getImpUid());
+    assertEquals(Outcome.DECLINED, results.get(2L).getOutcome());
+    assertEquals("한도 초과", results.get(2L).getReason());
+    assertEquals(Outcome.DECLINED, results.get(3L).getOutcome());
+    assertEquals(Outcome.PAID, results.get(4L).getOutcome());
+    assertEquals(Outcome.RETRY, results.get(5L).getOutcome());
+    assertEquals(2.0, meterRegistry.get("subscription.renewal.charges").tag("result", "paid").counter().count());
+  }
+
+  @Test
+  void testUnknownOutcomeIsLookedUpBeforeCharging() {
+    SubscriptionRenewalChargeDto previous = charge(1L, "key-1");
+    previous.setPreviouslyAttempted(true);
+    when(subscriptionRenewalService.claimDueRenewals(any(), anyInt())).thenReturn(List.of(previous, charge(2L, "key-2")));
+    // 1: 이전 실행의 요청이 이미 승인됨, 2: 통신 오류 응답을 받았지만 실제로는 승인됨
+    when(paymentGatewayService.findPaymentByMerchantUid("renewal_1"))
+        .thenReturn(Optional.of(response("renewal_1", "paid", null)));
+    when(paymentGatewayService.requestSubscription(eq("key-2"), anyString(), any(), anyString()))
+        .thenThrow(new PaymentException("read timeout"));
+    when(paymentGatewayService.findPaymentByMerchantUid("renewal_2"))
+        .thenReturn(Optional.of(response("renewal_2", "paid", null)));
+
+    SubscriptionRenewalReport report = scheduler(4, 10, 0, 50).renewDueSubscriptions();
+
+    assertEquals(2L, report.getPaidCount());
+    verify(paymentGatewayService, never()).requestSubscription(eq("key-1"), anyString(), any(), anyString());
+    verify(paymentGatewayService, times(1)).requestSubscription(eq("key-2"), anyString(), any(), anyString());
+    Map<Long, SubscriptionRenewalResultDto> results = appliedResults().stream()
+        .collect(Collectors.toMap(SubscriptionRenewalResultDto::getSubscriptionId, Function.identity()));
+    assertEquals("imp_renewal_1", results.get(1L).getImpUid());
+    assertEquals("imp_renewal_2", results.get(2L).getImpUid());
+  }
+
+  @Test
+  void testRejectedRequestIsDeclinedOnlyWhenNoPaymentExists() {
+    when(subscriptionRenewalService.claimDueRenewals(any(), anyInt()))
+        .thenReturn(List.of(charge(1L, "key-1"), charge(2L, "key-2"), charge(3L, "key-3")));
+    when(paymentGatewayService.requestSubscription(anyString(), anyString(), any(), anyString()))
+        .thenAnswer(invocation -> rejected(invocation.getArgument(1)));
+    // 1: 중복 주문 거절이지만 이미 승인됨, 2: 결제가 없는 거절(빌링키 오류 등), 3: 아직 확정되지 않은 결제
+    when(paymentGatewayService.findPaymentByMerchantUid("renewal_1"))
+        .thenReturn(Optional.of(response("renewal_1", "paid", null)));
+    when(paymentGatewayService.findPaymentByMerchantUid("renewal_2")).thenReturn(Optional.empty());
+    when(paymentGatewayService.findPaymentByMerchantUid("renewal_3"))
+        .thenReturn(Optional.of(response("renewal_3", "ready", null)));
+
+    scheduler(4, 10, 0, 50).renewDueSubscriptions();
+
+    Map<Long, SubscriptionRenewalResultDto> results = appliedResults().stream()
+        .collect(Collectors.toMap(SubscriptionRenewalResultDto::getSubscriptionId, Function.identity()));
+    assertEquals(Outcome.PAID, results.get(1L).getOutcome());
+    assertEquals(Outcome.DECLINED, results.get(2L).getOutcome());
+    assertEquals("등록되지 않은 빌링키", results.get(2L).getReason());
+    assertEquals(Outcome.RETRY, results.get(3L).getOutcome());
+  }
+
+  @Test
+  void testClaimsChunksUntilDueSubscriptionsRunOut() {
+    AtomicInteger nextId = new AtomicInteger();
+    when(subscriptionRenewalService.claimDueRenewals(any(), eq(3)))
+        .thenAnswer(invocation -> charges(nextId, 3))
+        .thenAnswer(invocation -> charges(nextId, 3))
+        .thenAnswer(invocation -> charges(nextId, 1));
+    when(paymentGatewayService.requestSubscription(anyString(), anyString(), any(), anyString()))
+        .thenAnswer(invocation -> response(invocation.getArgument(1), "paid", null));
+
+    SubscriptionRenewalReport report = scheduler(4, 3, 0, 50).renewDueSubscriptions();
+
+    assertEquals(7L, report.getClaimedCount());
+    assertEquals(7L, report.getPaidCount());
+    verify(subscriptionRenewalService, times(3)).claimDueRenewals(any(), eq(3));
+    verify(subscriptionRenewalService, times(3)).applyRenewalResults(any());
+  }
+
+  @Test
+  void testGatewayRequestsAreRateLimitedAcrossWorkers() {
+    AtomicInteger nextId = new AtomicInteger();
+    when(subscriptionRenewalService.claimDueRenewals(any(), anyInt())).thenAnswer(invocation -> charges(nextId, 11));
+    when(paymentGatewayService.requestSubscription(anyString(), anyString(), any(), anyString()))
+        .thenAnswer(invocation -> response(invocation.getArgument(1), "paid", null));
+
+    // 초당 50건 = 요청 간격 20ms, 11건이면 첫 요청 이후 최소 200ms
+    SubscriptionRenewalReport report = scheduler(8, 20, 50, 50).renewDueSubscriptions();
+
+    assertEquals(11L, report.getPaidCount());
+    assertTrue(report.getElapsedMillis() >= 190, "소요 시간: " + report.getElapsedMillis());
+  }
+
+  @Test
+  void testStopsClaimingAtDeadline() {
+    SubscriptionRenewalReport report = scheduler(4, 10, 0, 0).renewDueSubscriptions();
+
+    assertTrue(report.isDeadlineReached());
+    assertEquals(0L, report.getClaimedCount());
+    verify(subscriptionRenewalService, never()).claimDueRenewals(any(), anyInt());
+  }
+
+  private SubscriptionRenewalScheduler scheduler(int parallelism, int chunkSize, double ratePerSecond,
+      long maxDurationMinutes) {
+    return new SubscriptionRenewalScheduler(subscriptionRenewalService, paymentGatewayService, meterRegistry,
+        parallelism, chunkSize, ratePerSecond, 3, 1, maxDurationMinutes);
+  }
+
+  private List<SubscriptionRenewalResultDto> appliedResults() {
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<SubscriptionRenewalResultDto>> captor = ArgumentCaptor.forClass(List.class);
+    verify(subscriptionRenewalService).applyRenewalResults(captor.capture());
+    return new ArrayList<>(captor.getValue());
+  }
+
+  private static List<SubscriptionRenewalChargeDto> charges(AtomicInteger nextId, int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> charge((long) nextId.incrementAndGet(), "key"))
+        .toList();
+  }
+
+  private static SubscriptionRenewalChargeDto charge(Long subscriptionId, String billingKey) {
+    return SubscriptionRenewalChargeDto.builder()
+        .subscriptionId(subscriptionId)
+        .merchantUid("renewal_" + subscriptionId)
+        .billingKey(billingKey)
+        .amount(new BigDecimal("9900"))
+        .orderName("프리미엄 정기결제")
+        .build();
+  }
+
+  private static PaymentGatewayResponseDto rejected(String merchantUid) {
+    return PaymentGatewayResponseDto.builder()
+        .merchantUid(merchantUid)
+        .status("failed")
+        .errorCode("1")
+        .errorMsg("등록되지 않은 빌링키")
+        .build();
+  }
+
+  private static PaymentGatewayResponseDto response(String merchantUid, String status, String failReason) {
+    return PaymentGatewayResponseDto.builder()
+        .impUid("imp_" + merchantUid)
+        .merchantUid(merchantUid)
+        .amount(new BigDecimal("9900"))
+        .status(status)
+        .errorMsg(failReason)
+        .build();
+  }
+}
@@ -0,0 +1,219 @@
+package com.eeerrorcode.lottomate.service.subscription;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalChargeDto;
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalResultDto;
+import com.eeerrorcode.lottomate.domain.dto.subscription.SubscriptionRenewalResultDto.Outcome;
+import com.eeerrorcode.lottomate.domain.entity.payment.Payment;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentLog;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentLogAction;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentMethod;
+import com.eeerrorcode.lottomate.domain.entity.payment.PaymentStatus;
+import com.eeerrorcode.lottomate.domain.entity.payment.Subscription;
+import com.eeerrorcode.lottomate.domain.entity.payment.SubscriptionPlan;
+import com.eeerrorcode.lottomate.domain.entity.payment.SubscriptionStatus;
+import com.eeerrorcode.lottomate.repository.payment.PaymentLogRepository;
+import com.eeerrorcode.lottomate.repository.payment.PaymentRepository;
+import com.eeerrorcode.lottomate.repository.payment.SubscriptionRepository;
+
+public class SubscriptionRenewalServiceImplTests {
+
+  private static final LocalDateTime DUE = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+  private final SubscriptionRepository subscriptionRepository = mock(SubscriptionRepository.class);
+  private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+  private final PaymentLogRepository paymentLogRepository = mock(PaymentLogRepository.class);
+  private final SubscriptionPlan plan = SubscriptionPlan.builder()
+      .id(1L).name("프리미엄").price(new BigDecimal("9900")).durationMonths(1).build();
+  private SubscriptionRenewalServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    service = new SubscriptionRenewalServiceImpl(subscriptionRepository, paymentRepository, paymentLogRepository);
+    ReflectionTestUtils.setField(service, "claimLeaseMinutes", 30L);
+    ReflectionTestUtils.setField(service, "retryDelayHours", 24L);
+    ReflectionTestUtils.setField(service, "maxFailures", 2);
+  }
+
+  @Test
+  void testClaimRecordsPendingPaymentsAndClaimsSubscriptions() {
+    Subscription withKey = subscription(1L, "key-1", null);
+    Subscription withMethodKey = subscription(2L, null, PaymentMethod.builder().billingKey("method-key").build());
+    Subscription withoutKey = subscription(3L, null, null);
+    LocalDateTime now = DUE.plusMinutes(5);
+    when(subscriptionRepository.findDueForRenewal(eq(SubscriptionStatus.ACTIVE), eq(now), any()))
+        .thenReturn(List.of(withKey, withMethodKey, withoutKey));
+    // 2번 구독은 이전 실행에서 통신 오류로 대기 상태 결제가 남아 있음
+    when(paymentRepository.findByMerchantUidIn(any()))
+        .thenReturn(List.of(pendingPayment("renewal_2_202506010000", withMethodKey)));
+
+    List<SubscriptionRenewalChargeDto> charges = service.claimDueRenewals(now, 100);
+
+    Map<Long, SubscriptionRenewalChargeDto> bySubscription = charges.stream()
+        .collect(Collectors.toMap(SubscriptionRenewalChargeDto::getSubscriptionId, Function.identity()));
+    assertEquals(3, charges.size());
+    assertEquals("renewal_1_202506010000", bySubscription.get(1L).getMerchantUid());
+    assertEquals("key-1", bySubscription.get(1L).getBillingKey());
+    assertEquals("method-key", bySubscription.get(2L).getBillingKey());
+    assertNull(bySubscription.get(3L).getBillingKey());
+    // 대기 상태 결제가 남아 있던 주문만 다시 요청하기 전에 포트원 조회
+    assertFalse(bySubscription.get(1L).isPreviouslyAttempted());
+    assertTrue(bySubscription.get(2L).isPreviouslyAttempted());
+    assertEquals(0, new BigDecimal("9900").compareTo(bySubscription.get(1L).getAmount()));
+    assertEquals(now.plusMinutes(30), withKey.getRenewalClaimedUntil());
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Payment>> saved = ArgumentCaptor.forClass(List.class);
+    verify(paymentRepository).saveAll(saved.capture());
+    List<String> created = saved.getValue().stream().map(Payment::getMerchantUid).sorted().toList();
+    assertEquals(List.of("renewal_1_202506010000", "renewal_3_202506010000"), created);
+    assertTrue(saved.getValue().stream().allMatch(payment -> payment.getPaymentStatus() == PaymentStatus.PENDING));
+  }
+
+  @Test
+  void testApplyExtendsPaidAndReschedulesDeclined() {
+    Subscription paid = subscription(1L, "key-1", null);
+    Subscription declined = subscription(2L, "key-2", null);
+    Subscription exhausted = subscription(3L, "key-3", null);
+    exhausted.recordRenewalFailure(DUE, 2); // 이미 1회 실패
+    Subscription unknown = subscription(4L, "key-4", null);
+    Payment paidPayment = pendingPayment("m-1", paid);
+    Payment declinedPayment = pendingPayment("m-2", declined);
+    Payment exhaustedPayment = pendingPayment("m-3", exhausted);
+    Payment unknownPayment = pendingPayment("m-4", unknown);
+    when(paymentRepository.findByMerchantUidIn(any()))
+        .thenReturn(List.of(paidPayment, declinedPayment, exhaustedPayment));
+    when(subscriptionRepository.findAllById(any())).thenReturn(List.of(paid, declined, exhausted));
+
+    service.applyRenewalResults(List.of(
+        result(1L, "m-1", Outcome.PAID, "imp-1"),
+        result(2L, "m-2", Outcome.DECLINED, null),
+        result(3L, "m-3", Outcome.DECLINED, null),
+        result(4L, "m-4", Outcome.RETRY, null)));
+
+    assertEquals(PaymentStatus.COMPLETE, paidPayment.getPaymentStatus());
+    assertEquals("imp-1", paidPayment.getImpUid());
+    assertEquals(DUE.plusMonths(1), paid.getEndDate());
+    assertEquals(DUE.plusMonths(1), paid.getNextPaymentDate());
+    assertNull(paid.getRenewalClaimedUntil());
+
+    assertEquals(PaymentStatus.FAILED, declinedPayment.getPaymentStatus());
+    assertEquals(1, declined.getRenewalFailures());
+    assertTrue(declined.getNextPaymentDate().isAfter(LocalDateTime.now().plusHours(23)));
+    assertTrue(declined.isAutoRenewal());
+
+    assertEquals(SubscriptionStatus.INACTIVE, exhausted.getStatus());
+    assertFalse(exhausted.isAutoRenewal());
+
+    // 결과를 알 수 없는 결제는 그대로 두어 점유 만료 후 다시 요청
+    assertEquals(PaymentStatus.PENDING, unknownPayment.getPaymentStatus());
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<PaymentLog>> logs = ArgumentCaptor.forClass(List.class);
+    verify(paymentLogRepository).saveAll(logs.capture());
+    List<PaymentLogAction> actions = logs.getValue().stream()
+        .sorted(Comparator.comparing(log -> log.getPayment().getMerchantUid()))
+        .map(PaymentLog::getAction)
+        .toList();
+    assertEquals(List.of(PaymentLogAction.PAYMENT_SUCCESS, PaymentLogAction.PAYMENT_FAILED,
+        PaymentLogAction.PAYMENT_FAILED), actions);
+  }
+
+  @Test
+  void testPaidAfterDeclineExtendsFromOriginalDueDate() {
+    Subscription subscription = subscription(1L, "key-1", null);
+    Payment declinedPayment = pendingPayment("m-1", subscription);
+    Payment retryPayment = pendingPayment("m-2", subscription);
+    when(subscriptionRepository.findAllById(any())).thenReturn(List.of(subscription));
+    when(paymentRepository.findByMerchantUidIn(any())).thenReturn(List.of(declinedPayment), List.of(retryPayment));
+
+    service.applyRenewalResults(List.of(result(1L, "m-1", Outcome.DECLINED, null)));
+    LocalDateTime retryAt = subscription.getNextPaymentDate();
+    assertTrue(retryAt.isAfter(DUE));
+    assertEquals(DUE, subscription.getRenewalDueDate());
+
+    // 재시도 결제가 승인되면 미뤄진 결제일이 아니라 원래 결제 예정일 기준으로 연장
+    service.applyRenewalResults(List.of(result(1L, "m-2", Outcome.PAID, "imp-2")));
+
+    assertEquals(DUE.plusMonths(1), subscription.getEndDate());
+    assertEquals(DUE.plusMonths(1), subscription.getNextPaymentDate());
+    assertNull(subscription.getRenewalDueDate());
+    assertEquals(0, subscription.getRenewalFailures());
+  }
+
+  @Test
+  void testApplySkipsAlreadyProcessedPaymentsAndRetries() {
+    Subscription subscription = subscription(1L, "key-1", null);
+    Payment completed = pendingPayment("m-1", subscription);
+    completed.completePayment("imp-1", DUE);
+    when(paymentRepository.findByMerchantUidIn(any())).thenReturn(List.of(completed));
+    when(subscriptionRepository.findAllById(any())).thenReturn(List.of(subscription));
+
+    service.applyRenewalResults(List.of(result(1L, "m-1", Outcome.DECLINED, null)));
+    service.applyRenewalResults(List.of(result(2L, "m-2", Outcome.RETRY, null)));
+
+    assertEquals(PaymentStatus.COMPLETE, completed.getPaymentStatus());
+    assertEquals(DUE, subscription.getNextPaymentDate());
+    verify(subscriptionRepository, never()).findAllById(List.of(2L));
+    verify(paymentLogRepository).saveAll(anyList());
+  }
+
+  private Subscription subscription(Long id, String billingKey, PaymentMethod paymentMethod) {
+    return Subscription.builder()
+        .id(id)
+        .plan(plan)
+        .status(SubscriptionStatus.ACTIVE)
+        .startDate(DUE.minusMonths(1))
+        .endDate(DUE)
+        .nextPaymentDate(DUE)
+        .autoRenewal(true)
+        .billingKey(billingKey)
+        .paymentMethod(paymentMethod)
+        .build();
+  }
+
+  private static Payment pendingPayment(String merchantUid, Subscription subscription) {
+    return Payment.builder()
+        .merchantUid(merchantUid)
+        .subscription(subscription)
+        .amount(new BigDecimal("9900"))
+        .refundAmount(BigDecimal.ZERO)
+        .paymentStatus(PaymentStatus.PENDING)
+        .build();
+  }
+
+  private static SubscriptionRenewalResultDto result(Long subscriptionId, String merchantUid, Outcome outcome,
+      String impUid) {
+    return SubscriptionRenewalResultDto.builder()
+        .subscriptionId(subscriptionId)
+        .merchantUid(merchantUid)
+        .outcome(outcome)
+        .impUid(impUid)
+        .reason(outcome == Outcome.DECLINED ? "카드 거절" : null)
+        .build();
+  }
+}
@@ -0,0 +1,99 @@
+package com.eeerrorcode.lottomate.service.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.eeerrorcode.lottomate.domain.entity.user.RefreshToken;
+import com.eeerrorcode.lottomate.domain.entity.user.User;
+import com.eeerrorcode.lottomate.exeption.AuthenticationException;
+import com.eeerrorcode.lottomate.repository.RefreshTokenRepository;
+import com.eeerrorcode.lottomate.repository.UserRepository;
+import com.eeerrorcode.lottomate.security.JwtTokenProvider;
+import com.eeerrorcode.lottomate.service.user.RefreshTokenService.TokenRefreshResponseDto;
+import com.eeerrorcode.lottomate.util.TokenHashUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class RefreshTokenServiceTests {
+
+  private static final String REFRESH_TOKEN = "eyJhbGciOiJIUzI1NiJ9.refresh.signature";
+
+  private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+  private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+  private final RefreshTokenRevocationCache revocationCache =
+      new RefreshTokenRevocationCache(new SimpleMeterRegistry(), 100);
+  private final RefreshTokenService service = service();
+
+  @Test
+  void testRefreshRotatesByHashAndRejectsReuseWithoutLookup() {
+    String oldHash = TokenHashUtil.sha256Hex(REFRESH_TOKEN);
+    when(refreshTokenRepository.findByTokenHash(oldHash)).thenReturn(Optional.of(stored(oldHash)));
+    when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("access");
+    when(jwtTokenProvider.generateRefreshToken(anyString())).thenReturn("new-refresh");
+    when(refreshTokenRepository.rotate(eq(10L), eq(oldHash), eq(TokenHashUtil.sha256Hex("new-refresh")), any(), any()))
+        .thenReturn(1);
+
+    TokenRefreshResponseDto response = service.refreshToken(REFRESH_TOKEN);
+
+    assertEquals("new-refresh", response.getRefreshToken());
+    assertEquals(64, oldHash.length());
+    assertThrows(AuthenticationException.class, () -> service.refreshToken(REFRESH_TOKEN));
+    verify(refreshTokenRepository, times(1)).findByTokenHash(oldHash);
+  }
+
+  @Test
+  void testConcurrentRefreshWithSameTokenFails() {
+    String oldHash = TokenHashUtil.sha256Hex(REFRESH_TOKEN);
+    when(refreshTokenRepository.findByTokenHash(oldHash)).thenReturn(Optional.of(stored(oldHash)));
+    when(jwtTokenProvider.generateRefreshToken(anyString())).thenReturn("new-refresh");
+    when(refreshTokenRepository.rotate(anyLong(), anyString(), anyString(), any(), any())).thenReturn(0);
+
+    assertThrows(AuthenticationException.class, () -> service.refreshToken(REFRESH_TOKEN));
+    assertEquals(0, revocationCache.size());
+  }
+
+  @Test
+  void testLogoutDeletesInBulkAndReturnsCounts() {
+    String hash = TokenHashUtil.sha256Hex(REFRESH_TOKEN);
+    when(refreshTokenRepository.deleteByTokenHash(hash)).thenReturn(1);
+    when(refreshTokenRepository.deleteByUserId(1L)).thenReturn(3);
+
+    service.logout(REFRESH_TOKEN);
+
+    assertThrows(AuthenticationException.class, () -> service.validateRefreshTokenAndGetAccessToken(REFRESH_TOKEN));
+    verify(refreshTokenRepository, never()).findByTokenHash(anyString());
+    assertEquals(3, service.logoutAll(1L));
+    verify(refreshTokenRepository, never()).findByUserId(anyLong());
+  }
+
+  private RefreshTokenService service() {
+    RefreshTokenService refreshTokenService = new RefreshTokenService(refreshTokenRepository,
+        mock(UserRepository.class), jwtTokenProvider, revocationCache);
+    ReflectionTestUtils.setField(refreshTokenService, "refreshTokenValidityInSeconds", 3600L);
+    return refreshTokenService;
+  }
+
+  private static RefreshToken stored(String tokenHash) {
+    return RefreshToken.builder()
+        .id(10L)
+        .tokenHash(tokenHash)
+        .user(User.builder().id(1L).email("user@lottomate.com").name("user").build())
+        .expiryDate(LocalDateTime.now().plusHours(1))
+        .build();
+  }
+}
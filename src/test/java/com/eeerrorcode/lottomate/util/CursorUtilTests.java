@@ -0,0 +1,52 @@
+package com.eeerrorcode.lottomate.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.eeerrorcode.lottomate.domain.dto.CursorSlice;
+
+public class CursorUtilTests {
+
+  @Test
+  void testEncodeDecodeRoundTrip() {
+    LocalDateTime at = LocalDateTime.of(2025, 3, 1, 12, 30, 15);
+    String cursor = CursorUtil.encode(at, 42L);
+
+    String[] keys = CursorUtil.decode(cursor, 2);
+
+    assertEquals(at, LocalDateTime.parse(keys[0]));
+    assertEquals("42", keys[1]);
+    assertArrayEquals(new String[] { "1170", "9" }, CursorUtil.decode(CursorUtil.encode(1170L, 9L), 2));
+  }
+
+  @Test
+  void testRejectsMalformedCursor() {
+    assertThrows(IllegalArgumentException.class, () -> CursorUtil.decode("%%%", 1));
+    assertThrows(IllegalArgumentException.class, () -> CursorUtil.decode(CursorUtil.encode(1L, 2L), 1));
+  }
+
+  @Test
+  void testSliceUsesExtraRowAsNextPageFlag() {
+    CursorSlice<String> first = CursorUtil.slice(List.of(5L, 4L, 3L), 2, id -> CursorUtil.encode(id), String::valueOf);
+
+    assertEquals(List.of("5", "4"), first.getItems());
+    assertTrue(first.isHasNext());
+    assertEquals("4", CursorUtil.decode(first.getNextCursor(), 1)[0]);
+
+    CursorSlice<String> last = CursorUtil.slice(List.of(2L), 2, id -> CursorUtil.encode(id), String::valueOf);
+
+    assertEquals(List.of("2"), last.getItems());
+    assertFalse(last.isHasNext());
+    assertNull(last.getNextCursor());
+    assertEquals(3, CursorUtil.limitOf(2).max());
+  }
+}